@@ -0,0 +1,69 @@
+package com.monew.monew_server.config;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.monew.monew_server.domain.article.collect.ArticleCollector;
+import com.monew.monew_server.domain.article.collect.RssFeedCollector;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * 기사 수집용 실행 풀과 RSS 수집기 설정.
+ * monew.article.collect.feeds.{출처} 에 피드 위치를 지정한 출처만 수집기가 등록된다.
+ */
+@Configuration
+public class ArticleCollectConfig {
+
+	@Value("${monew.article.collect.timeout:PT10S}")
+	private Duration timeout;
+
+	@Bean(name = "articleCollectExecutor")
+	public ThreadPoolTaskExecutor articleCollectExecutor(
+		@Value("${monew.article.collect.parallelism:4}") int parallelism
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("article-collect-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	@Bean
+	@ConditionalOnProperty("monew.article.collect.feeds.naver")
+	public ArticleCollector naverFeedCollector(ResourceLoader resourceLoader,
+		@Value("${monew.article.collect.feeds.naver}") String location) {
+		return new RssFeedCollector(ArticleSource.NAVER, resourceLoader.getResource(location), timeout);
+	}
+
+	@Bean
+	@ConditionalOnProperty("monew.article.collect.feeds.hankyung")
+	public ArticleCollector hankyungFeedCollector(ResourceLoader resourceLoader,
+		@Value("${monew.article.collect.feeds.hankyung}") String location) {
+		return new RssFeedCollector(ArticleSource.HANKYUNG, resourceLoader.getResource(location), timeout);
+	}
+
+	@Bean
+	@ConditionalOnProperty("monew.article.collect.feeds.chosun")
+	public ArticleCollector chosunFeedCollector(ResourceLoader resourceLoader,
+		@Value("${monew.article.collect.feeds.chosun}") String location) {
+		return new RssFeedCollector(ArticleSource.CHOSUN, resourceLoader.getResource(location), timeout);
+	}
+
+	@Bean
+	@ConditionalOnProperty("monew.article.collect.feeds.yeonhap")
+	public ArticleCollector yeonhapFeedCollector(ResourceLoader resourceLoader,
+		@Value("${monew.article.collect.feeds.yeonhap}") String location) {
+		return new RssFeedCollector(ArticleSource.YEONHAP, resourceLoader.getResource(location), timeout);
+	}
+}
@@ -0,0 +1,49 @@
+package com.monew.monew_server.config;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 기사 목록 조회에서 COUNT / viewedByMe 조회를 병렬로 돌리는 전용 풀.
+ * 큐가 가득 차면 호출 스레드에서 실행해 요청 수만큼만 부하가 걸리도록 한다.
+ */
+@Configuration
+public class ArticleQueryExecutorConfig {
+
+	@Bean(name = "articleQueryExecutor")
+	public ThreadPoolTaskExecutor articleQueryExecutor(
+		@Value("${monew.article.list.executor.core-size:8}") int coreSize,
+		@Value("${monew.article.list.executor.max-size:16}") int maxSize,
+		@Value("${monew.article.list.executor.queue-capacity:200}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("article-query-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		// 요청 스레드의 MDC(requestId 등)를 작업 스레드로 넘긴다
+		executor.setTaskDecorator(task -> {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			return () -> {
+				if (context != null) {
+					MDC.setContextMap(context);
+				}
+				try {
+					task.run();
+				} finally {
+					MDC.clear();
+				}
+			};
+		});
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(5);
+		return executor;
+	}
+}
@@ -0,0 +1,38 @@
+package com.monew.monew_server.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.monew.monew_server.storage.BackupStorage;
+import com.monew.monew_server.storage.LocalBackupStorage;
+import com.monew.monew_server.storage.S3BackupStorage;
+
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 백업 저장소. prod 는 S3Config 의 S3Client 를 쓰고, 나머지 프로필은 로컬 디렉터리에 쓴다.
+ */
+@Configuration
+public class BackupStorageConfig {
+
+	@Bean
+	@Profile("prod")
+	public BackupStorage s3BackupStorage(
+		S3Client s3Client,
+		@Value("${monew.backup.s3.bucket}") String bucket,
+		@Value("${monew.backup.s3.prefix:backup/}") String prefix,
+		@Value("${monew.backup.s3.part-size:8388608}") int partSize
+	) {
+		return new S3BackupStorage(s3Client, bucket, prefix, partSize);
+	}
+
+	@Bean
+	@Profile("!prod")
+	public BackupStorage localBackupStorage(@Value("${monew.backup.local.directory:./backup}") Path directory) {
+		return new LocalBackupStorage(directory);
+	}
+}
@@ -0,0 +1,304 @@
+package com.monew.monew_server.domain.archive;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소프트 삭제된 행을 archived_* 테이블로 옮기거나(archive) 완전히 지운다(purge).
+ * 파티션된 DB(db/partitioning.sql)에는 기사를 참조하는 FK 가 없으므로 CASCADE 에 기대지 않고
+ * 자식 행부터 직접 지운다. 옮기는 문장은 DELETE ... RETURNING 과 INSERT 를 한 문장으로 묶는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+	// UUID 정렬의 최솟값. 첫 배치의 keyset 커서로 쓴다
+	static final UUID MIN_ID = new UUID(0L, 0L);
+
+	// idx_*_deleted_id 부분 인덱스 범위 스캔
+	private static final String FIND_EXPIRED_SQL = """
+		SELECT id FROM %s
+		WHERE deleted_at < ? AND id > ?
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	private static final String DELETE_LIKES_OF_COMMENTS_SQL = """
+		DELETE FROM comment_likes
+		WHERE comment_id IN (SELECT id FROM comments WHERE %s IN (%s))
+		""";
+
+	private static final String MOVE_COMMENTS_SQL = """
+		WITH moved AS (
+			DELETE FROM comments WHERE %s IN (%s)
+			RETURNING id, article_id, user_id, content, created_at, updated_at, deleted_at
+		)
+		INSERT INTO archived_comments (id, article_id, user_id, content, created_at, updated_at, deleted_at)
+		SELECT id, article_id, user_id, content, created_at, updated_at, deleted_at FROM moved
+		ON CONFLICT (id) DO NOTHING
+		""";
+
+	private static final String MOVE_ARTICLES_SQL = """
+		WITH moved AS (
+			DELETE FROM articles WHERE id IN (%s)
+			RETURNING id, source, source_url, title, publish_date, summary, view_count, comment_count,
+				sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at
+		)
+		INSERT INTO archived_articles (id, source, source_url, title, publish_date, summary, view_count,
+			comment_count, sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at)
+		SELECT id, source, source_url, title, publish_date, summary, view_count, comment_count,
+			sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at
+		FROM moved
+		ON CONFLICT (id) DO NOTHING
+		""";
+
+	private static final String MOVE_USERS_SQL = """
+		WITH moved AS (
+			DELETE FROM users WHERE id IN (%s)
+			RETURNING id, email, nickname, created_at, updated_at, deleted_at
+		)
+		INSERT INTO archived_users (id, email, nickname, created_at, updated_at, deleted_at)
+		SELECT id, email, nickname, created_at, updated_at, deleted_at FROM moved
+		ON CONFLICT (id) DO NOTHING
+		""";
+
+	private static final String FIND_SOFT_DELETED_SQL = """
+		SELECT id FROM %s
+		WHERE id IN (%s) AND deleted_at IS NOT NULL
+		ORDER BY id
+		""";
+
+	private static final String FIND_SOFT_DELETED_BEFORE_SQL = """
+		SELECT id FROM %s
+		WHERE id IN (%s) AND deleted_at < ?
+		ORDER BY id
+		""";
+
+	private static final String COUNT_DELETED_BEFORE_SQL = "SELECT COUNT(*) FROM %s WHERE deleted_at < ?";
+
+	private static final List<String> ARTICLE_CHILD_TABLES = List.of("article_views", "article_interests");
+
+	private static final List<String> USER_CHILD_TABLES = List.of("comment_likes", "subscriptions", "notifications",
+		"article_views");
+
+	private static final String COUNT_LIVE_COMMENTS_BY_ARTICLE_SQL = """
+		SELECT article_id, COUNT(*) AS comments FROM comments
+		WHERE user_id IN (%s) AND deleted_at IS NULL
+		GROUP BY article_id
+		""";
+
+	private static final String COUNT_VIEWS_BY_ARTICLE_SQL = """
+		SELECT article_id, COUNT(*) AS views FROM article_views
+		WHERE user_id IN (%s)
+		GROUP BY article_id
+		""";
+
+	private static final String COUNT_SUBSCRIPTIONS_BY_INTEREST_SQL = """
+		SELECT interest_id, COUNT(*) AS subscriptions FROM subscriptions
+		WHERE user_id IN (%s)
+		GROUP BY interest_id
+		""";
+
+	// 파티션된 테이블이면 리프 파티션을 합산한다. 일반 테이블은 자기 자신이 유일한 리프다
+	private static final String TABLE_SIZE_SQL = """
+		SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint AS estimated_rows,
+			COALESCE(SUM(pg_total_relation_size(c.oid)), 0) AS total_bytes
+		FROM pg_partition_tree(CAST(? AS regclass)) t
+		JOIN pg_class c ON c.oid = t.relid
+		WHERE t.isleaf
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return cutoff 전에 소프트 삭제된 행의 ID 중 afterId 다음부터 limit 개, ID 순
+	 */
+	public List<UUID> findExpiredIds(ArchiveTarget target, Instant cutoff, UUID afterId, int limit) {
+		return jdbcTemplate.query(FIND_EXPIRED_SQL.formatted(target.tableName()),
+			(rs, rowNum) -> rs.getObject("id", UUID.class),
+			Timestamp.from(cutoff), afterId != null ? afterId : MIN_ID, limit);
+	}
+
+	/**
+	 * @param deletedBefore null 이면 소프트 삭제 시각을 따지지 않는다
+	 * @return ids 중 소프트 삭제된 행의 ID, ID 순
+	 */
+	public List<UUID> findSoftDeletedIds(ArchiveTarget target, List<UUID> ids, Instant deletedBefore) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		RowMapper<UUID> mapper = (rs, rowNum) -> rs.getObject("id", UUID.class);
+		if (deletedBefore == null) {
+			return jdbcTemplate.query(FIND_SOFT_DELETED_SQL.formatted(target.tableName(), placeholders(ids)), mapper,
+				ids.toArray());
+		}
+		List<Object> args = new ArrayList<>(ids);
+		args.add(Timestamp.from(deletedBefore));
+		return jdbcTemplate.query(FIND_SOFT_DELETED_BEFORE_SQL.formatted(target.tableName(), placeholders(ids)),
+			mapper, args.toArray());
+	}
+
+	public long countDeletedBefore(ArchiveTarget target, Instant cutoff) {
+		Long count = jdbcTemplate.queryForObject(COUNT_DELETED_BEFORE_SQL.formatted(target.tableName()), Long.class,
+			Timestamp.from(cutoff));
+		return count != null ? count : 0L;
+	}
+
+	/**
+	 * 기사의 댓글(좋아요 포함), 조회 기록, 관심사 연결을 정리하고 기사를 옮긴다.
+	 *
+	 * @return 옮긴 기사 수와 함께 옮긴 댓글 수
+	 */
+	public MovedRows archiveArticles(List<UUID> articleIds) {
+		return removeArticles(articleIds, true);
+	}
+
+	public MovedRows purgeArticles(List<UUID> articleIds) {
+		return removeArticles(articleIds, false);
+	}
+
+	/**
+	 * @return 옮긴 댓글 수
+	 */
+	public int archiveComments(List<UUID> commentIds) {
+		return commentIds.isEmpty() ? 0 : removeComments("id", commentIds, true);
+	}
+
+	public int purgeComments(List<UUID> commentIds) {
+		return commentIds.isEmpty() ? 0 : removeComments("id", commentIds, false);
+	}
+
+	/**
+	 * 사용자의 댓글을 옮기고 좋아요, 구독, 알림, 조회 기록을 정리한 뒤 사용자를 옮긴다.
+	 *
+	 * @return 옮긴 사용자 수와 함께 옮긴 댓글 수
+	 */
+	public MovedRows archiveUsers(List<UUID> userIds) {
+		return removeUsers(userIds, true);
+	}
+
+	public MovedRows purgeUsers(List<UUID> userIds) {
+		return removeUsers(userIds, false);
+	}
+
+	/**
+	 * @return 사용자들이 쓴 삭제되지 않은 댓글 수 (기사 ID -> 댓글 수)
+	 */
+	public Map<UUID, Long> countLiveCommentsByArticle(List<UUID> userIds) {
+		Map<UUID, Long> counts = new LinkedHashMap<>();
+		if (userIds.isEmpty()) {
+			return counts;
+		}
+		jdbcTemplate.query(COUNT_LIVE_COMMENTS_BY_ARTICLE_SQL.formatted(placeholders(userIds)),
+			rs -> {
+				counts.put(rs.getObject("article_id", UUID.class), rs.getLong("comments"));
+			},
+			userIds.toArray());
+		return counts;
+	}
+
+	/**
+	 * @return 사용자들의 조회 기록 수 (기사 ID -> 조회 수)
+	 */
+	public Map<UUID, Long> countViewsByArticle(List<UUID> userIds) {
+		Map<UUID, Long> counts = new LinkedHashMap<>();
+		if (userIds.isEmpty()) {
+			return counts;
+		}
+		jdbcTemplate.query(COUNT_VIEWS_BY_ARTICLE_SQL.formatted(placeholders(userIds)),
+			rs -> {
+				counts.put(rs.getObject("article_id", UUID.class), rs.getLong("views"));
+			},
+			userIds.toArray());
+		return counts;
+	}
+
+	/**
+	 * @return 사용자들의 구독 수 (관심사 ID -> 구독 수)
+	 */
+	public Map<UUID, Long> countSubscriptionsByInterest(List<UUID> userIds) {
+		Map<UUID, Long> counts = new LinkedHashMap<>();
+		if (userIds.isEmpty()) {
+			return counts;
+		}
+		jdbcTemplate.query(COUNT_SUBSCRIPTIONS_BY_INTEREST_SQL.formatted(placeholders(userIds)),
+			rs -> {
+				counts.put(rs.getObject("interest_id", UUID.class), rs.getLong("subscriptions"));
+			},
+			userIds.toArray());
+		return counts;
+	}
+
+	public TableSize tableSize(String tableName) {
+		return jdbcTemplate.queryForObject(TABLE_SIZE_SQL,
+			(rs, rowNum) -> new TableSize(rs.getLong("estimated_rows"), rs.getLong("total_bytes")),
+			tableName);
+	}
+
+	private MovedRows removeArticles(List<UUID> articleIds, boolean archive) {
+		if (articleIds.isEmpty()) {
+			return MovedRows.NONE;
+		}
+		int comments = removeComments("article_id", articleIds, archive);
+		for (String table : ARTICLE_CHILD_TABLES) {
+			deleteWhereIn(table, "article_id", articleIds);
+		}
+		int articles = archive
+			? jdbcTemplate.update(MOVE_ARTICLES_SQL.formatted(placeholders(articleIds)), articleIds.toArray())
+			: deleteWhereIn("articles", "id", articleIds);
+		return new MovedRows(articles, comments);
+	}
+
+	private MovedRows removeUsers(List<UUID> userIds, boolean archive) {
+		if (userIds.isEmpty()) {
+			return MovedRows.NONE;
+		}
+		int comments = removeComments("user_id", userIds, archive);
+		for (String table : USER_CHILD_TABLES) {
+			deleteWhereIn(table, "user_id", userIds);
+		}
+		int users = archive
+			? jdbcTemplate.update(MOVE_USERS_SQL.formatted(placeholders(userIds)), userIds.toArray())
+			: deleteWhereIn("users", "id", userIds);
+		return new MovedRows(users, comments);
+	}
+
+	private int removeComments(String column, List<UUID> ids, boolean archive) {
+		String in = placeholders(ids);
+		Object[] args = ids.toArray();
+		jdbcTemplate.update(DELETE_LIKES_OF_COMMENTS_SQL.formatted(column, in), args);
+		return archive
+			? jdbcTemplate.update(MOVE_COMMENTS_SQL.formatted(column, in), args)
+			: deleteWhereIn("comments", column, ids);
+	}
+
+	private int deleteWhereIn(String table, String column, List<UUID> ids) {
+		return jdbcTemplate.update("DELETE FROM %s WHERE %s IN (%s)".formatted(table, column, placeholders(ids)),
+			ids.toArray());
+	}
+
+	private static String placeholders(List<UUID> ids) {
+		return String.join(", ", Collections.nCopies(ids.size(), "?"));
+	}
+
+	/**
+	 * @param rows     옮기거나 지운 대상 테이블 행 수
+	 * @param comments 함께 옮기거나 지운 댓글 수
+	 */
+	public record MovedRows(int rows, int comments) {
+
+		public static final MovedRows NONE = new MovedRows(0, 0);
+	}
+}
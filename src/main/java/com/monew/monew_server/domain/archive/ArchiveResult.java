@@ -0,0 +1,10 @@
+package com.monew.monew_server.domain.archive;
+
+import java.util.Map;
+
+/**
+ * @param archived  테이블별 보관된 행 수
+ * @param completed 보관 대상을 모두 처리했으면 true, max-run 에 걸렸거나 중단되었으면 false
+ */
+public record ArchiveResult(Map<String, Long> archived, boolean completed) {
+}
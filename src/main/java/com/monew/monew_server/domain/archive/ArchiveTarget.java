@@ -0,0 +1,35 @@
+package com.monew.monew_server.domain.archive;
+
+/**
+ * 소프트 삭제 후 보관하는 테이블. 선언 순서대로 보관한다.
+ * 기사를 먼저 옮겨 그 기사의 댓글이 함께 빠지고, 사용자는 마지막에 남은 댓글/조회/구독을 정리한 뒤 옮긴다.
+ */
+public enum ArchiveTarget {
+
+	ARTICLES("articles"),
+	COMMENTS("comments"),
+	USERS("users");
+
+	private final String tableName;
+
+	ArchiveTarget(String tableName) {
+		this.tableName = tableName;
+	}
+
+	public String tableName() {
+		return tableName;
+	}
+
+	public String archiveTableName() {
+		return "archived_" + tableName;
+	}
+
+	public static ArchiveTarget fromTableName(String tableName) {
+		for (ArchiveTarget target : values()) {
+			if (target.tableName.equals(tableName)) {
+				return target;
+			}
+		}
+		throw new IllegalArgumentException("보관/삭제 대상이 아닌 테이블: " + tableName);
+	}
+}
@@ -0,0 +1,230 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.monew.monew_server.domain.archive.ArchiveRepository.MovedRows;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소프트 삭제된 기사/댓글/사용자의 일괄 물리 삭제.
+ * <p>
+ * ID 목록이나 삭제 시각 조건으로 대상을 고르고, chunk-size 개씩 자식 행부터 지우는 짧은 트랜잭션으로 나눠 처리한다.
+ * 한 번에 큰 트랜잭션으로 지울 때처럼 잠금을 오래 잡거나 WAL 을 한꺼번에 쌓지 않는다.
+ * 이미 끝난 청크는 커밋되어 있으므로 중간에 취소하거나 실패해도 같은 조건으로 다시 실행하면 이어서 지운다.
+ */
+@Slf4j
+@Component
+public class BulkPurgeJob {
+
+	private final ArchiveRepository archiveRepository;
+	private final ArticleCounterAggregator articleCounterAggregator;
+	private final InterestSubscriberCounter interestSubscriberCounter;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final long throttleMs;
+	private final Map<String, Counter> purgedCounters = new LinkedHashMap<>();
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile PurgeProgress progress;
+
+	public BulkPurgeJob(
+		ArchiveRepository archiveRepository,
+		ArticleCounterAggregator articleCounterAggregator,
+		InterestSubscriberCounter interestSubscriberCounter,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${monew.purge.chunk-size:500}") int chunkSize,
+		@Value("${monew.purge.throttle-ms:20}") long throttleMs
+	) {
+		this.archiveRepository = archiveRepository;
+		this.articleCounterAggregator = articleCounterAggregator;
+		this.interestSubscriberCounter = interestSubscriberCounter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.throttleMs = throttleMs;
+		for (ArchiveTarget target : ArchiveTarget.values()) {
+			purgedCounters.put(target.tableName(),
+				meterRegistry.counter("monew.purge.rows", "table", target.tableName()));
+		}
+	}
+
+	/**
+	 * 백그라운드 스레드에서 삭제를 시작한다.
+	 *
+	 * @return 시작 시점의 진행률. 이미 삭제 중이면 empty
+	 */
+	public Optional<PurgeStatus> startAsync(PurgeRequest request) {
+		Optional<PurgeProgress> started = begin(request);
+		started.ifPresent(current -> {
+			Thread thread = new Thread(() -> execute(request, current), "bulk-purge");
+			thread.start();
+		});
+		return started.map(current -> current.status(Instant.now()));
+	}
+
+	/**
+	 * 호출한 스레드에서 삭제를 끝까지 실행한다.
+	 *
+	 * @return 삭제 결과. 이미 삭제 중이면 empty
+	 */
+	public Optional<PurgeStatus> purge(PurgeRequest request) {
+		return begin(request).map(current -> {
+			execute(request, current);
+			return current.status(Instant.now());
+		});
+	}
+
+	public Optional<PurgeStatus> status() {
+		PurgeProgress current = progress;
+		return current == null ? Optional.empty() : Optional.of(current.status(Instant.now()));
+	}
+
+	/**
+	 * 진행 중인 청크까지만 지우고 멈춘다.
+	 *
+	 * @return 진행 중인 삭제가 없으면 false
+	 */
+	public boolean cancel() {
+		PurgeProgress current = progress;
+		if (current == null || !running.get()) {
+			return false;
+		}
+		current.cancel();
+		return true;
+	}
+
+	private Optional<PurgeProgress> begin(PurgeRequest request) {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이미 일괄 삭제가 진행 중이라 요청을 건너뜀: {}", request.target().tableName());
+			return Optional.empty();
+		}
+		try {
+			long total = request.byIds()
+				? new TreeSet<>(request.ids()).size()
+				: archiveRepository.countDeletedBefore(request.target(), request.deletedBefore());
+			PurgeProgress started = new PurgeProgress(request.target(), total, Instant.now());
+			progress = started;
+			return Optional.of(started);
+		} catch (RuntimeException e) {
+			running.set(false);
+			throw e;
+		}
+	}
+
+	private void execute(PurgeRequest request, PurgeProgress current) {
+		ArchiveTarget target = request.target();
+		log.info("일괄 삭제 시작: {} (deletedBefore={}, ids={}건)", target.tableName(), request.deletedBefore(),
+			request.ids().size());
+		try {
+			if (request.byIds()) {
+				purgeIds(request, current);
+			} else {
+				purgeDeletedBefore(request, current);
+			}
+		} catch (RuntimeException e) {
+			log.error("일괄 삭제 실패: {}", target.tableName(), e);
+			current.fail(e.getMessage());
+		} finally {
+			current.finish(Instant.now());
+			running.set(false);
+			log.info("일괄 삭제 종료: {}", current.status(Instant.now()));
+		}
+	}
+
+	private void purgeIds(PurgeRequest request, PurgeProgress current) {
+		List<UUID> ids = List.copyOf(new TreeSet<>(request.ids()));
+		for (int from = 0; from < ids.size(); from += chunkSize) {
+			if (current.isCancelled() || (from > 0 && !throttle())) {
+				return;
+			}
+			List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+			ChunkResult result = transactionTemplate.execute(status -> {
+				// 조회와 삭제를 한 트랜잭션에서 해 소프트 삭제된 행만 지운다
+				List<UUID> found = archiveRepository.findSoftDeletedIds(request.target(), chunk,
+					request.deletedBefore());
+				return new ChunkResult(found.size(), purgeChunk(request.target(), found));
+			});
+			completed(current, request.target(), chunk.size(), result);
+		}
+	}
+
+	private void purgeDeletedBefore(PurgeRequest request, PurgeProgress current) {
+		UUID cursor = null;
+		while (!current.isCancelled()) {
+			List<UUID> ids = archiveRepository.findExpiredIds(request.target(), request.deletedBefore(), cursor,
+				chunkSize);
+			if (ids.isEmpty()) {
+				return;
+			}
+			ChunkResult result = transactionTemplate.execute(
+				status -> new ChunkResult(ids.size(), purgeChunk(request.target(), ids)));
+			completed(current, request.target(), ids.size(), result);
+			if (ids.size() < chunkSize) {
+				return;
+			}
+			cursor = ids.get(ids.size() - 1);
+			if (!throttle()) {
+				return;
+			}
+		}
+	}
+
+	private MovedRows purgeChunk(ArchiveTarget target, List<UUID> ids) {
+		return switch (target) {
+			case ARTICLES -> archiveRepository.purgeArticles(ids);
+			case COMMENTS -> new MovedRows(archiveRepository.purgeComments(ids), 0);
+			case USERS -> {
+				// 소프트 삭제된 댓글은 삭제할 때 이미 빠졌다. 살아 있던 댓글만 커밋 후 뺀다
+				archiveRepository.countLiveCommentsByArticle(ids)
+					.forEach((articleId, comments) -> articleCounterAggregator.recordComment(articleId, -comments));
+				// 사용자의 조회 기록도 함께 지워지므로 기사 조회수에서 뺀다
+				archiveRepository.countViewsByArticle(ids)
+					.forEach((articleId, views) -> articleCounterAggregator.removeViews(articleId, views));
+				archiveRepository.countSubscriptionsByInterest(ids)
+					.forEach((interestId, subscriptions) -> interestSubscriberCounter.record(interestId, -subscriptions));
+				yield archiveRepository.purgeUsers(ids);
+			}
+		};
+	}
+
+	// 커밋된 청크만 진행률과 메트릭에 반영한다
+	private void completed(PurgeProgress current, ArchiveTarget target, int ids, ChunkResult result) {
+		MovedRows purged = result.purged();
+		current.chunkCompleted(ids, result.found(), purged.rows(), purged.comments());
+		purgedCounters.get(target.tableName()).increment(purged.rows());
+		purgedCounters.get(ArchiveTarget.COMMENTS.tableName()).increment(purged.comments());
+	}
+
+	private boolean throttle() {
+		if (throttleMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(throttleMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private record ChunkResult(int found, MovedRows purged) {
+	}
+}
@@ -0,0 +1,48 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/purge - 소프트 삭제된 행의 일괄 물리 삭제와 진행률.
+ * POST {"table": "articles", "deletedBefore": "2025-01-01T00:00:00Z"} 또는 {"table": "users", "ids": [...]} 로
+ * 시작하고, DELETE 로 진행 중인 삭제를 멈춘다.
+ */
+@Component
+@Endpoint(id = "purge")
+@RequiredArgsConstructor
+public class PurgeEndpoint {
+
+	private final BulkPurgeJob bulkPurgeJob;
+
+	@ReadOperation
+	public PurgeStatus status() {
+		return bulkPurgeJob.status().orElse(null);
+	}
+
+	@WriteOperation
+	public Map<String, Object> purge(String table, @Nullable String deletedBefore, @Nullable List<String> ids) {
+		PurgeRequest request = new PurgeRequest(ArchiveTarget.fromTableName(table),
+			deletedBefore == null ? null : Instant.parse(deletedBefore),
+			ids == null ? null : ids.stream().map(UUID::fromString).toList());
+		return bulkPurgeJob.startAsync(request)
+			.<Map<String, Object>>map(status -> Map.of("started", true, "status", status))
+			.orElseGet(() -> Map.of("started", false));
+	}
+
+	@DeleteOperation
+	public Map<String, Boolean> cancel() {
+		return Map.of("cancelled", bulkPurgeJob.cancel());
+	}
+}
@@ -0,0 +1,67 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 일괄 물리 삭제 1회의 진행 상태. 작업 스레드가 청크를 끝낼 때마다 갱신한다.
+ */
+class PurgeProgress {
+
+	private final ArchiveTarget target;
+	private final long total;
+	private final Instant startedAt;
+	private long processed;
+	private long purgedRows;
+	private long purgedComments;
+	private long skipped;
+	private int chunks;
+	private boolean cancelled;
+	private Instant finishedAt;
+	private String error;
+
+	PurgeProgress(ArchiveTarget target, long total, Instant startedAt) {
+		this.target = target;
+		this.total = total;
+		this.startedAt = startedAt;
+	}
+
+	synchronized void chunkCompleted(int ids, int found, int rows, int comments) {
+		chunks++;
+		processed += ids;
+		skipped += ids - found;
+		purgedRows += rows;
+		purgedComments += comments;
+	}
+
+	synchronized void cancel() {
+		cancelled = true;
+	}
+
+	synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	synchronized void fail(String message) {
+		error = message;
+	}
+
+	synchronized void finish(Instant now) {
+		finishedAt = now;
+	}
+
+	synchronized PurgeStatus status(Instant now) {
+		// deletedBefore 조건은 시작 후 새로 소프트 삭제된 행까지 지울 수 있어 total 을 넘을 수 있다
+		double percent = total == 0 ? 100.0 : Math.min(100.0, processed * 100.0 / total);
+
+		Duration eta = null;
+		long remaining = total - processed;
+		if (finishedAt == null && processed > 0 && remaining > 0) {
+			long elapsedMs = Math.max(1, Duration.between(startedAt, now).toMillis());
+			eta = Duration.ofMillis((long)(remaining * ((double)elapsedMs / processed)));
+		}
+
+		return new PurgeStatus(target.tableName(), finishedAt == null, cancelled, total, processed, purgedRows,
+			purgedComments, skipped, chunks, percent, startedAt, finishedAt, eta, error);
+	}
+}
@@ -0,0 +1,28 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 일괄 물리 삭제 조건. 소프트 삭제된 행만 지운다.
+ *
+ * @param deletedBefore 이 시각 전에 소프트 삭제된 행. ids 와 함께 주면 두 조건을 모두 만족하는 행만 지운다
+ * @param ids           지울 행의 ID
+ */
+public record PurgeRequest(ArchiveTarget target, Instant deletedBefore, List<UUID> ids) {
+
+	public PurgeRequest {
+		if (target == null) {
+			throw new IllegalArgumentException("삭제 대상 테이블이 필요합니다.");
+		}
+		ids = ids == null ? List.of() : List.copyOf(ids);
+		if (deletedBefore == null && ids.isEmpty()) {
+			throw new IllegalArgumentException("deletedBefore 또는 ids 중 하나는 필요합니다.");
+		}
+	}
+
+	public boolean byIds() {
+		return !ids.isEmpty();
+	}
+}
@@ -0,0 +1,31 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 일괄 물리 삭제 진행률. 남은 시간은 지금까지 처리한 청크의 속도로 추정한다.
+ *
+ * @param total          처리할 ID 수. deletedBefore 조건이면 시작 시점의 행 수
+ * @param processed      확인한 ID 수
+ * @param purgedRows     지운 대상 테이블 행 수
+ * @param purgedComments 함께 지운 댓글 수
+ * @param skipped        소프트 삭제되지 않았거나 없어서 건너뛴 ID 수
+ */
+public record PurgeStatus(
+	String table,
+	boolean running,
+	boolean cancelled,
+	long total,
+	long processed,
+	long purgedRows,
+	long purgedComments,
+	long skipped,
+	int chunks,
+	double percent,
+	Instant startedAt,
+	Instant finishedAt,
+	Duration eta,
+	String error
+) {
+}
@@ -0,0 +1,219 @@
+package com.monew.monew_server.domain.archive;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.monew.monew_server.domain.archive.ArchiveRepository.MovedRows;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소프트 삭제 후 retention 이 지난 기사/댓글/사용자를 archived_* 테이블로 옮기는 백그라운드 작업.
+ * <p>
+ * 대상 테이블마다 tombstone 을 ID 순 keyset 배치로 읽고, 배치 하나(자식 정리 + 이동)를 한 트랜잭션으로 처리한다.
+ * 배치 사이에 throttle 만큼 쉬고, 한 번 실행에 max-run 만큼만 돈다. 남은 행은 다음 실행이 이어서 옮긴다.
+ * 보관된 사용자가 남긴 살아 있는 댓글과 구독은 기사 댓글 수, 관심사 구독자 수에서 빼도록 카운터에 알린다.
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+
+	private final ArchiveRepository archiveRepository;
+	private final ArticleCounterAggregator articleCounterAggregator;
+	private final InterestSubscriberCounter interestSubscriberCounter;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final Duration retention;
+	private final int batchSize;
+	private final long throttleMs;
+	private final long maxRunMs;
+	private final Clock clock;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final Map<String, Counter> archivedCounters = new LinkedHashMap<>();
+	private final Map<ArchiveTarget, AtomicLong> liveRows = new EnumMap<>(ArchiveTarget.class);
+	private final Map<ArchiveTarget, AtomicLong> liveBytes = new EnumMap<>(ArchiveTarget.class);
+
+	@Autowired
+	public SoftDeleteArchiver(
+		ArchiveRepository archiveRepository,
+		ArticleCounterAggregator articleCounterAggregator,
+		InterestSubscriberCounter interestSubscriberCounter,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${monew.archive.enabled:true}") boolean enabled,
+		@Value("${monew.archive.retention:P30D}") Duration retention,
+		@Value("${monew.archive.batch-size:500}") int batchSize,
+		@Value("${monew.archive.throttle-ms:50}") long throttleMs,
+		@Value("${monew.archive.max-run-ms:600000}") long maxRunMs
+	) {
+		this(archiveRepository, articleCounterAggregator, interestSubscriberCounter, transactionManager, meterRegistry,
+			enabled, retention, batchSize, throttleMs, maxRunMs, Clock.systemUTC());
+	}
+
+	SoftDeleteArchiver(ArchiveRepository archiveRepository, ArticleCounterAggregator articleCounterAggregator,
+		InterestSubscriberCounter interestSubscriberCounter, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry, boolean enabled, Duration retention, int batchSize, long throttleMs,
+		long maxRunMs, Clock clock) {
+		this.archiveRepository = archiveRepository;
+		this.articleCounterAggregator = articleCounterAggregator;
+		this.interestSubscriberCounter = interestSubscriberCounter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.retention = retention;
+		this.batchSize = batchSize;
+		this.throttleMs = throttleMs;
+		this.maxRunMs = maxRunMs;
+		this.clock = clock;
+
+		for (ArchiveTarget target : ArchiveTarget.values()) {
+			archivedCounters.put(target.tableName(),
+				meterRegistry.counter("monew.archive.rows", "table", target.tableName()));
+			AtomicLong rows = new AtomicLong();
+			AtomicLong bytes = new AtomicLong();
+			liveRows.put(target, rows);
+			liveBytes.put(target, bytes);
+			Gauge.builder("monew.archive.live.rows", rows, AtomicLong::get)
+				.description("보관 후 남은 테이블의 추정 행 수")
+				.tag("table", target.tableName())
+				.register(meterRegistry);
+			Gauge.builder("monew.archive.live.bytes", bytes, AtomicLong::get)
+				.description("보관 후 남은 테이블의 디스크 크기 (인덱스 포함)")
+				.baseUnit("bytes")
+				.tag("table", target.tableName())
+				.register(meterRegistry);
+		}
+	}
+
+	@Scheduled(cron = "${monew.archive.cron:0 0 5 * * *}")
+	public void scheduledRun() {
+		if (enabled) {
+			run();
+		}
+	}
+
+	/**
+	 * 이미 실행 중이면 아무것도 하지 않고 빈 결과를 돌려준다.
+	 */
+	public ArchiveResult run() {
+		if (!running.compareAndSet(false, true)) {
+			log.info("소프트 삭제 보관이 이미 실행 중");
+			return new ArchiveResult(Map.of(), false);
+		}
+
+		try {
+			Instant cutoff = clock.instant().minus(retention);
+			long deadline = clock.millis() + maxRunMs;
+			Map<String, Long> archived = new LinkedHashMap<>();
+			boolean completed = true;
+			for (ArchiveTarget target : ArchiveTarget.values()) {
+				if (!archive(target, cutoff, deadline, archived)) {
+					completed = false;
+					break;
+				}
+			}
+			refreshTableSizes();
+			log.info("소프트 삭제 보관 {}: {} (기준 {})", completed ? "완료" : "중단", archived, cutoff);
+			return new ArchiveResult(archived, completed);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * @return 대상 행을 모두 옮겼으면 true, 시간이 다 되었거나 중단되었으면 false
+	 */
+	private boolean archive(ArchiveTarget target, Instant cutoff, long deadline, Map<String, Long> archived) {
+		UUID cursor = null;
+		while (clock.millis() < deadline) {
+			List<UUID> ids = archiveRepository.findExpiredIds(target, cutoff, cursor, batchSize);
+			if (ids.isEmpty()) {
+				return true;
+			}
+
+			MovedRows moved = transactionTemplate.execute(status -> archiveBatch(target, ids));
+			record(archived, target.tableName(), moved.rows());
+			record(archived, ArchiveTarget.COMMENTS.tableName(), moved.comments());
+
+			if (ids.size() < batchSize) {
+				return true;
+			}
+			cursor = ids.get(ids.size() - 1);
+			if (!throttle()) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private MovedRows archiveBatch(ArchiveTarget target, List<UUID> ids) {
+		return switch (target) {
+			case ARTICLES -> archiveRepository.archiveArticles(ids);
+			case COMMENTS -> new MovedRows(archiveRepository.archiveComments(ids), 0);
+			case USERS -> {
+				// 소프트 삭제된 댓글은 삭제할 때 이미 빠졌다. 살아 있던 댓글만 커밋 후 뺀다
+				archiveRepository.countLiveCommentsByArticle(ids)
+					.forEach((articleId, comments) -> articleCounterAggregator.recordComment(articleId, -comments));
+				// 사용자의 조회 기록도 함께 지워지므로 기사 조회수에서 뺀다
+				archiveRepository.countViewsByArticle(ids)
+					.forEach((articleId, views) -> articleCounterAggregator.removeViews(articleId, views));
+				archiveRepository.countSubscriptionsByInterest(ids)
+					.forEach((interestId, subscriptions) -> interestSubscriberCounter.record(interestId, -subscriptions));
+				yield archiveRepository.archiveUsers(ids);
+			}
+		};
+	}
+
+	private void record(Map<String, Long> archived, String table, int rows) {
+		if (rows > 0) {
+			archived.merge(table, (long)rows, Long::sum);
+			archivedCounters.get(table).increment(rows);
+		}
+	}
+
+	private void refreshTableSizes() {
+		for (ArchiveTarget target : ArchiveTarget.values()) {
+			try {
+				TableSize size = archiveRepository.tableSize(target.tableName());
+				liveRows.get(target).set(size.estimatedRows());
+				liveBytes.get(target).set(size.totalBytes());
+			} catch (DataAccessException e) {
+				log.warn("테이블 크기 조회 실패: {}", target.tableName(), e);
+			}
+		}
+	}
+
+	private boolean throttle() {
+		if (throttleMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(throttleMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.monew.monew_server.domain.archive;
+
+/**
+ * 테이블(파티션 포함)의 통계 기반 추정 행 수와 디스크 크기
+ */
+public record TableSize(long estimatedRows, long totalBytes) {
+}
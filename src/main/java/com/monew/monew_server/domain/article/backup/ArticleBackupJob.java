@@ -0,0 +1,256 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monew.monew_server.domain.article.repository.ArticleBackupRepository;
+import com.monew.monew_server.storage.BackupStorage;
+import com.monew.monew_server.storage.StorageUpload;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 테이블 일일 백업.
+ * <p>
+ * 한 REPEATABLE READ 트랜잭션에서 서버 측 커서로 기사를 읽어, chunk-rows 행마다 gzip NDJSON 파일 하나로 로컬 임시 디렉터리에 쓴다.
+ * 저장소 업로드는 트랜잭션이 끝난 뒤에 해서, 업로드가 느려도 스냅샷(xmin)을 붙잡아 vacuum 을 막지 않는다.
+ * 청크별 행 수/크기/SHA-256 을 모아 마지막에 manifest.json 을 쓴다. manifest 가 없는 디렉터리는 실패한 백업이다.
+ */
+@Slf4j
+@Component
+public class ArticleBackupJob {
+
+	public static final String TABLE = "articles";
+
+	private static final DateTimeFormatter BACKUP_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+		.withZone(ZoneOffset.UTC);
+	private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+	private final ArticleBackupRepository articleBackupRepository;
+	private final BackupStorage backupStorage;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private final int fetchSize;
+	private final int chunkRows;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile BackupManifest lastRun;
+
+	public ArticleBackupJob(
+		ArticleBackupRepository articleBackupRepository,
+		BackupStorage backupStorage,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		PlatformTransactionManager transactionManager,
+		@Value("${monew.backup.article.fetch-size:1000}") int fetchSize,
+		@Value("${monew.backup.article.chunk-rows:100000}") int chunkRows
+	) {
+		this.articleBackupRepository = articleBackupRepository;
+		this.backupStorage = backupStorage;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.fetchSize = fetchSize;
+		this.chunkRows = chunkRows;
+	}
+
+	@Scheduled(cron = "${monew.backup.article.cron:0 0 3 * * *}")
+	public void scheduledRun() {
+		try {
+			run();
+		} catch (RuntimeException e) {
+			log.error("기사 백업 실패", e);
+		}
+	}
+
+	/**
+	 * @return 완료된 백업의 manifest. 이전 백업이 아직 진행 중이면 empty
+	 */
+	public Optional<BackupManifest> run() {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이전 기사 백업이 아직 진행 중이라 이번 실행은 건너뜀");
+			return Optional.empty();
+		}
+
+		try {
+			Instant startedAt = Instant.now();
+			String backupId = BACKUP_ID_FORMAT.format(startedAt);
+			long start = System.nanoTime();
+			ChunkWriter writer = new ChunkWriter(backupId);
+			try {
+				transactionTemplate.executeWithoutResult(
+					status -> articleBackupRepository.streamAll(fetchSize, writer::write));
+				writer.finish();
+				writer.upload();
+
+				BackupManifest manifest = new BackupManifest(backupId, TABLE, startedAt, Instant.now(),
+					writer.rowCount, List.copyOf(writer.chunks));
+				writeManifest(manifest);
+
+				Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+				meterRegistry.timer("monew.backup.article.run").record(elapsed);
+				meterRegistry.counter("monew.backup.article.rows").increment(manifest.rowCount());
+				meterRegistry.counter("monew.backup.article.bytes")
+					.increment(manifest.chunks().stream().mapToLong(BackupManifest.Chunk::bytes).sum());
+				log.info("기사 백업 완료: {} {}행, 청크 {}개, {}ms", backupId, manifest.rowCount(),
+					manifest.chunks().size(), elapsed.toMillis());
+				lastRun = manifest;
+				return Optional.of(manifest);
+			} catch (IOException e) {
+				throw new UncheckedIOException("기사 백업 실패: " + backupId, e);
+			} finally {
+				writer.cleanUp();
+			}
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public Optional<BackupManifest> lastRun() {
+		return Optional.ofNullable(lastRun);
+	}
+
+	private void writeManifest(BackupManifest manifest) throws IOException {
+		byte[] json = objectMapper.writeValueAsBytes(manifest);
+		StorageUpload upload = backupStorage.upload(BackupManifest.manifestKey(TABLE, manifest.backupId()));
+		try {
+			upload.write(json);
+			upload.close();
+		} catch (IOException e) {
+			upload.abort();
+			throw e;
+		}
+	}
+
+	/**
+	 * 진행 중인 청크 하나만 열어 두고 순서대로 임시 파일에 쓴다. 쓰기는 트랜잭션 스레드 하나에서만 한다.
+	 */
+	private final class ChunkWriter {
+
+		private final String backupId;
+		private final Path spoolDirectory;
+		private final List<BackupManifest.Chunk> chunks = new ArrayList<>();
+		private final List<Path> files = new ArrayList<>();
+		private long rowCount;
+
+		private String key;
+		private Path file;
+		private ChecksumOutputStream checksum;
+		private GZIPOutputStream gzip;
+		private JsonGenerator generator;
+		private long chunkRowCount;
+
+		ChunkWriter(String backupId) {
+			this.backupId = backupId;
+			try {
+				this.spoolDirectory = Files.createTempDirectory("article-backup-");
+			} catch (IOException e) {
+				throw new UncheckedIOException("기사 백업 임시 디렉터리 생성 실패: " + backupId, e);
+			}
+		}
+
+		void write(ArticleBackupRow row) {
+			try {
+				if (generator == null) {
+					open();
+				}
+				row.writeTo(generator);
+				generator.writeRaw('\n');
+				chunkRowCount++;
+				rowCount++;
+				if (chunkRowCount >= chunkRows) {
+					closeChunk();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		void finish() throws IOException {
+			if (generator != null) {
+				closeChunk();
+			}
+		}
+
+		// 트랜잭션이 끝난 뒤에 부른다. 이미 올린 청크는 실패해도 manifest 없이 남는다.
+		// 같은 backupId 로 다시 쓰지 않으므로 복원 대상이 되지 않는다
+		void upload() throws IOException {
+			for (int i = 0; i < chunks.size(); i++) {
+				StorageUpload upload = backupStorage.upload(chunks.get(i).key());
+				try (InputStream in = Files.newInputStream(files.get(i))) {
+					in.transferTo(upload);
+					upload.close();
+				} catch (IOException e) {
+					upload.abort();
+					throw e;
+				}
+				Files.delete(files.get(i));
+			}
+		}
+
+		// 쓰다 만 청크와 올리지 못한 임시 파일을 지운다
+		void cleanUp() {
+			if (gzip != null) {
+				try {
+					gzip.close();
+				} catch (IOException e) {
+					log.debug("기사 백업 임시 파일 닫기 실패: {}", file, e);
+				}
+			}
+			try (Stream<Path> paths = Files.walk(spoolDirectory)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			} catch (IOException e) {
+				log.warn("기사 백업 임시 디렉터리 삭제 실패: {}", spoolDirectory, e);
+			}
+		}
+
+		private void open() throws IOException {
+			String name = "chunk-%05d.ndjson.gz".formatted(chunks.size());
+			key = BackupManifest.directoryOf(TABLE, backupId) + name;
+			file = spoolDirectory.resolve(name);
+			checksum = new ChecksumOutputStream(new BufferedOutputStream(Files.newOutputStream(file), GZIP_BUFFER_SIZE));
+			gzip = new GZIPOutputStream(checksum, GZIP_BUFFER_SIZE);
+			generator = objectMapper.getFactory().createGenerator(gzip, JsonEncoding.UTF8);
+		}
+
+		private void closeChunk() throws IOException {
+			// gzip 트레일러까지 쓰고 파일을 닫는다
+			generator.close();
+			gzip.close();
+			chunks.add(new BackupManifest.Chunk(key, chunkRowCount, checksum.bytes(), checksum.sha256Hex()));
+			files.add(file);
+			gzip = null;
+			generator = null;
+			chunkRowCount = 0;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 백업 파일 한 줄(NDJSON)에 해당하는 articles 행. 삭제된 기사와 집계 컬럼까지 그대로 담는다.
+ */
+public record ArticleBackupRow(
+	UUID id,
+	String source,
+	String sourceUrl,
+	String title,
+	String summary,
+	Instant publishDate,
+	long viewCount,
+	long commentCount,
+	Long simHash,
+	UUID duplicateClusterId,
+	Instant createdAt,
+	Instant updatedAt,
+	Instant deletedAt
+) {
+
+	// 행마다 ObjectMapper 를 거치지 않고 필드를 바로 쓴다
+	void writeTo(JsonGenerator generator) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("id", id.toString());
+		generator.writeStringField("source", source);
+		generator.writeStringField("sourceUrl", sourceUrl);
+		generator.writeStringField("title", title);
+		generator.writeStringField("summary", summary);
+		writeInstant(generator, "publishDate", publishDate);
+		generator.writeNumberField("viewCount", viewCount);
+		generator.writeNumberField("commentCount", commentCount);
+		if (simHash == null) {
+			generator.writeNullField("simHash");
+		} else {
+			generator.writeNumberField("simHash", simHash);
+		}
+		generator.writeStringField("duplicateClusterId",
+			duplicateClusterId == null ? null : duplicateClusterId.toString());
+		writeInstant(generator, "createdAt", createdAt);
+		writeInstant(generator, "updatedAt", updatedAt);
+		writeInstant(generator, "deletedAt", deletedAt);
+		generator.writeEndObject();
+	}
+
+	// parser 가 START_OBJECT 에 있을 때 부르고, END_OBJECT 에서 끝난다
+	static ArticleBackupRow readFrom(JsonParser parser) throws IOException {
+		UUID id = null;
+		String source = null;
+		String sourceUrl = null;
+		String title = null;
+		String summary = null;
+		Instant publishDate = null;
+		long viewCount = 0;
+		long commentCount = 0;
+		Long simHash = null;
+		UUID duplicateClusterId = null;
+		Instant createdAt = null;
+		Instant updatedAt = null;
+		Instant deletedAt = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "id" -> id = UUID.fromString(parser.getValueAsString());
+				case "source" -> source = parser.getValueAsString();
+				case "sourceUrl" -> sourceUrl = parser.getValueAsString();
+				case "title" -> title = parser.getValueAsString();
+				case "summary" -> summary = parser.getValueAsString();
+				case "publishDate" -> publishDate = readInstant(parser);
+				case "viewCount" -> viewCount = parser.getValueAsLong();
+				case "commentCount" -> commentCount = parser.getValueAsLong();
+				case "simHash" -> simHash = value == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+				case "duplicateClusterId" -> duplicateClusterId = value == JsonToken.VALUE_NULL
+					? null : UUID.fromString(parser.getValueAsString());
+				case "createdAt" -> createdAt = readInstant(parser);
+				case "updatedAt" -> updatedAt = readInstant(parser);
+				case "deletedAt" -> deletedAt = readInstant(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		return new ArticleBackupRow(id, source, sourceUrl, title, summary, publishDate, viewCount, commentCount,
+			simHash, duplicateClusterId, createdAt, updatedAt, deletedAt);
+	}
+
+	private static Instant readInstant(JsonParser parser) throws IOException {
+		String value = parser.getValueAsString();
+		return value == null ? null : Instant.parse(value);
+	}
+
+	private static void writeInstant(JsonGenerator generator, String field, Instant value) throws IOException {
+		generator.writeStringField(field, value == null ? null : value.toString());
+	}
+}
@@ -0,0 +1,310 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monew.monew_server.domain.article.dedup.NearDuplicateIndex;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleBackupRepository;
+import com.monew.monew_server.domain.article.view.ViewedArticleIndex;
+import com.monew.monew_server.domain.interest.tagging.InterestRetagJobRunner;
+import com.monew.monew_server.storage.BackupStorage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 백업 복원.
+ * <p>
+ * manifest 의 청크를 parallelism 개 작업 스레드가 나눠 받아, 내려받으면서 gzip 을 풀고 NDJSON 을 한 줄씩 읽어
+ * batch-size 행마다 다중 행 INSERT ... ON CONFLICT DO NOTHING 으로 넣는다.
+ * 청크 하나는 한 트랜잭션이고 완료 기록(article_restore_chunks)도 같은 트랜잭션에 남기므로,
+ * 중간에 멈추면 다시 실행했을 때 끝나지 않은 청크만 처리한다. SHA-256 이나 행 수가 manifest 와 다르면 그 청크는 롤백한다.
+ */
+@Slf4j
+@Component
+public class ArticleRestoreJob {
+
+	public static final String LATEST = "latest";
+
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+	private final ArticleBackupRepository articleBackupRepository;
+	private final BackupStorage backupStorage;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final ArticleVersionTracker articleVersionTracker;
+	private final NearDuplicateIndex nearDuplicateIndex;
+	private final ViewedArticleIndex viewedArticleIndex;
+	private final InterestRetagJobRunner interestRetagJobRunner;
+	private final TransactionTemplate transactionTemplate;
+	private final int parallelism;
+	private final int batchSize;
+	private final String restoreOnStartup;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile RestoreProgress progress;
+
+	public ArticleRestoreJob(
+		ArticleBackupRepository articleBackupRepository,
+		BackupStorage backupStorage,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		ArticleVersionTracker articleVersionTracker,
+		NearDuplicateIndex nearDuplicateIndex,
+		ViewedArticleIndex viewedArticleIndex,
+		InterestRetagJobRunner interestRetagJobRunner,
+		PlatformTransactionManager transactionManager,
+		@Value("${monew.backup.restore.parallelism:4}") int parallelism,
+		@Value("${monew.backup.restore.batch-size:1000}") int batchSize,
+		@Value("${monew.backup.restore.on-startup:}") String restoreOnStartup
+	) {
+		this.articleBackupRepository = articleBackupRepository;
+		this.backupStorage = backupStorage;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.articleVersionTracker = articleVersionTracker;
+		this.nearDuplicateIndex = nearDuplicateIndex;
+		this.viewedArticleIndex = viewedArticleIndex;
+		this.interestRetagJobRunner = interestRetagJobRunner;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.parallelism = parallelism;
+		this.batchSize = batchSize;
+		this.restoreOnStartup = restoreOnStartup;
+	}
+
+	// 새 환경을 백업으로 채울 때 monew.backup.restore.on-startup=latest (또는 백업 ID)
+	@EventListener(ApplicationReadyEvent.class)
+	public void restoreOnStartup() {
+		if (restoreOnStartup == null || restoreOnStartup.isBlank()) {
+			return;
+		}
+		startAsync(restoreOnStartup);
+	}
+
+	/**
+	 * 백그라운드 스레드에서 복원을 시작한다.
+	 *
+	 * @return 이미 복원 중이면 false
+	 */
+	public boolean startAsync(String backupId) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		Thread thread = new Thread(() -> {
+			try {
+				doRestore(backupId);
+			} catch (IOException | RuntimeException e) {
+				log.error("기사 복원 실패: {}", backupId, e);
+			} finally {
+				running.set(false);
+			}
+		}, "article-restore");
+		thread.start();
+		return true;
+	}
+
+	/**
+	 * @param backupId 백업 ID 또는 "latest"
+	 * @return 복원 결과. 이미 복원 중이면 empty
+	 */
+	public Optional<RestoreStatus> restore(String backupId) throws IOException {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이미 기사 복원이 진행 중이라 요청을 건너뜀: {}", backupId);
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(doRestore(backupId));
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public Optional<RestoreStatus> status() {
+		RestoreProgress current = progress;
+		return current == null ? Optional.empty() : Optional.of(current.status(Instant.now()));
+	}
+
+	/**
+	 * @return manifest 가 있는(완료된) 백업 ID, 오래된 순
+	 */
+	public List<String> listBackups() throws IOException {
+		String suffix = "/" + BackupManifest.MANIFEST_FILE;
+		return backupStorage.list(ArticleBackupJob.TABLE + "/").stream()
+			.filter(key -> key.endsWith(suffix))
+			.map(key -> key.substring(ArticleBackupJob.TABLE.length() + 1, key.length() - suffix.length()))
+			.toList();
+	}
+
+	private RestoreStatus doRestore(String requestedId) throws IOException {
+		BackupManifest manifest = readManifest(resolveBackupId(requestedId));
+		Set<String> restored = articleBackupRepository.findRestoredChunks(manifest.backupId());
+		List<BackupManifest.Chunk> pending = manifest.chunks().stream()
+			.filter(chunk -> !restored.contains(chunk.key()))
+			.toList();
+
+		RestoreProgress current = new RestoreProgress(manifest.backupId(), manifest.chunks().size(),
+			manifest.chunks().size() - pending.size(), Instant.now());
+		progress = current;
+		log.info("기사 복원 시작: {} 청크 {}개 중 {}개 남음", manifest.backupId(), manifest.chunks().size(),
+			pending.size());
+
+		ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, parallelism), workerThreads());
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>(pending.size());
+			for (BackupManifest.Chunk chunk : pending) {
+				futures.add(CompletableFuture.runAsync(() -> restoreChunk(manifest.backupId(), chunk, current),
+					workers));
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} finally {
+			workers.shutdown();
+		}
+
+		current.finish(Instant.now());
+		RestoreStatus status = current.status(Instant.now());
+		if (status.insertedRows() > 0) {
+			refreshAfterRestore();
+		}
+		log.info("기사 복원 완료: {} 청크 {}개, {}행 중 {}행 저장, 실패 청크 {}개", status.backupId(),
+			status.completedChunks(), status.restoredRows(), status.insertedRows(), status.failedChunks().size());
+		return status;
+	}
+
+	/*
+	 * 복원은 기사 행을 직접 넣으므로 기사 저장 경로에서 하던 반영을 한 번에 맞춘다.
+	 * 목록/상세 캐시는 버전으로, 유사 기사와 조회 인덱스는 다시 읽어서 맞춘다.
+	 * article_interests 는 백업에 없으므로 모든 관심사를 재태깅해 되살린다.
+	 */
+	private void refreshAfterRestore() {
+		articleVersionTracker.bumpList();
+		articleVersionTracker.bumpAllArticles();
+		nearDuplicateIndex.load();
+		viewedArticleIndex.evictAll();
+		interestRetagJobRunner.enqueueAll();
+	}
+
+	// 실패한 청크는 기록만 하고 나머지 청크는 계속 복원한다. 다시 실행하면 그 청크부터 이어서 한다
+	private void restoreChunk(String backupId, BackupManifest.Chunk chunk, RestoreProgress current) {
+		try {
+			long[] counts = transactionTemplate.execute(status -> {
+				long[] loaded = loadChunk(chunk);
+				articleBackupRepository.markChunkRestored(backupId, chunk.key(), loaded[0]);
+				return loaded;
+			});
+			current.chunkCompleted(counts[0], counts[1]);
+			meterRegistry.counter("monew.backup.restore.rows").increment(counts[0]);
+		} catch (RuntimeException e) {
+			current.chunkFailed(chunk.key());
+			meterRegistry.counter("monew.backup.restore.failures").increment();
+			log.error("기사 백업 청크 복원 실패: {}", chunk.key(), e);
+		}
+	}
+
+	/**
+	 * @return {읽은 행 수, 저장된 행 수}
+	 */
+	private long[] loadChunk(BackupManifest.Chunk chunk) {
+		MessageDigest digest = ChecksumOutputStream.sha256();
+		long rows = 0;
+		long inserted = 0;
+		try (DigestInputStream compressed = new DigestInputStream(
+			new BufferedInputStream(backupStorage.download(chunk.key()), STREAM_BUFFER_SIZE), digest);
+			JsonParser parser = objectMapper.getFactory()
+				.createParser(new GZIPInputStream(new NonClosingInputStream(compressed), STREAM_BUFFER_SIZE))) {
+
+			List<ArticleBackupRow> batch = new ArrayList<>(batchSize);
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				batch.add(ArticleBackupRow.readFrom(parser));
+				rows++;
+				if (batch.size() >= batchSize) {
+					inserted += articleBackupRepository.insertIgnoringDuplicates(batch);
+					batch.clear();
+				}
+			}
+			inserted += articleBackupRepository.insertIgnoringDuplicates(batch);
+
+			// gzip 이 읽지 않고 남긴 바이트까지 해시에 넣는다
+			compressed.transferTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException("백업 청크 읽기 실패: " + chunk.key(), e);
+		}
+
+		String sha256 = HexFormat.of().formatHex(digest.digest());
+		if (!sha256.equals(chunk.sha256())) {
+			throw new IllegalStateException("백업 청크 체크섬 불일치: " + chunk.key());
+		}
+		if (rows != chunk.rows()) {
+			throw new IllegalStateException(
+				"백업 청크 행 수 불일치: %s (manifest %d, 실제 %d)".formatted(chunk.key(), chunk.rows(), rows));
+		}
+		return new long[] {rows, inserted};
+	}
+
+	private String resolveBackupId(String requestedId) throws IOException {
+		if (requestedId != null && !requestedId.isBlank() && !LATEST.equals(requestedId)) {
+			return requestedId;
+		}
+		List<String> backups = listBackups();
+		if (backups.isEmpty()) {
+			throw new IllegalStateException("복원할 기사 백업이 없습니다");
+		}
+		return backups.get(backups.size() - 1);
+	}
+
+	private BackupManifest readManifest(String backupId) throws IOException {
+		try (InputStream in = backupStorage.download(BackupManifest.manifestKey(ArticleBackupJob.TABLE, backupId))) {
+			return objectMapper.readValue(in, BackupManifest.class);
+		}
+	}
+
+	private static ThreadFactory workerThreads() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "article-restore-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	// Jackson 은 입력 끝에서 스트림을 닫는다. 남은 바이트까지 해시하도록 원본 스트림은 바깥 try 가 닫는다
+	private static final class NonClosingInputStream extends FilterInputStream {
+
+		NonClosingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
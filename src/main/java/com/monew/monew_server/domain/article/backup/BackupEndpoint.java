@@ -0,0 +1,41 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/backup - 기사 백업 목록과 복원 진행률. POST 로 복원을 시작한다 (backupId 생략 시 최신 백업).
+ */
+@Component
+@Endpoint(id = "backup")
+@RequiredArgsConstructor
+public class BackupEndpoint {
+
+	private final ArticleBackupJob articleBackupJob;
+	private final ArticleRestoreJob articleRestoreJob;
+
+	@ReadOperation
+	public Map<String, Object> status() throws IOException {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("backups", articleRestoreJob.listBackups());
+		status.put("lastBackup", articleBackupJob.lastRun().orElse(null));
+		status.put("restore", articleRestoreJob.status().orElse(null));
+		return status;
+	}
+
+	@WriteOperation
+	public Map<String, Object> restore(@Nullable String backupId) {
+		String target = backupId == null ? ArticleRestoreJob.LATEST : backupId;
+		boolean started = articleRestoreJob.startAsync(target);
+		return Map.of("backupId", target, "started", started);
+	}
+}
@@ -0,0 +1,39 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 백업 1회의 목록 파일. 모든 청크를 올린 뒤 마지막에 쓰므로, manifest 가 있는 백업만 완전한 백업이다.
+ *
+ * @param backupId 백업 시작 시각 기반 ID (예: 20251018T030000Z)
+ * @param table    백업한 테이블
+ */
+public record BackupManifest(
+	String backupId,
+	String table,
+	Instant startedAt,
+	Instant completedAt,
+	long rowCount,
+	List<Chunk> chunks
+) {
+
+	public static final String MANIFEST_FILE = "manifest.json";
+
+	public static String directoryOf(String table, String backupId) {
+		return table + "/" + backupId + "/";
+	}
+
+	public static String manifestKey(String table, String backupId) {
+		return directoryOf(table, backupId) + MANIFEST_FILE;
+	}
+
+	/**
+	 * @param key    저장소 키
+	 * @param rows   청크에 담긴 행 수
+	 * @param bytes  압축된 크기
+	 * @param sha256 압축된 내용의 SHA-256 (hex)
+	 */
+	public record Chunk(String key, long rows, long bytes, String sha256) {
+	}
+}
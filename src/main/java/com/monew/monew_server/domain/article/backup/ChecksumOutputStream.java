@@ -0,0 +1,53 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 지나가는 바이트의 SHA-256 과 크기를 센다.
+ */
+class ChecksumOutputStream extends FilterOutputStream {
+
+	private final MessageDigest digest;
+	private long bytes;
+
+	ChecksumOutputStream(OutputStream out) {
+		super(out);
+		this.digest = sha256();
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		digest.update((byte)b);
+		bytes++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+		digest.update(b, off, len);
+		bytes += len;
+	}
+
+	long bytes() {
+		return bytes;
+	}
+
+	// close 이후에 한 번만 부른다
+	String sha256Hex() {
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
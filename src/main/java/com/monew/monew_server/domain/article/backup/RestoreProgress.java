@@ -0,0 +1,62 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 복원 1회의 진행 상태. 작업 스레드들이 청크를 끝낼 때마다 갱신한다.
+ */
+class RestoreProgress {
+
+	private final String backupId;
+	private final int totalChunks;
+	private final int skippedChunks;
+	private final Instant startedAt;
+	private final List<String> failedChunks = new ArrayList<>();
+	private int completedChunks;
+	private long restoredRows;
+	private long insertedRows;
+	private Instant finishedAt;
+
+	RestoreProgress(String backupId, int totalChunks, int skippedChunks, Instant startedAt) {
+		this.backupId = backupId;
+		this.totalChunks = totalChunks;
+		this.skippedChunks = skippedChunks;
+		this.startedAt = startedAt;
+	}
+
+	synchronized void chunkCompleted(long rows, long inserted) {
+		completedChunks++;
+		restoredRows += rows;
+		insertedRows += inserted;
+	}
+
+	synchronized void chunkFailed(String key) {
+		failedChunks.add(key);
+	}
+
+	synchronized void finish(Instant now) {
+		finishedAt = now;
+	}
+
+	synchronized boolean hasFailures() {
+		return !failedChunks.isEmpty();
+	}
+
+	synchronized RestoreStatus status(Instant now) {
+		int done = skippedChunks + completedChunks;
+		double percent = totalChunks == 0 ? 100.0 : done * 100.0 / totalChunks;
+
+		Duration eta = null;
+		int remaining = totalChunks - done - failedChunks.size();
+		if (finishedAt == null && completedChunks > 0 && remaining > 0) {
+			long elapsedMs = Math.max(1, Duration.between(startedAt, now).toMillis());
+			eta = Duration.ofMillis((long)(remaining * ((double)elapsedMs / completedChunks)));
+		}
+
+		return new RestoreStatus(backupId, finishedAt == null, totalChunks, skippedChunks, completedChunks,
+			List.copyOf(failedChunks), restoredRows, insertedRows, percent, startedAt, finishedAt, eta);
+	}
+}
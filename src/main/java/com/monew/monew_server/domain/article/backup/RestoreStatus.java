@@ -0,0 +1,28 @@
+package com.monew.monew_server.domain.article.backup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 기사 복원 진행률. 남은 시간은 이번 실행에서 끝낸 청크의 처리 속도로 추정한다.
+ *
+ * @param skippedChunks 이전 실행에서 이미 복원되어 건너뛴 청크 수
+ * @param restoredRows  이번 실행에서 읽은 행 수
+ * @param insertedRows  그중 실제로 저장된 행 수 (나머지는 이미 있던 기사)
+ */
+public record RestoreStatus(
+	String backupId,
+	boolean running,
+	int totalChunks,
+	int skippedChunks,
+	int completedChunks,
+	List<String> failedChunks,
+	long restoredRows,
+	long insertedRows,
+	double percent,
+	Instant startedAt,
+	Instant finishedAt,
+	Duration eta
+) {
+}
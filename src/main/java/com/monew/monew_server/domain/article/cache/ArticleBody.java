@@ -0,0 +1,28 @@
+package com.monew.monew_server.domain.article.cache;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
+import com.monew.monew_server.domain.article.entity.Article;
+
+/**
+ * 수집 이후 바뀌지 않는 기사 본문. 캐시에는 엔티티 대신 이 값만 보관한다.
+ */
+public record ArticleBody(
+	UUID id,
+	String title,
+	String summary,
+	String sourceUrl,
+	Instant publishDate
+) {
+
+	public static ArticleBody from(Article article) {
+		return new ArticleBody(article.getId(), article.getTitle(), article.getSummary(), article.getSourceUrl(),
+			article.getPublishDate());
+	}
+
+	public ArticleResponse toResponse(long viewCount, long commentCount, boolean viewedByMe) {
+		return new ArticleResponse(id, title, summary, sourceUrl, publishDate, commentCount, viewCount, viewedByMe);
+	}
+}
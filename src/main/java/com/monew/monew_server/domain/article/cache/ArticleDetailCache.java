@@ -0,0 +1,54 @@
+package com.monew.monew_server.domain.article.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
+import com.monew.monew_server.domain.common.AfterCommit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 기사 상세 본문 read-through 캐시. 크기와 TTL 로 제한한다.
+ * 조회수/댓글수는 캐시하지 않고 ArticleCounterAggregator 에서 따로 얹는다.
+ */
+@Component
+public class ArticleDetailCache {
+
+	private final ArticleRepositoryCustom articleRepositoryCustom;
+	private final Cache<UUID, ArticleBody> cache;
+
+	public ArticleDetailCache(
+		@Qualifier("articleRepositoryImpl") ArticleRepositoryCustom articleRepositoryCustom,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.detail-cache.max-size:10000}") long maxSize,
+		@Value("${monew.article.detail-cache.ttl:PT10M}") Duration ttl
+	) {
+		this.articleRepositoryCustom = articleRepositoryCustom;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		// cache.gets{result=hit|miss}, cache.evictions 등으로 actuator 에 노출
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "articleDetail");
+	}
+
+	public Optional<ArticleBody> get(UUID articleId) {
+		// 없는 기사는 캐시하지 않는다 (loader 가 null 을 돌려주면 저장되지 않음)
+		return Optional.ofNullable(cache.get(articleId,
+			id -> articleRepositoryCustom.findArticleById(id).map(ArticleBody::from).orElse(null)));
+	}
+
+	public void invalidate(UUID articleId) {
+		AfterCommit.run(() -> cache.invalidate(articleId));
+	}
+}
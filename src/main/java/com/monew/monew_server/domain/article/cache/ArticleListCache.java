@@ -0,0 +1,168 @@
+package com.monew.monew_server.domain.article.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
+import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 비로그인 기사 목록 응답 캐시. 크기와 짧은 TTL 로 제한한다.
+ * <p>
+ * 사용자가 없으면 viewedByMe 가 항상 false 라 응답은 요청 조건에만 달려 있다. 그래서 같은 결과를 내는 요청
+ * (키워드 대소문자, 관심사 순서, 빈 커서 등) 을 하나의 키로 정규화하고, 목록 버전을 키에 넣어 목록에 들어가는 기사가
+ * 바뀌면 새로 읽게 한다. 조회수/댓글수 flush 는 목록 버전을 올리지 않으므로, 찾은 페이지의 기사 중 채운 뒤로 버전이
+ * 바뀐 기사가 있을 때만 그 항목을 다시 읽는다. 조회수/댓글수 정렬은 어느 기사의 카운트가 바뀌어도 다시 읽는다.
+ * 로그인 사용자의 조회 여부로 올라가는 버전은 쓰지 않으므로 조회가 많아도 캐시가 비워지지 않는다.
+ * 같은 키를 동시에 놓치면 먼저 온 요청만 조회하고 나머지는 그 결과를 기다린다.
+ */
+@Component
+public class ArticleListCache {
+
+	private static final int DEFAULT_PAGE_SIZE = 10;
+
+	private final ArticleVersionTracker articleVersionTracker;
+	private final TrendingCounter trendingCounter;
+	private final boolean enabled;
+	private final AsyncCache<ListKey, CachedPage> cache;
+
+	public ArticleListCache(
+		ArticleVersionTracker articleVersionTracker,
+		TrendingCounter trendingCounter,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.list-cache.enabled:true}") boolean enabled,
+		@Value("${monew.article.list-cache.max-size:1000}") long maxSize,
+		@Value("${monew.article.list-cache.ttl:PT5S}") Duration ttl
+	) {
+		this.articleVersionTracker = articleVersionTracker;
+		this.trendingCounter = trendingCounter;
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "articleList");
+	}
+
+	/**
+	 * 정규화한 요청으로 캐시를 찾고, 없으면 loader 를 호출한 스레드에서 실행해 채운다.
+	 * loader 가 예외를 던지면 캐시하지 않고 기다리던 요청에도 같은 예외를 던진다.
+	 */
+	public CursorPageResponseArticleDto get(ArticleRequest request,
+		Function<ArticleRequest, CursorPageResponseArticleDto> loader) {
+		ArticleRequest normalized = normalize(request);
+		if (!enabled) {
+			return loader.apply(normalized);
+		}
+
+		// 트렌딩 정렬은 순위가 주기적으로 다시 계산되므로 스냅샷도 키에 넣는다
+		int trending = normalized.sortBy() == ArticleSortType.TRENDING ? trendingCounter.snapshot().hashCode() : 0;
+		ListKey key = new ListKey(articleVersionTracker.listVersion(), trending, normalized);
+
+		CompletableFuture<CachedPage> future = getOrLoad(key, normalized, loader);
+		CachedPage cached = join(future);
+		if (!cached.changedSince(articleVersionTracker, normalized.sortBy())) {
+			return cached.page();
+		}
+		// 채운 뒤로 조회수/댓글수가 바뀐 기사가 있다. 한 번만 다시 읽고, 그 사이 또 바뀌면 그대로 돌려준다
+		cache.asMap().remove(key, future);
+		return join(getOrLoad(key, normalized, loader)).page();
+	}
+
+	private CompletableFuture<CachedPage> getOrLoad(ListKey key, ArticleRequest normalized,
+		Function<ArticleRequest, CursorPageResponseArticleDto> loader) {
+		// 매핑 함수에서는 빈 future 만 만들고 조회는 잠금 밖에서 한다
+		AtomicReference<CompletableFuture<CachedPage>> created = new AtomicReference<>();
+		CompletableFuture<CachedPage> future = cache.get(key, (k, executor) -> {
+			CompletableFuture<CachedPage> loading = new CompletableFuture<>();
+			created.set(loading);
+			return loading;
+		});
+
+		if (future == created.get()) {
+			try {
+				long mark = articleVersionTracker.mark();
+				future.complete(new CachedPage(mark, loader.apply(normalized)));
+			} catch (RuntimeException | Error e) {
+				// 실패한 future 는 캐시에서 자동으로 빠진다
+				future.completeExceptionally(e);
+				throw e;
+			}
+		}
+		return future;
+	}
+
+	public void invalidateAll() {
+		cache.synchronous().invalidateAll();
+	}
+
+	static ArticleRequest normalize(ArticleRequest request) {
+		String keyword = request.keyword() == null || request.keyword().isBlank()
+			? null
+			: request.keyword().toLowerCase(Locale.ROOT);
+		List<UUID> interestIds = request.interestIds() == null || request.interestIds().isEmpty()
+			? null
+			: request.interestIds().stream().distinct().sorted().toList();
+		return new ArticleRequest(
+			keyword,
+			interestIds,
+			request.source(),
+			request.date(),
+			blankToNull(request.cursor()),
+			request.sortBy() == null ? ArticleSortType.DATE : request.sortBy(),
+			request.size() == null ? DEFAULT_PAGE_SIZE : request.size(),
+			blankToNull(request.nextAfter()),
+			request.countMode(),
+			Boolean.TRUE.equals(request.collapseDuplicates())
+		);
+	}
+
+	private static String blankToNull(String value) {
+		return value == null || value.isBlank() ? null : value;
+	}
+
+	private static CachedPage join(CompletableFuture<CachedPage> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record ListKey(long version, int trending, ArticleRequest request) {
+	}
+
+	// mark 는 조회를 시작하기 전에 받은 버전이다
+	private record CachedPage(long mark, CursorPageResponseArticleDto page) {
+
+		boolean changedSince(ArticleVersionTracker tracker, ArticleSortType sortBy) {
+			List<UUID> articleIds = page.getContent().stream().map(ArticleResponse::id).toList();
+			return tracker.changedSince(mark, sortBy, articleIds, null);
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monew.monew_server.domain.article.collect.CollectRunStats.SourceStats;
+import com.monew.monew_server.domain.article.dedup.ClusterAssignment;
+import com.monew.monew_server.domain.article.dedup.NearDuplicateIndex;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleBatchRepository;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger.TaggableArticle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 등록된 ArticleCollector 들을 출처별로 병렬 실행해 기사를 저장한다.
+ * 출처마다 batch-size 만큼 모아 다중 행 INSERT ... ON CONFLICT 로 쓰고,
+ * 최근에 본 (source, sourceUrl) 은 DB 까지 가지 않고 메모리에서 거른다.
+ * 새로 저장된 기사는 유사 기사 묶음을 정하고 바로 관심사 키워드로 태깅한다.
+ */
+@Slf4j
+@Component
+public class ArticleCollectEngine {
+
+	private static final String ARTICLES_METRIC = "monew.article.collect.articles";
+
+	private final ObjectProvider<ArticleCollector> collectors;
+	private final ArticleBatchRepository articleBatchRepository;
+	private final ArticleInterestTagger articleInterestTagger;
+	private final NearDuplicateIndex nearDuplicateIndex;
+	private final ArticleVersionTracker articleVersionTracker;
+	private final Executor articleCollectExecutor;
+	private final MeterRegistry meterRegistry;
+	private final RecentArticleKeys recentKeys;
+	private final int batchSize;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile CollectRunStats lastRun;
+
+	public ArticleCollectEngine(
+		ObjectProvider<ArticleCollector> collectors,
+		ArticleBatchRepository articleBatchRepository,
+		ArticleInterestTagger articleInterestTagger,
+		NearDuplicateIndex nearDuplicateIndex,
+		ArticleVersionTracker articleVersionTracker,
+		@Qualifier("articleCollectExecutor") Executor articleCollectExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.collect.batch-size:200}") int batchSize,
+		@Value("${monew.article.collect.recent-key-capacity:100000}") int recentKeyCapacity
+	) {
+		this.collectors = collectors;
+		this.articleBatchRepository = articleBatchRepository;
+		this.articleInterestTagger = articleInterestTagger;
+		this.nearDuplicateIndex = nearDuplicateIndex;
+		this.articleVersionTracker = articleVersionTracker;
+		this.articleCollectExecutor = articleCollectExecutor;
+		this.meterRegistry = meterRegistry;
+		this.recentKeys = new RecentArticleKeys(recentKeyCapacity);
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(cron = "${monew.article.collect.cron:0 0 * * * *}")
+	public void scheduledRun() {
+		run();
+	}
+
+	/**
+	 * @return 실행 결과. 이전 실행이 아직 끝나지 않았으면 empty
+	 */
+	public Optional<CollectRunStats> run() {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이전 기사 수집이 아직 진행 중이라 이번 주기는 건너뜀");
+			return Optional.empty();
+		}
+
+		try {
+			Instant startedAt = Instant.now();
+			long start = System.nanoTime();
+
+			List<CompletableFuture<SourceStats>> futures = collectors.orderedStream()
+				.map(collector -> CompletableFuture.supplyAsync(() -> collectSource(collector), articleCollectExecutor))
+				.toList();
+			List<SourceStats> sources = futures.stream().map(CompletableFuture::join).toList();
+
+			CollectRunStats stats = new CollectRunStats(startedAt, Duration.ofNanos(System.nanoTime() - start),
+				sources);
+			lastRun = stats;
+			meterRegistry.timer("monew.article.collect.run").record(stats.elapsed());
+			log.info("기사 수집 완료: 출처 {}개, 읽음 {}건, 저장 {}건, {}ms ({}건/s)", sources.size(), stats.fetched(),
+				stats.inserted(), stats.elapsed().toMillis(), String.format("%.1f", stats.throughputPerSecond()));
+			return Optional.of(stats);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public Optional<CollectRunStats> lastRun() {
+		return Optional.ofNullable(lastRun);
+	}
+
+	private SourceStats collectSource(ArticleCollector collector) {
+		SourceRun run = new SourceRun(collector.source());
+		long start = System.nanoTime();
+		String error = null;
+		try {
+			collector.collect(run::accept);
+		} catch (IOException | RuntimeException e) {
+			error = e.getMessage();
+			log.error("기사 수집 실패: {}", collector, e);
+		}
+		// 수집기가 중간에 실패해도 이미 읽은 기사는 저장한다
+		run.flush();
+
+		SourceStats stats = run.toStats(Duration.ofNanos(System.nanoTime() - start), error);
+		String source = collector.source().name();
+		meterRegistry.counter(ARTICLES_METRIC, "source", source, "result", "inserted").increment(stats.inserted());
+		meterRegistry.counter(ARTICLES_METRIC, "source", source, "result", "skipped").increment(stats.skipped());
+		meterRegistry.counter(ARTICLES_METRIC, "source", source, "result", "conflicted").increment(stats.conflicted());
+		meterRegistry.counter(ARTICLES_METRIC, "source", source, "result", "failed").increment(stats.failed());
+		meterRegistry.counter(ARTICLES_METRIC, "source", source, "result", "near-duplicate")
+			.increment(stats.nearDuplicates());
+		log.debug("{} 수집: 읽음 {}건, 저장 {}건, 중복 {}건, {}ms", source, stats.fetched(), stats.inserted(),
+			stats.skipped() + stats.conflicted(), stats.elapsed().toMillis());
+		return stats;
+	}
+
+	/**
+	 * 출처 하나의 수집 상태. 수집기 스레드 하나에서만 쓰인다.
+	 */
+	private final class SourceRun {
+
+		private final ArticleSource source;
+		private final List<CollectedArticle> buffer = new ArrayList<>(batchSize);
+		private long fetched;
+		private long skipped;
+		private long inserted;
+		private long conflicted;
+		private long failed;
+		private long nearDuplicates;
+		private long tagged;
+
+		SourceRun(ArticleSource source) {
+			this.source = source;
+		}
+
+		void accept(CollectedArticle article) {
+			fetched++;
+			if (article.source() != source || !recentKeys.markIfAbsent(article.source(), article.sourceUrl())) {
+				skipped++;
+				return;
+			}
+			buffer.add(article);
+			if (buffer.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (buffer.isEmpty()) {
+				return;
+			}
+			try {
+				Map<UUID, CollectedArticle> saved = articleBatchRepository.insertIgnoringDuplicates(buffer);
+				inserted += saved.size();
+				conflicted += buffer.size() - saved.size();
+				cluster(saved);
+				tag(saved);
+				if (!saved.isEmpty()) {
+					articleVersionTracker.bumpList();
+				}
+			} catch (RuntimeException e) {
+				failed += buffer.size();
+				buffer.forEach(article -> recentKeys.forget(article.source(), article.sourceUrl()));
+				log.error("수집 기사 저장 실패: {} {}건", source, buffer.size(), e);
+			}
+			buffer.clear();
+		}
+
+		// 묶음 정보는 목록 접기에만 쓰이므로 실패해도 기사 저장은 그대로 둔다
+		private void cluster(Map<UUID, CollectedArticle> saved) {
+			if (saved.isEmpty()) {
+				return;
+			}
+			List<ClusterAssignment> assignments = saved.entrySet().stream()
+				.map(e -> nearDuplicateIndex.assign(e.getKey(), e.getValue().title(), e.getValue().summary()))
+				.toList();
+			try {
+				articleBatchRepository.updateFingerprints(assignments);
+				nearDuplicates += assignments.stream().filter(a -> !a.isRepresentative()).count();
+			} catch (RuntimeException e) {
+				log.error("수집 기사 유사 묶음 저장 실패: {} {}건", source, assignments.size(), e);
+			}
+		}
+
+		// 태깅 실패는 기사 저장과 별개로 두고, 재태깅 작업이 나중에 채운다
+		private void tag(Map<UUID, CollectedArticle> saved) {
+			if (saved.isEmpty()) {
+				return;
+			}
+			List<TaggableArticle> articles = saved.entrySet().stream()
+				.map(e -> new TaggableArticle(e.getKey(), e.getValue().title(), e.getValue().summary()))
+				.toList();
+			try {
+				tagged += articleInterestTagger.tag(articles);
+			} catch (RuntimeException e) {
+				log.error("수집 기사 관심사 태깅 실패: {} {}건", source, articles.size(), e);
+			}
+		}
+
+		SourceStats toStats(Duration elapsed, String error) {
+			return new SourceStats(source, fetched, skipped, inserted, conflicted, failed, nearDuplicates, tagged,
+				elapsed, error);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * 출처별 기사 수집 어댑터. 빈으로 등록하면 ArticleCollectEngine 이 수집 주기마다 병렬로 실행한다.
+ * 피드 전체를 메모리에 올리지 않도록 읽는 즉시 sink 로 한 건씩 넘긴다.
+ */
+public interface ArticleCollector {
+
+	ArticleSource source();
+
+	void collect(Consumer<CollectedArticle> sink) throws IOException;
+}
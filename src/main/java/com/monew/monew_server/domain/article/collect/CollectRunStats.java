@@ -0,0 +1,56 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * 수집 1회 실행 결과.
+ */
+public record CollectRunStats(Instant startedAt, Duration elapsed, List<SourceStats> sources) {
+
+	public long fetched() {
+		return sources.stream().mapToLong(SourceStats::fetched).sum();
+	}
+
+	public long inserted() {
+		return sources.stream().mapToLong(SourceStats::inserted).sum();
+	}
+
+	// 초당 처리(읽은) 기사 수
+	public double throughputPerSecond() {
+		long millis = Math.max(1, elapsed.toMillis());
+		return fetched() * 1000.0 / millis;
+	}
+
+	/**
+	 * @param fetched    피드에서 읽은 기사 수
+	 * @param skipped    최근 키 집합에서 걸러진 수
+	 * @param inserted   새로 저장된 수
+	 * @param conflicted DB 에 이미 있어 건너뛴 수
+	 * @param failed     저장에 실패한 수
+	 * @param nearDuplicates 새 기사 중 기존 유사 기사 묶음에 들어간 수
+	 * @param tagged     새 기사에 붙인 관심사 연결 수
+	 * @param error      수집기 오류 메시지, 정상 종료면 null
+	 */
+	public record SourceStats(
+		ArticleSource source,
+		long fetched,
+		long skipped,
+		long inserted,
+		long conflicted,
+		long failed,
+		long nearDuplicates,
+		long tagged,
+		Duration elapsed,
+		String error
+	) {
+
+		public double throughputPerSecond() {
+			long millis = Math.max(1, elapsed.toMillis());
+			return fetched * 1000.0 / millis;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.time.Instant;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * 수집기가 읽어 온 기사 한 건. (source, sourceUrl) 이 기사 식별 키다.
+ */
+public record CollectedArticle(
+	ArticleSource source,
+	String sourceUrl,
+	String title,
+	String summary,
+	Instant publishDate
+) {
+}
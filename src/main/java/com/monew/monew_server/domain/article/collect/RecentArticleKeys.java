@@ -0,0 +1,44 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * 최근에 수집한 (source, sourceUrl) 키 집합. 가장 오래 쓰이지 않은 키부터 밀려난다.
+ * 이미 저장된 기사를 매 주기마다 다시 INSERT 하지 않기 위한 것이고, 최종 중복 판정은 DB 유니크 제약이 한다.
+ */
+class RecentArticleKeys {
+
+	private final Map<String, Boolean> keys;
+
+	RecentArticleKeys(int capacity) {
+		this.keys = new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * @return 처음 보는 키면 true
+	 */
+	synchronized boolean markIfAbsent(ArticleSource source, String sourceUrl) {
+		return keys.put(keyOf(source, sourceUrl), Boolean.TRUE) == null;
+	}
+
+	// 저장에 실패한 키는 다음 주기에 다시 시도할 수 있도록 지운다
+	synchronized void forget(ArticleSource source, String sourceUrl) {
+		keys.remove(keyOf(source, sourceUrl));
+	}
+
+	synchronized int size() {
+		return keys.size();
+	}
+
+	private static String keyOf(ArticleSource source, String sourceUrl) {
+		return source.name() + '\u0000' + sourceUrl;
+	}
+}
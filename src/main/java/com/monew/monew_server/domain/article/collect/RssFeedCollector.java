@@ -0,0 +1,61 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+/**
+ * Spring Resource 위치(file:, classpath:, https:)의 RSS 피드를 읽는 수집기.
+ * 로컬에서는 file:/classpath: 의 XML 파일로 수집 흐름을 그대로 확인할 수 있다.
+ */
+public class RssFeedCollector implements ArticleCollector {
+
+	private final ArticleSource source;
+	private final Resource feed;
+	private final Duration timeout;
+
+	public RssFeedCollector(ArticleSource source, Resource feed, Duration timeout) {
+		this.source = source;
+		this.feed = feed;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public ArticleSource source() {
+		return source;
+	}
+
+	@Override
+	public void collect(Consumer<CollectedArticle> sink) throws IOException {
+		try (InputStream in = open()) {
+			RssFeedParser.parse(in, source, sink);
+		} catch (XMLStreamException e) {
+			throw new IOException("RSS 피드 파싱 실패: " + feed.getDescription(), e);
+		}
+	}
+
+	// 원격 피드는 응답이 없을 때 수집 스레드가 묶이지 않도록 타임아웃을 건다
+	private InputStream open() throws IOException {
+		if (feed instanceof UrlResource && feed.getURL().getProtocol().startsWith("http")) {
+			URLConnection connection = feed.getURL().openConnection();
+			connection.setConnectTimeout((int)timeout.toMillis());
+			connection.setReadTimeout((int)timeout.toMillis());
+			return connection.getInputStream();
+		}
+		return feed.getInputStream();
+	}
+
+	@Override
+	public String toString() {
+		return "RssFeedCollector(" + source + ", " + feed.getDescription() + ")";
+	}
+}
@@ -0,0 +1,137 @@
+package com.monew.monew_server.domain.article.collect;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RSS 2.0 피드를 StAX 로 스트리밍 파싱한다. DOM 을 만들지 않으므로 피드 크기와 무관하게 item 하나만큼만 메모리를 쓴다.
+ * link(없으면 guid)와 title 이 없는 item 은 건너뛴다.
+ */
+@Slf4j
+public final class RssFeedParser {
+
+	private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	private RssFeedParser() {
+	}
+
+	/**
+	 * @return sink 로 넘긴 기사 수
+	 */
+	public static int parse(InputStream in, ArticleSource source, Consumer<CollectedArticle> sink)
+		throws XMLStreamException {
+		XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+		try {
+			int emitted = 0;
+			Item item = null;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+					continue;
+				}
+
+				String name = reader.getLocalName();
+				if (event == XMLStreamConstants.END_ELEMENT) {
+					if ("item".equals(name) && item != null) {
+						CollectedArticle article = item.toArticle(source);
+						if (article != null) {
+							sink.accept(article);
+							emitted++;
+						}
+						item = null;
+					}
+					continue;
+				}
+
+				if ("item".equals(name)) {
+					item = new Item();
+				} else if (item != null) {
+					switch (name) {
+						case "title" -> item.title = reader.getElementText();
+						case "link" -> item.link = reader.getElementText();
+						case "guid" -> item.guid = reader.getElementText();
+						case "description" -> item.description = reader.getElementText();
+						case "pubDate", "date" -> item.publishDate = reader.getElementText();
+						default -> {
+						}
+					}
+				}
+			}
+			return emitted;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		// 외부 엔티티/DTD 는 읽지 않는다 (XXE 방지)
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		return factory;
+	}
+
+	private static final class Item {
+
+		private String title;
+		private String link;
+		private String guid;
+		private String description;
+		private String publishDate;
+
+		CollectedArticle toArticle(ArticleSource source) {
+			String url = isBlank(link) ? guid : link;
+			if (isBlank(url) || isBlank(title)) {
+				return null;
+			}
+			return new CollectedArticle(source, url.trim(), title.trim(), stripHtml(description),
+				parseDate(publishDate));
+		}
+
+		private static String stripHtml(String text) {
+			if (text == null) {
+				return "";
+			}
+			return HTML_TAG.matcher(text).replaceAll("").trim();
+		}
+
+		// RSS 는 RFC 1123, dc:date 는 ISO-8601. 둘 다 아니면 수집 시각으로 둔다
+		private static Instant parseDate(String text) {
+			if (isBlank(text)) {
+				return Instant.now();
+			}
+			String value = text.trim();
+			try {
+				return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+			} catch (DateTimeParseException e) {
+				try {
+					return OffsetDateTime.parse(value).toInstant();
+				} catch (DateTimeParseException ignored) {
+					log.debug("피드 날짜 형식을 알 수 없음: {}", value);
+					return Instant.now();
+				}
+			}
+		}
+
+		private static boolean isBlank(String text) {
+			return text == null || text.isBlank();
+		}
+	}
+}
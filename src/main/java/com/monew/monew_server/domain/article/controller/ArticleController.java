@@ -3,6 +3,7 @@ package com.monew.monew_server.domain.article.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +13,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
 import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.dto.ArticleSourceDto;
 import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
 import com.monew.monew_server.domain.article.service.ArticleService;
 
 import jakarta.validation.Valid;
@@ -30,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ArticleController {
 
 	private final ArticleService articleService;
+	private final ArticleVersionTracker articleVersionTracker;
 
 	private static final String USER_ID_HEADER = "Monew-Request-User-ID";
 
@@ -48,31 +52,57 @@ public class ArticleController {
 	@GetMapping
 	public ResponseEntity<CursorPageResponseArticleDto> getArticles(
 		@Valid @ModelAttribute ArticleRequest request,
-		@RequestHeader(value = USER_ID_HEADER, required = false) String userIdHeader
+		@RequestHeader(value = USER_ID_HEADER, required = false) String userIdHeader,
+		WebRequest webRequest
 	) {
 		UUID userId = getUserIdFromHeader(userIdHeader);
 		log.info("GET /api/articles - (사용자 ID: {})", userId);
 
+		// 같은 조건으로 내보낸 페이지의 기사들이 그대로면 조회 없이 304
+		String etag = articleVersionTracker.listTag(request, userId);
+		if (etag != null && webRequest.checkNotModified(etag)) {
+			return notModified(etag);
+		}
+
+		long mark = articleVersionTracker.mark();
 		CursorPageResponseArticleDto articles = articleService.fetchArticles(request, userId);
-		return ResponseEntity.ok(articles);
+		List<UUID> articleIds = articles.getContent().stream().map(ArticleResponse::id).toList();
+		etag = articleVersionTracker.listTag(request, userId, articleIds, mark);
+		if (etag == null) {
+			// 조회하는 동안 버전이 바뀌어 본문과 맞는 ETag 를 만들 수 없다
+			return ResponseEntity.ok().body(articles);
+		}
+		return ResponseEntity.ok().eTag(etag).body(articles);
 	}
 
 	@GetMapping("/{articleId}")
 	public ResponseEntity<ArticleResponse> getArticleById(
 		@PathVariable UUID articleId,
-		@RequestHeader(value = USER_ID_HEADER, required = false) String userIdHeader
+		@RequestHeader(value = USER_ID_HEADER, required = false) String userIdHeader,
+		WebRequest webRequest
 	) {
 		UUID userId = getUserIdFromHeader(userIdHeader);
 		log.info("GET /api/articles/{} - (사용자 ID: {})", articleId, userId);
 
+		String etag = articleVersionTracker.detailTag(articleId, userId);
+		if (webRequest.checkNotModified(etag)) {
+			// 본문은 다시 보내지 않아도 조회 기록은 남긴다
+			articleService.recordView(articleId, userId);
+			return notModified(etag);
+		}
+
 		ArticleResponse response = articleService.getArticleById(articleId, userId);
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok().eTag(etag).body(response);
 	}
 
 	@GetMapping("/sources")
-	public ResponseEntity<List<ArticleSourceDto>> getSources() {
+	public ResponseEntity<List<ArticleSourceDto>> getSources(WebRequest webRequest) {
 		log.info("GET /api/articles/sources");
-		return ResponseEntity.ok(articleService.getAllSources());
+		String etag = articleVersionTracker.sourcesTag();
+		if (webRequest.checkNotModified(etag)) {
+			return notModified(etag);
+		}
+		return ResponseEntity.ok().eTag(etag).body(articleService.getAllSources());
 	}
 
 	@PostMapping("/{articleId}/article-views")
@@ -97,4 +127,8 @@ public class ArticleController {
 		articleService.hardDeleteArticle(articleId);
 		return ResponseEntity.noContent().build();
 	}
+
+	private static <T> ResponseEntity<T> notModified(String etag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+	}
 }
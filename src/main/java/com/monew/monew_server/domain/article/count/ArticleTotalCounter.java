@@ -0,0 +1,132 @@
+package com.monew.monew_server.domain.article.count;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.entity.ArticleCountMode;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.repository.ArticleEstimateRepository;
+import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 목록의 totalElements 계산 전략.
+ * 요청의 countMode 가 없으면 설정의 기본 모드를 쓴다.
+ */
+@Slf4j
+@Component
+public class ArticleTotalCounter {
+
+	public static final long UNKNOWN = -1L;
+
+	private final ArticleRepositoryCustom articleRepositoryCustom;
+	private final ArticleEstimateRepository articleEstimateRepository;
+	private final ArticleCountMode defaultMode;
+	private final Cache<FilterSignature, Long> cache;
+
+	public ArticleTotalCounter(
+		@Qualifier("articleRepositoryImpl") ArticleRepositoryCustom articleRepositoryCustom,
+		ArticleEstimateRepository articleEstimateRepository,
+		@Value("${monew.article.count.default-mode:EXACT}") ArticleCountMode defaultMode,
+		@Value("${monew.article.count.cache-ttl:PT1M}") Duration cacheTtl,
+		@Value("${monew.article.count.cache-size:10000}") long cacheSize
+	) {
+		this.articleRepositoryCustom = articleRepositoryCustom;
+		this.articleEstimateRepository = articleEstimateRepository;
+		this.defaultMode = defaultMode;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(cacheTtl)
+			.build();
+	}
+
+	public TotalCount count(ArticleRequest request) {
+		ArticleCountMode mode = request.countMode() != null ? request.countMode() : defaultMode;
+
+		return switch (mode) {
+			case EXACT -> TotalCount.exact(articleRepositoryCustom.countArticlesWithFilter(request));
+			case FIRST_PAGE -> isFirstPage(request)
+				? TotalCount.exact(articleRepositoryCustom.countArticlesWithFilter(request))
+				: TotalCount.exact(UNKNOWN);
+			case CACHED -> TotalCount.exact(cached(request));
+			case APPROXIMATE -> TotalCount.approximate(approximate(request));
+		};
+	}
+
+	/**
+	 * TRENDING 정렬의 totalElements. 페이지는 트렌딩 상위 K개 안에서만 넘어가므로 그 크기를 쓴다.
+	 * 필터가 있으면 그중 일부만 보이므로 상한값이라 근사치로 표시한다.
+	 */
+	public TotalCount trending(ArticleRequest request, int trendingSize) {
+		return FilterSignature.of(request).isUnfiltered()
+			? TotalCount.exact(trendingSize)
+			: TotalCount.approximate(trendingSize);
+	}
+
+	private long cached(ArticleRequest request) {
+		return cache.get(FilterSignature.of(request), key -> articleRepositoryCustom.countArticlesWithFilter(request));
+	}
+
+	// 필터가 없으면 플래너 추정치, 있으면 캐시 값 (소프트 삭제 행, TTL 만큼의 오차 허용)
+	private long approximate(ArticleRequest request) {
+		FilterSignature signature = FilterSignature.of(request);
+		if (signature.isUnfiltered()) {
+			try {
+				OptionalLong estimate = articleEstimateRepository.estimateArticleCount();
+				if (estimate.isPresent()) {
+					return estimate.getAsLong();
+				}
+			} catch (RuntimeException e) {
+				log.warn("기사 수 추정치 조회 실패, 캐시된 COUNT 사용: {}", e.getMessage());
+			}
+		}
+		return cached(request);
+	}
+
+	private static boolean isFirstPage(ArticleRequest request) {
+		return request.cursor() == null || request.cursor().isBlank();
+	}
+
+	public record TotalCount(long value, boolean approximate) {
+
+		static TotalCount exact(long value) {
+			return new TotalCount(value, false);
+		}
+
+		static TotalCount approximate(long value) {
+			return new TotalCount(value, true);
+		}
+	}
+
+	// 정렬/커서를 제외한 필터 조건만으로 캐시 키를 만든다
+	record FilterSignature(String keyword, List<UUID> interestIds, ArticleSource source, LocalDate date,
+		boolean collapseDuplicates) {
+
+		static FilterSignature of(ArticleRequest request) {
+			String keyword = request.keyword() == null || request.keyword().isBlank()
+				? null
+				: request.keyword().toLowerCase(Locale.ROOT);
+			List<UUID> interestIds = request.interestIds() == null || request.interestIds().isEmpty()
+				? List.of()
+				: request.interestIds().stream().distinct().sorted().toList();
+			return new FilterSignature(keyword, interestIds, request.source(), request.date(),
+				Boolean.TRUE.equals(request.collapseDuplicates()));
+		}
+
+		boolean isUnfiltered() {
+			return keyword == null && interestIds.isEmpty() && source == null && date == null && !collapseDuplicates;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package com.monew.monew_server.domain.article.counter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleCounterRepository;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * articles.view_count / comment_count 의 write-behind 집계기.
+ * 요청 스레드는 메모리의 증분만 누적하고, 스케줄러가 주기적으로 배치 UPDATE 로 반영한다.
+ * 유실되거나 어긋난 값은 야간 reconcile 작업이 실제 테이블 기준으로 바로잡는다.
+ * 커밋된 조회/댓글 증가는 트렌딩 카운터에도 함께 전달하고, 반영할 때마다 반영된 기사의 버전을 올린다.
+ * <p>
+ * reconcile 은 기사를 batch-size 개씩 나눠 다시 센다. 행은 커밋됐지만 증분이 아직 pending 에 합쳐지지 않은 기사를
+ * 다시 세면 그 증분이 나중에 한 번 더 더해진다. 그래서 기록은 커밋 전에 기사를 진행 중(inFlight)으로 등록하고,
+ * 배치마다 쓰기 잠금을 잡은 채 pending 이나 inFlight 에 있는 기사를 빼고 센다. 등록, 합치기, flush 는 읽기 잠금을
+ * 잡으므로 잠금이 풀린 뒤에 등록된 기록은 다시 센 뒤에 커밋된다.
+ */
+@Slf4j
+@Component
+public class ArticleCounterAggregator {
+
+	private final ArticleCounterRepository articleCounterRepository;
+	private final TrendingCounter trendingCounter;
+	private final ArticleVersionTracker articleVersionTracker;
+	private final int reconcileBatchSize;
+
+	private final ConcurrentHashMap<UUID, CounterDelta> pending = new ConcurrentHashMap<>();
+	// 기록은 했지만 트랜잭션이 아직 끝나지 않은 기사 -> 건수
+	private final ConcurrentHashMap<UUID, Integer> inFlight = new ConcurrentHashMap<>();
+	private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+	public ArticleCounterAggregator(
+		ArticleCounterRepository articleCounterRepository,
+		TrendingCounter trendingCounter,
+		ArticleVersionTracker articleVersionTracker,
+		@Value("${monew.article.counter.reconcile-batch-size:1000}") int reconcileBatchSize
+	) {
+		this.articleCounterRepository = articleCounterRepository;
+		this.trendingCounter = trendingCounter;
+		this.articleVersionTracker = articleVersionTracker;
+		this.reconcileBatchSize = reconcileBatchSize;
+	}
+
+	public void recordView(UUID articleId) {
+		record(articleId, new CounterDelta(1, 0), () -> trendingCounter.recordView(articleId));
+	}
+
+	/**
+	 * 조회 기록이 지워졌다(사용자 아카이브/삭제). 트렌딩 점수는 되돌리지 않는다.
+	 */
+	public void removeViews(UUID articleId, long views) {
+		record(articleId, new CounterDelta(-views, 0), () -> {
+		});
+	}
+
+	public void recordComment(UUID articleId, long delta) {
+		record(articleId, new CounterDelta(0, delta), () -> {
+			if (delta > 0) {
+				trendingCounter.recordComment(articleId);
+			}
+		});
+	}
+
+	public CounterDelta pendingOf(UUID articleId) {
+		return pending.getOrDefault(articleId, CounterDelta.ZERO);
+	}
+
+	/**
+	 * 반영된 컬럼 값에 아직 flush 되지 않은 증분을 더한 현재 카운트. 삭제되었거나 없는 기사면 empty.
+	 */
+	public Optional<CounterDelta> currentCounts(UUID articleId) {
+		return articleCounterRepository.findCounts(articleId)
+			.map(persisted -> persisted.plus(pendingOf(articleId)));
+	}
+
+	@Scheduled(fixedDelayString = "${monew.article.counter.flush-interval-ms:1000}")
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		// 꺼낸 증분을 반영하기 전에 그 기사를 다시 세지 않도록 반영이 끝날 때까지 읽기 잠금을 잡는다
+		reconcileLock.readLock().lock();
+		try {
+			flushPending();
+		} finally {
+			reconcileLock.readLock().unlock();
+		}
+	}
+
+	private void flushPending() {
+		Map<UUID, CounterDelta> drained = new HashMap<>();
+		for (UUID articleId : pending.keySet()) {
+			CounterDelta delta = pending.remove(articleId);
+			if (delta != null && !delta.isZero()) {
+				drained.put(articleId, delta);
+			}
+		}
+
+		try {
+			articleCounterRepository.applyDeltas(drained);
+			// 목록에 들어가는 기사는 그대로라 목록 버전은 두고, 바뀐 기사의 버전만 올린다
+			articleVersionTracker.bumpArticles(drained.keySet());
+			log.debug("기사 카운터 반영: {}건", drained.size());
+		} catch (RuntimeException e) {
+			log.error("기사 카운터 반영 실패, 다음 주기에 재시도: {}건", drained.size(), e);
+			drained.forEach(this::merge);
+		}
+	}
+
+	@Scheduled(cron = "${monew.article.counter.reconcile-cron:0 30 4 * * *}")
+	public void reconcile() {
+		flush();
+		int fixed = 0;
+		int skipped = 0;
+		UUID afterId = null;
+		while (true) {
+			List<UUID> articleIds = articleCounterRepository.findIdsAfter(afterId, reconcileBatchSize);
+			if (articleIds.isEmpty()) {
+				break;
+			}
+			afterId = articleIds.get(articleIds.size() - 1);
+
+			reconcileLock.writeLock().lock();
+			try {
+				// 커밋됐거나 커밋될 행이 실제 행 수에도, 이후 flush 의 증분에도 들어가므로 이번 보정에서는 건너뛴다
+				List<UUID> targets = articleIds.stream()
+					.filter(id -> !pending.containsKey(id) && !inFlight.containsKey(id))
+					.toList();
+				skipped += articleIds.size() - targets.size();
+				fixed += articleCounterRepository.reconcile(targets);
+			} finally {
+				reconcileLock.writeLock().unlock();
+			}
+		}
+		if (fixed > 0) {
+			articleVersionTracker.bumpAllArticles();
+		}
+		log.info("기사 카운터 정합성 보정 완료: {}건 수정, 반영 대기 중이라 건너뜀 {}건", fixed, skipped);
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private void record(UUID articleId, CounterDelta delta, Runnable onCommit) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			withReadLock(() -> merge(articleId, delta));
+			onCommit.run();
+			return;
+		}
+
+		withReadLock(() -> inFlight.merge(articleId, 1, Integer::sum));
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				withReadLock(() -> merge(articleId, delta));
+				onCommit.run();
+			}
+
+			// 롤백되어도 등록은 풀어야 한다. afterCommit 뒤에 호출된다
+			@Override
+			public void afterCompletion(int status) {
+				withReadLock(() -> inFlight.computeIfPresent(articleId, (id, count) -> count > 1 ? count - 1 : null));
+			}
+		});
+	}
+
+	private void withReadLock(Runnable action) {
+		reconcileLock.readLock().lock();
+		try {
+			action.run();
+		} finally {
+			reconcileLock.readLock().unlock();
+		}
+	}
+
+	private void merge(UUID articleId, CounterDelta delta) {
+		pending.merge(articleId, delta, CounterDelta::plus);
+	}
+
+	public record CounterDelta(long views, long comments) {
+
+		public static final CounterDelta ZERO = new CounterDelta(0, 0);
+
+		public CounterDelta plus(CounterDelta other) {
+			return new CounterDelta(views + other.views, comments + other.comments);
+		}
+
+		public boolean isZero() {
+			return views == 0 && comments == 0;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.monew.monew_server.domain.article.dedup;
+
+import java.util.UUID;
+
+/**
+ * 기사 한 건의 SimHash 와 소속 묶음. 대표 기사는 clusterId 가 자기 ID 다.
+ */
+public record ClusterAssignment(UUID articleId, long simHash, UUID clusterId) {
+
+	public boolean isRepresentative() {
+		return articleId.equals(clusterId);
+	}
+}
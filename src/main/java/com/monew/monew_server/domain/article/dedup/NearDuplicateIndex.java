@@ -0,0 +1,167 @@
+package com.monew.monew_server.domain.article.dedup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.monew.monew_server.domain.article.repository.ArticleBatchRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 기사 SimHash 의 LSH 밴드 인덱스.
+ * <p>
+ * 64비트를 (maxDistance + 1)개 밴드로 나누면, 해밍 거리가 maxDistance 이하인 두 값은 비둘기집 원리로
+ * 적어도 한 밴드가 완전히 같다. 그래서 밴드 값별 버킷만 해시로 찾아보면 후보를 O(1) 로 얻는다.
+ * 기본값 7 이면 8비트 밴드 8개다. 같은 기사가 여러 출처에서 들어오는 시간 차는 길지 않으므로
+ * window 안에 색인된 기사만 유지한다.
+ */
+@Slf4j
+@Component
+public class NearDuplicateIndex {
+
+	private static final int MAX_BUCKET_SIZE = 256;
+	private static final int MIN_FEATURES = 16;
+
+	private final ArticleBatchRepository articleBatchRepository;
+	private final int maxDistance;
+	private final Duration window;
+	private final LongSupplier clock;
+	private final int[] bandStarts;
+
+	private final Map<Long, Deque<Entry>> buckets = new HashMap<>();
+	private final Deque<Entry> byIndexedAt = new ArrayDeque<>();
+
+	@Autowired
+	public NearDuplicateIndex(
+		ArticleBatchRepository articleBatchRepository,
+		@Value("${monew.article.dedup.max-distance:7}") int maxDistance,
+		@Value("${monew.article.dedup.window:P3D}") Duration window
+	) {
+		this(articleBatchRepository, maxDistance, window, System::currentTimeMillis);
+	}
+
+	NearDuplicateIndex(ArticleBatchRepository articleBatchRepository, int maxDistance, Duration window,
+		LongSupplier clock) {
+		this.articleBatchRepository = articleBatchRepository;
+		this.maxDistance = maxDistance;
+		this.window = window;
+		this.clock = clock;
+		int bands = maxDistance + 1;
+		this.bandStarts = new int[bands + 1];
+		for (int band = 0; band <= bands; band++) {
+			bandStarts[band] = band * Long.SIZE / bands;
+		}
+	}
+
+	/**
+	 * window 안의 기사로 인덱스를 다시 채운다. 읽는 동안 assign 으로 들어온 기사는 그대로 둔다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		Instant now = Instant.ofEpochMilli(clock.getAsLong());
+		List<ClusterAssignment> recent = articleBatchRepository.findFingerprintsSince(now.minus(window));
+		synchronized (this) {
+			List<Entry> assignedDuringLoad = byIndexedAt.stream()
+				.filter(entry -> !entry.indexedAt().isBefore(now))
+				.toList();
+			buckets.clear();
+			byIndexedAt.clear();
+			recent.forEach(assignment -> register(assignment, now));
+			assignedDuringLoad.forEach(entry -> register(entry.assignment(), entry.indexedAt()));
+		}
+		log.info("유사 기사 인덱스 로드: {}건", recent.size());
+	}
+
+	/**
+	 * 새 기사를 기존 묶음에 넣거나 새 묶음의 대표로 등록한다. 먼저 들어온 기사가 대표가 된다.
+	 */
+	public synchronized ClusterAssignment assign(UUID articleId, String title, String summary) {
+		Instant now = Instant.ofEpochMilli(clock.getAsLong());
+		evictOlderThan(now.minus(window));
+
+		long simHash = SimHash.of(title, summary);
+		if (SimHash.featureCount(title, summary) < MIN_FEATURES) {
+			// 짧은 글은 묶지도, 다른 기사의 후보가 되지도 않게 한다
+			return new ClusterAssignment(articleId, simHash, articleId);
+		}
+
+		Entry nearest = null;
+		int nearestDistance = Integer.MAX_VALUE;
+		for (int band = 0; band < bandStarts.length - 1; band++) {
+			Deque<Entry> bucket = buckets.get(bucketKey(band, simHash));
+			if (bucket == null) {
+				continue;
+			}
+			for (Entry candidate : bucket) {
+				int distance = SimHash.distance(simHash, candidate.assignment().simHash());
+				if (distance <= maxDistance && distance < nearestDistance) {
+					nearest = candidate;
+					nearestDistance = distance;
+				}
+			}
+		}
+
+		UUID clusterId = nearest != null ? nearest.assignment().clusterId() : articleId;
+		ClusterAssignment assignment = new ClusterAssignment(articleId, simHash, clusterId);
+		register(assignment, now);
+		return assignment;
+	}
+
+	public synchronized int size() {
+		return byIndexedAt.size();
+	}
+
+	private void register(ClusterAssignment assignment, Instant indexedAt) {
+		Entry entry = new Entry(assignment, indexedAt);
+		byIndexedAt.addLast(entry);
+		for (int band = 0; band < bandStarts.length - 1; band++) {
+			Deque<Entry> bucket = buckets.computeIfAbsent(bucketKey(band, assignment.simHash()),
+				key -> new ArrayDeque<>());
+			bucket.addLast(entry);
+			// 흔한 밴드 값에 몰리는 버킷은 오래된 것부터 버린다
+			if (bucket.size() > MAX_BUCKET_SIZE) {
+				bucket.removeFirst();
+			}
+		}
+	}
+
+	private void evictOlderThan(Instant cutoff) {
+		while (!byIndexedAt.isEmpty() && byIndexedAt.peekFirst().indexedAt().isBefore(cutoff)) {
+			Entry expired = byIndexedAt.removeFirst();
+			for (int band = 0; band < bandStarts.length - 1; band++) {
+				long key = bucketKey(band, expired.assignment().simHash());
+				Deque<Entry> bucket = buckets.get(key);
+				if (bucket != null) {
+					bucket.remove(expired);
+					if (bucket.isEmpty()) {
+						buckets.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+	// 상위 8비트에 밴드 번호, 나머지에 밴드 값
+	private long bucketKey(int band, long simHash) {
+		int from = bandStarts[band];
+		int width = bandStarts[band + 1] - from;
+		long mask = width >= Long.SIZE ? -1L : (1L << width) - 1;
+		return ((long)band << 56) ^ ((simHash >>> from) & mask);
+	}
+
+	private record Entry(ClusterAssignment assignment, Instant indexedAt) {
+	}
+}
@@ -0,0 +1,89 @@
+package com.monew.monew_server.domain.article.dedup;
+
+/**
+ * 제목/요약의 64비트 SimHash. 내용이 비슷할수록 해밍 거리가 작다.
+ * 공백/문장부호를 지운 뒤 문자 3-gram 을 특징으로 쓰므로 띄어쓰기나 조사 차이에 덜 민감하고,
+ * 제목 특징은 요약보다 두 배 가중치를 준다.
+ */
+public final class SimHash {
+
+	private static final int SHINGLE = 3;
+	private static final int TITLE_WEIGHT = 2;
+	private static final int SUMMARY_WEIGHT = 1;
+
+	private SimHash() {
+	}
+
+	public static long of(String title, String summary) {
+		int[] weights = new int[Long.SIZE];
+		accumulate(weights, normalize(title), TITLE_WEIGHT);
+		accumulate(weights, normalize(summary), SUMMARY_WEIGHT);
+
+		long fingerprint = 0L;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (weights[bit] > 0) {
+				fingerprint |= 1L << bit;
+			}
+		}
+		return fingerprint;
+	}
+
+	// 특징(3-gram) 수. 너무 짧은 글은 SimHash 가 우연히 가까워지기 쉽다
+	public static int featureCount(String title, String summary) {
+		return shingleCount(normalize(title)) + shingleCount(normalize(summary));
+	}
+
+	public static int distance(long a, long b) {
+		return Long.bitCount(a ^ b);
+	}
+
+	private static void accumulate(int[] weights, String text, int weight) {
+		if (text.isEmpty()) {
+			return;
+		}
+		if (text.length() < SHINGLE) {
+			add(weights, hash(text, 0, text.length()), weight);
+			return;
+		}
+		for (int i = 0; i + SHINGLE <= text.length(); i++) {
+			add(weights, hash(text, i, i + SHINGLE), weight);
+		}
+	}
+
+	private static int shingleCount(String text) {
+		if (text.isEmpty()) {
+			return 0;
+		}
+		return Math.max(1, text.length() - SHINGLE + 1);
+	}
+
+	private static void add(int[] weights, long hash, int weight) {
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			weights[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+		}
+	}
+
+	private static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder normalized = new StringBuilder(text.length());
+		text.codePoints()
+			.filter(Character::isLetterOrDigit)
+			.map(Character::toLowerCase)
+			.forEach(normalized::appendCodePoint);
+		return normalized.toString();
+	}
+
+	// FNV-1a 64 + SplitMix64 finalizer
+	private static long hash(String text, int from, int to) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = from; i < to; i++) {
+			h ^= text.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+		h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+		return h ^ (h >>> 31);
+	}
+}
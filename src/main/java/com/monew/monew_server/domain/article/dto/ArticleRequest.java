@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import com.monew.monew_server.domain.article.entity.ArticleCountMode;
 import com.monew.monew_server.domain.article.entity.ArticleSortType;
 import com.monew.monew_server.domain.article.entity.ArticleSource;
 
@@ -15,6 +16,9 @@ public record ArticleRequest(
 	String cursor,
 	ArticleSortType sortBy,
 	Integer size,
-	String nextAfter
+	String nextAfter,
+	ArticleCountMode countMode,
+	// true 면 유사 기사 묶음마다 대표 기사 하나만 보여준다
+	Boolean collapseDuplicates
 ) {
 }
@@ -19,4 +19,5 @@ public class CursorPageResponseArticleDto {
 	private int size;
 	private boolean hasNext;
 	private long totalElements;
+	private Boolean isApproximate;
 }
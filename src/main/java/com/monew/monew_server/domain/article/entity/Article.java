@@ -2,6 +2,7 @@ package com.monew.monew_server.domain.article.entity;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.monew.monew_server.domain.common.BaseDeletableEntity;
@@ -16,6 +17,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -55,4 +57,20 @@ public class Article extends BaseDeletableEntity {
 
 	@OneToMany(mappedBy = "article")
 	private List<ArticleInterest> articleInterests;
+
+	// 조회수/댓글수는 ArticleCounterAggregator 가 증분 UPDATE 로만 갱신한다 (엔티티 저장 시 덮어쓰지 않음)
+	@Builder.Default
+	@Column(columnDefinition = "bigint default 0", nullable = false, insertable = false, updatable = false)
+	private Long viewCount = 0L;
+
+	@Builder.Default
+	@Column(columnDefinition = "bigint default 0", nullable = false, insertable = false, updatable = false)
+	private Long commentCount = 0L;
+
+	// 제목/요약 SimHash 와 유사 기사 묶음 ID(대표 기사의 ID). 수집 시 ArticleBatchRepository 가 채운다
+	@Column(insertable = false, updatable = false)
+	private Long simHash;
+
+	@Column(insertable = false, updatable = false)
+	private UUID duplicateClusterId;
 }
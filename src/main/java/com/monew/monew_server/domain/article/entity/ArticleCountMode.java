@@ -0,0 +1,12 @@
+package com.monew.monew_server.domain.article.entity;
+
+public enum ArticleCountMode {
+	// 매 페이지 정확한 COUNT
+	EXACT,
+	// 첫 페이지에서만 COUNT, 이후 페이지는 -1
+	FIRST_PAGE,
+	// 필터 조건별 캐시 (TTL)
+	CACHED,
+	// 플래너 추정치 또는 캐시 값, isApproximate = true
+	APPROXIMATE
+}
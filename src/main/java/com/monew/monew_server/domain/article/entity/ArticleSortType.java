@@ -3,5 +3,9 @@ package com.monew.monew_server.domain.article.entity;
 public enum ArticleSortType {
 	DATE,
 	COMMENT_COUNT,
-	VIEW_COUNT
+	VIEW_COUNT,
+	// 키워드 일치 위치 기준 (제목 2, 요약 1), 동점이면 최신순
+	RELEVANCE,
+	// 최근 조회/댓글의 시간 감쇠 점수 기준 (메모리 상위 K개 안에서만)
+	TRENDING
 }
\ No newline at end of file
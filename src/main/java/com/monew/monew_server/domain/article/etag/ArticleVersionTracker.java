@@ -0,0 +1,248 @@
+package com.monew.monew_server.domain.article.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+
+/**
+ * 기사 조회 응답의 ETag 를 만드는 버전 카운터.
+ * <p>
+ * 응답에 보이는 값이 바뀌는 범위마다 버전을 따로 둔다.
+ * <ul>
+ *   <li>목록 버전: 목록에 들어가는 기사가 바뀔 때(수집, 삭제, 관심사 연결)만 올린다. 모든 목록 ETag 와 비로그인 목록 캐시 키에 들어간다</li>
+ *   <li>기사별 버전: 그 기사의 조회수/댓글수나 삭제 여부가 바뀔 때 올린다. 상세 ETag 와, 그 기사가 들어 있는 목록 페이지의 ETag 에 들어간다</li>
+ *   <li>사용자별 조회 버전: 처음 조회한 기사가 생겨 그 사용자의 viewedByMe 가 바뀔 때만 올리고, 로그인 목록 ETag 에만 넣는다</li>
+ * </ul>
+ * ETag 는 응답 본문 대신 (버전, 요청 조건, 사용자) 로 만든다. 그래서 조건이 맞으면 조회 쿼리 없이 304 로 응답할 수 있다.
+ * 목록 ETag 는 마지막으로 내보낸 페이지의 기사 ID 를 요청 조건별로 기억해 두고 그 기사들의 버전으로 만든다.
+ * 카운터 flush 는 목록 버전을 올리지 않으므로, 바뀐 기사가 없는 페이지는 계속 304 로 응답한다.
+ * 다만 조회수/댓글수 정렬은 다른 기사의 카운트로도 페이지 구성이 바뀌므로 카운터 버전을 함께 넣는다.
+ * 기사별/사용자별 버전은 max-tracked 개까지만 들고 있고, 내보낸 뒤 다시 만들 때는 한 번도 쓰지 않은 값으로 시작해
+ * 예전 ETag 와 겹치지 않게 한다.
+ * 다른 인스턴스에서 바뀐 내용은 알 수 없으므로 max-staleness 마다 ETag 가 바뀌게 해 오래된 응답을 제한한다.
+ * 버전은 인스턴스 시작마다 새로 세므로 다른 인스턴스(또는 재시작 전)의 ETag 와는 맞지 않는다.
+ */
+@Component
+public class ArticleVersionTracker {
+
+	private final TrendingCounter trendingCounter;
+	private final long maxStalenessMs;
+	private final LongSupplier clock;
+	private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+	// 모든 버전 값은 이 카운터에서 받아 서로 겹치지 않고, mark() 로 받은 값과 비교할 수 있다
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLong listVersion = new AtomicLong();
+	private final AtomicLong allArticlesVersion = new AtomicLong();
+	// 마지막으로 조회수/댓글수가 반영된 시점. 카운트 정렬 목록에만 쓴다
+	private final AtomicLong countsVersion = new AtomicLong();
+	private final Cache<UUID, Version> articleVersions;
+	private final Cache<UUID, Version> viewedVersions;
+	// 요청 조건 -> 마지막으로 내보낸 페이지. 기억하는 기사 ID 수를 max-tracked 로 제한한다
+	private final Cache<String, Page> pages;
+
+	// 출처 목록은 enum 이라 배포 단위로만 바뀐다
+	private final String sourcesTag = digest("sources", Arrays.toString(ArticleSource.values()));
+
+	@Autowired
+	public ArticleVersionTracker(
+		TrendingCounter trendingCounter,
+		@Value("${monew.article.etag.max-staleness:PT30S}") Duration maxStaleness,
+		@Value("${monew.article.etag.max-tracked:100000}") long maxTracked
+	) {
+		this(trendingCounter, maxStaleness, maxTracked, System::currentTimeMillis);
+	}
+
+	ArticleVersionTracker(TrendingCounter trendingCounter, Duration maxStaleness, long maxTracked,
+		LongSupplier clock) {
+		this.trendingCounter = trendingCounter;
+		this.maxStalenessMs = Math.max(1, maxStaleness.toMillis());
+		this.clock = clock;
+		this.articleVersions = Caffeine.newBuilder().maximumSize(maxTracked).build();
+		this.viewedVersions = Caffeine.newBuilder().maximumSize(maxTracked).build();
+		this.pages = Caffeine.newBuilder()
+			.maximumWeight(maxTracked)
+			.weigher((String key, Page page) -> Math.max(1, page.articleIds().size()))
+			.build();
+	}
+
+	/**
+	 * 목록에 들어가는 기사가 바뀌었다. 조회수/댓글수 변경은 bumpArticles 로 알린다.
+	 */
+	public void bumpList() {
+		listVersion.set(sequence.incrementAndGet());
+	}
+
+	/**
+	 * 주어진 기사의 조회수/댓글수가 바뀌었다.
+	 */
+	public void bumpArticles(Collection<UUID> articleIds) {
+		for (UUID articleId : articleIds) {
+			articleVersions.put(articleId, Version.bumped(sequence.incrementAndGet()));
+		}
+		countsVersion.set(sequence.incrementAndGet());
+	}
+
+	public void bumpArticle(UUID articleId) {
+		articleVersions.put(articleId, Version.bumped(sequence.incrementAndGet()));
+	}
+
+	/**
+	 * 어떤 기사가 바뀌었는지 모를 때(정합성 보정, 복원) 모든 상세 ETag 를 바꾼다.
+	 */
+	public void bumpAllArticles() {
+		long version = sequence.incrementAndGet();
+		allArticlesVersion.set(version);
+		countsVersion.set(version);
+		articleVersions.invalidateAll();
+	}
+
+	/**
+	 * 사용자의 viewedByMe 가 바뀌었다.
+	 */
+	public void bumpViewed(UUID userId) {
+		viewedVersions.put(userId, Version.bumped(sequence.incrementAndGet()));
+	}
+
+	public long listVersion() {
+		return listVersion.get();
+	}
+
+	/**
+	 * 조회를 시작하기 전에 받아 두었다가 changedSince 나 조회 후 listTag 에 넘긴다.
+	 */
+	public long mark() {
+		return sequence.get();
+	}
+
+	/**
+	 * mark 이후 목록 버전, 주어진 기사의 버전, 또는 사용자의 조회 버전이 바뀌었는지.
+	 * 그 사이에 만든 응답은 어느 버전의 값을 읽었는지 알 수 없다.
+	 *
+	 * @param userId null 이면 조회 버전은 보지 않는다
+	 */
+	public boolean changedSince(long mark, ArticleSortType sortBy, Collection<UUID> articleIds, UUID userId) {
+		if (listVersion.get() > mark || allArticlesVersion.get() > mark) {
+			return true;
+		}
+		if (sortsByCounts(sortBy) && countsVersion.get() > mark) {
+			return true;
+		}
+		if (userId != null && isAfter(viewedVersions.getIfPresent(userId), mark)) {
+			return true;
+		}
+		for (UUID articleId : articleIds) {
+			if (isAfter(articleVersions.getIfPresent(articleId), mark)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 같은 조건으로 내보낸 페이지의 ETag. 기억하는 페이지가 없거나 그 뒤로 목록 버전이 바뀌었으면 null.
+	 */
+	public String listTag(ArticleRequest request, UUID userId) {
+		Page page = pages.getIfPresent(String.valueOf(request));
+		if (page == null || page.listVersion() != listVersion.get()) {
+			return null;
+		}
+		return listTag(request, userId, page);
+	}
+
+	/**
+	 * 조회한 페이지의 ETag 를 만들고 그 페이지의 기사 ID 를 기억한다.
+	 * mark 이후 버전이 바뀌었으면 본문이 어느 버전인지 알 수 없어 null 을 돌려주고 기억하지 않는다.
+	 */
+	public String listTag(ArticleRequest request, UUID userId, List<UUID> articleIds, long mark) {
+		if (changedSince(mark, request.sortBy(), articleIds, userId)) {
+			return null;
+		}
+		Page page = new Page(listVersion.get(), List.copyOf(articleIds));
+		pages.put(String.valueOf(request), page);
+		return listTag(request, userId, page);
+	}
+
+	private String listTag(ArticleRequest request, UUID userId, Page page) {
+		// 트렌딩 정렬은 순위가 주기적으로 다시 계산되므로 스냅샷도 키에 넣는다
+		Object trending = request.sortBy() == ArticleSortType.TRENDING ? trendingCounter.snapshot().hashCode() : "";
+		// 비로그인 목록은 viewedByMe 가 항상 false 라 조회 버전을 넣지 않는다
+		String viewed = userId == null ? "" : String.valueOf(versionOf(viewedVersions, userId));
+		String counts = sortsByCounts(request.sortBy()) ? String.valueOf(countsVersion.get()) : "";
+		StringBuilder articles = new StringBuilder();
+		for (UUID articleId : page.articleIds()) {
+			articles.append(articleId).append('=').append(versionOf(articleVersions, articleId)).append(',');
+		}
+		return digest("list", stamp(page.listVersion()), String.valueOf(request), String.valueOf(userId), viewed,
+			String.valueOf(trending), counts, articles.toString());
+	}
+
+	public String detailTag(UUID articleId, UUID userId) {
+		// 상세 응답은 사용자가 있으면 viewedByMe 가 항상 true 라 사용자 ID 대신 유무만 넣는다
+		return digest("detail", stamp(versionOf(articleVersions, articleId)), String.valueOf(articleId),
+			String.valueOf(userId != null));
+	}
+
+	public String sourcesTag() {
+		return sourcesTag;
+	}
+
+	private long versionOf(Cache<UUID, Version> versions, UUID key) {
+		return versions.get(key, k -> new Version(sequence.incrementAndGet(), false)).value();
+	}
+
+	private static boolean sortsByCounts(ArticleSortType sortBy) {
+		return sortBy == ArticleSortType.VIEW_COUNT || sortBy == ArticleSortType.COMMENT_COUNT;
+	}
+
+	private static boolean isAfter(Version version, long mark) {
+		return version != null && version.changed() && version.value() > mark;
+	}
+
+	private String stamp(long version) {
+		return epoch + ":" + version + ":" + clock.getAsLong() / maxStalenessMs;
+	}
+
+	private static String digest(String... parts) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			for (String part : parts) {
+				sha256.update(part.getBytes(StandardCharsets.UTF_8));
+				sha256.update((byte)0);
+			}
+			return "\"" + HexFormat.of().formatHex(sha256.digest(), 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Page(long listVersion, List<UUID> articleIds) {
+	}
+
+	// 처음 ETag 를 만들 때 받은 값은 바뀐 것이 아니므로 changed 가 false 다
+	private record Version(long value, boolean changed) {
+
+		static Version bumped(long value) {
+			return new Version(value, true);
+		}
+	}
+}
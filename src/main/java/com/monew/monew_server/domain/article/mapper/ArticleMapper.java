@@ -14,8 +14,6 @@ public interface ArticleMapper {
 
 	ArticleMapper INSTANCE = Mappers.getMapper(ArticleMapper.class);
 
-	@Mapping(target = "commentCount", ignore = true)
-	@Mapping(target = "viewCount", ignore = true)
 	@Mapping(target = "viewedByMe", ignore = true)
 	ArticleResponse toResponse(Article article);
 
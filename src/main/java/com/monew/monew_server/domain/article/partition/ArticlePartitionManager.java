@@ -0,0 +1,132 @@
+package com.monew.monew_server.domain.article.partition;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monew.monew_server.domain.article.repository.PartitionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * articles / article_views 의 월별 파티션 관리.
+ * 이번 달부터 months-ahead 달 뒤까지의 파티션을 미리 만들어, 새 행이 default 파티션으로 가지 않게 한다.
+ * 파티션되지 않은 테이블(schema.sql 그대로인 DB)은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+public class ArticlePartitionManager {
+
+	private final PartitionRepository partitionRepository;
+	private final boolean enabled;
+	private final int monthsAhead;
+	private final Clock clock;
+
+	@Autowired
+	public ArticlePartitionManager(
+		PartitionRepository partitionRepository,
+		@Value("${monew.partition.enabled:true}") boolean enabled,
+		@Value("${monew.partition.months-ahead:3}") int monthsAhead
+	) {
+		this(partitionRepository, enabled, monthsAhead, Clock.systemUTC());
+	}
+
+	ArticlePartitionManager(PartitionRepository partitionRepository, boolean enabled, int monthsAhead, Clock clock) {
+		this.partitionRepository = partitionRepository;
+		this.enabled = enabled;
+		this.monthsAhead = monthsAhead;
+		this.clock = clock;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady() {
+		ensureFuturePartitions();
+	}
+
+	@Scheduled(cron = "${monew.partition.cron:0 0 2 * * *}")
+	public void scheduledRun() {
+		ensureFuturePartitions();
+	}
+
+	/**
+	 * @return 새로 만든 파티션 수
+	 */
+	public int ensureFuturePartitions() {
+		if (!enabled) {
+			return 0;
+		}
+
+		YearMonth current = YearMonth.now(clock);
+		int created = 0;
+		for (PartitionedTable table : PartitionedTable.values()) {
+			try {
+				if (!partitionRepository.isPartitioned(table)) {
+					continue;
+				}
+				Set<String> existing = existingNames(table);
+				for (int i = 0; i <= monthsAhead; i++) {
+					YearMonth month = current.plusMonths(i);
+					if (existing.contains(table.partitionName(month))) {
+						continue;
+					}
+					// default 파티션에 이미 그 달의 행이 있으면 PostgreSQL 이 거부한다. 다른 달은 계속 만든다
+					try {
+						partitionRepository.createMonthlyPartition(table, month);
+						created++;
+						log.info("파티션 생성: {}", table.partitionName(month));
+					} catch (DataAccessException e) {
+						log.warn("파티션 생성 실패: {}", table.partitionName(month), e);
+					}
+				}
+			} catch (DataAccessException e) {
+				log.warn("파티션 확인 실패: {}", table.tableName(), e);
+			}
+		}
+		return created;
+	}
+
+	/**
+	 * @return 파티션된 테이블별 파티션 목록
+	 */
+	public Map<String, List<PartitionInfo>> partitions() {
+		Map<String, List<PartitionInfo>> partitions = new LinkedHashMap<>();
+		for (PartitionedTable table : PartitionedTable.values()) {
+			if (partitionRepository.isPartitioned(table)) {
+				partitions.put(table.tableName(), partitionRepository.findPartitions(table));
+			}
+		}
+		return partitions;
+	}
+
+	/**
+	 * 지난 달 파티션을 부모 테이블에서 분리한다. 분리된 테이블은 조회/쓰기 대상에서 빠지고 보관용으로 남는다.
+	 */
+	public void detach(PartitionedTable table, YearMonth month) {
+		if (!month.isBefore(YearMonth.now(clock))) {
+			throw new IllegalArgumentException("이번 달 이후 파티션은 분리할 수 없습니다: " + month);
+		}
+		if (!existingNames(table).contains(table.partitionName(month))) {
+			throw new IllegalArgumentException("파티션이 없습니다: " + table.partitionName(month));
+		}
+		partitionRepository.detachPartition(table, month);
+		log.info("파티션 분리: {}", table.partitionName(month));
+	}
+
+	private Set<String> existingNames(PartitionedTable table) {
+		return partitionRepository.findPartitions(table).stream()
+			.map(PartitionInfo::name)
+			.collect(Collectors.toSet());
+	}
+}
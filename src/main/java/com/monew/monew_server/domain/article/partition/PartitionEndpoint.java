@@ -0,0 +1,36 @@
+package com.monew.monew_server.domain.article.partition;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/partitions - 월별 파티션 목록. POST {"table": "articles", "month": "2024-01"} 로 지난 달 파티션을 분리한다.
+ */
+@Component
+@Endpoint(id = "partitions")
+@RequiredArgsConstructor
+public class PartitionEndpoint {
+
+	private final ArticlePartitionManager articlePartitionManager;
+
+	@ReadOperation
+	public Map<String, List<PartitionInfo>> partitions() {
+		return articlePartitionManager.partitions();
+	}
+
+	@WriteOperation
+	public Map<String, String> detach(String table, String month) {
+		PartitionedTable target = PartitionedTable.fromTableName(table);
+		YearMonth yearMonth = YearMonth.parse(month);
+		articlePartitionManager.detach(target, yearMonth);
+		return Map.of("detached", target.partitionName(yearMonth));
+	}
+}
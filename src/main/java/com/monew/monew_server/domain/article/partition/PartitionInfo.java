@@ -0,0 +1,8 @@
+package com.monew.monew_server.domain.article.partition;
+
+/**
+ * @param bound         파티션 범위 (pg_get_expr 결과, 예: FOR VALUES FROM (...) TO (...))
+ * @param estimatedRows 통계 기준 추정 행 수 (ANALYZE 전이면 -1 또는 0)
+ */
+public record PartitionInfo(String name, String bound, long estimatedRows) {
+}
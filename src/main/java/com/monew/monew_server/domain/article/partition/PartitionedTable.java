@@ -0,0 +1,39 @@
+package com.monew.monew_server.domain.article.partition;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 월별 범위 파티션 대상 테이블 (db/partitioning.sql).
+ */
+public enum PartitionedTable {
+
+	ARTICLES("articles"),
+	ARTICLE_VIEWS("article_views");
+
+	private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+	private final String tableName;
+
+	PartitionedTable(String tableName) {
+		this.tableName = tableName;
+	}
+
+	public String tableName() {
+		return tableName;
+	}
+
+	// articles_p2025_10
+	public String partitionName(YearMonth month) {
+		return tableName + "_p" + month.format(SUFFIX);
+	}
+
+	public static PartitionedTable fromTableName(String tableName) {
+		for (PartitionedTable table : values()) {
+			if (table.tableName.equals(tableName)) {
+				return table;
+			}
+		}
+		throw new IllegalArgumentException("파티션 대상이 아닌 테이블: " + tableName);
+	}
+}
@@ -0,0 +1,137 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.monew.monew_server.domain.article.backup.ArticleBackupRow;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleBackupRepository {
+
+	private static final String STREAM_SQL = """
+		SELECT id, source, source_url, title, summary, publish_date, view_count, comment_count,
+		       sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at
+		FROM articles
+		""";
+
+	/*
+	 * 복원용 다중 행 INSERT. 이미 있는 기사(id 또는 source/source_url 충돌)는 건너뛰므로 같은 청크를 다시 넣어도 된다.
+	 * 행당 13개 파라미터라 배치 크기는 PostgreSQL 파라미터 한도(32767) 안에서 정한다.
+	 */
+	private static final String RESTORE_PREFIX = """
+		INSERT INTO articles (id, source, source_url, title, summary, publish_date, view_count, comment_count,
+		                      sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at)
+		VALUES %s
+		ON CONFLICT DO NOTHING
+		""";
+
+	private static final String RESTORE_ROW_PLACEHOLDER =
+		"(CAST(? AS uuid), CAST(? AS source), ?, ?, ?, ?, ?, ?, ?, CAST(? AS uuid), ?, ?, ?)";
+
+	private static final String FIND_RESTORED_CHUNKS_SQL = """
+		SELECT chunk_key FROM article_restore_chunks WHERE backup_id = ?
+		""";
+
+	private static final String MARK_CHUNK_RESTORED_SQL = """
+		INSERT INTO article_restore_chunks (backup_id, chunk_key, row_count) VALUES (?, ?, ?)
+		ON CONFLICT DO NOTHING
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 전체 기사를 fetchSize 씩 서버 측 커서로 읽어 한 행씩 넘긴다. 엔티티나 목록을 만들지 않으므로 메모리가 일정하다.
+	 * PostgreSQL 은 autocommit 이 꺼져 있어야 커서를 쓰므로 호출자가 트랜잭션 안에서 부른다.
+	 */
+	public void streamAll(int fetchSize, Consumer<ArticleBackupRow> consumer) {
+		jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+			ps.setFetchSize(fetchSize);
+			return ps;
+		}, (RowCallbackHandler)rs -> consumer.accept(toRow(rs)));
+	}
+
+	/**
+	 * @return 실제로 저장된 행 수
+	 */
+	public int insertIgnoringDuplicates(List<ArticleBackupRow> rows) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+
+		List<Object> args = new ArrayList<>(rows.size() * 13);
+		for (ArticleBackupRow row : rows) {
+			args.add(row.id());
+			args.add(row.source());
+			args.add(row.sourceUrl());
+			args.add(row.title());
+			args.add(row.summary());
+			args.add(timestamp(row.publishDate()));
+			args.add(row.viewCount());
+			args.add(row.commentCount());
+			args.add(row.simHash());
+			args.add(row.duplicateClusterId());
+			args.add(timestamp(row.createdAt()));
+			args.add(timestamp(row.updatedAt()));
+			args.add(timestamp(row.deletedAt()));
+		}
+
+		String sql = RESTORE_PREFIX.formatted(
+			String.join(", ", Collections.nCopies(rows.size(), RESTORE_ROW_PLACEHOLDER)));
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+
+	public Set<String> findRestoredChunks(String backupId) {
+		return new HashSet<>(jdbcTemplate.queryForList(FIND_RESTORED_CHUNKS_SQL, String.class, backupId));
+	}
+
+	public void markChunkRestored(String backupId, String chunkKey, long rowCount) {
+		jdbcTemplate.update(MARK_CHUNK_RESTORED_SQL, backupId, chunkKey, rowCount);
+	}
+
+	private static ArticleBackupRow toRow(ResultSet rs) throws SQLException {
+		return new ArticleBackupRow(
+			rs.getObject("id", UUID.class),
+			rs.getString("source"),
+			rs.getString("source_url"),
+			rs.getString("title"),
+			rs.getString("summary"),
+			instant(rs, "publish_date"),
+			rs.getLong("view_count"),
+			rs.getLong("comment_count"),
+			rs.getObject("sim_hash", Long.class),
+			rs.getObject("duplicate_cluster_id", UUID.class),
+			instant(rs, "created_at"),
+			instant(rs, "updated_at"),
+			instant(rs, "deleted_at")
+		);
+	}
+
+	private static Instant instant(ResultSet rs, String column) throws SQLException {
+		OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+		return value == null ? null : value.toInstant();
+	}
+
+	private static Timestamp timestamp(Instant value) {
+		return value == null ? null : Timestamp.from(value);
+	}
+}
@@ -0,0 +1,103 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.monew.monew_server.domain.article.collect.CollectedArticle;
+import com.monew.monew_server.domain.article.dedup.ClusterAssignment;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleBatchRepository {
+
+	/*
+	 * 수집한 기사를 다중 행 INSERT 한 번으로 저장한다.
+	 * 이미 있는 (source, source_url) 은 ON CONFLICT 로 건너뛰고, RETURNING 으로 실제 저장된 행만 돌려받는다.
+	 * 파티션 테이블에서는 유니크 키에 publish_date 가 붙으므로(db/partitioning.sql) 충돌 대상을 지정하지 않는다.
+	 * 그때 (source, source_url) 중복은 article_source_urls 트리거가 행을 건너뛰어 막으므로 RETURNING 결과는 같다.
+	 */
+	private static final String INSERT_PREFIX = """
+		INSERT INTO articles (id, source, source_url, title, summary, publish_date)
+		VALUES %s
+		ON CONFLICT DO NOTHING
+		RETURNING id
+		""";
+
+	private static final String ROW_PLACEHOLDER = "(CAST(? AS uuid), CAST(? AS source), ?, ?, ?, ?)";
+
+	private static final String UPDATE_FINGERPRINT_SQL = """
+		UPDATE articles SET sim_hash = ?, duplicate_cluster_id = ? WHERE id = ?
+		""";
+
+	private static final String FIND_FINGERPRINTS_SQL = """
+		SELECT id, sim_hash, COALESCE(duplicate_cluster_id, id) AS cluster_id
+		FROM articles
+		WHERE created_at >= ? AND sim_hash IS NOT NULL AND deleted_at IS NULL
+		ORDER BY created_at
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 실제로 저장된 기사 (부여된 ID -> 기사), 입력 순서 유지
+	 */
+	public Map<UUID, CollectedArticle> insertIgnoringDuplicates(List<CollectedArticle> articles) {
+		if (articles.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<UUID, CollectedArticle> byId = new LinkedHashMap<>();
+		List<Object> args = new ArrayList<>(articles.size() * 6);
+		for (CollectedArticle article : articles) {
+			UUID id = UUID.randomUUID();
+			byId.put(id, article);
+			args.add(id);
+			args.add(article.source().name());
+			args.add(article.sourceUrl());
+			args.add(article.title());
+			args.add(article.summary());
+			args.add(Timestamp.from(article.publishDate()));
+		}
+
+		String sql = INSERT_PREFIX.formatted(String.join(", ", Collections.nCopies(articles.size(), ROW_PLACEHOLDER)));
+		List<UUID> insertedIds = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getObject("id", UUID.class),
+			args.toArray());
+
+		Map<UUID, CollectedArticle> inserted = new LinkedHashMap<>();
+		for (UUID id : insertedIds) {
+			inserted.put(id, byId.get(id));
+		}
+		return inserted;
+	}
+
+	public void updateFingerprints(List<ClusterAssignment> assignments) {
+		if (assignments.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> batchArgs = new ArrayList<>(assignments.size());
+		for (ClusterAssignment assignment : assignments) {
+			batchArgs.add(new Object[] {assignment.simHash(), assignment.clusterId(), assignment.articleId()});
+		}
+		jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, batchArgs);
+	}
+
+	// 유사 기사 인덱스 적재용. 오래된 것부터 돌려준다
+	public List<ClusterAssignment> findFingerprintsSince(Instant since) {
+		return jdbcTemplate.query(FIND_FINGERPRINTS_SQL,
+			(rs, rowNum) -> new ClusterAssignment(rs.getObject("id", UUID.class), rs.getLong("sim_hash"),
+				rs.getObject("cluster_id", UUID.class)),
+			Timestamp.from(since));
+	}
+}
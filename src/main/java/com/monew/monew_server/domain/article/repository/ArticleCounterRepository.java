@@ -0,0 +1,95 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator.CounterDelta;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleCounterRepository {
+
+	private static final String INCREMENT_SQL = """
+		UPDATE articles
+		SET view_count = view_count + ?, comment_count = comment_count + ?
+		WHERE id = ?
+		""";
+
+	// UUID 정렬의 최솟값. 첫 배치의 keyset 커서로 쓴다
+	private static final UUID MIN_ID = new UUID(0L, 0L);
+
+	private static final String FIND_IDS_AFTER_SQL = """
+		SELECT id FROM articles
+		WHERE id > ?
+		ORDER BY id
+		LIMIT ?
+		""";
+
+	// 주어진 기사 중 실제 article_views / comments 기준으로 어긋난 행만 다시 맞춘다
+	private static final String RECONCILE_SQL = """
+		UPDATE articles a
+		SET view_count = c.view_count, comment_count = c.comment_count
+		FROM (
+		    SELECT ar.id,
+		           (SELECT COUNT(*) FROM article_views av WHERE av.article_id = ar.id) AS view_count,
+		           (SELECT COUNT(*) FROM comments cm WHERE cm.article_id = ar.id AND cm.deleted_at IS NULL) AS comment_count
+		    FROM articles ar
+		    WHERE ar.id IN (%s)
+		) c
+		WHERE a.id = c.id
+		  AND (a.view_count <> c.view_count OR a.comment_count <> c.comment_count)
+		""";
+
+	private static final String FIND_COUNTS_SQL = """
+		SELECT view_count, comment_count FROM articles WHERE id = ? AND deleted_at IS NULL
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void applyDeltas(Map<UUID, CounterDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+		deltas.forEach((articleId, delta) -> batchArgs.add(new Object[] {delta.views(), delta.comments(), articleId}));
+		jdbcTemplate.batchUpdate(INCREMENT_SQL, batchArgs);
+	}
+
+	// 삭제되지 않은 기사의 반영된 조회수/댓글수. PK 로 두 컬럼만 읽는다
+	public Optional<CounterDelta> findCounts(UUID articleId) {
+		return jdbcTemplate.query(FIND_COUNTS_SQL,
+				(rs, rowNum) -> new CounterDelta(rs.getLong("view_count"), rs.getLong("comment_count")), articleId)
+			.stream()
+			.findFirst();
+	}
+
+	/**
+	 * @return afterId 다음부터 limit 개의 기사 ID, ID 순 (삭제된 기사 포함)
+	 */
+	public List<UUID> findIdsAfter(UUID afterId, int limit) {
+		return jdbcTemplate.query(FIND_IDS_AFTER_SQL, (rs, rowNum) -> rs.getObject("id", UUID.class),
+			afterId != null ? afterId : MIN_ID, limit);
+	}
+
+	/**
+	 * @return 주어진 기사 중 값을 고친 기사 수
+	 */
+	public int reconcile(Collection<UUID> articleIds) {
+		if (articleIds.isEmpty()) {
+			return 0;
+		}
+		String placeholders = String.join(", ", Collections.nCopies(articleIds.size(), "?"));
+		return jdbcTemplate.update(RECONCILE_SQL.formatted(placeholders), articleIds.toArray());
+	}
+}
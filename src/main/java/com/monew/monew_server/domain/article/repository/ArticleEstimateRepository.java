@@ -0,0 +1,37 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.util.OptionalLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ArticleEstimateRepository {
+
+	/*
+	 * ANALYZE / autovacuum 이 갱신하는 플래너 통계. 파티션 테이블이면 부모의 reltuples 는 0/-1 이라
+	 * 리프 파티션 값을 더한다 (파티션하지 않은 테이블은 자기 자신이 리프 하나다).
+	 * 한 번도 분석되지 않은 리프는 -1 이라 0 으로 보고, 모든 리프가 그렇다면 -1
+	 */
+	private static final String ESTIMATE_SQL = """
+		SELECT CASE WHEN MAX(c.reltuples) < 0 THEN -1 ELSE SUM(GREATEST(c.reltuples, 0)) END::bigint
+		FROM pg_partition_tree('articles'::regclass) t
+		JOIN pg_class c ON c.oid = t.relid
+		WHERE t.isleaf
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 목록 COUNT 단계에서 불리므로 단계 제한 시간을 쿼리 타임아웃으로 건다 (초 단위 올림)
+	public ArticleEstimateRepository(JdbcTemplate jdbcTemplate,
+		@Value("${monew.article.list.stage-timeout-ms:2000}") long stageTimeoutMs) {
+		this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+		this.jdbcTemplate.setQueryTimeout((int)Math.max(1, (stageTimeoutMs + 999) / 1000));
+	}
+
+	public OptionalLong estimateArticleCount() {
+		Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+		return estimate == null || estimate < 0 ? OptionalLong.empty() : OptionalLong.of(estimate);
+	}
+}
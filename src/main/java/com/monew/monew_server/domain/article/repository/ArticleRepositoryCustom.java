@@ -1,16 +1,22 @@
 package com.monew.monew_server.domain.article.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.entity.Article;
 
 public interface ArticleRepositoryCustom {
 
 	List<Article> findArticlesWithFilterAndCursor(ArticleRequest request, int size);
 
+	List<ArticleResponse> findArticleResponsesWithFilterAndCursor(ArticleRequest request, int size, UUID userId);
+
+	List<ArticleResponse> findArticleResponsesByIdsWithFilter(ArticleRequest request, Collection<UUID> articleIds);
+
 	long countArticlesWithFilter(ArticleRequest request);
 
 	Optional<Article> findArticleById(UUID articleId);
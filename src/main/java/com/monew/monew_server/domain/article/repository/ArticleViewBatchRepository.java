@@ -0,0 +1,61 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.monew.monew_server.domain.article.view.ViewEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewBatchRepository {
+
+	/*
+	 * 다중 행 INSERT 한 번으로 배치를 반영한다.
+	 * - 이미 있는 (article_id, user_id) 는 NOT EXISTS 와 ON CONFLICT 로 건너뛴다.
+	 *   created_at 으로 파티션된 테이블(db/partitioning.sql)은 (article_id, user_id) 유니크 제약을 둘 수 없어 NOT EXISTS 가 막는다
+	 * - 그 사이 삭제된 기사/사용자는 EXISTS 로 걸러 FK 위반으로 배치 전체가 실패하지 않게 한다
+	 * - RETURNING 으로 실제 삽입된 행만 돌려받아 조회수 집계에 넘긴다
+	 */
+	private static final String INSERT_PREFIX = """
+		INSERT INTO article_views (id, article_id, user_id, created_at)
+		SELECT v.id, v.article_id, v.user_id, NOW()
+		FROM (VALUES %s) AS v(id, article_id, user_id)
+		WHERE EXISTS (SELECT 1 FROM articles a WHERE a.id = v.article_id AND a.deleted_at IS NULL)
+		  AND EXISTS (SELECT 1 FROM users u WHERE u.id = v.user_id)
+		  AND NOT EXISTS (SELECT 1 FROM article_views av WHERE av.user_id = v.user_id AND av.article_id = v.article_id)
+		ON CONFLICT DO NOTHING
+		RETURNING article_id, user_id
+		""";
+
+	private static final String ROW_PLACEHOLDER = "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid))";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 실제로 삽입된 조회 기록
+	 */
+	public List<ViewEvent> insertIgnoringDuplicates(List<ViewEvent> events) {
+		if (events.isEmpty()) {
+			return List.of();
+		}
+
+		List<Object> args = new ArrayList<>(events.size() * 3);
+		for (ViewEvent event : events) {
+			args.add(UUID.randomUUID());
+			args.add(event.articleId());
+			args.add(event.userId());
+		}
+
+		String sql = INSERT_PREFIX.formatted(String.join(", ", Collections.nCopies(events.size(), ROW_PLACEHOLDER)));
+		return jdbcTemplate.query(sql,
+			(rs, rowNum) -> new ViewEvent(rs.getObject("article_id", UUID.class), rs.getObject("user_id", UUID.class)),
+			args.toArray());
+	}
+}
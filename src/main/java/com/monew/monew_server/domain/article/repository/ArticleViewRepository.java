@@ -34,4 +34,7 @@ public interface ArticleViewRepository extends JpaRepository<ArticleView, UUID>
 		""")
 	Set<UUID> findArticleIdsViewedByUser(@Param("articleIds") List<UUID> articleIds,
 		@Param("userId") UUID userId);
-}
\ No newline at end of file
+
+	@Query("SELECT av.article.id FROM ArticleView av WHERE av.user.id = :userId")
+	List<UUID> findArticleIdsByUserId(@Param("userId") UUID userId);
+}
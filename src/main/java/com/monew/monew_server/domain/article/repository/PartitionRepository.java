@@ -0,0 +1,69 @@
+package com.monew.monew_server.domain.article.repository;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.monew.monew_server.domain.article.partition.PartitionInfo;
+import com.monew.monew_server.domain.article.partition.PartitionedTable;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostgreSQL 선언적 파티션 카탈로그 조회와 DDL. 테이블/파티션 이름은 PartitionedTable 에서만 만들어 그대로 SQL 에 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionRepository {
+
+	private static final String IS_PARTITIONED_SQL = """
+		SELECT EXISTS (
+		    SELECT 1
+		    FROM pg_partitioned_table pt
+		    JOIN pg_class c ON c.oid = pt.partrelid
+		    WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+		)
+		""";
+
+	private static final String FIND_PARTITIONS_SQL = """
+		SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound, c.reltuples::bigint AS estimated_rows
+		FROM pg_inherits i
+		JOIN pg_class c ON c.oid = i.inhrelid
+		JOIN pg_class p ON p.oid = i.inhparent
+		WHERE p.relname = ? AND pg_table_is_visible(p.oid)
+		ORDER BY c.relname
+		""";
+
+	private static final String CREATE_PARTITION_SQL =
+		"CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')";
+
+	// 부모 테이블 메타데이터만 바꾸므로 파티션 크기와 관계없이 즉시 끝난다. 분리된 테이블은 그대로 남아 보관/백업 대상이 된다
+	private static final String DETACH_PARTITION_SQL = "ALTER TABLE %s DETACH PARTITION %s";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public boolean isPartitioned(PartitionedTable table) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, table.tableName()));
+	}
+
+	public List<PartitionInfo> findPartitions(PartitionedTable table) {
+		return jdbcTemplate.query(FIND_PARTITIONS_SQL,
+			(rs, rowNum) -> new PartitionInfo(rs.getString("name"), rs.getString("bound"),
+				rs.getLong("estimated_rows")),
+			table.tableName());
+	}
+
+	// 월 경계는 UTC 자정
+	public void createMonthlyPartition(PartitionedTable table, YearMonth month) {
+		String from = month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toString();
+		String to = month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC).toString();
+		jdbcTemplate.execute(CREATE_PARTITION_SQL.formatted(table.partitionName(month), table.tableName(), from, to));
+	}
+
+	public void detachPartition(PartitionedTable table, YearMonth month) {
+		jdbcTemplate.execute(DETACH_PARTITION_SQL.formatted(table.tableName(), table.partitionName(month)));
+	}
+}
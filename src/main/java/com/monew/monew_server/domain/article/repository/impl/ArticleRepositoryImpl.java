@@ -2,77 +2,145 @@ package com.monew.monew_server.domain.article.repository.impl;
 
 import static com.monew.monew_server.domain.article.entity.QArticle.*;
 import static com.monew.monew_server.domain.article.entity.QArticleView.*;
-import static com.monew.monew_server.domain.comment.entity.QComment.*;
 import static com.monew.monew_server.domain.interest.entity.QArticleInterest.*;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.entity.Article;
 import com.monew.monew_server.domain.article.entity.ArticleSortType;
 import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.entity.QArticle;
 import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
+	// 같은 유사 기사 묶음의 다른 기사
+	private static final QArticle sibling = new QArticle("sibling");
+	private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
 	private final JPAQueryFactory queryFactory;
+	private final int countTimeoutMs;
+
+	// COUNT 는 목록 조회의 별도 단계로 돌고, 단계 제한 시간이 지나면 결과를 버린다.
+	// 그 뒤에도 DB 에서 계속 돌지 않도록 같은 제한 시간을 쿼리 타임아웃으로 건다 (JDBC 는 초 단위라 올림)
+	public ArticleRepositoryImpl(JPAQueryFactory queryFactory,
+		@Value("${monew.article.list.stage-timeout-ms:2000}") long stageTimeoutMs) {
+		this.queryFactory = queryFactory;
+		this.countTimeoutMs = (int)Math.max(1, (stageTimeoutMs + 999) / 1000) * 1000;
+	}
 
 	@Override
 	public List<Article> findArticlesWithFilterAndCursor(ArticleRequest request, int size) {
+		return applyFilterAndCursor(queryFactory.selectFrom(article), request, size).fetch();
+	}
+
+	// 엔티티를 거치지 않고 목록 응답을 바로 만든다. 조회수/댓글수는 비정규화 컬럼, viewedByMe 는 EXISTS 서브쿼리
+	@Override
+	public List<ArticleResponse> findArticleResponsesWithFilterAndCursor(ArticleRequest request, int size,
+		UUID userId) {
+		JPQLQuery<ArticleResponse> query = queryFactory.select(Projections.constructor(ArticleResponse.class,
+				article.id,
+				article.title,
+				article.summary,
+				article.sourceUrl,
+				article.publishDate,
+				article.commentCount,
+				article.viewCount,
+				viewedByExpression(userId)))
+			.from(article);
+
+		return applyFilterAndCursor(query, request, size).fetch();
+	}
+
+	// 트렌딩처럼 순서가 DB 밖에서 정해지는 경우. 필터만 적용하고 정렬은 호출한 쪽이 맞춘다
+	@Override
+	public List<ArticleResponse> findArticleResponsesByIdsWithFilter(ArticleRequest request,
+		Collection<UUID> articleIds) {
+		if (articleIds.isEmpty()) {
+			return List.of();
+		}
+
+		JPQLQuery<ArticleResponse> query = queryFactory.select(Projections.constructor(ArticleResponse.class,
+				article.id,
+				article.title,
+				article.summary,
+				article.sourceUrl,
+				article.publishDate,
+				article.commentCount,
+				article.viewCount,
+				viewedByExpression(null)))
+			.from(article)
+			.where(article.id.in(articleIds), whereCondition(request));
+
+		return query.fetch();
+	}
+
+	private <T> JPQLQuery<T> applyFilterAndCursor(JPQLQuery<T> query, ArticleRequest request, int size) {
 		ArticleSortType sortBy = request.sortBy() == null ? ArticleSortType.DATE : request.sortBy();
 
 		BooleanExpression cursorCondition = whereCursor(request, sortBy);
 		BooleanBuilder commonCondition = whereCondition(request);
 
-		JPQLQuery<Article> query = queryFactory.selectFrom(article)
-			.leftJoin(articleView).on(articleView.article.eq(article))
-			.where(cursorCondition, commonCondition)
-			.groupBy(article.id);
-
-		OrderSpecifier<?> orderSpecifier;
-		if (sortBy == ArticleSortType.VIEW_COUNT) {
-			orderSpecifier = articleView.id.count().desc();
-			query = query.orderBy(orderSpecifier, article.publishDate.desc(), article.id.desc());
-		} else if (sortBy == ArticleSortType.COMMENT_COUNT) {
-			orderSpecifier = getCountExpression(ArticleSortType.COMMENT_COUNT).desc();
-			query = query.orderBy(orderSpecifier, article.publishDate.desc(), article.id.desc());
+		query = query.where(cursorCondition, commonCondition);
+
+		// 커서 조건(count, id)과 같은 순서로 정렬해야 (view_count, id) 인덱스로 keyset 스캔이 된다
+		if (sortBy == ArticleSortType.VIEW_COUNT || sortBy == ArticleSortType.COMMENT_COUNT) {
+			query = query.orderBy(getCountExpression(sortBy).desc(), article.id.desc());
+		} else if (sortBy == ArticleSortType.RELEVANCE) {
+			query = query.orderBy(getRelevanceExpression(request.keyword()).desc(), article.publishDate.desc(),
+				article.id.desc());
 		} else {
 			query = query.orderBy(article.publishDate.desc(), article.id.desc());
 		}
 
-		return query.limit(size).fetch();
+		return query.limit(size);
+	}
+
+	private Expression<Boolean> viewedByExpression(UUID userId) {
+		if (userId == null) {
+			return Expressions.booleanTemplate("false");
+		}
+		return new CaseBuilder()
+			.when(JPAExpressions.selectOne()
+				.from(articleView)
+				.where(articleView.article.id.eq(article.id), articleView.user.id.eq(userId))
+				.exists())
+			.then(true)
+			.otherwise(false);
 	}
 
 	@Override
 	public long countArticlesWithFilter(ArticleRequest request) {
 		BooleanBuilder condition = whereCondition(request);
 
-		JPQLQuery<Long> query = queryFactory.select(article.id.countDistinct())
+		Long count = queryFactory.select(article.id.count())
 			.from(article)
-			.where(condition);
+			.where(condition)
+			.setHint(QUERY_TIMEOUT_HINT, countTimeoutMs)
+			.fetchOne();
 
-		if (request.interestIds() != null && !request.interestIds().isEmpty()) {
-			query.innerJoin(articleInterest).on(articleInterest.article.eq(article));
-		}
-
-		return query.fetchOne();
+		return count == null ? 0 : count;
 	}
 
 	private BooleanBuilder whereCondition(ArticleRequest request) {
@@ -83,8 +151,13 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 				.or(article.summary.containsIgnoreCase(request.keyword())));
 		}
 
+		// 조인 + DISTINCT 대신 세미 조인으로 거른다. DISTINCT 는 선택하지 않은 식(관련도)으로 정렬할 수 없다
 		if (request.interestIds() != null && !request.interestIds().isEmpty()) {
-			builder.and(articleInterest.interest.id.in(request.interestIds()));
+			builder.and(JPAExpressions.selectOne()
+				.from(articleInterest)
+				.where(articleInterest.article.id.eq(article.id),
+					articleInterest.interest.id.in(request.interestIds()))
+				.exists());
 		}
 
 		if (request.source() != null) {
@@ -98,9 +171,24 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
 		if (request.date() != null) {
 			LocalDate localDate = request.date();
+			// [하루 시작, 다음 날 시작) 반열린 구간. 23:59:59.999999999 는 DB 의 마이크로초 정밀도에서 다음 날 0시로 반올림된다.
+			// publish_date 에 대한 단순 범위 조건이라 월별 파티션에서도 그대로 가지치기된다
 			Instant startOfDay = localDate.atStartOfDay().toInstant(ZoneOffset.UTC);
-			Instant endOfDay = localDate.atTime(23, 59, 59, 999999999).toInstant(ZoneOffset.UTC);
-			builder.and(article.publishDate.between(startOfDay, endOfDay));
+			Instant startOfNextDay = localDate.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+			builder.and(article.publishDate.goe(startOfDay).and(article.publishDate.lt(startOfNextDay)));
+		}
+
+		// 아직 묶이지 않은 기사와, 묶음마다 살아 있는 기사 중 맨 앞 하나만 남긴다.
+		// 대표 기사(묶음 ID == 자기 ID)가 삭제/아카이브되면 남은 기사 중 ID 가 가장 작은 기사가 대신 나온다
+		if (Boolean.TRUE.equals(request.collapseDuplicates())) {
+			builder.and(article.duplicateClusterId.isNull().or(JPAExpressions.selectOne()
+				.from(sibling)
+				.where(sibling.duplicateClusterId.eq(article.duplicateClusterId),
+					sibling.id.ne(article.id),
+					sibling.deletedAt.isNull(),
+					sibling.id.eq(sibling.duplicateClusterId)
+						.or(article.id.ne(article.duplicateClusterId).and(sibling.id.lt(article.id))))
+				.notExists()));
 		}
 
 		builder.and(article.deletedAt.isNull());
@@ -143,6 +231,23 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 					.and(article.id.lt(nextCursorId));
 
 				return primarySort.or(tieBreaker);
+
+			} else if (sortBy == ArticleSortType.RELEVANCE) {
+				// nextAfter = "{relevance}|{publishDate}"
+				String[] parts = nextAfterString.split("\\|", 2);
+				if (parts.length != 2) {
+					throw new IllegalArgumentException("잘못된 관련도 커서: " + nextAfterString);
+				}
+				int nextAfterRelevance = Integer.parseInt(parts[0]);
+				Instant nextAfterInstant = Instant.parse(parts[1]);
+
+				NumberExpression<Integer> relevance = getRelevanceExpression(request.keyword());
+
+				BooleanExpression sameRelevance = relevance.eq(nextAfterRelevance)
+					.and(article.publishDate.lt(nextAfterInstant)
+						.or(article.publishDate.eq(nextAfterInstant).and(article.id.lt(nextCursorId))));
+
+				return relevance.lt(nextAfterRelevance).or(sameRelevance);
 			}
 
 		} catch (IllegalArgumentException | DateTimeParseException e) {
@@ -154,21 +259,26 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 	}
 
 	private NumberExpression<Long> getCountExpression(ArticleSortType sortBy) {
-		JPQLQuery<Long> countQuery;
-
 		if (sortBy == ArticleSortType.COMMENT_COUNT) {
-			countQuery = JPAExpressions.select(comment.id.count())
-				.from(comment)
-				.where(comment.article.id.eq(article.id).and(comment.deletedAt.isNull()));
+			return article.commentCount;
 		} else if (sortBy == ArticleSortType.VIEW_COUNT) {
-			countQuery = JPAExpressions.select(articleView.id.count())
-				.from(articleView)
-				.where(articleView.article.id.eq(article.id));
-		} else {
-			return (NumberExpression<Long>)Expressions.constant(0L); // 기본값
+			return article.viewCount;
 		}
+		return (NumberExpression<Long>)Expressions.constant(0L); // 기본값
+	}
 
-		return Expressions.numberTemplate(Long.class, "({0})", countQuery);
+	// 제목 일치 2점 + 요약 일치 1점. 키워드가 없으면 모두 0점이라 최신순과 같다
+	private NumberExpression<Integer> getRelevanceExpression(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return Expressions.numberTemplate(Integer.class, "0");
+		}
+		NumberExpression<Integer> titleScore = new CaseBuilder()
+			.when(article.title.containsIgnoreCase(keyword)).then(2)
+			.otherwise(0);
+		NumberExpression<Integer> summaryScore = new CaseBuilder()
+			.when(article.summary.containsIgnoreCase(keyword)).then(1)
+			.otherwise(0);
+		return titleScore.add(summaryScore);
 	}
 
 	@Override
@@ -1,13 +1,34 @@
 package com.monew.monew_server.domain.article.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 
+import com.monew.monew_server.domain.archive.ArchiveRepository;
+import com.monew.monew_server.domain.article.cache.ArticleBody;
+import com.monew.monew_server.domain.article.cache.ArticleDetailCache;
+import com.monew.monew_server.domain.article.cache.ArticleListCache;
+import com.monew.monew_server.domain.article.count.ArticleTotalCounter;
+import com.monew.monew_server.domain.article.count.ArticleTotalCounter.TotalCount;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator.CounterDelta;
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
 import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.dto.ArticleSourceDto;
@@ -15,49 +36,91 @@ import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
 import com.monew.monew_server.domain.article.entity.Article;
 import com.monew.monew_server.domain.article.entity.ArticleSortType;
 import com.monew.monew_server.domain.article.entity.ArticleSource;
-import com.monew.monew_server.domain.article.entity.ArticleView;
-import com.monew.monew_server.domain.article.mapper.ArticleMapper;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
 import com.monew.monew_server.domain.article.repository.ArticleRepository;
 import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
-import com.monew.monew_server.domain.article.repository.ArticleViewRepository;
-import com.monew.monew_server.domain.comment.repository.CommentRepository;
-import com.monew.monew_server.domain.user.entity.User;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot.TrendingEntry;
+import com.monew.monew_server.domain.article.view.ArticleViewIngestor;
+import com.monew.monew_server.domain.article.view.ViewedArticleIndex;
+import com.monew.monew_server.domain.common.AfterCommit;
 import com.monew.monew_server.exception.ArticleNotFoundException;
 import com.monew.monew_server.exception.BusinessException;
 import com.monew.monew_server.exception.ErrorCode;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class ArticleService {
 
 	private final ArticleRepository articleRepository; // JpaRepository
 	private final ArticleRepositoryCustom articleRepositoryCustom; // @Qualifier 필요
-	private final ArticleMapper articleMapper;
-	private final ArticleViewRepository articleViewRepository;
-	private final CommentRepository commentRepository;
+	private final ArchiveRepository archiveRepository;
+	private final ArticleCounterAggregator articleCounterAggregator;
+	private final ArticleViewIngestor articleViewIngestor;
+	private final ArticleTotalCounter articleTotalCounter;
+	private final ArticleDetailCache articleDetailCache;
+	private final ArticleListCache articleListCache;
+	private final ViewedArticleIndex viewedArticleIndex;
+	private final TrendingCounter trendingCounter;
+	private final ArticleVersionTracker articleVersionTracker;
+	private final Executor articleQueryExecutor;
+	private final MeterRegistry meterRegistry;
+	private final long stageTimeoutMs;
 
 	public ArticleService(
 		ArticleRepository articleRepository,
 		@Qualifier("articleRepositoryImpl") ArticleRepositoryCustom articleRepositoryCustom,
-		ArticleMapper articleMapper,
-		ArticleViewRepository articleViewRepository,
-		CommentRepository commentRepository
+		ArchiveRepository archiveRepository,
+		ArticleCounterAggregator articleCounterAggregator,
+		ArticleViewIngestor articleViewIngestor,
+		ArticleTotalCounter articleTotalCounter,
+		ArticleDetailCache articleDetailCache,
+		ArticleListCache articleListCache,
+		ViewedArticleIndex viewedArticleIndex,
+		TrendingCounter trendingCounter,
+		ArticleVersionTracker articleVersionTracker,
+		@Qualifier("articleQueryExecutor") Executor articleQueryExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.list.stage-timeout-ms:2000}") long stageTimeoutMs
 	) {
 		this.articleRepository = articleRepository;
 		this.articleRepositoryCustom = articleRepositoryCustom;
-		this.articleMapper = articleMapper;
-		this.articleViewRepository = articleViewRepository;
-		this.commentRepository = commentRepository;
+		this.archiveRepository = archiveRepository;
+		this.articleCounterAggregator = articleCounterAggregator;
+		this.articleViewIngestor = articleViewIngestor;
+		this.articleTotalCounter = articleTotalCounter;
+		this.articleDetailCache = articleDetailCache;
+		this.articleListCache = articleListCache;
+		this.viewedArticleIndex = viewedArticleIndex;
+		this.trendingCounter = trendingCounter;
+		this.articleVersionTracker = articleVersionTracker;
+		this.articleQueryExecutor = articleQueryExecutor;
+		this.meterRegistry = meterRegistry;
+		this.stageTimeoutMs = stageTimeoutMs;
 	}
 
 	private static final int DEFAULT_PAGE_SIZE = 10;
-	@PersistenceContext
-	private EntityManager entityManager;
+	private static final String STAGE_METRIC = "monew.article.list.stage";
+	private static final String STAGE_TIMEOUT_METRIC = "monew.article.list.stage.timeouts";
+	private static final String STAGE_PAGE = "page";
+	private static final String STAGE_COUNT = "count";
+	private static final int TRENDING_CHUNK_FACTOR = 2;
 
 	public CursorPageResponseArticleDto fetchArticles(ArticleRequest request, UUID currentUserId) {
+		// 비로그인 응답은 요청 조건에만 달려 있어 짧게 캐시하고 같은 키의 동시 조회는 하나로 합친다
+		if (currentUserId == null) {
+			return articleListCache.get(request, normalized -> loadArticles(normalized, null));
+		}
+		return loadArticles(request, currentUserId);
+	}
+
+	private CursorPageResponseArticleDto loadArticles(ArticleRequest request, UUID currentUserId) {
 
 		// if (request.keyword() != null && request.keyword().isBlank()) {
 		// 	throw new IllegalArgumentException("검색 키워드는 비어 있을 수 없습니다.");
@@ -65,38 +128,34 @@ public class ArticleService {
 
 		int requestedSize = request.size() != null ? request.size() : DEFAULT_PAGE_SIZE; // N
 		int fetchSize = requestedSize + 1;
-		List<Article> fetchedArticles = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, fetchSize);
-		long totalElements = articleRepositoryCustom.countArticlesWithFilter(request);
-		boolean hasNext = fetchedArticles.size() > requestedSize;
-
-		List<ArticleResponse> allResponses = articleMapper.toResponseList(fetchedArticles);
-
-		List<UUID> articleIds = fetchedArticles.stream().map(Article::getId).toList();
-
-		var viewCounts = articleViewRepository.findViewCountsByArticleIds(articleIds)
-			.stream().collect(Collectors.toMap(v -> v.getArticleId(), v -> v.getViewCount()));
-
-		var viewedArticleIds = articleViewRepository.findArticleIdsViewedByUser(articleIds, currentUserId);
-
-		var commentCounts = commentRepository.findCommentCountsByArticleIds(articleIds)
-			.stream().collect(Collectors.toMap(c -> c.getArticleId(), c -> c.getCommentCount()));
+		ArticleSortType sortBy = request.sortBy() == null ? ArticleSortType.DATE : request.sortBy();
+		TrendingSnapshot trendingSnapshot = sortBy == ArticleSortType.TRENDING ? trendingCounter.snapshot() : null;
+
+		// COUNT 는 목록 조회와 독립적이라 먼저 띄워 두고, 목록 조회는 요청 스레드에서 실행한다.
+		// 트렌딩은 상위 K개 안에서만 넘기므로 COUNT 없이 그 크기를 쓴다
+		CompletableFuture<TotalCount> totalCountFuture = trendingSnapshot != null
+			? CompletableFuture.completedFuture(
+				articleTotalCounter.trending(request, trendingSnapshot.entries().size()))
+			: supplyStage(STAGE_COUNT, () -> articleTotalCounter.count(request));
+
+		// 조회수/댓글수까지 한 번의 쿼리로 응답 형태 그대로 읽어온다. viewedByMe 는 메모리 인덱스에서 판정
+		List<ArticleResponse> fetchedResponses = stageTimer(STAGE_PAGE).record(() -> trendingSnapshot != null
+			? fetchTrendingPage(request, fetchSize, trendingSnapshot)
+			: articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, fetchSize, null));
+		boolean hasNext = fetchedResponses.size() > requestedSize;
+
+		Set<UUID> viewedArticleIds = viewedArticleIndex.viewedAmong(currentUserId,
+			fetchedResponses.stream().map(ArticleResponse::id).toList());
+
+		List<ArticleResponse> enrichedResponses = fetchedResponses.stream()
+			.map(resp -> withDefaults(resp, viewedArticleIds.contains(resp.id())))
+			.toList();
 
-		List<ArticleResponse> enrichedResponses = allResponses.stream().map(resp ->
-			new ArticleResponse(
-				resp.id(),
-				resp.title(),
-				resp.summary(),
-				resp.sourceUrl(),
-				resp.publishDate(),
-				commentCounts.getOrDefault(resp.id(), resp.commentCount() != null ? resp.commentCount() : 0L),
-				viewCounts.getOrDefault(resp.id(), resp.viewCount() != null ? resp.viewCount() : 0L),
-				viewedArticleIds.contains(resp.id())
-			)
-		).toList();
+		TotalCount totalCount = awaitStage(STAGE_COUNT, totalCountFuture,
+			new TotalCount(ArticleTotalCounter.UNKNOWN, false));
 
 		String nextCursor = null;
 		String nextAfterString = null;
-		ArticleSortType sortBy = request.sortBy() == null ? ArticleSortType.DATE : request.sortBy();
 
 		List<ArticleResponse> finalContentList = enrichedResponses;
 
@@ -113,6 +172,9 @@ public class ArticleService {
 				case VIEW_COUNT -> nextAfterString = String.valueOf(
 					nextCursorArticle.viewCount() != null ? nextCursorArticle.viewCount() : 0
 				);
+				case RELEVANCE -> nextAfterString = relevanceOf(nextCursorArticle, request.keyword())
+					+ "|" + nextCursorArticle.publishDate();
+				case TRENDING -> nextAfterString = String.valueOf(trendingSnapshot.rankOf(nextCursorArticle.id()));
 			}
 
 			finalContentList = enrichedResponses.subList(0, requestedSize);
@@ -132,31 +194,128 @@ public class ArticleService {
 			throw new ArticleNotFoundException("검색 결과가 없습니다.");
 		}
 
-		return new CursorPageResponseArticleDto(
-			finalContentList,
-			nextCursor,
-			nextAfterString,
-			requestedSize,
-			hasNext,
-			totalElements
+		return CursorPageResponseArticleDto.builder()
+			.content(finalContentList)
+			.nextCursor(nextCursor)
+			.nextAfter(nextAfterString)
+			.size(requestedSize)
+			.hasNext(hasNext)
+			.totalElements(totalCount.value())
+			.isApproximate(totalCount.approximate())
+			.build();
+	}
+
+	/**
+	 * 트렌딩 상위 K개 중 커서 다음 항목을 순서대로 읽고, 필터는 DB 에서 적용한다.
+	 * 필터로 걸러지는 만큼 여러 번 나눠 읽는다.
+	 */
+	private List<ArticleResponse> fetchTrendingPage(ArticleRequest request, int fetchSize,
+		TrendingSnapshot snapshot) {
+		List<TrendingEntry> remaining;
+		if (request.cursor() == null || request.cursor().isBlank()
+			|| request.nextAfter() == null || request.nextAfter().isBlank()) {
+			remaining = snapshot.entries();
+		} else {
+			try {
+				remaining = snapshot.after(Integer.parseInt(request.nextAfter()), UUID.fromString(request.cursor()));
+			} catch (IllegalArgumentException e) {
+				log.warn("잘못된 트렌딩 커서: cursor={}, nextAfter={}", request.cursor(), request.nextAfter());
+				return List.of();
+			}
+		}
+
+		int chunkSize = fetchSize * TRENDING_CHUNK_FACTOR;
+		List<ArticleResponse> page = new ArrayList<>(fetchSize);
+		for (int from = 0; from < remaining.size() && page.size() < fetchSize; from += chunkSize) {
+			List<TrendingEntry> chunk = remaining.subList(from, Math.min(from + chunkSize, remaining.size()));
+			Map<UUID, ArticleResponse> found = articleRepositoryCustom.findArticleResponsesByIdsWithFilter(request,
+					chunk.stream().map(TrendingEntry::articleId).toList())
+				.stream()
+				.collect(Collectors.toMap(ArticleResponse::id, Function.identity(), (first, second) -> first));
+
+			for (TrendingEntry entry : chunk) {
+				ArticleResponse response = found.get(entry.articleId());
+				if (response != null && page.size() < fetchSize) {
+					page.add(response);
+				}
+			}
+		}
+		return page;
+	}
+
+	private static ArticleResponse withDefaults(ArticleResponse resp, boolean viewedByMe) {
+		if (resp.commentCount() != null && resp.viewCount() != null
+			&& Boolean.valueOf(viewedByMe).equals(resp.viewedByMe())) {
+			return resp;
+		}
+		return new ArticleResponse(
+			resp.id(),
+			resp.title(),
+			resp.summary(),
+			resp.sourceUrl(),
+			resp.publishDate(),
+			resp.commentCount() != null ? resp.commentCount() : 0L,
+			resp.viewCount() != null ? resp.viewCount() : 0L,
+			viewedByMe
 		);
 	}
 
-	@Transactional
+	private <T> CompletableFuture<T> supplyStage(String stage, Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(() -> stageTimer(stage).record(supplier), articleQueryExecutor);
+	}
+
+	// 제한 시간 안에 끝나지 않은 단계는 기본값으로 응답한다.
+	// future.cancel 은 JDBC 쿼리를 멈추지 못하므로, 단계 쿼리는 저장소에서 같은 제한 시간의 쿼리 타임아웃을 건다
+	private <T> T awaitStage(String stage, CompletableFuture<T> future, T fallback) {
+		try {
+			return future.get(stageTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			return stageTimedOut(stage, fallback);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			return fallback;
+		} catch (ExecutionException e) {
+			// DB 쪽 타임아웃이 먼저 끝난 경우
+			if (e.getCause() instanceof QueryTimeoutException) {
+				return stageTimedOut(stage, fallback);
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private <T> T stageTimedOut(String stage, T fallback) {
+		meterRegistry.counter(STAGE_TIMEOUT_METRIC, "stage", stage).increment();
+		log.warn("기사 목록 {} 단계가 {}ms 안에 끝나지 않아 기본값으로 응답", stage, stageTimeoutMs);
+		return fallback;
+	}
+
+	private Timer stageTimer(String stage) {
+		return meterRegistry.timer(STAGE_METRIC, "stage", stage);
+	}
+
 	public ArticleResponse getArticleById(UUID articleId, UUID userId) {
-		Article article = articleRepositoryCustom.findArticleById(articleId)
+		// 카운터 조회가 삭제 여부 확인을 겸한다. 본문은 캐시에서 읽는다
+		CounterDelta counts = articleCounterAggregator.currentCounts(articleId)
+			.orElseThrow(() -> {
+				articleDetailCache.invalidate(articleId);
+				return new BusinessException(ErrorCode.ARTICLE_NOT_FOUND);
+			});
+		ArticleBody body = articleDetailCache.get(articleId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.ARTICLE_NOT_FOUND));
 
-		if (userId != null && !articleViewRepository.existsByArticleIdAndUserId(articleId, userId)) {
-			User userRef = entityManager.getReference(User.class, userId);
-			articleViewRepository.save(ArticleView.of(article, userRef));
+		if (userId != null) {
+			articleViewIngestor.record(articleId, userId);
 		}
 
-		long viewCount = articleViewRepository.countByArticleId(articleId);
-		long commentCount = commentRepository.countByArticleId(articleId);
-		boolean viewedByMe = userId != null && articleViewRepository.existsByArticleIdAndUserId(articleId, userId);
+		// 방금 기록한 조회는 적재 주기만큼 늦게 반영된다
+		boolean viewedByMe = userId != null;
 
-		return articleMapper.toResponse(article, viewCount, commentCount, viewedByMe);
+		return body.toResponse(counts.views(), counts.comments(), viewedByMe);
 	}
 
 	public List<ArticleSourceDto> getAllSources() {
@@ -165,33 +324,66 @@ public class ArticleService {
 			.toList();
 	}
 
-	@Transactional
+	/**
+	 * 304 로 응답한 상세 조회의 조회 기록. ETag 버전이 같으면 그 사이 삭제되지 않은 기사라 존재 확인은 생략한다.
+	 */
+	public void recordView(UUID articleId, UUID userId) {
+		if (userId != null) {
+			articleViewIngestor.record(articleId, userId);
+		}
+	}
+
 	public void addArticleView(UUID articleId, UUID userId) {
-		System.out.println("Received User ID in Service: " + userId);
+		if (articleCounterAggregator.currentCounts(articleId).isEmpty()) {
+			throw new BusinessException(ErrorCode.ARTICLE_NOT_FOUND);
+		}
 
-		Article article = articleRepositoryCustom.findArticleById(articleId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.ARTICLE_NOT_FOUND));
+		if (userId != null) {
+			articleViewIngestor.record(articleId, userId);
+		}
+	}
 
-		if (userId != null && !articleViewRepository.existsByArticleIdAndUserId(articleId, userId)) {
-			User userRef = entityManager.getReference(User.class, userId);
-			articleViewRepository.save(ArticleView.of(article, userRef));
+	// ArticleRepositoryImpl 의 관련도 식(제목 2점, 요약 1점)과 같은 규칙
+	private static int relevanceOf(ArticleResponse article, String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return 0;
+		}
+		String needle = keyword.toLowerCase(Locale.ROOT);
+		int score = 0;
+		if (article.title() != null && article.title().toLowerCase(Locale.ROOT).contains(needle)) {
+			score += 2;
+		}
+		if (article.summary() != null && article.summary().toLowerCase(Locale.ROOT).contains(needle)) {
+			score += 1;
 		}
+		return score;
 	}
 
 	@Transactional
 	public void softDeleteArticle(UUID articleId) {
 		Article article = articleRepositoryCustom.findByIdAndDeletedAtIsNull(articleId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.ARTICLE_NOT_FOUND));
-		System.out.println(entityManager.contains(article));
 		article.softDelete();
 		articleRepository.save(article);
+		articleDetailCache.invalidate(articleId);
+		AfterCommit.run(() -> {
+			articleVersionTracker.bumpList();
+			articleVersionTracker.bumpArticle(articleId);
+		});
 	}
 
 	@Transactional
 	public void hardDeleteArticle(UUID articleId) {
-		Article article = articleRepository.findById(articleId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.ARTICLE_NOT_FOUND));
+		if (!articleRepository.existsById(articleId)) {
+			throw new BusinessException(ErrorCode.ARTICLE_NOT_FOUND);
+		}
 
-		articleRepository.delete(article);
+		// 파티션된 DB 에는 기사를 참조하는 FK 가 없어 CASCADE 가 없으므로 댓글/조회/관심사 연결을 직접 지운다
+		archiveRepository.purgeArticles(List.of(articleId));
+		articleDetailCache.invalidate(articleId);
+		AfterCommit.run(() -> {
+			articleVersionTracker.bumpList();
+			articleVersionTracker.bumpArticle(articleId);
+		});
 	}
 }
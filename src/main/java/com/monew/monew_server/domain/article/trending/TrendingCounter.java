@@ -0,0 +1,191 @@
+package com.monew.monew_server.domain.article.trending;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot.TrendingEntry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 N시간의 조회/댓글을 시간 버킷 단위로 세고, 지수 감쇠 점수로 상위 K개를 유지한다.
+ * <p>
+ * 기록은 기사별 버킷 배열(LongAdder)에 락 없이 더하기만 하고,
+ * 주기적 재계산은 기존 상위 K개와 그 사이 활동이 있었던 기사(dirty)만 다시 점수를 매긴다.
+ * 같은 버킷 안에서는 활동이 없던 기사의 점수가 그대로라 이것으로 충분하다.
+ * 버킷이 넘어가면 창 밖으로 밀려난 버킷만큼 기사마다 점수가 다르게 줄어 상위 K개 밖 기사가 올라올 수 있으므로,
+ * 그때는 추적 중인 기사 전체를 다시 계산한다.
+ * <p>
+ * 점수는 기준 시각 refMillis 로 환산한 값(count * e^(λ(t - ref)))이라 시간이 지나도 기존 점수가 변하지 않고,
+ * 커서로 쓸 수 있다. 지수가 커지면 기준 시각을 옮기고 전체를 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class TrendingCounter {
+
+	private static final double MAX_EXPONENT = 200;
+
+	private final long bucketMillis;
+	private final int bucketCount;
+	private final double lambdaPerMilli;
+	private final int topK;
+	private final long commentWeight;
+	private final LongSupplier clock;
+
+	private final ConcurrentHashMap<UUID, Activity> activities = new ConcurrentHashMap<>();
+	private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+	private volatile TrendingSnapshot snapshot = TrendingSnapshot.EMPTY;
+	private long refMillis;
+	private long lastSweptBucket;
+
+	@Autowired
+	public TrendingCounter(
+		@Value("${monew.article.trending.bucket-minutes:60}") long bucketMinutes,
+		@Value("${monew.article.trending.window-hours:24}") long windowHours,
+		@Value("${monew.article.trending.half-life-hours:6}") double halfLifeHours,
+		@Value("${monew.article.trending.top-k:1000}") int topK,
+		@Value("${monew.article.trending.comment-weight:3}") long commentWeight
+	) {
+		this(bucketMinutes, windowHours, halfLifeHours, topK, commentWeight, System::currentTimeMillis);
+	}
+
+	TrendingCounter(long bucketMinutes, long windowHours, double halfLifeHours, int topK, long commentWeight,
+		LongSupplier clock) {
+		this.bucketMillis = bucketMinutes * 60_000;
+		this.bucketCount = (int)Math.max(1, windowHours * 60 / bucketMinutes);
+		this.lambdaPerMilli = Math.log(2) / (halfLifeHours * 3_600_000);
+		this.topK = topK;
+		this.commentWeight = commentWeight;
+		this.clock = clock;
+		this.refMillis = clock.getAsLong();
+		this.lastSweptBucket = refMillis / bucketMillis;
+	}
+
+	public void recordView(UUID articleId) {
+		record(articleId, 1);
+	}
+
+	public void recordComment(UUID articleId) {
+		record(articleId, commentWeight);
+	}
+
+	public TrendingSnapshot snapshot() {
+		return snapshot;
+	}
+
+	@Scheduled(fixedDelayString = "${monew.article.trending.rebuild-interval-ms:10000}")
+	public synchronized void rebuild() {
+		long now = clock.getAsLong();
+		long currentBucket = now / bucketMillis;
+
+		Set<UUID> candidates = new HashSet<>();
+		for (Iterator<UUID> it = dirty.iterator(); it.hasNext(); ) {
+			candidates.add(it.next());
+			it.remove();
+		}
+
+		boolean rescoreAll = false;
+		if (lambdaPerMilli * (now - refMillis) > MAX_EXPONENT) {
+			refMillis = now;
+			rescoreAll = true;
+		}
+		if (currentBucket != lastSweptBucket) {
+			activities.entrySet().removeIf(e -> e.getValue().isExpired(currentBucket, bucketCount));
+			lastSweptBucket = currentBucket;
+			rescoreAll = true;
+		}
+
+		if (rescoreAll) {
+			candidates.addAll(activities.keySet());
+		} else {
+			snapshot.entries().forEach(entry -> candidates.add(entry.articleId()));
+		}
+
+		List<TrendingEntry> scored = new ArrayList<>(candidates.size());
+		for (UUID articleId : candidates) {
+			Activity activity = activities.get(articleId);
+			if (activity == null) {
+				continue;
+			}
+			double score = activity.score(currentBucket, bucketCount, bucketMillis, lambdaPerMilli, refMillis);
+			if (score > 0) {
+				scored.add(new TrendingEntry(articleId, score));
+			}
+		}
+		scored.sort(TrendingSnapshot.ORDER);
+
+		snapshot = new TrendingSnapshot(List.copyOf(scored.subList(0, Math.min(topK, scored.size()))));
+		log.debug("트렌딩 재계산: 후보 {}건, 추적 중 {}건", candidates.size(), activities.size());
+	}
+
+	private void record(UUID articleId, long weight) {
+		long bucket = clock.getAsLong() / bucketMillis;
+		activities.computeIfAbsent(articleId, id -> new Activity(bucketCount)).add(bucket, bucketCount, weight);
+		dirty.add(articleId);
+	}
+
+	/**
+	 * 기사 한 건의 버킷 링. 슬롯의 epoch 가 현재 버킷과 다르면 CAS 로 차지하고 비운다.
+	 * 슬롯을 비우는 순간과 겹친 기록 몇 건은 유실될 수 있다 (근사치 허용).
+	 */
+	private static final class Activity {
+
+		private final AtomicLongArray epochs;
+		private final LongAdder[] counts;
+
+		Activity(int bucketCount) {
+			this.epochs = new AtomicLongArray(bucketCount);
+			for (int i = 0; i < bucketCount; i++) {
+				epochs.set(i, Long.MIN_VALUE);
+			}
+			this.counts = new LongAdder[bucketCount];
+			for (int i = 0; i < bucketCount; i++) {
+				counts[i] = new LongAdder();
+			}
+		}
+
+		void add(long bucket, int bucketCount, long weight) {
+			int slot = (int)Math.floorMod(bucket, (long)bucketCount);
+			long epoch = epochs.get(slot);
+			if (epoch < bucket && epochs.compareAndSet(slot, epoch, bucket)) {
+				counts[slot].reset();
+			}
+			counts[slot].add(weight);
+		}
+
+		double score(long currentBucket, int bucketCount, long bucketMillis, double lambdaPerMilli, long refMillis) {
+			double score = 0;
+			for (int slot = 0; slot < bucketCount; slot++) {
+				long epoch = epochs.get(slot);
+				if (epoch > currentBucket - bucketCount && epoch <= currentBucket) {
+					long bucketStart = epoch * bucketMillis;
+					score += counts[slot].sum() * Math.exp(lambdaPerMilli * (bucketStart - refMillis));
+				}
+			}
+			return score;
+		}
+
+		boolean isExpired(long currentBucket, int bucketCount) {
+			for (int slot = 0; slot < bucketCount; slot++) {
+				if (epochs.get(slot) > currentBucket - bucketCount) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
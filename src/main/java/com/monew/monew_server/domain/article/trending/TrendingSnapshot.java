@@ -0,0 +1,43 @@
+package com.monew.monew_server.domain.article.trending;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 특정 시점의 트렌딩 상위 K개. 점수 내림차순, 동점이면 ID 내림차순.
+ * 점수는 기준 시각이 바뀌면 다시 환산되므로 커서는 점수 대신 (순위, ID) 로 잡는다.
+ */
+public record TrendingSnapshot(List<TrendingEntry> entries) {
+
+	public static final TrendingSnapshot EMPTY = new TrendingSnapshot(List.of());
+
+	static final Comparator<TrendingEntry> ORDER = Comparator.comparingDouble(TrendingEntry::score)
+		.thenComparing(TrendingEntry::articleId)
+		.reversed();
+
+	/**
+	 * 커서(순위, ID) 다음 항목들. 커서 기사가 아직 있으면 지금 그 위치 다음부터,
+	 * 상위 K개에서 빠졌으면 커서를 만들 때의 순위 다음부터 읽는다.
+	 */
+	public List<TrendingEntry> after(int rank, UUID articleId) {
+		int position = rankOf(articleId);
+		int from = position > 0 ? position : Math.min(Math.max(rank, 0), entries.size());
+		return entries.subList(from, entries.size());
+	}
+
+	/**
+	 * @return 1부터 매긴 순위. 상위 K개에 없으면 0
+	 */
+	public int rankOf(UUID articleId) {
+		for (int i = 0; i < entries.size(); i++) {
+			if (entries.get(i).articleId().equals(articleId)) {
+				return i + 1;
+			}
+		}
+		return 0;
+	}
+
+	public record TrendingEntry(UUID articleId, double score) {
+	}
+}
@@ -0,0 +1,79 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기사 UUID 를 비트맵에 쓸 촘촘한 int 번호로 바꾼다.
+ * 번호는 프로세스 안에서만 유효하고, 누군가 조회한 기사에만 부여된다.
+ * <p>
+ * 번호는 세대(Generation) 단위로 매긴다. 한 세대의 번호표가 viewed-index.max-bytes 의 1/4 을 넘으면
+ * 새 세대로 바꾸고, ViewedArticleIndex 가 이전 세대로 만든 비트맵을 내보내 새 세대 번호로 다시 읽는다.
+ * 그래서 아카이브/삭제된 기사의 번호도 세대가 바뀔 때 함께 사라진다.
+ */
+@Component
+public class ArticleOrdinalRegistry {
+
+	// ConcurrentHashMap 항목 하나(노드, UUID 키, Integer 값, 테이블 슬롯)의 대략적인 크기
+	static final int BYTES_PER_ORDINAL = 96;
+
+	private final long maxBytes;
+	private final long maxOrdinals;
+	private volatile Generation current = new Generation();
+
+	public ArticleOrdinalRegistry(@Value("${monew.article.viewed-index.max-bytes:67108864}") long indexMaxBytes) {
+		this.maxBytes = indexMaxBytes / 4;
+		this.maxOrdinals = Math.max(1, maxBytes / BYTES_PER_ORDINAL);
+	}
+
+	public Generation current() {
+		return current;
+	}
+
+	/**
+	 * 주어진 세대의 번호가 한도를 넘었으면 새 세대로 바꾼다.
+	 *
+	 * @return 이번 호출로 세대를 바꿨으면 true
+	 */
+	public synchronized boolean rollIfFull(Generation generation) {
+		if (generation != current || generation.size() < maxOrdinals) {
+			return false;
+		}
+		current = new Generation();
+		return true;
+	}
+
+	// 번호표에 배정된 몫. ViewedArticleIndex 는 나머지를 비트맵에 쓴다
+	public long maxBytes() {
+		return maxBytes;
+	}
+
+	public int size() {
+		return current.size();
+	}
+
+	public static final class Generation {
+
+		private final ConcurrentHashMap<UUID, Integer> ordinals = new ConcurrentHashMap<>();
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		public int ordinalOf(UUID articleId) {
+			return ordinals.computeIfAbsent(articleId, id -> sequence.getAndIncrement());
+		}
+
+		// 조회 전용. 번호가 없으면 이 세대에서 아무도(캐시된 사용자 중) 조회하지 않은 기사다
+		public OptionalInt findOrdinal(UUID articleId) {
+			Integer ordinal = ordinals.get(articleId);
+			return ordinal == null ? OptionalInt.empty() : OptionalInt.of(ordinal);
+		}
+
+		public int size() {
+			return ordinals.size();
+		}
+	}
+}
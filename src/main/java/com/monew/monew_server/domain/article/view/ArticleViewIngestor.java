@@ -0,0 +1,192 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleViewBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 조회 이벤트 적재기.
+ * 조회 요청은 메모리 큐에 넣기만 하고, 스케줄러가 모아서 다중 행 INSERT 로 반영한다.
+ * 같은 사용자의 반복 조회는 기사별 블룸 필터에서 대부분 걸러지고, 남은 중복은 ON CONFLICT 가 처리한다.
+ * 블룸 필터의 거짓 양성(기본 0.1%)만큼은 최초 조회가 기록되지 않을 수 있다.
+ * 반영에 실패하고 큐에도 다시 넣지 못해 버린 조회는 먼저 해 둔 표시(블룸 필터, viewedByMe)를 되돌리고 따로 센다.
+ */
+@Slf4j
+@Component
+public class ArticleViewIngestor {
+
+	private final ArticleViewBatchRepository articleViewBatchRepository;
+	private final ArticleCounterAggregator articleCounterAggregator;
+	private final ViewedArticleIndex viewedArticleIndex;
+	private final ArticleVersionTracker articleVersionTracker;
+
+	private final BlockingQueue<ViewEvent> queue;
+	private final Map<UUID, ViewBloomFilter> filters;
+	private final int batchSize;
+	private final int expectedViewsPerArticle;
+	private final double falsePositiveRate;
+
+	private final Counter acceptedCounter;
+	private final Counter deduplicatedCounter;
+	private final Counter rejectedCounter;
+	private final Counter droppedCounter;
+	private final Counter insertedCounter;
+	private final Counter failedCounter;
+	private final Timer flushTimer;
+
+	public ArticleViewIngestor(
+		ArticleViewBatchRepository articleViewBatchRepository,
+		ArticleCounterAggregator articleCounterAggregator,
+		ViewedArticleIndex viewedArticleIndex,
+		ArticleVersionTracker articleVersionTracker,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.view.queue-capacity:10000}") int queueCapacity,
+		@Value("${monew.article.view.batch-size:500}") int batchSize,
+		@Value("${monew.article.view.max-tracked-articles:1000}") int maxTrackedArticles,
+		@Value("${monew.article.view.expected-views-per-article:10000}") int expectedViewsPerArticle,
+		@Value("${monew.article.view.false-positive-rate:0.001}") double falsePositiveRate
+	) {
+		this.articleViewBatchRepository = articleViewBatchRepository;
+		this.articleCounterAggregator = articleCounterAggregator;
+		this.viewedArticleIndex = viewedArticleIndex;
+		this.articleVersionTracker = articleVersionTracker;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.expectedViewsPerArticle = expectedViewsPerArticle;
+		this.falsePositiveRate = falsePositiveRate;
+		// 최근에 조회된 기사의 필터만 유지한다 (LRU)
+		this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, ViewBloomFilter> eldest) {
+				return size() > maxTrackedArticles;
+			}
+		};
+
+		Gauge.builder("monew.article.view.queue.size", queue, BlockingQueue::size)
+			.description("적재 대기 중인 조회 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("monew.article.view.queue.remaining", queue, BlockingQueue::remainingCapacity)
+			.description("조회 이벤트 큐의 남은 용량")
+			.register(meterRegistry);
+		this.acceptedCounter = meterRegistry.counter("monew.article.view.events", "result", "accepted");
+		this.deduplicatedCounter = meterRegistry.counter("monew.article.view.events", "result", "deduplicated");
+		this.rejectedCounter = meterRegistry.counter("monew.article.view.events", "result", "rejected");
+		this.droppedCounter = meterRegistry.counter("monew.article.view.events", "result", "dropped");
+		this.insertedCounter = meterRegistry.counter("monew.article.view.inserted");
+		this.failedCounter = meterRegistry.counter("monew.article.view.flush.failures");
+		this.flushTimer = meterRegistry.timer("monew.article.view.flush");
+	}
+
+	public void record(UUID articleId, UUID userId) {
+		// 적재 전이라도 다음 목록 조회에서 viewedByMe 가 맞도록 먼저 반영한다
+		viewedArticleIndex.markViewed(userId, articleId);
+
+		if (!markSeen(articleId, userId)) {
+			deduplicatedCounter.increment();
+			return;
+		}
+		// 처음 조회한 기사는 이 사용자 목록의 viewedByMe 가 바뀌므로 이 사용자의 목록 ETag 만 바꾼다
+		articleVersionTracker.bumpViewed(userId);
+
+		ViewEvent event = new ViewEvent(articleId, userId);
+		if (queue.offer(event)) {
+			acceptedCounter.increment();
+			return;
+		}
+
+		// 큐가 가득 차면 호출 스레드에서 직접 반영해 생산 속도를 늦춘다
+		rejectedCounter.increment();
+		write(List.of(event));
+	}
+
+	@Scheduled(fixedDelayString = "${monew.article.view.flush-interval-ms:200}")
+	public void flush() {
+		List<ViewEvent> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			boolean written = write(batch);
+			batch.clear();
+			if (!written) {
+				return;
+			}
+		}
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private boolean markSeen(UUID articleId, UUID userId) {
+		ViewBloomFilter filter;
+		synchronized (filters) {
+			filter = filters.computeIfAbsent(articleId,
+				id -> new ViewBloomFilter(expectedViewsPerArticle, falsePositiveRate));
+		}
+		return filter.put(userId);
+	}
+
+	private boolean write(List<ViewEvent> events) {
+		List<ViewEvent> distinct = new ArrayList<>(new LinkedHashSet<>(events));
+		try {
+			List<ViewEvent> inserted = flushTimer.record(
+				() -> articleViewBatchRepository.insertIgnoringDuplicates(distinct));
+			for (ViewEvent event : inserted) {
+				articleCounterAggregator.recordView(event.articleId());
+				viewedArticleIndex.markViewed(event.userId(), event.articleId());
+			}
+			insertedCounter.increment(inserted.size());
+			return true;
+		} catch (RuntimeException e) {
+			failedCounter.increment();
+			// 남은 용량만큼 다시 큐에 넣어 다음 주기에 재시도한다
+			List<ViewEvent> dropped = new ArrayList<>();
+			for (ViewEvent event : distinct) {
+				if (!queue.offer(event)) {
+					dropped.add(event);
+				}
+			}
+			rollBack(dropped);
+			log.error("기사 조회 기록 반영 실패: {}건 (재시도 대기 {}건, 버림 {}건)", distinct.size(),
+				distinct.size() - dropped.size(), dropped.size(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * 버린 조회의 표시를 되돌린다. 블룸 필터는 비트를 뺄 수 없으므로 그 기사의 필터를 통째로 버리고
+	 * (다음 조회는 다시 적재되고 중복은 ON CONFLICT 가 거른다), 사용자 비트맵은 내보내 DB 기준으로 다시 읽게 한다.
+	 */
+	private void rollBack(List<ViewEvent> dropped) {
+		if (dropped.isEmpty()) {
+			return;
+		}
+		droppedCounter.increment(dropped.size());
+		for (ViewEvent event : dropped) {
+			synchronized (filters) {
+				filters.remove(event.articleId());
+			}
+			viewedArticleIndex.evict(event.userId());
+			articleVersionTracker.bumpViewed(event.userId());
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.util.Arrays;
+
+/**
+ * int 집합을 위한 roaring 방식 비트맵.
+ * 상위 16비트로 컨테이너를 나누고, 컨테이너는 원소가 적으면 정렬된 char 배열,
+ * 4096개를 넘으면 8KB 고정 비트셋으로 바꿔 저장한다.
+ */
+class CompactBitmap {
+
+	private static final int ARRAY_CONTAINER_MAX = 4096;
+	private static final int OBJECT_OVERHEAD = 16;
+
+	private char[] keys = new char[4];
+	private Container[] containers = new Container[4];
+	private int size;
+
+	synchronized void add(int value) {
+		char high = (char)(value >>> 16);
+		char low = (char)value;
+		int index = Arrays.binarySearch(keys, 0, size, high);
+		if (index >= 0) {
+			containers[index] = containers[index].add(low);
+			return;
+		}
+
+		int insertAt = -index - 1;
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			containers = Arrays.copyOf(containers, size * 2);
+		}
+		System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+		System.arraycopy(containers, insertAt, containers, insertAt + 1, size - insertAt);
+		keys[insertAt] = high;
+		containers[insertAt] = new ArrayContainer().add(low);
+		size++;
+	}
+
+	synchronized boolean contains(int value) {
+		int index = Arrays.binarySearch(keys, 0, size, (char)(value >>> 16));
+		return index >= 0 && containers[index].contains((char)value);
+	}
+
+	synchronized int sizeInBytes() {
+		int bytes = OBJECT_OVERHEAD + keys.length * Character.BYTES + containers.length * 8;
+		for (int i = 0; i < size; i++) {
+			bytes += containers[i].sizeInBytes();
+		}
+		return bytes;
+	}
+
+	private interface Container {
+
+		Container add(char value);
+
+		boolean contains(char value);
+
+		int sizeInBytes();
+	}
+
+	private static final class ArrayContainer implements Container {
+
+		private char[] values = new char[4];
+		private int cardinality;
+
+		@Override
+		public Container add(char value) {
+			int index = Arrays.binarySearch(values, 0, cardinality, value);
+			if (index >= 0) {
+				return this;
+			}
+			if (cardinality == ARRAY_CONTAINER_MAX) {
+				return toBitmap().add(value);
+			}
+
+			int insertAt = -index - 1;
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_CONTAINER_MAX));
+			}
+			System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+			values[insertAt] = value;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		public boolean contains(char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+
+		@Override
+		public int sizeInBytes() {
+			return OBJECT_OVERHEAD + values.length * Character.BYTES;
+		}
+
+		private BitmapContainer toBitmap() {
+			BitmapContainer bitmap = new BitmapContainer();
+			for (int i = 0; i < cardinality; i++) {
+				bitmap.add(values[i]);
+			}
+			return bitmap;
+		}
+	}
+
+	private static final class BitmapContainer implements Container {
+
+		private final long[] words = new long[1 << 10];
+
+		@Override
+		public Container add(char value) {
+			words[value >>> 6] |= 1L << (value & 63);
+			return this;
+		}
+
+		@Override
+		public boolean contains(char value) {
+			return (words[value >>> 6] & (1L << (value & 63))) != 0;
+		}
+
+		@Override
+		public int sizeInBytes() {
+			return OBJECT_OVERHEAD + words.length * Long.BYTES;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기사 한 건에 대한 "이미 조회한 사용자" 블룸 필터.
+ * 거짓 음성은 없고, 거짓 양성 비율은 생성 시 지정한 fpp 로 제한된다.
+ * 여러 요청 스레드가 동시에 접근하므로 비트 배열은 CAS 로 갱신한다.
+ */
+class ViewBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final int bitSize;
+	private final int hashCount;
+
+	ViewBloomFilter(int expectedInsertions, double fpp) {
+		long m = (long)Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		this.bitSize = (int)Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+	}
+
+	/**
+	 * @return 새로 추가되었으면 true, 이미 있었을 가능성이 있으면 false
+	 */
+	boolean put(UUID userId) {
+		long h1 = mix(userId.getMostSignificantBits());
+		long h2 = mix(userId.getLeastSignificantBits() ^ h1);
+		boolean changed = false;
+		for (int i = 0; i < hashCount; i++) {
+			int index = (int)Math.floorMod(h1 + i * h2, (long)bitSize);
+			changed |= setBit(index);
+		}
+		return changed;
+	}
+
+	private boolean setBit(int index) {
+		int word = index >>> 6;
+		long mask = 1L << (index & 63);
+		while (true) {
+			long current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (bits.compareAndSet(word, current, current | mask)) {
+				return true;
+			}
+		}
+	}
+
+	// SplitMix64 finalizer
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
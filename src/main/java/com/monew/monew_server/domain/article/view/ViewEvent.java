@@ -0,0 +1,6 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.util.UUID;
+
+public record ViewEvent(UUID articleId, UUID userId) {
+}
@@ -0,0 +1,131 @@
+package com.monew.monew_server.domain.article.view;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.article.repository.ArticleViewRepository;
+import com.monew.monew_server.domain.article.view.ArticleOrdinalRegistry.Generation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자별 "조회한 기사" 집합을 압축 비트맵으로 들고 있는 인덱스.
+ * 처음 필요할 때 article_views 에서 한 번 읽어 오고, 이후 조회는 메모리에서 답한다.
+ * 전체 비트맵 크기(weight)가 한도를 넘거나 오래 쓰이지 않으면 사용자 단위로 내보낸다.
+ * max-bytes 는 번호표(ArticleOrdinalRegistry)까지 합친 한도라, 번호표 몫을 뺀 나머지만 비트맵에 쓴다.
+ * 번호표가 제 몫을 넘어 세대가 바뀌면 비트맵을 모두 내보내고 새 세대 번호로 다시 읽는다.
+ */
+@Component
+public class ViewedArticleIndex {
+
+	private final ArticleViewRepository articleViewRepository;
+	private final ArticleOrdinalRegistry articleOrdinalRegistry;
+	private final Cache<UUID, Entry> cache;
+
+	public ViewedArticleIndex(
+		ArticleViewRepository articleViewRepository,
+		ArticleOrdinalRegistry articleOrdinalRegistry,
+		MeterRegistry meterRegistry,
+		@Value("${monew.article.viewed-index.max-bytes:67108864}") long maxBytes,
+		@Value("${monew.article.viewed-index.expire-after-access:PT30M}") Duration expireAfterAccess
+	) {
+		this.articleViewRepository = articleViewRepository;
+		this.articleOrdinalRegistry = articleOrdinalRegistry;
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(Math.max(1, maxBytes - articleOrdinalRegistry.maxBytes()))
+			.weigher((UUID userId, Entry entry) -> entry.bitmap().sizeInBytes())
+			.expireAfterAccess(expireAfterAccess)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "viewedArticles");
+		Gauge.builder("monew.article.viewed-index.ordinals", articleOrdinalRegistry, ArticleOrdinalRegistry::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 주어진 기사 중 사용자가 조회한 기사 ID. 한 페이지를 한 번에 판정한다.
+	 */
+	public Set<UUID> viewedAmong(UUID userId, Collection<UUID> articleIds) {
+		if (userId == null || articleIds.isEmpty()) {
+			return Set.of();
+		}
+
+		Entry entry = cache.get(userId, this::load);
+		if (entry.generation() != articleOrdinalRegistry.current()) {
+			// 세대가 바뀐 뒤 남은 비트맵은 이전 세대 번호표를 붙잡고 있으므로 새 세대로 다시 읽는다
+			cache.asMap().remove(userId, entry);
+			entry = cache.get(userId, this::load);
+		}
+		rollIfFull(entry.generation());
+
+		// 비트맵은 자신을 만든 세대의 번호로만 읽는다
+		Set<UUID> viewed = new HashSet<>();
+		for (UUID articleId : articleIds) {
+			OptionalInt ordinal = entry.generation().findOrdinal(articleId);
+			if (ordinal.isPresent() && entry.bitmap().contains(ordinal.getAsInt())) {
+				viewed.add(articleId);
+			}
+		}
+		return viewed;
+	}
+
+	/**
+	 * 새 조회 반영. 아직 적재되지 않은 사용자는 다음 조회 때 DB 에서 읽으므로 건너뛴다.
+	 * compute 로 갱신해야 Caffeine 이 weight 를 다시 계산한다. 이전 세대 비트맵이면 내보내 다시 읽게 한다.
+	 */
+	public void markViewed(UUID userId, UUID articleId) {
+		Generation generation = articleOrdinalRegistry.current();
+		cache.asMap().computeIfPresent(userId, (id, entry) -> {
+			if (entry.generation() != generation) {
+				return null;
+			}
+			entry.bitmap().add(generation.ordinalOf(articleId));
+			return entry;
+		});
+		rollIfFull(generation);
+	}
+
+	/**
+	 * 메모리에만 반영하고 적재하지 못한 조회가 있을 때 사용자 비트맵을 내보내 다음 조회 때 DB 에서 다시 읽게 한다.
+	 */
+	public void evict(UUID userId) {
+		cache.invalidate(userId);
+	}
+
+	/**
+	 * 기사 복원처럼 article_views 밖에서 기사 집합이 크게 바뀐 뒤, 모든 사용자를 다음 조회 때 DB 에서 다시 읽게 한다.
+	 */
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+
+	private Entry load(UUID userId) {
+		Generation generation = articleOrdinalRegistry.current();
+		CompactBitmap bitmap = new CompactBitmap();
+		for (UUID articleId : articleViewRepository.findArticleIdsByUserId(userId)) {
+			bitmap.add(generation.ordinalOf(articleId));
+		}
+		// 적재 중에는 캐시를 비울 수 없으므로 세대 교체는 호출한 쪽에서 확인한다
+		return new Entry(generation, bitmap);
+	}
+
+	private void rollIfFull(Generation generation) {
+		if (articleOrdinalRegistry.rollIfFull(generation)) {
+			cache.invalidateAll();
+		}
+	}
+
+	private record Entry(Generation generation, CompactBitmap bitmap) {
+	}
+}
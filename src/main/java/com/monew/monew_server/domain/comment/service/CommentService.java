@@ -1,4 +1,5 @@
 package com.monew.monew_server.domain.comment.service;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
 import com.monew.monew_server.domain.article.entity.Article;
 import com.monew.monew_server.domain.comment.dto.CommentDto;
 import com.monew.monew_server.domain.comment.dto.CommentRegisterRequest;
@@ -25,6 +26,7 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final EntityManager entityManager;
+    private final ArticleCounterAggregator articleCounterAggregator;
 
     @Transactional
     public CommentDto createComment(CommentRegisterRequest request) {
@@ -44,6 +46,7 @@ public class CommentService {
 
         // 3. DB에 저장
         Comment savedComment = commentRepository.save(comment);
+        articleCounterAggregator.recordComment(request.getArticleId(), 1);
         log.info("댓글 생성 완료: commentId={}", savedComment.getId());
 
         // 4. 엔티티를 DTO로 변환시킨다.
@@ -135,6 +138,7 @@ public class CommentService {
 
         // 4. 논리 삭제 실행
         comment.softDelete();
+        articleCounterAggregator.recordComment(comment.getArticle().getId(), -1);
 
         // JPA 더티 체킹으로 자동 UPDATE (deleted_at = now())
         log.info("댓글 논리 삭제 완료: commentId={}", commentId);
@@ -156,6 +160,10 @@ public class CommentService {
         }
 
         // 3. 물리 삭제 실행 (DB에서 완전히 제거)
+        // 이미 논리 삭제된 댓글은 댓글 수에서 빠져 있으므로 다시 차감하지 않는다
+        if (!comment.isDeleted()) {
+            articleCounterAggregator.recordComment(comment.getArticle().getId(), -1);
+        }
         commentRepository.delete(comment);
 
         log.info("댓글 물리 삭제 완료: commentId={}", commentId);
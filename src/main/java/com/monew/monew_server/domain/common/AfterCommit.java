@@ -0,0 +1,28 @@
+package com.monew.monew_server.domain.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤에만 인메모리 상태(카운터, 캐시, 인덱스)를 갱신하기 위한 헬퍼.
+ * 트랜잭션 밖에서 호출되면 즉시 실행한다.
+ */
+public final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	public static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,153 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import com.monew.monew_server.domain.common.AfterCommit;
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Entry;
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Page;
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Row;
+import com.monew.monew_server.domain.interest.dto.CursorPageResponseInterestDto;
+import com.monew.monew_server.domain.interest.dto.InterestDto;
+import com.monew.monew_server.domain.interest.dto.InterestQuery;
+import com.monew.monew_server.domain.interest.entity.InterestKeyword;
+import com.monew.monew_server.domain.interest.enums.InterestSortField;
+import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import com.monew.monew_server.domain.interest.subscription.SubscriptionSetCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사 목록 조회용 메모리 카탈로그.
+ * <p>
+ * 관심사, 키워드, 구독자 수를 불변 스냅샷으로 들고 있다가 InterestService.findAll 에 바로 응답한다.
+ * 사용자마다 다른 subscribedByMe 만 페이지에 담긴 관심사 ID 로 구독 집합 캐시에서 확인한다.
+ * 관심사 생성/수정/삭제는 커밋 후 다시 읽어 교체하고, 구독자 수는 InterestSubscriberCounter 가 반영한 증분만큼 바꾼다.
+ * 다른 인스턴스에서 바뀐 내용은 refresh-interval 마다 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class InterestCatalog {
+
+    private final InterestRepository interestRepository;
+    private final InterestKeywordRepository interestKeywordRepository;
+    private final SubscriptionSetCache subscriptionSetCache;
+    private final boolean enabled;
+
+    // 아직 읽지 않았으면 null 이라 SQL 로 조회한다
+    private volatile InterestCatalogSnapshot snapshot;
+
+    public InterestCatalog(
+        InterestRepository interestRepository,
+        InterestKeywordRepository interestKeywordRepository,
+        SubscriptionSetCache subscriptionSetCache,
+        @Value("${monew.interest.catalog.enabled:true}") boolean enabled
+    ) {
+        this.interestRepository = interestRepository;
+        this.interestKeywordRepository = interestKeywordRepository;
+        this.subscriptionSetCache = subscriptionSetCache;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            try {
+                long start = System.nanoTime();
+                List<Row> rows = interestRepository.findAllOrderByLowerName().stream()
+                    .map(interest -> new Row(interest.getId(), interest.getName(), interest.getSubscriberCount(),
+                        interest.getCreatedAt()))
+                    .toList();
+                Map<UUID, List<String>> keywords = new HashMap<>();
+                for (InterestKeyword keyword : interestKeywordRepository.findAll()) {
+                    keywords.computeIfAbsent(keyword.getInterest().getId(), id -> new ArrayList<>())
+                        .add(keyword.getName());
+                }
+                snapshot = InterestCatalogSnapshot.of(rows, keywords);
+                log.debug("관심사 카탈로그 재구성: {}개, {}ms", rows.size(), (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                log.warn("관심사 카탈로그를 읽지 못해 이전 스냅샷을 유지함", e);
+            }
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${monew.interest.catalog.refresh-interval-ms:30000}",
+        fixedDelayString = "${monew.interest.catalog.refresh-interval-ms:30000}")
+    public void refresh() {
+        load();
+    }
+
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::load);
+    }
+
+    /**
+     * 구독자 수 증분을 DB 에 반영(persist)하고 스냅샷에도 더한다.
+     * load 와 같은 잠금 안에서 하므로, load 가 반영된 값을 읽은 스냅샷에 같은 증분이 한 번 더 더해지지 않는다.
+     * persist 가 실패하면 스냅샷은 그대로 두고 예외를 던진다.
+     */
+    public synchronized void applySubscriberDeltas(Map<UUID, Long> deltas, Runnable persist) {
+        persist.run();
+        InterestCatalogSnapshot current = snapshot;
+        if (current == null || deltas.isEmpty()) {
+            return;
+        }
+        try {
+            snapshot = current.withSubscriberDeltas(deltas);
+        } catch (RuntimeException e) {
+            // DB 에는 이미 반영됐으므로 증분을 되돌리지 않고 DB 기준으로 다시 읽는다
+            log.warn("관심사 카탈로그 구독자 수 갱신 실패, 카탈로그를 다시 읽음: {}건", deltas.size(), e);
+            load();
+        }
+    }
+
+    /**
+     * @return 스냅샷이 없거나 커서 위치를 정할 수 없으면 empty (SQL 로 조회한다)
+     */
+    public Optional<CursorPageResponseInterestDto> findAll(InterestQuery query, UUID userId) {
+        InterestCatalogSnapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return current.page(query).map(page -> toResponse(query, page, userId));
+    }
+
+    private CursorPageResponseInterestDto toResponse(InterestQuery query, Page page, UUID userId) {
+        List<UUID> interestIds = page.rows().stream().map(Entry::id).toList();
+        Set<UUID> subscribed = subscriptionSetCache.subscribedAmong(userId, interestIds);
+
+        List<InterestDto> content = page.rows().stream()
+            .map(entry -> new InterestDto(
+                entry.id(),
+                entry.name(),
+                entry.keywords(),
+                entry.subscriberCount(),
+                subscribed.contains(entry.id())
+            ))
+            .toList();
+
+        if (!page.hasNext()) {
+            return new CursorPageResponseInterestDto(content, null, null, query.limit(), page.totalElements(), false);
+        }
+
+        Entry last = page.rows().get(page.rows().size() - 1);
+        String nextCursor = query.sortField() == InterestSortField.SUBSCRIBER_COUNT
+            ? String.valueOf(last.subscriberCount())
+            : last.name();
+        return new CursorPageResponseInterestDto(content, nextCursor, last.createdAt(), query.limit(),
+            page.totalElements(), true);
+    }
+}
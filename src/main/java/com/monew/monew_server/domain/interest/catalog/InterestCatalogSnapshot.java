@@ -0,0 +1,246 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import com.monew.monew_server.domain.interest.dto.InterestQuery;
+import com.monew.monew_server.domain.interest.enums.InterestSortField;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 관심사 목록의 불변 스냅샷.
+ * <p>
+ * 정렬 기준(이름/구독자 수)과 방향마다 미리 정렬한 배열을 두고, 커서 위치는 이진 탐색으로 찾는다.
+ * 이름 순서는 DB 가 {@code lower(name)} 으로 정렬해 준 순위를 그대로 써서 DB 콜레이션과 같은 순서를 유지한다.
+ * 키워드 검색은 이름/키워드 trigram 색인으로 후보를 좁힌 뒤 부분 문자열 일치를 다시 확인한다.
+ * 바뀔 때는 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 한 스냅샷만 본다.
+ */
+final class InterestCatalogSnapshot {
+
+    private static final Comparator<Entry> CREATED_AT_DESC = Comparator.comparing(Entry::createdAt).reversed();
+    private static final Comparator<Entry> NAME_ASC =
+        Comparator.comparingInt(Entry::nameRank).thenComparing(CREATED_AT_DESC);
+    private static final Comparator<Entry> NAME_DESC =
+        Comparator.comparingInt(Entry::nameRank).reversed().thenComparing(CREATED_AT_DESC);
+    private static final Comparator<Entry> COUNT_ASC =
+        Comparator.comparingLong(Entry::subscriberCount).thenComparing(CREATED_AT_DESC);
+    private static final Comparator<Entry> COUNT_DESC =
+        Comparator.comparingLong(Entry::subscriberCount).reversed().thenComparing(CREATED_AT_DESC);
+    // 일치 건수가 전체의 1/16 보다 적으면 일치한 것만 정렬하고, 많으면 정렬된 배열을 훑는다
+    private static final int SPARSE_RATIO = 16;
+
+    private final Map<UUID, Entry> byId;
+    private final Entry[] byOrdinal;
+    private final Map<String, Integer> nameRanks;
+    private final InterestTrigramIndex trigrams;
+    private final Entry[] byNameAsc;
+    private final Entry[] byNameDesc;
+    private final Entry[] byCountAsc;
+    private final Entry[] byCountDesc;
+
+    // entries 는 ordinal 순서여야 한다
+    private InterestCatalogSnapshot(Collection<Entry> entries, Map<String, Integer> nameRanks,
+        InterestTrigramIndex trigrams) {
+        Map<UUID, Entry> index = new LinkedHashMap<>();
+        entries.forEach(entry -> index.put(entry.id(), entry));
+        this.byId = index;
+        this.nameRanks = nameRanks;
+        this.trigrams = trigrams;
+        this.byOrdinal = entries.toArray(Entry[]::new);
+        this.byNameAsc = sorted(byOrdinal, NAME_ASC);
+        this.byNameDesc = sorted(byOrdinal, NAME_DESC);
+        this.byCountAsc = sorted(byOrdinal, COUNT_ASC);
+        this.byCountDesc = sorted(byOrdinal, COUNT_DESC);
+    }
+
+    /**
+     * @param rows {@code lower(name)} 순으로 정렬된 관심사
+     */
+    static InterestCatalogSnapshot of(List<Row> rows, Map<UUID, List<String>> keywords) {
+        Map<String, Integer> nameRanks = new HashMap<>();
+        List<Entry> entries = new ArrayList<>(rows.size());
+        List<List<String>> texts = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String lowerName = row.name().toLowerCase(Locale.ROOT);
+            int rank = nameRanks.computeIfAbsent(lowerName, name -> nameRanks.size());
+            List<String> names = List.copyOf(keywords.getOrDefault(row.id(), List.of()));
+            Entry entry = new Entry(entries.size(), row.id(), row.name(), lowerName, rank, names, lowered(names),
+                row.subscriberCount(), row.createdAt());
+            entries.add(entry);
+            List<String> text = new ArrayList<>(entry.lowerKeywords().size() + 1);
+            text.add(lowerName);
+            text.addAll(entry.lowerKeywords());
+            texts.add(text);
+        }
+        return new InterestCatalogSnapshot(entries, nameRanks, InterestTrigramIndex.build(texts));
+    }
+
+    InterestCatalogSnapshot withSubscriberDeltas(Map<UUID, Long> deltas) {
+        Map<UUID, Entry> entries = new LinkedHashMap<>(byId);
+        deltas.forEach((interestId, delta) -> entries.computeIfPresent(interestId,
+            (id, entry) -> entry.withSubscriberCount(entry.subscriberCount() + delta)));
+        // 이름과 키워드는 그대로이므로 순서를 유지해 trigram 색인을 다시 쓴다
+        return new InterestCatalogSnapshot(entries.values(), nameRanks, trigrams);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    /**
+     * InterestQueryRepositoryImpl.findAll 과 같은 필터, 정렬, 커서 조건으로 한 페이지를 고른다.
+     *
+     * @return 커서 이름이 스냅샷에 없어 순서상 위치를 정할 수 없으면 empty
+     */
+    Optional<Page> page(InterestQuery query) {
+        InterestSortField sortField = query.sortField();
+        boolean desc = query.desc();
+        Entry[] sorted = sortField == InterestSortField.SUBSCRIBER_COUNT
+            ? (desc ? byCountDesc : byCountAsc)
+            : (desc ? byNameDesc : byNameAsc);
+
+        Comparator<Entry> order = comparator(sortField, desc);
+        Entry cursor = null;
+        if (query.after() != null && hasText(query.cursor())) {
+            Optional<Entry> found = cursorOf(sortField, query.cursor(), query.after());
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            cursor = found.get();
+        }
+
+        BitSet matched = hasText(query.keyword()) ? match(query.keyword().toLowerCase(Locale.ROOT)) : null;
+        long total = matched == null ? byOrdinal.length : matched.cardinality();
+        if (matched != null && total * SPARSE_RATIO < sorted.length) {
+            sorted = matched.stream().mapToObj(ordinal -> byOrdinal[ordinal]).sorted(order).toArray(Entry[]::new);
+            matched = null;
+        }
+
+        int from = cursor == null ? 0 : firstAfter(sorted, cursor, order);
+        int fetch = query.limit() + 1;
+        List<Entry> rows = new ArrayList<>(Math.min(fetch, sorted.length));
+        for (int i = from; i < sorted.length && rows.size() < fetch; i++) {
+            if (matched == null || matched.get(sorted[i].ordinal())) {
+                rows.add(sorted[i]);
+            }
+        }
+
+        boolean hasNext = rows.size() > query.limit();
+        return Optional.of(new Page(hasNext ? rows.subList(0, query.limit()) : rows, hasNext, total));
+    }
+
+    // 검색어를 이름이나 키워드에 부분 문자열로 포함하는 관심사의 ordinal
+    private BitSet match(String lowerKeyword) {
+        BitSet candidates = trigrams.candidates(lowerKeyword);
+        BitSet matched = new BitSet(byOrdinal.length);
+        if (candidates == null) {
+            // trigram 보다 짧은 검색어는 전체를 확인한다
+            for (Entry entry : byOrdinal) {
+                if (entry.matches(lowerKeyword)) {
+                    matched.set(entry.ordinal());
+                }
+            }
+            return matched;
+        }
+        candidates.stream()
+            .filter(ordinal -> byOrdinal[ordinal].matches(lowerKeyword))
+            .forEach(matched::set);
+        return matched;
+    }
+
+    private Optional<Entry> cursorOf(InterestSortField sortField, String cursor, Instant after) {
+        if (sortField == InterestSortField.SUBSCRIBER_COUNT) {
+            long count;
+            try {
+                count = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            return Optional.of(Entry.probe(0, count, after));
+        }
+        Integer rank = nameRanks.get(cursor.toLowerCase(Locale.ROOT));
+        return Optional.ofNullable(rank).map(found -> Entry.probe(found, 0, after));
+    }
+
+    private static Comparator<Entry> comparator(InterestSortField sortField, boolean desc) {
+        if (sortField == InterestSortField.SUBSCRIBER_COUNT) {
+            return desc ? COUNT_DESC : COUNT_ASC;
+        }
+        return desc ? NAME_DESC : NAME_ASC;
+    }
+
+    // 정렬 순서상 커서보다 뒤에 오는 첫 위치
+    private static int firstAfter(Entry[] sorted, Entry cursor, Comparator<Entry> order) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(sorted[mid], cursor) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static Entry[] sorted(Entry[] entries, Comparator<Entry> order) {
+        Entry[] copy = entries.clone();
+        Arrays.sort(copy, order);
+        return copy;
+    }
+
+    private static List<String> lowered(List<String> names) {
+        return names.stream().map(name -> name.toLowerCase(Locale.ROOT)).toList();
+    }
+
+    record Row(UUID id, String name, long subscriberCount, Instant createdAt) {
+    }
+
+    record Page(List<Entry> rows, boolean hasNext, long totalElements) {
+    }
+
+    record Entry(
+        int ordinal,
+        UUID id,
+        String name,
+        String lowerName,
+        int nameRank,
+        List<String> keywords,
+        List<String> lowerKeywords,
+        long subscriberCount,
+        Instant createdAt
+    ) {
+
+        static Entry probe(int nameRank, long subscriberCount, Instant createdAt) {
+            return new Entry(-1, null, null, null, nameRank, List.of(), List.of(), subscriberCount, createdAt);
+        }
+
+        Entry withSubscriberCount(long count) {
+            return new Entry(ordinal, id, name, lowerName, nameRank, keywords, lowerKeywords, count, createdAt);
+        }
+
+        boolean matches(String lowerKeyword) {
+            if (lowerName.contains(lowerKeyword)) {
+                return true;
+            }
+            for (String keyword : lowerKeywords) {
+                if (keyword.contains(lowerKeyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
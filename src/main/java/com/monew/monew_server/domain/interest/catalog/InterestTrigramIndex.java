@@ -0,0 +1,109 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관심사 이름과 키워드의 trigram 역색인.
+ * <p>
+ * 관심사마다 이름과 키워드에서 나온 trigram 을 모아 trigram → 관심사 순번 목록(오름차순)으로 둔다.
+ * 검색어의 trigram 목록을 모두 교집합하면 부분 문자열 후보가 남고, 최종 일치 여부는 호출하는 쪽에서 다시 확인한다.
+ * 이름과 키워드의 trigram 이 섞여 생긴 거짓 후보가 있을 수 있지만, 빠지는 일치는 없다.
+ */
+final class InterestTrigramIndex {
+
+    static final int GRAM = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, int[]> postings;
+
+    private InterestTrigramIndex(Map<String, int[]> postings) {
+        this.postings = postings;
+    }
+
+    /**
+     * @param texts 순번별로 소문자로 바꾼 이름과 키워드
+     */
+    static InterestTrigramIndex build(List<List<String>> texts) {
+        Map<String, Postings> building = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int ordinal = 0; ordinal < texts.size(); ordinal++) {
+            seen.clear();
+            for (String text : texts.get(ordinal)) {
+                for (String gram : grams(text)) {
+                    if (seen.add(gram)) {
+                        building.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new InterestTrigramIndex(postings);
+    }
+
+    /**
+     * @return 검색어가 {@link #GRAM} 글자보다 짧아 후보를 좁힐 수 없으면 null
+     */
+    BitSet candidates(String lowerKeyword) {
+        List<String> grams = grams(lowerKeyword);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        int[][] lists = new int[grams.size()][];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.getOrDefault(grams.get(i), EMPTY);
+        }
+        // 가장 짧은 목록부터 나머지 목록에서 이진 탐색으로 확인한다
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        BitSet result = new BitSet();
+        for (int ordinal : lists[0]) {
+            boolean all = true;
+            for (int i = 1; i < lists.length && all; i++) {
+                all = Arrays.binarySearch(lists[i], ordinal) >= 0;
+            }
+            if (all) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    static List<String> grams(String text) {
+        int[] codePoints = text.codePoints().toArray();
+        if (codePoints.length < GRAM) {
+            return List.of();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM));
+        }
+        return List.copyOf(grams);
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.monew.monew_server.domain.interest.counter;
+
+import com.monew.monew_server.domain.interest.catalog.InterestCatalog;
+import com.monew.monew_server.domain.interest.repository.InterestCounterRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * interests.subscriber_count 의 write-behind 집계기.
+ * <p>
+ * 구독/구독 취소는 커밋 후 관심사별 LongAdder 에 증분만 더하고, 스케줄러가 모아서 배치 UPDATE 로 반영한다.
+ * 인기 관심사에 구독이 몰려도 요청 스레드끼리 같은 행 잠금이나 같은 카운터를 두고 경합하지 않는다.
+ * 유실되거나 어긋난 값은 야간 reconcile 작업이 subscriptions 기준으로 바로잡는다.
+ * 이때 증분이 아직 반영되지 않았거나 트랜잭션이 진행 중인 관심사는 건너뛰어, 이미 센 구독이 나중에 한 번 더 더해지지 않게 한다.
+ * 등록/합치기/flush 는 읽기 잠금, reconcile 은 쓰기 잠금을 잡아 건너뛸 관심사를 고른 뒤 등록된 기록이 보정 전에 커밋되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestSubscriberCounter {
+
+    private final InterestCounterRepository interestCounterRepository;
+    private final InterestCatalog interestCatalog;
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+    // 기록은 했지만 트랜잭션이 아직 끝나지 않은 관심사 -> 건수
+    private final ConcurrentHashMap<UUID, Integer> inFlight = new ConcurrentHashMap<>();
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    public void record(UUID interestId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withReadLock(() -> add(interestId, delta));
+            return;
+        }
+
+        withReadLock(() -> inFlight.merge(interestId, 1, Integer::sum));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                withReadLock(() -> add(interestId, delta));
+            }
+
+            // 롤백되어도 등록은 풀어야 한다. afterCommit 뒤에 호출된다
+            @Override
+            public void afterCompletion(int status) {
+                withReadLock(() -> inFlight.computeIfPresent(interestId, (id, count) -> count > 1 ? count - 1 : null));
+            }
+        });
+    }
+
+    public long pendingOf(UUID interestId) {
+        LongAdder adder = pending.get(interestId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 반영된 컬럼 값에 아직 flush 되지 않은 증분을 더한 현재 구독자 수. 없는 관심사면 empty.
+     */
+    public Optional<Long> currentCount(UUID interestId) {
+        return interestCounterRepository.findCount(interestId)
+            .map(persisted -> persisted + pendingOf(interestId));
+    }
+
+    @Scheduled(fixedDelayString = "${monew.interest.subscriber-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 꺼낸 증분을 반영하기 전에 그 관심사를 다시 세지 않도록 반영이 끝날 때까지 읽기 잠금을 잡는다
+        reconcileLock.readLock().lock();
+        try {
+            flushPending();
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private void flushPending() {
+        // sumThenReset 은 셀마다 원자적으로 비우므로 동시에 더해진 값은 다음 주기로 넘어간다
+        Map<UUID, Long> drained = new HashMap<>();
+        pending.forEach((interestId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.put(interestId, delta);
+            }
+        });
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // DB 반영과 스냅샷 반영을 카탈로그의 load 와 같은 잠금 안에서 한다
+        try {
+            interestCatalog.applySubscriberDeltas(drained, () -> interestCounterRepository.applyDeltas(drained));
+            log.debug("관심사 구독자 수 반영: {}건", drained.size());
+        } catch (RuntimeException e) {
+            log.error("관심사 구독자 수 반영 실패, 다음 주기에 재시도: {}건", drained.size(), e);
+            drained.forEach(this::add);
+        }
+    }
+
+    @Scheduled(cron = "${monew.interest.subscriber-count.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        flush();
+        int fixed;
+        Set<UUID> skipped = new HashSet<>();
+        reconcileLock.writeLock().lock();
+        try {
+            // 커밋됐거나 커밋될 구독이 실제 행 수에도, 이후 flush 의 증분에도 들어가므로 이번 보정에서는 건너뛴다
+            pending.forEach((interestId, adder) -> {
+                if (adder.sum() != 0) {
+                    skipped.add(interestId);
+                }
+            });
+            skipped.addAll(inFlight.keySet());
+            fixed = interestCounterRepository.reconcile(skipped);
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+        log.info("관심사 구독자 수 정합성 보정 완료: {}건 수정, 반영 대기 중이라 건너뜀 {}건", fixed, skipped.size());
+        // 보정된 값으로 카탈로그를 다시 읽는다
+        interestCatalog.load();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void withReadLock(Runnable action) {
+        reconcileLock.readLock().lock();
+        try {
+            action.run();
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private void add(UUID interestId, long delta) {
+        pending.computeIfAbsent(interestId, id -> new LongAdder()).add(delta);
+    }
+}
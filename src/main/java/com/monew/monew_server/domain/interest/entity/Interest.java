@@ -27,4 +27,9 @@ public class Interest extends BaseUpdatableEntity {
 
 	@Column(nullable = false, length = 50)
 	private String name;
+
+	// InterestSubscriberCounter 가 배치로 반영하는 컬럼이라 엔티티에서는 읽기만 한다
+	@Column(name = "subscriber_count", columnDefinition = "bigint default 0", nullable = false,
+		insertable = false, updatable = false)
+	private long subscriberCount;
 }
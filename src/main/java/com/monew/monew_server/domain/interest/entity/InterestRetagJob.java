@@ -0,0 +1,115 @@
+package com.monew.monew_server.domain.interest.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.monew.monew_server.domain.common.BaseUpdatableEntity;
+import com.monew.monew_server.domain.interest.enums.RetagStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 관심사 하나의 기존 기사 재태깅 진행 상태. 관심사당 한 행을 두고, 키워드가 바뀌면 처음부터 다시 시작한다.
+ * cursorArticleId 까지 처리가 끝났으므로 재시작 후에도 그 다음 기사부터 이어서 진행한다.
+ */
+@Entity
+@Table(name = "interest_retag_jobs",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_interest_retag_jobs_interest_id",
+		columnNames = {"interest_id"}
+	))
+@Getter
+@SuperBuilder
+@ToString(callSuper = true)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterestRetagJob extends BaseUpdatableEntity {
+
+	@Column(name = "interest_id", nullable = false)
+	private UUID interestId;
+
+	@Builder.Default
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private RetagStatus status = RetagStatus.PENDING;
+
+	// 키워드가 바뀔 때마다 증가. 실행 중인 작업이 자신이 시작한 세대인지 확인하는 데 쓴다
+	@Builder.Default
+	@Column(nullable = false)
+	private long generation = 0L;
+
+	private UUID cursorArticleId;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private long totalCount = 0L;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private long processedCount = 0L;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private long insertedCount = 0L;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private long deletedCount = 0L;
+
+	private Instant startedAt;
+
+	private Instant finishedAt;
+
+	@Version
+	private Long version;
+
+	public void restart() {
+		status = RetagStatus.PENDING;
+		generation++;
+		cursorArticleId = null;
+		totalCount = 0L;
+		processedCount = 0L;
+		insertedCount = 0L;
+		deletedCount = 0L;
+		startedAt = null;
+		finishedAt = null;
+	}
+
+	public void start(long totalCount, Instant now) {
+		if (status == RetagStatus.PENDING) {
+			this.status = RetagStatus.RUNNING;
+			this.totalCount = totalCount;
+			this.startedAt = now;
+		}
+	}
+
+	public void advance(UUID cursorArticleId, int processed, int inserted, int deleted) {
+		this.cursorArticleId = cursorArticleId;
+		this.processedCount += processed;
+		this.insertedCount += inserted;
+		this.deletedCount += deleted;
+	}
+
+	public void complete(Instant now) {
+		status = RetagStatus.COMPLETED;
+		finishedAt = now;
+	}
+
+	public void cancel(Instant now) {
+		status = RetagStatus.CANCELLED;
+		finishedAt = now;
+	}
+}
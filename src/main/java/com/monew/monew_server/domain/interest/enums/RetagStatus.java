@@ -0,0 +1,8 @@
+package com.monew.monew_server.domain.interest.enums;
+
+public enum RetagStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    CANCELLED
+}
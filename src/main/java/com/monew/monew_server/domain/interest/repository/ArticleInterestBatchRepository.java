@@ -0,0 +1,131 @@
+package com.monew.monew_server.domain.interest.repository;
+
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestLink;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger.TaggableArticle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleInterestBatchRepository {
+
+    /*
+     * 기사-관심사 연결을 다중 행 INSERT 한 번으로 저장한다.
+     * 이미 있는 연결은 건너뛰고, 그 사이 삭제된 관심사는 EXISTS 로 걸러 FK 위반으로 배치 전체가 실패하지 않게 한다.
+     */
+    private static final String INSERT_PREFIX = """
+        INSERT INTO article_interests (id, article_id, interest_id, created_at)
+        SELECT v.id, v.article_id, v.interest_id, NOW()
+        FROM (VALUES %s) AS v(id, article_id, interest_id)
+        WHERE EXISTS (SELECT 1 FROM interests i WHERE i.id = v.interest_id)
+          AND EXISTS (SELECT 1 FROM articles a WHERE a.id = v.article_id)
+        ON CONFLICT (article_id, interest_id) DO NOTHING
+        """;
+
+    private static final String ROW_PLACEHOLDER = "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid))";
+
+    private static final String DELETE_PREFIX = """
+        DELETE FROM article_interests
+        WHERE interest_id = ? AND article_id IN (%s)
+        """;
+
+    // PK 순서 keyset 으로 기사를 나눠 읽는다. 첫 청크는 커서 조건 없이 읽는다
+    private static final String FIND_FIRST_ARTICLE_CHUNK_SQL = """
+        SELECT id, title, summary FROM articles
+        WHERE deleted_at IS NULL
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private static final String FIND_ARTICLE_CHUNK_SQL = """
+        SELECT id, title, summary FROM articles
+        WHERE deleted_at IS NULL AND id > ?
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    // (interest_id, article_id) 인덱스 범위 스캔
+    private static final String FIND_TAGGED_UP_TO_SQL = """
+        SELECT article_id FROM article_interests
+        WHERE interest_id = ? AND article_id <= ?
+        """;
+
+    private static final String FIND_TAGGED_IN_RANGE_SQL = """
+        SELECT article_id FROM article_interests
+        WHERE interest_id = ? AND article_id > ? AND article_id <= ?
+        """;
+
+    private static final String COUNT_ARTICLES_SQL = "SELECT COUNT(*) FROM articles WHERE deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제로 저장된 행 수
+     */
+    public int insertIgnoringDuplicates(List<ArticleInterestLink> links) {
+        if (links.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(links.size() * 3);
+        for (ArticleInterestLink link : links) {
+            args.add(UUID.randomUUID());
+            args.add(link.articleId());
+            args.add(link.interestId());
+        }
+
+        String sql = INSERT_PREFIX.formatted(String.join(", ", Collections.nCopies(links.size(), ROW_PLACEHOLDER)));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * @return 실제로 삭제된 행 수
+     */
+    public int deleteLinks(UUID interestId, Collection<UUID> articleIds) {
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(articleIds.size() + 1);
+        args.add(interestId);
+        args.addAll(articleIds);
+
+        String sql = DELETE_PREFIX.formatted(String.join(", ", Collections.nCopies(articleIds.size(), "?")));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    public List<TaggableArticle> findArticleChunk(UUID afterArticleId, int limit) {
+        RowMapper<TaggableArticle> mapper = (rs, rowNum) -> new TaggableArticle(rs.getObject("id", UUID.class),
+            rs.getString("title"), rs.getString("summary"));
+        if (afterArticleId == null) {
+            return jdbcTemplate.query(FIND_FIRST_ARTICLE_CHUNK_SQL, mapper, limit);
+        }
+        return jdbcTemplate.query(FIND_ARTICLE_CHUNK_SQL, mapper, afterArticleId, limit);
+    }
+
+    /**
+     * @return (afterArticleId, toArticleId] 범위에서 이미 관심사가 붙어 있는 기사 ID
+     */
+    public Set<UUID> findTaggedArticleIds(UUID interestId, UUID afterArticleId, UUID toArticleId) {
+        RowMapper<UUID> mapper = (rs, rowNum) -> rs.getObject("article_id", UUID.class);
+        if (afterArticleId == null) {
+            return new HashSet<>(jdbcTemplate.query(FIND_TAGGED_UP_TO_SQL, mapper, interestId, toArticleId));
+        }
+        return new HashSet<>(jdbcTemplate.query(FIND_TAGGED_IN_RANGE_SQL, mapper, interestId, afterArticleId,
+            toArticleId));
+    }
+
+    public long countArticles() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ARTICLES_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,70 @@
+package com.monew.monew_server.domain.interest.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class InterestCounterRepository {
+
+    private static final String INCREMENT_SQL = """
+        UPDATE interests
+        SET subscriber_count = subscriber_count + ?
+        WHERE id = ?
+        """;
+
+    // 실제 subscriptions 기준으로 어긋난 행만 다시 맞춘다. %s 는 제외할 관심사 조건
+    private static final String RECONCILE_SQL = """
+        UPDATE interests i
+        SET subscriber_count = c.subscriber_count
+        FROM (
+            SELECT it.id,
+                   (SELECT COUNT(*) FROM subscriptions s WHERE s.interest_id = it.id) AS subscriber_count
+            FROM interests it
+        ) c
+        WHERE i.id = c.id
+          AND i.subscriber_count <> c.subscriber_count%s
+        """;
+
+    private static final String FIND_COUNT_SQL = """
+        SELECT subscriber_count FROM interests WHERE id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((interestId, delta) -> batchArgs.add(new Object[] {delta, interestId}));
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, batchArgs);
+    }
+
+    public Optional<Long> findCount(UUID interestId) {
+        return jdbcTemplate.query(FIND_COUNT_SQL, (rs, rowNum) -> rs.getLong("subscriber_count"), interestId)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * @param excludedIds 구독 행은 커밋됐지만 증분이 아직 반영되지 않은 관심사. 증분이 나중에 한 번 더 더해지지 않게 건너뛴다
+     */
+    public int reconcile(Collection<UUID> excludedIds) {
+        if (excludedIds.isEmpty()) {
+            return jdbcTemplate.update(RECONCILE_SQL.formatted(""));
+        }
+        String placeholders = String.join(", ", Collections.nCopies(excludedIds.size(), "?"));
+        return jdbcTemplate.update(RECONCILE_SQL.formatted(" AND i.id NOT IN (" + placeholders + ")"),
+            excludedIds.toArray());
+    }
+}
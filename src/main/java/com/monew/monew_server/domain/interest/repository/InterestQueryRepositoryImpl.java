@@ -15,9 +15,9 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.util.Collections;
@@ -46,11 +46,6 @@ public class InterestQueryRepositoryImpl implements InterestQueryRepository {
     @Override
     public CursorPageResponseInterestDto findAll(InterestQuery query, UUID userId) {
 
-        JPQLQuery<Long> subscriberCountSubQuery = JPAExpressions
-            .select(subscription.count())
-            .from(subscription)
-            .where(subscription.interest.id.eq(interest.id));
-
         BooleanExpression subscribedByMeSubQuery = (userId == null)
             ? Expressions.asBoolean(false)
             : JPAExpressions
@@ -65,7 +60,7 @@ public class InterestQueryRepositoryImpl implements InterestQueryRepository {
             .select(Projections.constructor(InterestTempDto.class,
                 interest.id,
                 interest.name,
-                subscriberCountSubQuery,
+                interest.subscriberCount,
                 subscribedByMeSubQuery,
                 interest.createdAt
             ))
@@ -180,10 +175,7 @@ public class InterestQueryRepositoryImpl implements InterestQueryRepository {
                 throw new IllegalArgumentException("invalid cursor: " + cursor);
             }
 
-            JPQLQuery<Long> f = JPAExpressions
-                .select(subscription.count())
-                .from(subscription)
-                .where(subscription.interest.id.eq(interest.id));
+            NumberPath<Long> f = interest.subscriberCount;
 
             return desc
                 ? f.lt(cursorLong)
@@ -205,11 +197,7 @@ public class InterestQueryRepositoryImpl implements InterestQueryRepository {
         OrderSpecifier<?> primaryOrder;
 
         if (sortField == SUBSCRIBER_COUNT) {
-            JPQLQuery<Long> subscriberCountSubQuery = JPAExpressions
-                .select(subscription.count())
-                .from(subscription)
-                .where(subscription.interest.id.eq(interest.id));
-            primaryOrder = new OrderSpecifier<>(sortDirection, subscriberCountSubQuery);
+            primaryOrder = new OrderSpecifier<>(sortDirection, interest.subscriberCount);
         } else {
             primaryOrder = new OrderSpecifier<>(sortDirection, interest.name.lower());
         }
@@ -224,13 +212,13 @@ public class InterestQueryRepositoryImpl implements InterestQueryRepository {
 
         BooleanExpression nameMatches = interest.name.containsIgnoreCase(keyword);
 
-        BooleanExpression keywordMatches = JPAExpressions
-            .selectOne()
-            .from(interestKeyword)
-            .where(
-                interestKeyword.interest.id.eq(interest.id),
-                interestKeyword.name.containsIgnoreCase(keyword)
-            ).exists();
+        // 상관 서브쿼리 대신 한 번만 실행되는 IN 으로 두어 idx_interest_keywords_name_trgm 을 탄다
+        BooleanExpression keywordMatches = interest.id.in(
+            JPAExpressions
+                .select(interestKeyword.interest.id)
+                .from(interestKeyword)
+                .where(interestKeyword.name.containsIgnoreCase(keyword))
+        );
 
         return nameMatches.or(keywordMatches);
     }
@@ -3,6 +3,7 @@ package com.monew.monew_server.domain.interest.repository;
 import com.monew.monew_server.domain.interest.entity.Interest;
 import com.monew.monew_server.exception.ErrorCode;
 import com.monew.monew_server.exception.NotFoundException;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +24,24 @@ public interface InterestRepository extends JpaRepository<Interest, UUID>, Inter
         nativeQuery = true)
     List<Interest> findSimilarInterests(@Param("name") String name);
 
+    // InterestNameIndex 스냅샷 이후에 만들어진 행만 확인한다 (idx_interests_created_at)
+    @Query(
+        value =
+            """
+            SELECT *
+            FROM interests
+            WHERE created_at > :since
+              AND (
+                    1.0 - (levenshtein(name, :name) / (GREATEST(length(name), length(:name))::float))
+                ) > 0.8
+            """,
+        nativeQuery = true)
+    List<Interest> findSimilarInterestsCreatedAfter(@Param("name") String name, @Param("since") Instant since);
+
+    // InterestCatalog 는 DB 콜레이션 기준 이름 순서를 그대로 쓴다
+    @Query("SELECT i FROM Interest i ORDER BY LOWER(i.name)")
+    List<Interest> findAllOrderByLowerName();
+
     default Interest getOrThrow(UUID id) {
         return findById(id).orElseThrow(() ->
             new NotFoundException(ErrorCode.INTEREST_NOT_FOUND, "Interest not found with id: " + id)
@@ -0,0 +1,35 @@
+package com.monew.monew_server.domain.interest.repository;
+
+import com.monew.monew_server.domain.interest.entity.InterestRetagJob;
+import com.monew.monew_server.domain.interest.enums.RetagStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InterestRetagJobRepository extends JpaRepository<InterestRetagJob, UUID> {
+
+    Optional<InterestRetagJob> findByInterestId(UUID interestId);
+
+    /**
+     * 관심사의 작업 행이 없으면 만든다. 동시에 같은 관심사를 예약해도 interest_id 유니크 제약 위반 없이 한 행만 남는다.
+     *
+     * @return 새로 만들었으면 1
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO interest_retag_jobs (id, interest_id, status, generation, total_count, processed_count,
+            inserted_count, deleted_count, version, created_at, updated_at)
+        VALUES (:id, :interestId, 'PENDING', 0, 0, 0, 0, 0, 0, NOW(), NOW())
+        ON CONFLICT (interest_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("interestId") UUID interestId);
+
+    Optional<InterestRetagJob> findFirstByStatusInOrderByUpdatedAtAsc(Collection<RetagStatus> statuses);
+
+    List<InterestRetagJob> findAllByOrderByUpdatedAtDesc();
+}
@@ -1,9 +1,12 @@
 package com.monew.monew_server.domain.interest.repository;
 
 import com.monew.monew_server.domain.interest.entity.Subscription;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, UUID> {
 
@@ -11,5 +14,8 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
 
     long countByInterestId(UUID interestId);
 
-    void deleteByUserIdAndInterestId(UUID userId, UUID interestId);
+    long deleteByUserIdAndInterestId(UUID userId, UUID interestId);
+
+    @Query("SELECT s.interest.id FROM Subscription s WHERE s.user.id = :userId")
+    List<UUID> findInterestIdsByUserId(@Param("userId") UUID userId);
 }
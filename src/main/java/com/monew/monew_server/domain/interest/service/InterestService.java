@@ -1,5 +1,7 @@
 package com.monew.monew_server.domain.interest.service;
 
+import com.monew.monew_server.domain.interest.catalog.InterestCatalog;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
 import com.monew.monew_server.domain.interest.dto.CursorPageResponseInterestDto;
 import com.monew.monew_server.domain.interest.dto.InterestDto;
 import com.monew.monew_server.domain.interest.dto.InterestQuery;
@@ -14,6 +16,10 @@ import com.monew.monew_server.domain.interest.mapper.SubscriptionMapper;
 import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
 import com.monew.monew_server.domain.interest.repository.InterestRepository;
 import com.monew.monew_server.domain.interest.repository.SubscriptionRepository;
+import com.monew.monew_server.domain.interest.similarity.InterestNameIndex;
+import com.monew.monew_server.domain.interest.subscription.SubscriptionSetCache;
+import com.monew.monew_server.domain.interest.tagging.InterestKeywordIndex;
+import com.monew.monew_server.domain.interest.tagging.InterestRetagJobRunner;
 import com.monew.monew_server.domain.user.entity.User;
 import com.monew.monew_server.domain.user.repository.UserRepository;
 import com.monew.monew_server.exception.ErrorCode;
@@ -38,12 +44,19 @@ public class InterestService {
     private final InterestKeywordRepository interestKeywordRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final InterestKeywordIndex interestKeywordIndex;
+    private final InterestNameIndex interestNameIndex;
+    private final InterestSubscriberCounter interestSubscriberCounter;
+    private final InterestRetagJobRunner interestRetagJobRunner;
+    private final InterestCatalog interestCatalog;
+    private final SubscriptionSetCache subscriptionSetCache;
 
     private final InterestMapper interestMapper;
     private final SubscriptionMapper subscriptionMapper;
 
     public CursorPageResponseInterestDto findAll(InterestQuery query, UUID userId) {
-        return interestRepository.findAll(query, userId);
+        return interestCatalog.findAll(query, userId)
+            .orElseGet(() -> interestRepository.findAll(query, userId));
     }
 
     @Transactional
@@ -51,8 +64,7 @@ public class InterestService {
         String name = request.name();
         List<String> keywords = request.keywords();
 
-        List<Interest> similarInterests = interestRepository.findSimilarInterests(name);
-        if (!similarInterests.isEmpty()) {
+        if (interestNameIndex.hasSimilar(name)) {
             throw new InterestException(
                 ErrorCode.INTEREST_NAME_DUPLICATION,
                 Map.of("name", name)
@@ -77,6 +89,11 @@ public class InterestService {
         List<String> savedKeywordNames = savedKeywords.stream()
             .map(InterestKeyword::getName)
             .toList();
+        interestKeywordIndex.replace(interest.getId(), savedKeywordNames);
+        interestNameIndex.add(interest.getId(), interest.getName());
+        interestCatalog.reloadAfterCommit();
+        // 이미 저장된 기사는 백그라운드 재태깅으로 연결한다
+        interestRetagJobRunner.enqueue(interest.getId());
 
         return interestMapper.toDto(
             interest,
@@ -101,8 +118,11 @@ public class InterestService {
             .collect(Collectors.toList());
 
         interestKeywordRepository.saveAll(newKeywords);
+        interestKeywordIndex.replace(interestId, newKeywordNames);
+        interestCatalog.reloadAfterCommit();
+        interestRetagJobRunner.enqueue(interestId);
 
-        long subscriberCount = subscriptionRepository.countByInterestId(interestId);
+        long subscriberCount = interestSubscriberCounter.currentCount(interestId).orElse(0L);
 
         return interestMapper.toDto(
             interest,
@@ -116,6 +136,10 @@ public class InterestService {
     public void delete(UUID interestId) {
         interestRepository.getOrThrow(interestId);
         interestRepository.deleteById(interestId);
+        interestKeywordIndex.remove(interestId);
+        interestNameIndex.remove(interestId);
+        interestCatalog.reloadAfterCommit();
+        subscriptionSetCache.interestDeleted(interestId);
     }
 
     @Transactional
@@ -127,6 +151,7 @@ public class InterestService {
             .findByUserIdAndInterestId(userId, interestId);
 
         Subscription subscription;
+        long subscribed = 0;
         if (existingSubscription.isPresent()) {
             subscription = existingSubscription.get();
         } else {
@@ -138,10 +163,14 @@ public class InterestService {
                 .build();
 
             subscription = subscriptionRepository.save(newSubscription);
+            subscribed = 1;
+            interestSubscriberCounter.record(interestId, 1);
+            subscriptionSetCache.subscribed(userId, interestId);
         }
 
         List<String> keywords = interestKeywordRepository.findKeywordsByInterestId(interest.getId());
-        long subscriberCount = subscriptionRepository.countByInterestId(interest.getId());
+        // 이번 구독은 커밋 후에 증분으로 들어가므로 응답에는 직접 더한다
+        long subscriberCount = interestSubscriberCounter.currentCount(interestId).orElse(0L) + subscribed;
         return subscriptionMapper.toDto(subscription, keywords, subscriberCount);
     }
 
@@ -150,6 +179,10 @@ public class InterestService {
     public void unsubscribe(UUID interestId, UUID userId) {
 
         interestRepository.getOrThrow(interestId);
-        subscriptionRepository.deleteByUserIdAndInterestId(userId, interestId);
+        long deleted = subscriptionRepository.deleteByUserIdAndInterestId(userId, interestId);
+        if (deleted > 0) {
+            interestSubscriberCounter.record(interestId, -deleted);
+            subscriptionSetCache.unsubscribed(userId, interestId);
+        }
     }
 }
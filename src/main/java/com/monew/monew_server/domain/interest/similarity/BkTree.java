@@ -0,0 +1,117 @@
+package com.monew.monew_server.domain.interest.similarity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Levenshtein 거리 기준 BK-tree.
+ * <p>
+ * 노드마다 자식을 부모와의 거리로 나눠 두고, 검색할 때 삼각 부등식으로 |d - radius| 밖의 가지는 건너뛴다.
+ * 같은 이름은 한 노드에 ID 를 모아 둔다. 삭제는 ID 만 빼고 노드는 경로로 남기며, 전체 재구성 때 정리된다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 잡는다.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    void add(UUID id, String name) {
+        int[] term = name.codePoints().toArray();
+        if (root == null) {
+            root = new Node(name, term);
+            root.ids.add(id);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = Levenshtein.distance(term, node.term);
+            if (distance == 0) {
+                if (node.ids.add(id)) {
+                    size++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                Node added = new Node(name, term);
+                added.ids.add(id);
+                node.children.put(distance, added);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    boolean remove(UUID id, String name) {
+        int[] term = name.codePoints().toArray();
+        Node node = root;
+        while (node != null) {
+            int distance = Levenshtein.distance(term, node.term);
+            if (distance == 0) {
+                boolean removed = node.ids.remove(id);
+                if (removed) {
+                    size--;
+                }
+                return removed;
+            }
+            node = node.children.get(distance);
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 거리가 radius 이하인 노드를 찾아 ID 와 이름을 넘긴다.
+     */
+    List<Match> search(String name, int radius) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        int[] term = name.codePoints().toArray();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = Levenshtein.distance(term, node.term);
+            if (distance <= radius && !node.ids.isEmpty()) {
+                matches.add(new Match(node.name, distance, List.copyOf(node.ids)));
+            }
+            for (int d = Math.max(1, distance - radius); d <= distance + radius; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    record Match(String name, int distance, List<UUID> ids) {
+    }
+
+    private static final class Node {
+
+        private final String name;
+        private final int[] term;
+        private final Set<UUID> ids = new LinkedHashSet<>(2);
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String name, int[] term) {
+            this.name = name;
+            this.term = term;
+        }
+    }
+}
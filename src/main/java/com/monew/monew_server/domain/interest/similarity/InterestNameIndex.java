@@ -0,0 +1,171 @@
+package com.monew.monew_server.domain.interest.similarity;
+
+import com.monew.monew_server.domain.common.AfterCommit;
+import com.monew.monew_server.domain.interest.entity.Interest;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사 이름 중복 검사용 메모리 인덱스.
+ * <p>
+ * 관심사 이름을 BK-tree 에 올려 두고 findSimilarInterests 와 같은 "유사도 > 0.8" 조건을 전체 스캔 없이 판정한다.
+ * 생성/삭제는 커밋 후 인덱스에 반영하고, 다른 인스턴스나 직접 넣은 행은 주기적으로 다시 읽어 맞춘다.
+ * 그 사이의 차이는 스냅샷 시각 이후(recent-margin 만큼 앞당김)에 만들어진 행만 SQL 로 확인해 메운다.
+ */
+@Slf4j
+@Component
+public class InterestNameIndex {
+
+    static final double SIMILARITY_THRESHOLD = 0.8;
+
+    private final InterestRepository interestRepository;
+    private final Duration recentMargin;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, String> names = new HashMap<>();
+    private BkTree tree = new BkTree();
+    // 재구성 중에 커밋된 생성(이름)/삭제(null). 새 트리로 바꾸기 직전에 다시 적용한다
+    private Map<UUID, String> changesDuringLoad;
+    // 아직 읽지 않았으면 EPOCH 라 모든 행을 SQL 로 확인한다
+    private volatile Instant snapshotAt = Instant.EPOCH;
+
+    public InterestNameIndex(
+        InterestRepository interestRepository,
+        @Value("${monew.interest.name-index.recent-margin:PT5M}") Duration recentMargin
+    ) {
+        this.interestRepository = interestRepository;
+        this.recentMargin = recentMargin;
+    }
+
+    @Scheduled(
+        initialDelayString = "${monew.interest.name-index.refresh-interval-ms:300000}",
+        fixedDelayString = "${monew.interest.name-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        load();
+    }
+
+    /**
+     * 전체 관심사를 읽어 새 트리를 만든 뒤 바꿔 끼운다. 읽고 만드는 동안에는 락을 잡지 않아 검사가 막히지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        // 읽기 시작 전 시각을 스냅샷 시각으로 잡아야 읽는 동안 들어온 행을 놓치지 않는다
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, String> loadedNames = new HashMap<>();
+        BkTree loaded = new BkTree();
+        try {
+            for (Interest interest : interestRepository.findAll()) {
+                loadedNames.put(interest.getId(), interest.getName());
+                loaded.add(interest.getId(), interest.getName());
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad.forEach((interestId, name) -> apply(loadedNames, loaded, interestId, name));
+            changesDuringLoad = null;
+            names = loadedNames;
+            tree = loaded;
+            snapshotAt = startedAt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("관심사 이름 인덱스 재구성: {}개, {}ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * findSimilarInterests(name) 가 한 건이라도 돌려줄지를 판정한다.
+     */
+    public boolean hasSimilar(String name) {
+        List<UUID> candidates = findSimilar(name);
+        // 다른 인스턴스에서 지워졌을 수 있어 후보는 PK 로 다시 확인한다
+        if (!candidates.isEmpty() && !interestRepository.findAllById(candidates).isEmpty()) {
+            return true;
+        }
+        Instant since = snapshotAt.equals(Instant.EPOCH) ? Instant.EPOCH : snapshotAt.minus(recentMargin);
+        return !interestRepository.findSimilarInterestsCreatedAfter(name, since).isEmpty();
+    }
+
+    /**
+     * 인덱스에 올라온 관심사 중 이름 유사도가 0.8 을 넘는 관심사 ID.
+     */
+    public List<UUID> findSimilar(String name) {
+        int length = name.codePointCount(0, name.length());
+        // lev < 0.2 * max(길이) 이고 lev >= 길이 차이라 상대 길이는 1.25배 미만, 거리는 length / 4 미만이다
+        int radius = length / 4 + 1;
+        List<UUID> similar = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (BkTree.Match match : tree.search(name, radius)) {
+                int matchLength = match.name().codePointCount(0, match.name().length());
+                if (Levenshtein.similar(match.distance(), length, matchLength)) {
+                    similar.addAll(match.ids());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return similar;
+    }
+
+    public void add(UUID interestId, String name) {
+        AfterCommit.run(() -> change(interestId, name));
+    }
+
+    public void remove(UUID interestId) {
+        AfterCommit.run(() -> change(interestId, null));
+    }
+
+    private void change(UUID interestId, String name) {
+        lock.writeLock().lock();
+        try {
+            apply(names, tree, interestId, name);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.put(interestId, name);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // name 이 null 이면 삭제
+    private static void apply(Map<UUID, String> names, BkTree tree, UUID interestId, String name) {
+        String previous = name != null ? names.put(interestId, name) : names.remove(interestId);
+        if (previous != null) {
+            tree.remove(interestId, previous);
+        }
+        if (name != null) {
+            tree.add(interestId, name);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.monew.monew_server.domain.interest.similarity;
+
+/**
+ * fuzzystrmatch 의 levenshtein() 과 같은 문자(코드 포인트) 단위 편집 거리. 삽입/삭제/치환 비용은 모두 1.
+ */
+final class Levenshtein {
+
+    private Levenshtein() {
+    }
+
+    static int distance(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        if (b.length == 0) {
+            return a.length;
+        }
+
+        // 짧은 쪽 길이만큼의 두 행으로 계산한다
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        for (int j = 0; j <= b.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length; i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length; j++) {
+                int substitution = previous[j - 1] + (a[i - 1] == b[j - 1] ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length];
+    }
+
+    /**
+     * InterestRepository.findSimilarInterests 의 조건 {@code 1.0 - lev / GREATEST(length) > 0.8} 을 같은 double 연산으로 계산한다.
+     */
+    static boolean similar(int distance, int lengthA, int lengthB) {
+        int longer = Math.max(lengthA, lengthB);
+        if (longer == 0) {
+            return true;
+        }
+        return 1.0 - ((double)distance / longer) > InterestNameIndex.SIMILARITY_THRESHOLD;
+    }
+}
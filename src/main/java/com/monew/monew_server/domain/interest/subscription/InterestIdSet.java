@@ -0,0 +1,108 @@
+package com.monew.monew_server.domain.interest.subscription;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 관심사 ID 의 불변 집합. UUID 를 (상위 64비트, 하위 64비트) 순으로 정렬한 long 배열 하나에 담는다.
+ * <p>
+ * 사용자 한 명의 구독은 보통 수십 건이라 HashSet&lt;UUID&gt; 대신 항목당 16바이트만 쓰고, 포함 여부는 이진 탐색으로 본다.
+ * 추가/삭제는 새 배열을 만들어 돌려주므로 캐시에서 꺼낸 집합은 잠금 없이 읽을 수 있다.
+ */
+final class InterestIdSet {
+
+    static final InterestIdSet EMPTY = new InterestIdSet(new long[0]);
+
+    // [msb0, lsb0, msb1, lsb1, ...]
+    private final long[] bits;
+
+    private InterestIdSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    static InterestIdSet of(Collection<UUID> interestIds) {
+        UUID[] sorted = interestIds.stream().distinct().sorted(InterestIdSet::compare).toArray(UUID[]::new);
+        long[] bits = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            bits[i * 2] = sorted[i].getMostSignificantBits();
+            bits[i * 2 + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new InterestIdSet(bits);
+    }
+
+    boolean contains(UUID interestId) {
+        return indexOf(interestId) >= 0;
+    }
+
+    InterestIdSet with(UUID interestId) {
+        int index = indexOf(interestId);
+        if (index >= 0) {
+            return this;
+        }
+        int at = -(index + 1);
+        long[] copy = new long[bits.length + 2];
+        System.arraycopy(bits, 0, copy, 0, at * 2);
+        copy[at * 2] = interestId.getMostSignificantBits();
+        copy[at * 2 + 1] = interestId.getLeastSignificantBits();
+        System.arraycopy(bits, at * 2, copy, at * 2 + 2, bits.length - at * 2);
+        return new InterestIdSet(copy);
+    }
+
+    InterestIdSet without(UUID interestId) {
+        int index = indexOf(interestId);
+        if (index < 0) {
+            return this;
+        }
+        long[] copy = new long[bits.length - 2];
+        System.arraycopy(bits, 0, copy, 0, index * 2);
+        System.arraycopy(bits, index * 2 + 2, copy, index * 2, bits.length - index * 2 - 2);
+        return new InterestIdSet(copy);
+    }
+
+    int size() {
+        return bits.length / 2;
+    }
+
+    // 캐시 weigher 용 대략적인 크기 (객체 헤더 + 배열)
+    int sizeInBytes() {
+        return 32 + bits.length * Long.BYTES;
+    }
+
+    Set<UUID> toSet() {
+        Set<UUID> interestIds = new HashSet<>(size() * 4 / 3 + 1);
+        for (int i = 0; i < bits.length; i += 2) {
+            interestIds.add(new UUID(bits[i], bits[i + 1]));
+        }
+        return interestIds;
+    }
+
+    // 찾으면 순번, 없으면 -(삽입 위치) - 1 (Arrays.binarySearch 와 같은 규약)
+    private int indexOf(UUID interestId) {
+        long msb = interestId.getMostSignificantBits();
+        long lsb = interestId.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(bits[mid * 2], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(bits[mid * 2 + 1], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(UUID a, UUID b) {
+        int cmp = Long.compare(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compare(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
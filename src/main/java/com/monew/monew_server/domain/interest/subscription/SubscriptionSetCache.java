@@ -0,0 +1,123 @@
+package com.monew.monew_server.domain.interest.subscription;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monew.monew_server.domain.common.AfterCommit;
+import com.monew.monew_server.domain.interest.repository.SubscriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 구독 관심사 ID 집합 캐시.
+ * <p>
+ * 처음 필요할 때 subscriptions 에서 한 번 읽고, 구독/구독 취소는 커밋 후 적재된 집합에 바로 반영한다.
+ * 전체 집합 크기(weight)가 한도를 넘으면 오래 안 쓴 사용자부터 내보낸다.
+ * 다른 인스턴스에서 바뀐 구독은 expire-after-write 가 지나 다시 읽을 때 반영된다.
+ * 커밋 전에 읽기 시작한 적재는 그 구독을 모르는 채로 저장될 수 있으므로, 구독/구독 취소마다 사용자별 쓰기 번호를 남기고
+ * 적재하는 동안 번호가 바뀌었으면 읽은 값을 버리고 다시 읽는다.
+ * 관심사 목록의 subscribedByMe 와 사용자 구독 기반 기능이 함께 쓴다.
+ */
+@Component
+public class SubscriptionSetCache {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Cache<UUID, InterestIdSet> cache;
+    private final AtomicLong writeSequence = new AtomicLong();
+    // 사용자 -> 마지막으로 커밋된 구독/구독 취소의 쓰기 번호. 진행 중인 적재보다 오래 남아 있으면 된다
+    private final Cache<UUID, Long> writeStamps;
+
+    public SubscriptionSetCache(
+        SubscriptionRepository subscriptionRepository,
+        MeterRegistry meterRegistry,
+        @Value("${monew.interest.subscription-cache.max-bytes:16777216}") long maxBytes,
+        @Value("${monew.interest.subscription-cache.expire-after-write:PT5M}") Duration expireAfterWrite
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((UUID userId, InterestIdSet interestIds) -> interestIds.sizeInBytes())
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        this.writeStamps = Caffeine.newBuilder()
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "subscribedInterests");
+    }
+
+    /**
+     * 사용자가 구독 중인 관심사 ID 전체.
+     */
+    public Set<UUID> interestIdsOf(UUID userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return cache.get(userId, this::load).toSet();
+    }
+
+    /**
+     * 주어진 관심사 중 사용자가 구독 중인 관심사 ID. 한 페이지를 한 번에 판정한다.
+     */
+    public Set<UUID> subscribedAmong(UUID userId, Collection<UUID> interestIds) {
+        if (userId == null || interestIds.isEmpty()) {
+            return Set.of();
+        }
+
+        InterestIdSet subscribed = cache.get(userId, this::load);
+        Set<UUID> result = new HashSet<>();
+        for (UUID interestId : interestIds) {
+            if (subscribed.contains(interestId)) {
+                result.add(interestId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 구독 반영. 아직 적재되지 않은 사용자는 다음 조회 때 DB 에서 읽으므로 건너뛴다.
+     */
+    public void subscribed(UUID userId, UUID interestId) {
+        AfterCommit.run(() -> {
+            stampWrite(userId);
+            cache.asMap().computeIfPresent(userId, (id, set) -> set.with(interestId));
+        });
+    }
+
+    public void unsubscribed(UUID userId, UUID interestId) {
+        AfterCommit.run(() -> {
+            stampWrite(userId);
+            cache.asMap().computeIfPresent(userId, (id, set) -> set.without(interestId));
+        });
+    }
+
+    /**
+     * 관심사 삭제로 구독이 함께 지워졌을 때 그 관심사를 가진 사용자 집합을 내보낸다.
+     */
+    public void interestDeleted(UUID interestId) {
+        AfterCommit.run(() -> cache.asMap().values().removeIf(set -> set.contains(interestId)));
+    }
+
+    private void stampWrite(UUID userId) {
+        writeStamps.put(userId, writeSequence.incrementAndGet());
+    }
+
+    private InterestIdSet load(UUID userId) {
+        while (true) {
+            long started = writeSequence.get();
+            InterestIdSet loaded = InterestIdSet.of(subscriptionRepository.findInterestIdsByUserId(userId));
+            // 읽는 동안 커밋된 구독/구독 취소가 있으면 그 구독이 빠졌을 수 있어 다시 읽는다
+            Long stamp = writeStamps.getIfPresent(userId);
+            if (stamp == null || stamp <= started) {
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 관심사 키워드 전체를 하나로 컴파일한 Aho-Corasick 오토마톤. 생성 후에는 변경되지 않는다.
+ * 본문을 한 번 훑는 동안 모든 키워드를 찾으므로 매칭 비용은 키워드 수가 아니라 본문 길이에 비례한다.
+ * 대소문자는 구분하지 않고, 한국어 조사가 붙는 경우를 위해 단어 경계 없이 부분 문자열로 찾는다.
+ */
+public final class AhoCorasickMatcher {
+
+    public static final AhoCorasickMatcher EMPTY = compile(Map.of());
+
+    private static final UUID[] NO_OUTPUT = new UUID[0];
+
+    // 노드별 전이: 정렬된 문자 배열과 대상 노드
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 실패 링크를 따라 도달하는 출력까지 합쳐 둔 관심사 ID
+    private final UUID[][] outputs;
+
+    private AhoCorasickMatcher(char[][] edgeChars, int[][] edgeTargets, int[] failure, UUID[][] outputs) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * @param keywordsByInterest 관심사 ID -> 키워드 목록
+     */
+    public static AhoCorasickMatcher compile(Map<UUID, ? extends Collection<String>> keywordsByInterest) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Set<UUID>> nodeOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeOutputs.add(new HashSet<>());
+
+        keywordsByInterest.forEach((interestId, keywords) -> {
+            for (String keyword : keywords) {
+                if (keyword == null || keyword.isBlank()) {
+                    continue;
+                }
+                int node = 0;
+                for (char ch : keyword.trim().toCharArray()) {
+                    char lower = Character.toLowerCase(ch);
+                    Integer next = children.get(node).get(lower);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        nodeOutputs.add(new HashSet<>());
+                        children.get(node).put(lower, next);
+                    }
+                    node = next;
+                }
+                nodeOutputs.get(node).add(interestId);
+            }
+        });
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // BFS 로 실패 링크를 계산하고 출력을 전파한다
+        int[] failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char ch = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int fallback = failure[node];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, fallback, ch)) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target < 0 ? 0 : target;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        UUID[][] outputs = new UUID[size][];
+        for (int node = 0; node < size; node++) {
+            Set<UUID> output = nodeOutputs.get(node);
+            outputs[node] = output.isEmpty() ? NO_OUTPUT : output.toArray(UUID[]::new);
+        }
+        return new AhoCorasickMatcher(edgeChars, edgeTargets, failure, outputs);
+    }
+
+    /**
+     * @return 텍스트에 키워드가 하나라도 등장한 관심사 ID
+     */
+    public Set<UUID> match(CharSequence... texts) {
+        Set<UUID> matched = new LinkedHashSet<>();
+        for (CharSequence text : texts) {
+            if (text == null) {
+                continue;
+            }
+            // 텍스트마다 처음부터 시작해 제목 끝과 요약 시작이 이어져 매칭되지 않게 한다
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = Character.toLowerCase(text.charAt(i));
+                int next;
+                while ((next = step(edgeChars, edgeTargets, state, ch)) < 0 && state != 0) {
+                    state = failure[state];
+                }
+                state = next < 0 ? 0 : next;
+                if (outputs[state].length > 0) {
+                    matched.addAll(Arrays.asList(outputs[state]));
+                }
+            }
+        }
+        return matched;
+    }
+
+    public int nodeCount() {
+        return failure.length;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char ch) {
+        int index = Arrays.binarySearch(edgeChars[node], ch);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+}
@@ -0,0 +1,6 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import java.util.UUID;
+
+public record ArticleInterestLink(UUID articleId, UUID interestId) {
+}
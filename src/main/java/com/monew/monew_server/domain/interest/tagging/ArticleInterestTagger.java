@@ -0,0 +1,59 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import com.monew.monew_server.domain.interest.repository.ArticleInterestBatchRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기사 제목/요약을 관심사 키워드 매처로 훑어 article_interests 를 batch-size 단위로 저장한다.
+ */
+@Slf4j
+@Component
+public class ArticleInterestTagger {
+
+    private final InterestKeywordIndex interestKeywordIndex;
+    private final ArticleInterestBatchRepository articleInterestBatchRepository;
+    private final int batchSize;
+
+    public ArticleInterestTagger(
+        InterestKeywordIndex interestKeywordIndex,
+        ArticleInterestBatchRepository articleInterestBatchRepository,
+        @Value("${monew.interest.tagging.batch-size:500}") int batchSize
+    ) {
+        this.interestKeywordIndex = interestKeywordIndex;
+        this.articleInterestBatchRepository = articleInterestBatchRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return 새로 저장된 기사-관심사 연결 수
+     */
+    public int tag(List<TaggableArticle> articles) {
+        AhoCorasickMatcher matcher = interestKeywordIndex.matcher();
+        List<ArticleInterestLink> buffer = new ArrayList<>(batchSize);
+        int inserted = 0;
+
+        for (TaggableArticle article : articles) {
+            for (UUID interestId : matcher.match(article.title(), article.summary())) {
+                buffer.add(new ArticleInterestLink(article.id(), interestId));
+                if (buffer.size() >= batchSize) {
+                    inserted += articleInterestBatchRepository.insertIgnoringDuplicates(buffer);
+                    buffer.clear();
+                }
+            }
+        }
+        if (!buffer.isEmpty()) {
+            inserted += articleInterestBatchRepository.insertIgnoringDuplicates(buffer);
+        }
+
+        log.debug("기사 관심사 태깅: 기사 {}건, 연결 {}건", articles.size(), inserted);
+        return inserted;
+    }
+
+    public record TaggableArticle(UUID id, String title, String summary) {
+    }
+}
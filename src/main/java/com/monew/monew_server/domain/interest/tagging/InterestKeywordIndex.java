@@ -0,0 +1,80 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import com.monew.monew_server.domain.common.AfterCommit;
+import com.monew.monew_server.domain.interest.entity.InterestKeyword;
+import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사별 키워드 사전과 이를 컴파일한 매처.
+ * 관심사 생성/수정/삭제는 커밋 후 해당 관심사의 키워드만 사전에서 바꾸고 매처를 다시 만든다.
+ * 매처는 불변 객체라 태깅 중인 스레드는 교체 전 매처를 그대로 끝까지 쓴다.
+ */
+@Slf4j
+@Component
+public class InterestKeywordIndex {
+
+    private final InterestKeywordRepository interestKeywordRepository;
+
+    private final Map<UUID, List<String>> keywordsByInterest = new ConcurrentHashMap<>();
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.EMPTY;
+
+    public InterestKeywordIndex(InterestKeywordRepository interestKeywordRepository) {
+        this.interestKeywordRepository = interestKeywordRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        keywordsByInterest.clear();
+        for (InterestKeyword keyword : interestKeywordRepository.findAll()) {
+            keywordsByInterest.computeIfAbsent(keyword.getInterest().getId(), id -> new ArrayList<>())
+                .add(keyword.getName());
+        }
+        rebuild();
+    }
+
+    public AhoCorasickMatcher matcher() {
+        return matcher;
+    }
+
+    public Set<UUID> match(CharSequence... texts) {
+        return matcher.match(texts);
+    }
+
+    public void replace(UUID interestId, Collection<String> keywords) {
+        List<String> copy = List.copyOf(keywords);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                keywordsByInterest.put(interestId, copy);
+                rebuild();
+            }
+        });
+    }
+
+    public void remove(UUID interestId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                if (keywordsByInterest.remove(interestId) != null) {
+                    rebuild();
+                }
+            }
+        });
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        matcher = AhoCorasickMatcher.compile(keywordsByInterest);
+        log.debug("관심사 키워드 매처 재구성: 관심사 {}개, 노드 {}개, {}ms", keywordsByInterest.size(),
+            matcher.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,37 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import com.monew.monew_server.domain.interest.repository.InterestRetagJobRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/retag - 관심사 재태깅 작업 진행률과 남은 시간.
+ */
+@Component
+@Endpoint(id = "retag")
+@RequiredArgsConstructor
+public class InterestRetagEndpoint {
+
+    private final InterestRetagJobRepository interestRetagJobRepository;
+
+    @ReadOperation
+    public List<RetagProgress> jobs() {
+        Instant now = Instant.now();
+        return interestRetagJobRepository.findAllByOrderByUpdatedAtDesc().stream()
+            .map(job -> RetagProgress.of(job, now))
+            .toList();
+    }
+
+    @ReadOperation
+    public RetagProgress job(@Selector String interestId) {
+        return interestRetagJobRepository.findByInterestId(UUID.fromString(interestId))
+            .map(job -> RetagProgress.of(job, Instant.now()))
+            .orElse(null);
+    }
+}
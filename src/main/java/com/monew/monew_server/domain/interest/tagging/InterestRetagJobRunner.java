@@ -0,0 +1,218 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.common.AfterCommit;
+import com.monew.monew_server.domain.interest.entity.InterestRetagJob;
+import com.monew.monew_server.domain.interest.enums.RetagStatus;
+import com.monew.monew_server.domain.interest.repository.ArticleInterestBatchRepository;
+import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRetagJobRepository;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger.TaggableArticle;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 키워드가 바뀐 관심사에 대해 기존 기사를 다시 태깅하는 백그라운드 작업.
+ * <p>
+ * 기사를 PK 순서 청크로 읽어 해당 관심사 하나만 다시 매칭하고, 현재 article_interests 와 비교해
+ * 추가/삭제할 연결만 반영한다. 청크 반영과 진행 위치 저장은 한 트랜잭션이라 중간에 멈춰도 이어서 진행할 수 있다.
+ * 청크 사이에 throttle 만큼 쉬고, 한 번 실행에 max-run 만큼만 돌아 온라인 요청과 DB 를 나눠 쓴다.
+ */
+@Slf4j
+@Component
+public class InterestRetagJobRunner {
+
+    private static final List<RetagStatus> ACTIVE = List.of(RetagStatus.PENDING, RetagStatus.RUNNING);
+
+    private final InterestRetagJobRepository interestRetagJobRepository;
+    private final InterestRepository interestRepository;
+    private final InterestKeywordRepository interestKeywordRepository;
+    private final ArticleInterestBatchRepository articleInterestBatchRepository;
+    private final ArticleVersionTracker articleVersionTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long throttleMs;
+    private final long maxRunMs;
+
+    public InterestRetagJobRunner(
+        InterestRetagJobRepository interestRetagJobRepository,
+        InterestRepository interestRepository,
+        InterestKeywordRepository interestKeywordRepository,
+        ArticleInterestBatchRepository articleInterestBatchRepository,
+        ArticleVersionTracker articleVersionTracker,
+        PlatformTransactionManager transactionManager,
+        @Value("${monew.interest.retag.chunk-size:500}") int chunkSize,
+        @Value("${monew.interest.retag.throttle-ms:50}") long throttleMs,
+        @Value("${monew.interest.retag.max-run-ms:30000}") long maxRunMs
+    ) {
+        this.interestRetagJobRepository = interestRetagJobRepository;
+        this.interestRepository = interestRepository;
+        this.interestKeywordRepository = interestKeywordRepository;
+        this.articleInterestBatchRepository = articleInterestBatchRepository;
+        this.articleVersionTracker = articleVersionTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+        this.maxRunMs = maxRunMs;
+    }
+
+    /**
+     * 관심사의 재태깅을 (다시) 예약한다. 호출한 트랜잭션과 함께 커밋된다.
+     */
+    public void enqueue(UUID interestId) {
+        // 조회 후 저장하면 동시 예약이 둘 다 새 행을 INSERT 해 유니크 제약에 걸린다. 행을 먼저 보장하고 다시 읽는다
+        interestRetagJobRepository.insertIfAbsent(UUID.randomUUID(), interestId);
+        InterestRetagJob job = interestRetagJobRepository.findByInterestId(interestId).orElseThrow();
+        job.restart();
+        interestRetagJobRepository.save(job);
+    }
+
+    /**
+     * 모든 관심사의 재태깅을 예약한다. 기사 복원처럼 article_interests 없이 기사만 들어온 경우에 쓴다.
+     */
+    public void enqueueAll() {
+        transactionTemplate.executeWithoutResult(
+            status -> interestRepository.findAll().forEach(interest -> enqueue(interest.getId())));
+    }
+
+    @Scheduled(fixedDelayString = "${monew.interest.retag.poll-interval-ms:5000}")
+    public void runPending() {
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<InterestRetagJob> next = interestRetagJobRepository.findFirstByStatusInOrderByUpdatedAtAsc(ACTIVE);
+            if (next.isEmpty() || !run(next.get().getId(), deadline)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 작업이 끝나 다음 작업으로 넘어가도 되면 true, 시간이 다 되었거나 중단되었으면 false
+     */
+    boolean run(UUID jobId, long deadline) {
+        InterestRetagJob started = transactionTemplate.execute(status -> {
+            InterestRetagJob job = interestRetagJobRepository.findById(jobId).orElseThrow();
+            if (!interestRepository.existsById(job.getInterestId())) {
+                job.cancel(Instant.now());
+                return job;
+            }
+            // 이어서 진행하는 작업은 처음 시작할 때 센 전체 건수를 그대로 쓴다
+            if (job.getStatus() == RetagStatus.PENDING) {
+                job.start(articleInterestBatchRepository.countArticles(), Instant.now());
+            }
+            return job;
+        });
+        if (started.getStatus() == RetagStatus.CANCELLED) {
+            log.info("삭제된 관심사의 재태깅 작업 취소: interestId={}", started.getInterestId());
+            return true;
+        }
+
+        UUID interestId = started.getInterestId();
+        long generation = started.getGeneration();
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(
+            Map.of(interestId, interestKeywordRepository.findKeywordsByInterestId(interestId)));
+        UUID cursor = started.getCursorArticleId();
+
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                List<TaggableArticle> chunk = articleInterestBatchRepository.findArticleChunk(cursor, chunkSize);
+                if (chunk.isEmpty()) {
+                    finish(jobId, generation);
+                    return true;
+                }
+                if (!applyChunk(jobId, generation, interestId, matcher, cursor, chunk)) {
+                    log.info("재태깅 중 키워드가 바뀌어 처음부터 다시 시작: interestId={}", interestId);
+                    return true;
+                }
+                cursor = chunk.get(chunk.size() - 1).id();
+                if (!throttle()) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (OptimisticLockingFailureException e) {
+            // 진행 중에 enqueue 로 재시작된 경우. 다음 실행에서 새 세대로 다시 잡힌다
+            log.info("재태깅 작업이 다른 요청으로 재시작됨: interestId={}", interestId);
+            return true;
+        }
+    }
+
+    private boolean applyChunk(UUID jobId, long generation, UUID interestId, AhoCorasickMatcher matcher,
+        UUID cursor, List<TaggableArticle> chunk) {
+        Set<UUID> chunkIds = new HashSet<>();
+        Set<UUID> desired = new HashSet<>();
+        for (TaggableArticle article : chunk) {
+            chunkIds.add(article.id());
+            if (!matcher.match(article.title(), article.summary()).isEmpty()) {
+                desired.add(article.id());
+            }
+        }
+        UUID last = chunk.get(chunk.size() - 1).id();
+
+        Boolean applied = transactionTemplate.execute(status -> {
+            InterestRetagJob job = interestRetagJobRepository.findById(jobId).orElseThrow();
+            if (job.getGeneration() != generation || job.getStatus() != RetagStatus.RUNNING) {
+                return false;
+            }
+
+            Set<UUID> current = articleInterestBatchRepository.findTaggedArticleIds(interestId, cursor, last);
+            // 청크에 없는(삭제된) 기사의 연결은 건드리지 않는다
+            current.retainAll(chunkIds);
+
+            List<ArticleInterestLink> toInsert = desired.stream()
+                .filter(articleId -> !current.contains(articleId))
+                .map(articleId -> new ArticleInterestLink(articleId, interestId))
+                .toList();
+            List<UUID> toDelete = current.stream().filter(articleId -> !desired.contains(articleId)).toList();
+
+            int inserted = articleInterestBatchRepository.insertIgnoringDuplicates(toInsert);
+            int deleted = articleInterestBatchRepository.deleteLinks(interestId, toDelete);
+            if (inserted + deleted > 0) {
+                // 관심사 필터 목록이 바뀌었다
+                AfterCommit.run(articleVersionTracker::bumpList);
+            }
+            job.advance(last, chunk.size(), inserted, deleted);
+            interestRetagJobRepository.saveAndFlush(job);
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private void finish(UUID jobId, long generation) {
+        transactionTemplate.executeWithoutResult(status -> {
+            InterestRetagJob job = interestRetagJobRepository.findById(jobId).orElseThrow();
+            if (job.getGeneration() == generation) {
+                job.complete(Instant.now());
+                interestRetagJobRepository.saveAndFlush(job);
+                log.info("재태깅 완료: interestId={}, 처리 {}건, 추가 {}건, 삭제 {}건", job.getInterestId(),
+                    job.getProcessedCount(), job.getInsertedCount(), job.getDeletedCount());
+            }
+        });
+    }
+
+    private boolean throttle() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
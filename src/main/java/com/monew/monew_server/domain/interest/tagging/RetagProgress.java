@@ -0,0 +1,40 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import com.monew.monew_server.domain.interest.entity.InterestRetagJob;
+import com.monew.monew_server.domain.interest.enums.RetagStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 재태깅 작업 진행률. 남은 시간은 지금까지의 처리 속도로 추정한다.
+ */
+public record RetagProgress(
+    UUID interestId,
+    RetagStatus status,
+    long processed,
+    long total,
+    double percent,
+    long inserted,
+    long deleted,
+    Instant startedAt,
+    Instant finishedAt,
+    Duration eta
+) {
+
+    public static RetagProgress of(InterestRetagJob job, Instant now) {
+        long processed = job.getProcessedCount();
+        long total = Math.max(job.getTotalCount(), processed);
+        double percent = total == 0 ? (job.getStatus() == RetagStatus.COMPLETED ? 100.0 : 0.0)
+            : Math.min(100.0, processed * 100.0 / total);
+
+        Duration eta = null;
+        if (job.getStatus() == RetagStatus.RUNNING && job.getStartedAt() != null && processed > 0) {
+            long elapsedMs = Math.max(1, Duration.between(job.getStartedAt(), now).toMillis());
+            eta = Duration.ofMillis((long)((total - processed) * ((double)elapsedMs / processed)));
+        }
+
+        return new RetagProgress(job.getInterestId(), job.getStatus(), processed, total, percent,
+            job.getInsertedCount(), job.getDeletedCount(), job.getStartedAt(), job.getFinishedAt(), eta);
+    }
+}
@@ -0,0 +1,24 @@
+package com.monew.monew_server.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 백업 파일 저장소. 키는 '/' 로 구분한 상대 경로다 (예: articles/20251018T030000Z/manifest.json).
+ * 운영은 S3, 그 외 프로필은 로컬 디렉터리 구현을 쓴다.
+ */
+public interface BackupStorage {
+
+	/**
+	 * 키에 스트리밍으로 쓴다. close 해야 객체가 보이고, 실패하면 abort 로 버린다.
+	 */
+	StorageUpload upload(String key) throws IOException;
+
+	InputStream download(String key) throws IOException;
+
+	/**
+	 * @return prefix 로 시작하는 키 목록, 사전순
+	 */
+	List<String> list(String prefix) throws IOException;
+}
@@ -0,0 +1,114 @@
+package com.monew.monew_server.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디렉터리 백업 저장소. 임시 파일에 쓰고 close 할 때 제자리로 옮기므로 반쯤 쓴 파일은 보이지 않는다.
+ */
+@Slf4j
+public class LocalBackupStorage implements BackupStorage {
+
+	private final Path root;
+
+	public LocalBackupStorage(Path root) {
+		this.root = root.toAbsolutePath().normalize();
+	}
+
+	@Override
+	public StorageUpload upload(String key) throws IOException {
+		Path target = resolve(key);
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+		return new FileUpload(temp, target);
+	}
+
+	@Override
+	public InputStream download(String key) throws IOException {
+		return Files.newInputStream(resolve(key));
+	}
+
+	@Override
+	public List<String> list(String prefix) throws IOException {
+		if (!Files.isDirectory(root)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(Files::isRegularFile)
+				.map(path -> root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+				.filter(key -> key.startsWith(prefix) && !key.contains("/.upload-"))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private Path resolve(String key) {
+		Path path = root.resolve(key).normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IllegalArgumentException("저장소 밖을 가리키는 키: " + key);
+		}
+		return path;
+	}
+
+	private static final class FileUpload extends StorageUpload {
+
+		private final Path temp;
+		private final Path target;
+		private final OutputStream out;
+		private boolean finished;
+
+		FileUpload(Path temp, Path target) throws IOException {
+			this.temp = temp;
+			this.target = target;
+			this.out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			out.close();
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		@Override
+		public void abort() {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			try {
+				out.close();
+				Files.deleteIfExists(temp);
+			} catch (IOException e) {
+				log.warn("백업 임시 파일 정리 실패: {}", temp, e);
+			}
+		}
+	}
+}
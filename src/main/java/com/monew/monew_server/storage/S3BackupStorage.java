@@ -0,0 +1,156 @@
+package com.monew.monew_server.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * S3 백업 저장소. 업로드는 part-size 버퍼 하나로 멀티파트 업로드를 하므로 파일 크기와 관계없이 메모리가 일정하다.
+ */
+@Slf4j
+public class S3BackupStorage implements BackupStorage {
+
+	// 마지막 파트를 제외한 S3 멀티파트 최소 크기
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private final S3Client s3Client;
+	private final String bucket;
+	private final String prefix;
+	private final int partSize;
+
+	public S3BackupStorage(S3Client s3Client, String bucket, String prefix, int partSize) {
+		this.s3Client = s3Client;
+		this.bucket = bucket;
+		this.prefix = prefix;
+		this.partSize = Math.max(partSize, MIN_PART_SIZE);
+	}
+
+	@Override
+	public StorageUpload upload(String key) throws IOException {
+		String objectKey = prefix + key;
+		try {
+			String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucket).key(objectKey)).uploadId();
+			return new MultipartUpload(objectKey, uploadId);
+		} catch (SdkException e) {
+			throw new IOException("S3 업로드 시작 실패: " + objectKey, e);
+		}
+	}
+
+	@Override
+	public InputStream download(String key) throws IOException {
+		String objectKey = prefix + key;
+		try {
+			return s3Client.getObject(b -> b.bucket(bucket).key(objectKey));
+		} catch (SdkException e) {
+			throw new IOException("S3 다운로드 실패: " + objectKey, e);
+		}
+	}
+
+	@Override
+	public List<String> list(String keyPrefix) throws IOException {
+		try {
+			return s3Client.listObjectsV2Paginator(b -> b.bucket(bucket).prefix(prefix + keyPrefix))
+				.contents()
+				.stream()
+				.map(S3Object::key)
+				.map(objectKey -> objectKey.substring(prefix.length()))
+				.sorted()
+				.toList();
+		} catch (SdkException e) {
+			throw new IOException("S3 목록 조회 실패: " + prefix + keyPrefix, e);
+		}
+	}
+
+	private final class MultipartUpload extends StorageUpload {
+
+		private final String objectKey;
+		private final String uploadId;
+		private final byte[] buffer = new byte[partSize];
+		private final List<CompletedPart> parts = new ArrayList<>();
+		private int position;
+		private boolean finished;
+
+		MultipartUpload(String objectKey, String uploadId) {
+			this.objectKey = objectKey;
+			this.uploadId = uploadId;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (position == buffer.length) {
+				uploadPart();
+			}
+			buffer[position++] = (byte)b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				if (position == buffer.length) {
+					uploadPart();
+				}
+				int n = Math.min(len, buffer.length - position);
+				System.arraycopy(b, off, buffer, position, n);
+				position += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (finished) {
+				return;
+			}
+			// 빈 파일도 파트 하나는 있어야 완료할 수 있다
+			if (position > 0 || parts.isEmpty()) {
+				uploadPart();
+			}
+			try {
+				s3Client.completeMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId)
+					.multipartUpload(m -> m.parts(parts)));
+				finished = true;
+			} catch (SdkException e) {
+				abort();
+				throw new IOException("S3 업로드 완료 실패: " + objectKey, e);
+			}
+		}
+
+		@Override
+		public void abort() {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			try {
+				s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId));
+			} catch (SdkException e) {
+				log.warn("S3 멀티파트 업로드 취소 실패: {} ({})", objectKey, uploadId, e);
+			}
+		}
+
+		private void uploadPart() throws IOException {
+			int partNumber = parts.size() + 1;
+			try {
+				UploadPartResponse response = s3Client.uploadPart(
+					b -> b.bucket(bucket).key(objectKey).uploadId(uploadId).partNumber(partNumber),
+					RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position));
+				parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+				position = 0;
+			} catch (SdkException e) {
+				abort();
+				throw new IOException("S3 파트 업로드 실패: " + objectKey + " #" + partNumber, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.monew.monew_server.storage;
+
+import java.io.OutputStream;
+
+/**
+ * 진행 중인 업로드. close 로 완료하고, abort 로 지금까지 쓴 내용을 버린다.
+ */
+public abstract class StorageUpload extends OutputStream {
+
+	public abstract void abort();
+}
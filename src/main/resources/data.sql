@@ -226,6 +226,10 @@ VALUES ('60000000-0000-0000-0000-000000000001', '10000000-0000-0000-0000-0000000
         '20000000-0000-0000-0000-000000000004', NOW());
 -- user4: 부동산 (추가)
 
+-- 구독자 수는 InterestSubscriberCounter 가 관리하므로 직접 넣은 구독은 여기서 맞춘다
+UPDATE interests i
+SET subscriber_count = (SELECT COUNT(*) FROM subscriptions s WHERE s.interest_id = i.id);
+
 --------------------------------------------------------------------------------
 -- 7. 기사 조회 (Article Views): 15개
 --------------------------------------------------------------------------------
@@ -291,6 +295,11 @@ VALUES ('80000000-0000-0000-0000-000000000001', '40000000-0000-0000-0000-0000000
        ('80000000-0000-0000-0000-000000000010', '40000000-0000-0000-0000-000000000010',
         '10000000-0000-0000-0000-000000000010', '건강보험료 부담이 줄어들길 바랍니다.', NOW(), NOW());
 
+-- 조회수/댓글수는 ArticleCounterAggregator 가 관리하므로 직접 넣은 조회/댓글은 여기서 맞춘다
+UPDATE articles a
+SET view_count    = (SELECT COUNT(*) FROM article_views av WHERE av.article_id = a.id),
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.article_id = a.id AND c.deleted_at IS NULL);
+
 --------------------------------------------------------------------------------
 -- 9. 댓글 좋아요 (Comment Likes): 10개
 --------------------------------------------------------------------------------
@@ -0,0 +1,166 @@
+-- articles 는 publish_date, article_views 는 created_at 기준 월별 범위 파티션으로 옮긴다 (PostgreSQL 13+).
+-- schema.sql 로 만든 DB 에 한 번 수동으로 실행한다. 테이블을 복사하므로 점검 시간에 실행한다.
+-- 이후 다음 달들의 파티션은 ArticlePartitionManager 가 미리 만들고, 지난 달 파티션은 /actuator/partitions 로 분리(DETACH)한다.
+--
+-- 파티션 테이블의 PK/유니크 키에는 파티션 키가 들어가야 하므로 제약이 바뀐다.
+--   articles      : PK (id, publish_date), UNIQUE (source, source_url, publish_date)
+--                   (source, source_url) 중복은 파티션 없는 article_source_urls 와 트리거가 막는다 (아래 참고)
+--   article_views : PK (id, created_at). (article_id, user_id) 중복은 ArticleViewBatchRepository 의 NOT EXISTS 가 막는다
+-- id 만으로 된 유니크 제약이 없어져 article_views / article_interests / comments 의 articles FK 는 둘 수 없다.
+-- 기사 물리 삭제 시 자식 행은 애플리케이션이 먼저 지워야 한다.
+-- 실행 후에는 spring.jpa.hibernate.ddl-auto 를 none 또는 validate 로 둔다 (update 는 원래 유니크 제약을 다시 만들려 한다).
+--
+-- 월 경계는 UTC 자정. 파티션 이름은 <테이블>_pYYYY_MM 이고, 범위 밖 행은 <테이블>_default 에 들어간다.
+
+BEGIN;
+
+CREATE FUNCTION pg_temp.create_monthly_partitions(parent TEXT, prefix TEXT, first_month DATE, last_month DATE)
+    RETURNS VOID AS
+$$
+DECLARE
+    m DATE := date_trunc('month', first_month)::date;
+BEGIN
+    WHILE m <= last_month
+        LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           prefix || '_p' || to_char(m, 'YYYY_MM'), parent,
+                           to_char(m, 'YYYY-MM-DD') || ' 00:00:00+00',
+                           to_char((m + INTERVAL '1 month')::date, 'YYYY-MM-DD') || ' 00:00:00+00');
+            m := (m + INTERVAL '1 month')::date;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+/* 기사 */
+ALTER TABLE article_views DROP CONSTRAINT IF EXISTS fk_article_views_articles_id;
+ALTER TABLE article_interests DROP CONSTRAINT IF EXISTS fk_article_interests_article_id;
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS fk_subscriptions_articles_id;
+
+ALTER TABLE articles RENAME TO articles_unpartitioned;
+
+CREATE TABLE articles_partitioned
+(
+    id                   UUID        NOT NULL,
+    source               SOURCE      NOT NULL,
+    source_url           TEXT        NOT NULL,
+    title                TEXT        NOT NULL,
+    publish_date         TIMESTAMPTZ NOT NULL,
+    summary              TEXT,
+    view_count           BIGINT      NOT NULL DEFAULT 0,
+    comment_count        BIGINT      NOT NULL DEFAULT 0,
+    sim_hash             BIGINT,
+    duplicate_cluster_id UUID,
+    created_at           TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at           TIMESTAMPTZ          DEFAULT NOW(),
+    deleted_at           TIMESTAMPTZ
+) PARTITION BY RANGE (publish_date);
+
+-- 최근 24개월부터 3개월 뒤까지. 그보다 오래된 기사는 default 파티션에 들어간다
+SELECT pg_temp.create_monthly_partitions('articles_partitioned', 'articles',
+    GREATEST(date_trunc('month', COALESCE((SELECT MIN(publish_date) FROM articles_unpartitioned), NOW()) AT TIME ZONE 'UTC'),
+             date_trunc('month', NOW() AT TIME ZONE 'UTC') - INTERVAL '24 months')::date,
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date);
+CREATE TABLE articles_default PARTITION OF articles_partitioned DEFAULT;
+
+INSERT INTO articles_partitioned (id, source, source_url, title, publish_date, summary, view_count, comment_count,
+                                  sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at)
+SELECT id, source, source_url, title, publish_date, summary, view_count, comment_count,
+       sim_hash, duplicate_cluster_id, created_at, updated_at, deleted_at
+FROM articles_unpartitioned;
+
+DROP TABLE articles_unpartitioned;
+ALTER TABLE articles_partitioned RENAME TO articles;
+
+ALTER TABLE articles ADD CONSTRAINT articles_pkey PRIMARY KEY (id, publish_date);
+ALTER TABLE articles ADD CONSTRAINT uk_articles_source_source_url UNIQUE (source, source_url, publish_date);
+CREATE INDEX idx_articles_view_count_id ON articles (view_count DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_comment_count_id ON articles (comment_count DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_duplicate_cluster_id ON articles (duplicate_cluster_id);
+CREATE INDEX idx_articles_deleted_id ON articles (id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_articles_title_trgm ON articles USING gin (lower(title) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_summary_trgm ON articles USING gin (lower(summary) gin_trgm_ops) WHERE deleted_at IS NULL;
+COMMENT ON TABLE articles IS '기사 (publish_date 월별 파티션)';
+
+/* 기사 출처 URL 중복 방지 */
+-- 파티션 테이블의 유니크 키에는 publish_date 가 붙어, 발행일만 다른 같은 기사는 막지 못한다.
+-- 파티션 없는 조회 테이블에 (source, source_url) 을 먼저 넣어 보고, 이미 있으면 기사 행을 건너뛴다(NULL 반환).
+-- 그래서 ArticleBatchRepository / ArticleBackupRepository 의 ON CONFLICT DO NOTHING 과 RETURNING 이 예전처럼 동작한다.
+-- 같은 URL 을 동시에 넣으면 조회 테이블의 PK 잠금에서 기다렸다가 먼저 커밋된 쪽만 남는다.
+-- 기사 행이 지워지면(물리 삭제, 아카이브) 조회 행도 지워 다시 수집할 수 있게 한다.
+-- 파티션을 분리(DETACH)할 때는 행이 지워지지 않으므로 조회 행이 남아, 분리된 달의 기사를 다시 수집하지 않는다.
+CREATE TABLE article_source_urls
+(
+    source     SOURCE NOT NULL,
+    source_url TEXT   NOT NULL,
+    article_id UUID   NOT NULL,
+    CONSTRAINT article_source_urls_pkey PRIMARY KEY (source, source_url)
+);
+COMMENT ON TABLE article_source_urls IS '기사 출처 URL 중복 방지 (파티션된 articles 용)';
+
+INSERT INTO article_source_urls (source, source_url, article_id)
+SELECT DISTINCT ON (source, source_url) source, source_url, id
+FROM articles
+ORDER BY source, source_url, created_at;
+
+CREATE FUNCTION articles_claim_source_url() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO article_source_urls (source, source_url, article_id)
+    VALUES (NEW.source, NEW.source_url, NEW.id)
+    ON CONFLICT DO NOTHING;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION articles_release_source_url() RETURNS TRIGGER AS
+$$
+BEGIN
+    DELETE FROM article_source_urls
+    WHERE source = OLD.source AND source_url = OLD.source_url AND article_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_articles_claim_source_url
+    BEFORE INSERT ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_claim_source_url();
+CREATE TRIGGER trg_articles_release_source_url
+    AFTER DELETE ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_release_source_url();
+
+/* 기사 조회 */
+ALTER TABLE article_views RENAME TO article_views_unpartitioned;
+
+CREATE TABLE article_views_partitioned
+(
+    id         UUID        NOT NULL,
+    article_id UUID        NOT NULL,
+    user_id    UUID        NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+) PARTITION BY RANGE (created_at);
+
+SELECT pg_temp.create_monthly_partitions('article_views_partitioned', 'article_views',
+    GREATEST(date_trunc('month', COALESCE((SELECT MIN(created_at) FROM article_views_unpartitioned), NOW()) AT TIME ZONE 'UTC'),
+             date_trunc('month', NOW() AT TIME ZONE 'UTC') - INTERVAL '24 months')::date,
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date);
+CREATE TABLE article_views_default PARTITION OF article_views_partitioned DEFAULT;
+
+INSERT INTO article_views_partitioned (id, article_id, user_id, created_at)
+SELECT id, article_id, user_id, created_at
+FROM article_views_unpartitioned;
+
+DROP TABLE article_views_unpartitioned;
+ALTER TABLE article_views_partitioned RENAME TO article_views;
+
+ALTER TABLE article_views ADD CONSTRAINT article_views_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE article_views
+    ADD CONSTRAINT fk_article_views_users_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+CREATE INDEX idx_article_views_user_id_article_id ON article_views (user_id, article_id);
+-- 기사별 조회수 재집계용
+CREATE INDEX idx_article_views_article_id ON article_views (article_id);
+COMMENT ON TABLE article_views IS '기사 조회 (created_at 월별 파티션)';
+
+COMMIT;
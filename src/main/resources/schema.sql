@@ -3,13 +3,18 @@
 DROP TABLE IF EXISTS users CASCADE;
 DROP TABLE IF EXISTS articles CASCADE;
 DROP TABLE IF EXISTS article_views CASCADE;
+DROP TABLE IF EXISTS article_restore_chunks CASCADE;
 DROP TABLE IF EXISTS interests CASCADE;
 DROP TABLE IF EXISTS interest_keywords CASCADE;
 DROP TABLE IF EXISTS article_interests CASCADE;
+DROP TABLE IF EXISTS interest_retag_jobs CASCADE;
 DROP TABLE IF EXISTS subscriptions CASCADE;
 DROP TABLE IF EXISTS comments CASCADE;
 DROP TABLE IF EXISTS comment_likes CASCADE;
 DROP TABLE IF EXISTS notifications CASCADE;
+DROP TABLE IF EXISTS archived_articles CASCADE;
+DROP TABLE IF EXISTS archived_comments CASCADE;
+DROP TABLE IF EXISTS archived_users CASCADE;
 
 /* 사용자 */
 CREATE TABLE users
@@ -22,6 +27,7 @@ CREATE TABLE users
     updated_at TIMESTAMPTZ           DEFAULT NOW(),
     deleted_at TIMESTAMPTZ
 );
+CREATE INDEX idx_users_deleted_id ON users (id) WHERE deleted_at IS NOT NULL;
 COMMENT ON TABLE users IS '사용자';
 COMMENT ON COLUMN users.id IS '사용자 ID';
 COMMENT ON COLUMN users.email IS '이메일';
@@ -32,6 +38,8 @@ COMMENT ON COLUMN users.updated_at IS '수정 일자';
 COMMENT ON COLUMN users.deleted_at IS '소프트 삭제 일자';
 
 /* 기사 */
+-- 기사 키워드 검색(ILIKE '%x%')용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 DROP TYPE IF EXISTS SOURCE;
 CREATE TYPE SOURCE AS ENUM ('NAVER', 'HANKYUNG', 'CHOSUN', 'YEONHAP');
 CREATE TABLE articles
@@ -42,18 +50,34 @@ CREATE TABLE articles
     title        TEXT        NOT NULL,
     publish_date TIMESTAMPTZ NOT NULL,
     summary      TEXT,
+    view_count    BIGINT      NOT NULL DEFAULT 0,
+    comment_count BIGINT      NOT NULL DEFAULT 0,
+    sim_hash             BIGINT,
+    duplicate_cluster_id UUID,
     created_at   TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     updated_at   TIMESTAMPTZ          DEFAULT NOW(),
     deleted_at   TIMESTAMPTZ,
     CONSTRAINT uk_articles_source_source_url UNIQUE (source, source_url)
 );
+CREATE INDEX idx_articles_view_count_id ON articles (view_count DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_comment_count_id ON articles (comment_count DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_duplicate_cluster_id ON articles (duplicate_cluster_id);
+-- 보관 대상(소프트 삭제된 행)만 담는 keyset 인덱스
+CREATE INDEX idx_articles_deleted_id ON articles (id) WHERE deleted_at IS NOT NULL;
+-- Hibernate 가 containsIgnoreCase 를 lower(col) like '%x%' 로 만들기 때문에 lower() 식 인덱스로 둔다
+CREATE INDEX idx_articles_title_trgm ON articles USING gin (lower(title) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_articles_summary_trgm ON articles USING gin (lower(summary) gin_trgm_ops) WHERE deleted_at IS NULL;
 COMMENT ON TABLE articles IS '뉴스 기사';
 COMMENT ON COLUMN articles.id IS '기사 ID';
 COMMENT ON COLUMN articles.source IS '출처';
 COMMENT ON COLUMN articles.source_url IS '원본 기사 URL';
 COMMENT ON COLUMN articles.title IS '제목';
 COMMENT ON COLUMN articles.publish_date IS '날짜';
+COMMENT ON COLUMN articles.sim_hash IS '제목/요약 SimHash (유사 기사 탐지)';
+COMMENT ON COLUMN articles.duplicate_cluster_id IS '유사 기사 묶음 ID (대표 기사 ID)';
 COMMENT ON COLUMN articles.summary IS '요약';
+COMMENT ON COLUMN articles.view_count IS '조회수 (비정규화, 비동기 집계)';
+COMMENT ON COLUMN articles.comment_count IS '삭제되지 않은 댓글 수 (비정규화, 비동기 집계)';
 COMMENT ON COLUMN articles.created_at IS '등록 일자';
 COMMENT ON COLUMN articles.updated_at IS '수정 일자';
 COMMENT ON COLUMN articles.deleted_at IS '소프트 삭제 일자';
@@ -71,25 +95,51 @@ ALTER TABLE article_views
     ADD CONSTRAINT fk_article_views_articles_id FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE;
 ALTER TABLE article_views
     ADD CONSTRAINT fk_article_views_users_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+-- 사용자별 조회 기사 적재(ViewedArticleIndex)용
+CREATE INDEX idx_article_views_user_id_article_id ON article_views (user_id, article_id);
 COMMENT ON TABLE article_views IS '기사 조회';
 COMMENT ON COLUMN article_views.id IS '기사 조회 ID';
 COMMENT ON COLUMN article_views.article_id IS '기사 ID';
 COMMENT ON COLUMN article_views.user_id IS '기사를 조회한 사용자 ID';
 COMMENT ON COLUMN article_views.created_at IS '조회 일자';
 
+/* 기사 백업 복원 진행 (청크 단위 재시작용) */
+CREATE TABLE article_restore_chunks
+(
+    backup_id   VARCHAR(32) NOT NULL,
+    chunk_key   TEXT        NOT NULL,
+    row_count   BIGINT      NOT NULL,
+    restored_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (backup_id, chunk_key)
+);
+COMMENT ON TABLE article_restore_chunks IS '복원이 끝난 기사 백업 청크';
+COMMENT ON COLUMN article_restore_chunks.backup_id IS '백업 ID';
+COMMENT ON COLUMN article_restore_chunks.chunk_key IS '백업 저장소의 청크 키';
+COMMENT ON COLUMN article_restore_chunks.row_count IS '청크 행 수';
+COMMENT ON COLUMN article_restore_chunks.restored_at IS '복원 일자';
+
 /* 관심사 */
 CREATE TABLE interests
 (
     id         UUID PRIMARY KEY,
-    name       VARCHAR(255) NOT NULL,
-    created_at TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
-    updated_at TIMESTAMPTZ           DEFAULT NOW()
+    name             VARCHAR(255) NOT NULL,
+    subscriber_count BIGINT       NOT NULL DEFAULT 0,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMPTZ           DEFAULT NOW()
 );
 COMMENT ON TABLE interests IS '관심사';
 COMMENT ON COLUMN interests.id IS '관심사 ID';
 COMMENT ON COLUMN interests.name IS '관심사 이름';
+COMMENT ON COLUMN interests.subscriber_count IS '구독자 수';
 COMMENT ON COLUMN interests.created_at IS '등록 일자';
 COMMENT ON COLUMN interests.updated_at IS '수정 일자';
+-- 이름 인덱스 스냅샷 이후의 관심사만 유사도 검사
+CREATE INDEX idx_interests_created_at ON interests (created_at);
+-- 구독자순 페이지는 (구독자 수, created_at DESC) 순서라 방향마다 인덱스 범위 스캔이 되도록 둘 다 둔다
+CREATE INDEX idx_interests_subscriber_count_created_at ON interests (subscriber_count, created_at);
+CREATE INDEX idx_interests_subscriber_count_created_at_desc ON interests (subscriber_count, created_at DESC);
+-- 관심사 키워드 검색(lower(name) LIKE '%x%')용 trigram 인덱스
+CREATE INDEX idx_interests_name_trgm ON interests USING gin (lower(name) gin_trgm_ops);
 
 /* 관심사 키워드 */
 CREATE TABLE interest_keywords
@@ -104,6 +154,8 @@ COMMENT ON TABLE interest_keywords IS '관련 키워드';
 COMMENT ON COLUMN interest_keywords.id IS '키워드 ID';
 COMMENT ON COLUMN interest_keywords.name IS '키워드 이름';
 COMMENT ON COLUMN interest_keywords.interest_id IS '관심사 ID';
+-- 관심사 키워드 검색에서 키워드 이름을 찾는 IN 서브쿼리용
+CREATE INDEX idx_interest_keywords_name_trgm ON interest_keywords USING gin (lower(name) gin_trgm_ops);
 
 /* 기사 - 관심사 */
 CREATE TABLE article_interests
@@ -118,6 +170,30 @@ ALTER TABLE article_interests
     ADD CONSTRAINT fk_article_interests_article_id FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE;
 ALTER TABLE article_interests
     ADD CONSTRAINT fk_article_interests_interests_id FOREIGN KEY (interest_id) REFERENCES interests (id) ON DELETE CASCADE;
+-- 관심사 기준 조회(재태깅 범위 조회/삭제, 관심사 삭제 CASCADE). 유니크 키는 article_id 가 앞이라 쓸 수 없다
+CREATE INDEX idx_article_interests_interest_id_article_id ON article_interests (interest_id, article_id);
+
+/* 관심사 재태깅 작업 */
+CREATE TABLE interest_retag_jobs
+(
+    id                UUID PRIMARY KEY,
+    interest_id       UUID        NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    generation        BIGINT      NOT NULL DEFAULT 0,
+    cursor_article_id UUID,
+    total_count       BIGINT      NOT NULL DEFAULT 0,
+    processed_count   BIGINT      NOT NULL DEFAULT 0,
+    inserted_count    BIGINT      NOT NULL DEFAULT 0,
+    deleted_count     BIGINT      NOT NULL DEFAULT 0,
+    started_at        TIMESTAMPTZ,
+    finished_at       TIMESTAMPTZ,
+    version           BIGINT,
+    created_at        TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at        TIMESTAMPTZ          DEFAULT NOW(),
+    CONSTRAINT uk_interest_retag_jobs_interest_id UNIQUE (interest_id)
+);
+COMMENT ON TABLE interest_retag_jobs IS '관심사 재태깅 작업';
+COMMENT ON COLUMN interest_retag_jobs.cursor_article_id IS '처리가 끝난 마지막 기사 ID';
 
 /* 구독 */
 CREATE TABLE subscriptions
@@ -153,6 +229,9 @@ ALTER TABLE comments
     ADD CONSTRAINT fk_subscriptions_articles_id FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE;
 ALTER TABLE comments
     ADD CONSTRAINT fk_subscriptions_users_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+CREATE INDEX idx_comments_article_id ON comments (article_id);
+CREATE INDEX idx_comments_user_id ON comments (user_id);
+CREATE INDEX idx_comments_deleted_id ON comments (id) WHERE deleted_at IS NOT NULL;
 COMMENT ON TABLE comments IS '댓글';
 COMMENT ON COLUMN comments.id IS '댓글 ID';
 COMMENT ON COLUMN comments.content IS '내용';
@@ -176,6 +255,7 @@ ALTER TABLE comment_likes
     ADD CONSTRAINT fk_comment_likes_comments_id FOREIGN KEY (comment_id) REFERENCES comments (id) ON DELETE CASCADE;
 ALTER TABLE comment_likes
     ADD CONSTRAINT fk_comment_likes_users_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+CREATE INDEX idx_comment_likes_user_id ON comment_likes (user_id);
 COMMENT ON TABLE comment_likes IS '좋아요';
 COMMENT ON COLUMN comment_likes.id IS '좋아요 ID';
 COMMENT ON COLUMN comment_likes.user_id IS '좋아요한 사용자 ID';
@@ -206,4 +286,51 @@ COMMENT ON COLUMN notifications.content IS '내용';
 COMMENT ON COLUMN notifications.resource_type IS '리소스 유형';
 COMMENT ON COLUMN notifications.resource_id IS '리소스 ID';
 COMMENT ON COLUMN notifications.created_at IS '생성 일자';
-COMMENT ON COLUMN notifications.updated_at IS '확인 일자';
\ No newline at end of file
+COMMENT ON COLUMN notifications.updated_at IS '확인 일자';
+
+/* 보관 (소프트 삭제 후 보관 기간이 지난 행, SoftDeleteArchiver) */
+CREATE TABLE archived_articles
+(
+    id                   UUID PRIMARY KEY,
+    source               SOURCE      NOT NULL,
+    source_url           TEXT        NOT NULL,
+    title                TEXT        NOT NULL,
+    publish_date         TIMESTAMPTZ NOT NULL,
+    summary              TEXT,
+    view_count           BIGINT      NOT NULL,
+    comment_count        BIGINT      NOT NULL,
+    sim_hash             BIGINT,
+    duplicate_cluster_id UUID,
+    created_at           TIMESTAMPTZ NOT NULL,
+    updated_at           TIMESTAMPTZ,
+    deleted_at           TIMESTAMPTZ NOT NULL,
+    archived_at          TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE archived_articles IS '보관된 기사';
+
+CREATE TABLE archived_comments
+(
+    id          UUID PRIMARY KEY,
+    article_id  UUID        NOT NULL,
+    user_id     UUID        NOT NULL,
+    content     TEXT        NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL,
+    updated_at  TIMESTAMPTZ,
+    deleted_at  TIMESTAMPTZ,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE archived_comments IS '보관된 댓글 (삭제된 댓글, 보관된 기사/사용자의 댓글)';
+COMMENT ON COLUMN archived_comments.deleted_at IS '댓글 자체의 소프트 삭제 일자. 기사/사용자와 함께 보관되었으면 NULL 일 수 있다';
+
+-- 비밀번호 해시는 보관하지 않는다
+CREATE TABLE archived_users
+(
+    id          UUID PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(30)  NOT NULL,
+    created_at  TIMESTAMPTZ  NOT NULL,
+    updated_at  TIMESTAMPTZ,
+    deleted_at  TIMESTAMPTZ  NOT NULL,
+    archived_at TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE archived_users IS '보관된 사용자';
@@ -0,0 +1,91 @@
+package com.monew.monew_server.domain.archive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.monew.monew_server.config.JpaConfig;
+import com.monew.monew_server.domain.archive.ArchiveRepository.MovedRows;
+import com.monew.monew_server.domain.article.entity.Article;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.entity.ArticleView;
+import com.monew.monew_server.domain.comment.entity.Comment;
+import com.monew.monew_server.domain.comment.entity.CommentLike;
+import com.monew.monew_server.domain.interest.entity.ArticleInterest;
+import com.monew.monew_server.domain.interest.entity.Interest;
+import com.monew.monew_server.domain.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import({JpaConfig.class, ArchiveRepository.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArchiveRepositoryTest {
+
+	@Autowired
+	private ArchiveRepository archiveRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("purgeArticles - 기사의 댓글, 댓글 좋아요, 조회 기록, 관심사 연결을 모두 지운다")
+	void shouldPurgeArticleWithChildRows() {
+		User user = persist(User.builder().email("purge@test.com").nickname("purge").password("password").build());
+		Interest interest = persist(Interest.builder().name("경제").build());
+		Article article = persist(article("http://test.com/purge"));
+		Article other = persist(article("http://test.com/other"));
+		Comment comment = persist(Comment.builder().article(article).user(user).content("댓글").build());
+		persist(CommentLike.builder().comment(comment).user(user).build());
+		persist(ArticleView.of(article, user));
+		persist(ArticleInterest.builder().article(article).interest(interest).build());
+		persist(ArticleView.of(other, user));
+		entityManager.flush();
+		entityManager.clear();
+
+		MovedRows removed = archiveRepository.purgeArticles(List.of(article.getId()));
+
+		assertThat(removed).isEqualTo(new MovedRows(1, 1));
+		assertThat(count("articles", "id", article.getId())).isZero();
+		assertThat(count("comments", "article_id", article.getId())).isZero();
+		assertThat(count("comment_likes", "comment_id", comment.getId())).isZero();
+		assertThat(count("article_views", "article_id", article.getId())).isZero();
+		assertThat(count("article_interests", "article_id", article.getId())).isZero();
+		// 다른 기사의 자식 행은 건드리지 않는다
+		assertThat(count("article_views", "article_id", other.getId())).isOne();
+	}
+
+	private static Article article(String sourceUrl) {
+		return Article.builder()
+			.title("제목")
+			.summary("요약")
+			.source(ArticleSource.HANKYUNG)
+			.sourceUrl(sourceUrl)
+			.createdAt(Instant.now())
+			.publishDate(Instant.now())
+			.build();
+	}
+
+	private <T> T persist(T entity) {
+		entityManager.persist(entity);
+		return entity;
+	}
+
+	private long count(String table, String column, UUID id) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class,
+			id);
+	}
+}
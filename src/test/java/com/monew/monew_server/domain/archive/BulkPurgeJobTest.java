@@ -0,0 +1,135 @@
+package com.monew.monew_server.domain.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.monew.monew_server.domain.archive.ArchiveRepository.MovedRows;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkPurgeJobTest {
+
+	private static final Instant DELETED_BEFORE = Instant.parse("2025-01-01T00:00:00Z");
+
+	@Mock
+	private ArchiveRepository archiveRepository;
+	@Mock
+	private ArticleCounterAggregator articleCounterAggregator;
+	@Mock
+	private InterestSubscriberCounter interestSubscriberCounter;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final UUID id1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+	private final UUID id2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+	private final UUID id3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+	private SimpleMeterRegistry meterRegistry;
+	private BulkPurgeJob job;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		job = new BulkPurgeJob(archiveRepository, articleCounterAggregator, interestSubscriberCounter,
+			transactionManager, meterRegistry, 2, 0);
+	}
+
+	@Test
+	@DisplayName("purge - ID 목록을 청크로 나눠 소프트 삭제된 행만 지우고 나머지는 건너뛴 수로 센다")
+	void shouldPurgeIdsInChunks() {
+		when(archiveRepository.findSoftDeletedIds(ArchiveTarget.ARTICLES, List.of(id1, id2), null))
+			.thenReturn(List.of(id1));
+		when(archiveRepository.findSoftDeletedIds(ArchiveTarget.ARTICLES, List.of(id3), null))
+			.thenReturn(List.of(id3));
+		when(archiveRepository.purgeArticles(List.of(id1))).thenReturn(new MovedRows(1, 5));
+		when(archiveRepository.purgeArticles(List.of(id3))).thenReturn(new MovedRows(1, 0));
+
+		PurgeStatus status = job.purge(new PurgeRequest(ArchiveTarget.ARTICLES, null, List.of(id3, id1, id2, id1)))
+			.orElseThrow();
+
+		assertThat(status.running()).isFalse();
+		assertThat(status.total()).isEqualTo(3);
+		assertThat(status.chunks()).isEqualTo(2);
+		assertThat(status.purgedRows()).isEqualTo(2);
+		assertThat(status.purgedComments()).isEqualTo(5);
+		assertThat(status.skipped()).isEqualTo(1);
+		assertThat(status.percent()).isEqualTo(100.0);
+		assertThat(meterRegistry.get("monew.purge.rows").tag("table", "articles").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("purge - deletedBefore 조건은 keyset 청크로 끝까지 지운다")
+	void shouldPurgeDeletedBeforeWithKeyset() {
+		when(archiveRepository.countDeletedBefore(ArchiveTarget.COMMENTS, DELETED_BEFORE)).thenReturn(3L);
+		when(archiveRepository.findExpiredIds(ArchiveTarget.COMMENTS, DELETED_BEFORE, null, 2))
+			.thenReturn(List.of(id1, id2));
+		when(archiveRepository.findExpiredIds(ArchiveTarget.COMMENTS, DELETED_BEFORE, id2, 2))
+			.thenReturn(List.of(id3));
+		when(archiveRepository.purgeComments(anyList())).thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0)
+			.size());
+
+		PurgeStatus status = job.purge(new PurgeRequest(ArchiveTarget.COMMENTS, DELETED_BEFORE, null)).orElseThrow();
+
+		assertThat(status.purgedRows()).isEqualTo(3);
+		assertThat(status.processed()).isEqualTo(3);
+		verify(archiveRepository, never()).findExpiredIds(ArchiveTarget.COMMENTS, DELETED_BEFORE, id3, 2);
+	}
+
+	@Test
+	@DisplayName("purge - 사용자를 지우면 살아 있던 댓글 수, 조회 수, 구독 수를 기사/관심사 카운터에서 뺀다")
+	void shouldDecrementCommentCountsOfPurgedUsers() {
+		UUID articleId = UUID.randomUUID();
+		UUID interestId = UUID.randomUUID();
+		when(archiveRepository.findSoftDeletedIds(ArchiveTarget.USERS, List.of(id1), null)).thenReturn(List.of(id1));
+		when(archiveRepository.countLiveCommentsByArticle(List.of(id1))).thenReturn(Map.of(articleId, 3L));
+		when(archiveRepository.countViewsByArticle(List.of(id1))).thenReturn(Map.of(articleId, 5L));
+		when(archiveRepository.countSubscriptionsByInterest(List.of(id1))).thenReturn(Map.of(interestId, 1L));
+		when(archiveRepository.purgeUsers(List.of(id1))).thenReturn(new MovedRows(1, 3));
+
+		job.purge(new PurgeRequest(ArchiveTarget.USERS, null, List.of(id1)));
+
+		verify(articleCounterAggregator).recordComment(articleId, -3L);
+		verify(articleCounterAggregator).removeViews(articleId, 5L);
+		verify(interestSubscriberCounter).record(interestId, -1L);
+	}
+
+	@Test
+	@DisplayName("purge - 청크가 실패하면 멈추고 커밋된 청크까지의 진행률과 오류를 남긴다")
+	void shouldStopOnFailure() {
+		when(archiveRepository.findSoftDeletedIds(eq(ArchiveTarget.ARTICLES), anyList(), isNull()))
+			.thenAnswer(invocation -> invocation.getArgument(1));
+		when(archiveRepository.purgeArticles(List.of(id1, id2))).thenReturn(new MovedRows(2, 0));
+		when(archiveRepository.purgeArticles(List.of(id3))).thenThrow(new QueryTimeoutException("lock timeout"));
+
+		PurgeStatus status = job.purge(new PurgeRequest(ArchiveTarget.ARTICLES, null, List.of(id1, id2, id3)))
+			.orElseThrow();
+
+		assertThat(status.purgedRows()).isEqualTo(2);
+		assertThat(status.error()).isEqualTo("lock timeout");
+		assertThat(job.status()).isPresent();
+	}
+
+	@Test
+	@DisplayName("PurgeRequest - deletedBefore 와 ids 가 모두 없으면 거부한다")
+	void shouldRejectEmptyRequest() {
+		assertThatThrownBy(() -> new PurgeRequest(ArchiveTarget.USERS, null, List.of()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
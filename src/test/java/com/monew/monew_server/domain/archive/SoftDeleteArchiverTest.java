@@ -0,0 +1,118 @@
+package com.monew.monew_server.domain.archive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.monew.monew_server.domain.archive.ArchiveRepository.MovedRows;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SoftDeleteArchiverTest {
+
+	private static final Instant NOW = Instant.parse("2025-10-18T05:00:00Z");
+	private static final Instant CUTOFF = NOW.minus(Duration.ofDays(30));
+
+	@Mock
+	private ArchiveRepository archiveRepository;
+	@Mock
+	private ArticleCounterAggregator articleCounterAggregator;
+	@Mock
+	private InterestSubscriberCounter interestSubscriberCounter;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final UUID a1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+	private final UUID a2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+	private final UUID a3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		when(archiveRepository.findExpiredIds(any(), any(), any(), anyInt())).thenReturn(List.of());
+		when(archiveRepository.archiveArticles(anyList())).thenReturn(MovedRows.NONE);
+		when(archiveRepository.archiveUsers(anyList())).thenReturn(MovedRows.NONE);
+		when(archiveRepository.tableSize(anyString())).thenReturn(new TableSize(0, 0));
+	}
+
+	private SoftDeleteArchiver archiver(long maxRunMs) {
+		return new SoftDeleteArchiver(archiveRepository, articleCounterAggregator, interestSubscriberCounter,
+			transactionManager, meterRegistry, true, Duration.ofDays(30), 2, 0, maxRunMs, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	@DisplayName("run - 보관 기간이 지난 행을 ID keyset 배치로 옮기고 짧은 배치가 나오면 멈춘다")
+	void shouldArchiveInKeysetBatches() {
+		when(archiveRepository.findExpiredIds(ArchiveTarget.ARTICLES, CUTOFF, null, 2)).thenReturn(List.of(a1, a2));
+		when(archiveRepository.findExpiredIds(ArchiveTarget.ARTICLES, CUTOFF, a2, 2)).thenReturn(List.of(a3));
+		when(archiveRepository.archiveArticles(List.of(a1, a2))).thenReturn(new MovedRows(2, 3));
+		when(archiveRepository.archiveArticles(List.of(a3))).thenReturn(new MovedRows(1, 0));
+
+		ArchiveResult result = archiver(10_000).run();
+
+		assertThat(result.completed()).isTrue();
+		assertThat(result.archived()).containsExactlyInAnyOrderEntriesOf(Map.of("articles", 3L, "comments", 3L));
+		assertThat(meterRegistry.get("monew.archive.rows").tag("table", "articles").counter().count()).isEqualTo(3);
+		assertThat(meterRegistry.get("monew.archive.rows").tag("table", "comments").counter().count()).isEqualTo(3);
+		verify(archiveRepository, never()).findExpiredIds(ArchiveTarget.ARTICLES, CUTOFF, a3, 2);
+	}
+
+	@Test
+	@DisplayName("run - 보관하는 사용자의 살아 있는 댓글 수와 조회 기록 수를 기사 카운터에서 뺀다")
+	void shouldDecrementCommentCountsOfArchivedUsers() {
+		UUID userId = UUID.randomUUID();
+		UUID articleId = UUID.randomUUID();
+		when(archiveRepository.findExpiredIds(ArchiveTarget.USERS, CUTOFF, null, 2)).thenReturn(List.of(userId));
+		when(archiveRepository.countLiveCommentsByArticle(List.of(userId))).thenReturn(Map.of(articleId, 2L));
+		when(archiveRepository.countViewsByArticle(List.of(userId))).thenReturn(Map.of(articleId, 3L));
+		when(archiveRepository.archiveUsers(List.of(userId))).thenReturn(new MovedRows(1, 4));
+
+		ArchiveResult result = archiver(10_000).run();
+
+		assertThat(result.archived()).containsExactlyInAnyOrderEntriesOf(Map.of("users", 1L, "comments", 4L));
+		verify(articleCounterAggregator).recordComment(articleId, -2L);
+		verify(articleCounterAggregator).removeViews(articleId, 3L);
+	}
+
+	@Test
+	@DisplayName("run - max-run 을 넘기면 남은 행은 다음 실행으로 미룬다")
+	void shouldStopAtDeadline() {
+		ArchiveResult result = archiver(0).run();
+
+		assertThat(result.completed()).isFalse();
+		verify(archiveRepository, never()).findExpiredIds(any(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("run - 실행 후 테이블 크기 게이지를 갱신한다")
+	void shouldRefreshTableSizeGauges() {
+		when(archiveRepository.tableSize("articles")).thenReturn(new TableSize(1200, 65536));
+
+		archiver(10_000).run();
+
+		assertThat(meterRegistry.get("monew.archive.live.rows").tag("table", "articles").gauge().value())
+			.isEqualTo(1200);
+		assertThat(meterRegistry.get("monew.archive.live.bytes").tag("table", "articles").gauge().value())
+			.isEqualTo(65536);
+	}
+}
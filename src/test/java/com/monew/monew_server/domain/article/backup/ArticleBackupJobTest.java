@@ -0,0 +1,138 @@
+package com.monew.monew_server.domain.article.backup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monew.monew_server.domain.article.repository.ArticleBackupRepository;
+import com.monew.monew_server.storage.LocalBackupStorage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleBackupJobTest {
+
+	@Mock
+	private ArticleBackupRepository articleBackupRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@TempDir
+	Path backupDir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private LocalBackupStorage storage;
+	private ArticleBackupJob job;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		storage = new LocalBackupStorage(backupDir);
+		job = new ArticleBackupJob(articleBackupRepository, storage, objectMapper, new SimpleMeterRegistry(),
+			transactionManager, 100, 2);
+	}
+
+	@Test
+	@DisplayName("run - chunk-rows 단위로 gzip NDJSON 청크를 쓰고 청크별 SHA-256 을 manifest 에 남긴다")
+	void shouldWriteChunksAndManifest() throws Exception {
+		List<ArticleBackupRow> rows = List.of(row("a"), row("b"), row("c"), row("d"), row("e"));
+		givenRows(rows);
+
+		BackupManifest manifest = job.run().orElseThrow();
+
+		assertThat(manifest.rowCount()).isEqualTo(5);
+		assertThat(manifest.chunks()).extracting(BackupManifest.Chunk::rows).containsExactly(2L, 2L, 1L);
+		for (BackupManifest.Chunk chunk : manifest.chunks()) {
+			assertThat(sha256(chunk.key())).isEqualTo(chunk.sha256());
+		}
+		List<String> lines = readLines(manifest.chunks().get(0).key());
+		assertThat(lines).hasSize(2);
+		JsonNode first = objectMapper.readTree(lines.get(0));
+		assertThat(first.get("id").asText()).isEqualTo(rows.get(0).id().toString());
+		assertThat(first.get("sourceUrl").asText()).isEqualTo("https://news.example.com/a");
+		assertThat(first.get("deletedAt").isNull()).isTrue();
+
+		String manifestKey = BackupManifest.manifestKey(ArticleBackupJob.TABLE, manifest.backupId());
+		try (InputStream in = storage.download(manifestKey)) {
+			assertThat(objectMapper.readValue(in, BackupManifest.class)).isEqualTo(manifest);
+		}
+		assertThat(job.lastRun()).contains(manifest);
+	}
+
+	@Test
+	@DisplayName("run - 읽는 중에 실패하면 저장소에 청크도 manifest 도 올리지 않는다")
+	void shouldNotLeaveManifestOnFailure() throws IOException {
+		doAnswer(invocation -> {
+			Consumer<ArticleBackupRow> consumer = invocation.getArgument(1);
+			consumer.accept(row("a"));
+			consumer.accept(row("b"));
+			consumer.accept(row("c"));
+			throw new IllegalStateException("connection lost");
+		}).when(articleBackupRepository).streamAll(anyInt(), any());
+
+		assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+
+		// 청크는 트랜잭션이 끝난 뒤에만 올리므로 이미 다 쓴 첫 청크도 남지 않는다
+		assertThat(storage.list(ArticleBackupJob.TABLE + "/")).isEmpty();
+		assertThat(job.lastRun()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("LocalBackupStorage - 저장소 밖을 가리키는 키는 거부한다")
+	void shouldRejectKeysOutsideRoot() {
+		assertThatThrownBy(() -> storage.upload("../escape.txt")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenRows(List<ArticleBackupRow> rows) {
+		doAnswer(invocation -> {
+			Consumer<ArticleBackupRow> consumer = invocation.getArgument(1);
+			rows.forEach(consumer);
+			return null;
+		}).when(articleBackupRepository).streamAll(anyInt(), any(Consumer.class));
+	}
+
+	private String sha256(String key) throws IOException {
+		try (InputStream in = storage.download(key)) {
+			MessageDigest digest = ChecksumOutputStream.sha256();
+			digest.update(in.readAllBytes());
+			return HexFormat.of().formatHex(digest.digest());
+		}
+	}
+
+	private List<String> readLines(String key) throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(new GZIPInputStream(storage.download(key)), StandardCharsets.UTF_8))) {
+			return reader.lines().toList();
+		}
+	}
+
+	private static ArticleBackupRow row(String path) {
+		Instant now = Instant.parse("2025-10-14T00:00:00Z");
+		return new ArticleBackupRow(UUID.randomUUID(), "NAVER", "https://news.example.com/" + path, "제목 " + path,
+			"요약", now, 3, 1, null, null, now, now, null);
+	}
+}
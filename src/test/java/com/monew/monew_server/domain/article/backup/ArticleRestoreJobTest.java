@@ -0,0 +1,144 @@
+package com.monew.monew_server.domain.article.backup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monew.monew_server.domain.article.dedup.NearDuplicateIndex;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleBackupRepository;
+import com.monew.monew_server.domain.article.view.ViewedArticleIndex;
+import com.monew.monew_server.domain.interest.tagging.InterestRetagJobRunner;
+import com.monew.monew_server.storage.LocalBackupStorage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleRestoreJobTest {
+
+	@Mock
+	private ArticleBackupRepository articleBackupRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
+	@Mock
+	private ArticleVersionTracker articleVersionTracker;
+	@Mock
+	private NearDuplicateIndex nearDuplicateIndex;
+	@Mock
+	private ViewedArticleIndex viewedArticleIndex;
+	@Mock
+	private InterestRetagJobRunner interestRetagJobRunner;
+
+	@TempDir
+	Path backupDir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final List<ArticleBackupRow> inserted = Collections.synchronizedList(new ArrayList<>());
+	private List<ArticleBackupRow> rows;
+	private BackupManifest manifest;
+	private ArticleRestoreJob restoreJob;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		LocalBackupStorage storage = new LocalBackupStorage(backupDir);
+
+		rows = IntStream.range(0, 7).mapToObj(ArticleRestoreJobTest::row).toList();
+		doAnswer(invocation -> {
+			Consumer<ArticleBackupRow> consumer = invocation.getArgument(1);
+			rows.forEach(consumer);
+			return null;
+		}).when(articleBackupRepository).streamAll(anyInt(), any(Consumer.class));
+		manifest = new ArticleBackupJob(articleBackupRepository, storage, objectMapper, new SimpleMeterRegistry(),
+			transactionManager, 100, 3).run().orElseThrow();
+
+		when(articleBackupRepository.findRestoredChunks(anyString())).thenReturn(Set.of());
+		when(articleBackupRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+			List<ArticleBackupRow> batch = invocation.getArgument(0);
+			inserted.addAll(batch);
+			return batch.size();
+		});
+		restoreJob = new ArticleRestoreJob(articleBackupRepository, storage, objectMapper, new SimpleMeterRegistry(),
+			articleVersionTracker, nearDuplicateIndex, viewedArticleIndex, interestRetagJobRunner, transactionManager, 2, 2,
+			"");
+	}
+
+	@Test
+	@DisplayName("restore - 최신 백업의 모든 청크를 병렬로 읽어 원래 행 그대로 넣고 청크마다 완료를 기록한다")
+	void shouldRestoreAllChunks() throws Exception {
+		RestoreStatus status = restoreJob.restore(ArticleRestoreJob.LATEST).orElseThrow();
+
+		assertThat(status.backupId()).isEqualTo(manifest.backupId());
+		assertThat(status.completedChunks()).isEqualTo(3);
+		assertThat(status.restoredRows()).isEqualTo(7);
+		assertThat(status.percent()).isEqualTo(100.0);
+		assertThat(status.running()).isFalse();
+		assertThat(inserted).containsExactlyInAnyOrderElementsOf(rows);
+		for (BackupManifest.Chunk chunk : manifest.chunks()) {
+			verify(articleBackupRepository).markChunkRestored(manifest.backupId(), chunk.key(), chunk.rows());
+		}
+		// 복원한 기사를 캐시/인덱스에 반영하고, 백업에 없는 관심사 연결은 재태깅으로 되살린다
+		verify(articleVersionTracker).bumpList();
+		verify(nearDuplicateIndex).load();
+		verify(viewedArticleIndex).evictAll();
+		verify(interestRetagJobRunner).enqueueAll();
+	}
+
+	@Test
+	@DisplayName("restore - 이전 실행에서 끝난 청크는 건너뛴다")
+	void shouldResumeFromUnfinishedChunks() throws Exception {
+		String done = manifest.chunks().get(0).key();
+		when(articleBackupRepository.findRestoredChunks(manifest.backupId())).thenReturn(Set.of(done));
+
+		RestoreStatus status = restoreJob.restore(manifest.backupId()).orElseThrow();
+
+		assertThat(status.skippedChunks()).isEqualTo(1);
+		assertThat(status.completedChunks()).isEqualTo(2);
+		assertThat(inserted).hasSize(4);
+		verify(articleBackupRepository, never()).markChunkRestored(anyString(), eq(done), anyLong());
+	}
+
+	@Test
+	@DisplayName("restore - 체크섬이 맞지 않는 청크는 완료로 기록하지 않고 실패로 남긴다")
+	void shouldFailChunkOnChecksumMismatch() throws Exception {
+		BackupManifest.Chunk corrupted = manifest.chunks().get(1);
+		Path file = backupDir.resolve(corrupted.key());
+		byte[] bytes = Files.readAllBytes(file);
+		// gzip 트레일러(CRC, 길이) 앞의 압축 데이터 한 바이트를 바꾼다
+		bytes[bytes.length - 9] ^= 0x01;
+		Files.write(file, bytes);
+
+		RestoreStatus status = restoreJob.restore(manifest.backupId()).orElseThrow();
+
+		assertThat(status.failedChunks()).containsExactly(corrupted.key());
+		assertThat(status.completedChunks()).isEqualTo(2);
+		verify(articleBackupRepository, never()).markChunkRestored(anyString(), eq(corrupted.key()), anyLong());
+	}
+
+	private static ArticleBackupRow row(int index) {
+		Instant now = Instant.parse("2025-10-14T00:00:00Z").plusSeconds(index);
+		return new ArticleBackupRow(UUID.randomUUID(), "HANKYUNG", "https://news.example.com/" + index,
+			"제목 " + index, index % 2 == 0 ? null : "요약 " + index, now, index, 0, index % 3 == 0 ? null : 42L + index,
+			null, now, now, index == 5 ? now : null);
+	}
+}
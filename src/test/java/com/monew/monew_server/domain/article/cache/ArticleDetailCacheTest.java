@@ -0,0 +1,68 @@
+package com.monew.monew_server.domain.article.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.entity.Article;
+import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleDetailCacheTest {
+
+	@Mock
+	private ArticleRepositoryCustom articleRepositoryCustom;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ArticleDetailCache cache;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new ArticleDetailCache(articleRepositoryCustom, meterRegistry, 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	@DisplayName("get - 한 번 읽은 본문은 캐시에서 돌려주고, invalidate 후에는 다시 읽는다")
+	void shouldReadThroughAndInvalidate() {
+		UUID articleId = UUID.randomUUID();
+		Article article = Article.builder().id(articleId).title("제목").summary("요약").sourceUrl("http://a.com")
+			.publishDate(Instant.parse("2025-10-25T10:00:00Z")).build();
+		when(articleRepositoryCustom.findArticleById(articleId)).thenReturn(Optional.of(article));
+
+		assertThat(cache.get(articleId)).contains(ArticleBody.from(article));
+		assertThat(cache.get(articleId)).contains(ArticleBody.from(article));
+		verify(articleRepositoryCustom, times(1)).findArticleById(articleId);
+
+		cache.invalidate(articleId);
+		cache.get(articleId);
+
+		verify(articleRepositoryCustom, times(2)).findArticleById(articleId);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "articleDetail").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("get - 없는 기사는 캐시하지 않는다")
+	void shouldNotCacheMissingArticle() {
+		UUID articleId = UUID.randomUUID();
+		when(articleRepositoryCustom.findArticleById(articleId)).thenReturn(Optional.empty());
+
+		assertThat(cache.get(articleId)).isEmpty();
+		assertThat(cache.get(articleId)).isEmpty();
+
+		verify(articleRepositoryCustom, times(2)).findArticleById(articleId);
+	}
+}
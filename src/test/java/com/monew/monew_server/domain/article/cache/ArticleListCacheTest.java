@@ -0,0 +1,207 @@
+package com.monew.monew_server.domain.article.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
+import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+import com.monew.monew_server.exception.ArticleNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleListCacheTest {
+
+	@Mock
+	private ArticleVersionTracker articleVersionTracker;
+	@Mock
+	private TrendingCounter trendingCounter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ArticleListCache cache;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new ArticleListCache(articleVersionTracker, trendingCounter, meterRegistry, true, 100,
+			Duration.ofMinutes(1));
+	}
+
+	private static ArticleRequest request(String keyword, List<UUID> interestIds) {
+		return new ArticleRequest(keyword, interestIds, null, null, null, null, null, null, null, null);
+	}
+
+	private static CursorPageResponseArticleDto page() {
+		return CursorPageResponseArticleDto.builder().content(List.of()).size(10).build();
+	}
+
+	@Test
+	@DisplayName("normalize - 키워드 대소문자, 관심사 순서/중복, 빈 커서, 기본값 차이는 같은 요청으로 본다")
+	void shouldNormalizeEquivalentRequests() {
+		UUID a = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+		UUID b = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+		ArticleRequest normalized = ArticleListCache.normalize(
+			new ArticleRequest("Chip", List.of(b, a, b), null, null, " ", null, null, "", null, null));
+
+		assertThat(normalized).isEqualTo(ArticleListCache.normalize(
+			new ArticleRequest("chip", List.of(a, b), null, null, null, ArticleSortType.DATE, 10, null, null, false)));
+		assertThat(normalized.interestIds()).containsExactly(a, b);
+		assertThat(ArticleListCache.normalize(request(" ", List.of())))
+			.isEqualTo(ArticleListCache.normalize(request(null, null)));
+	}
+
+	@Test
+	@DisplayName("get - 같은 키는 한 번만 읽고, 버전이 바뀌면 다시 읽는다")
+	void shouldLoadOncePerVersion() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(request("AI", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+		cache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+		when(articleVersionTracker.listVersion()).thenReturn(1L);
+		cache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+
+		assertThat(loads).hasValue(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "articleList").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("get - 로그인 사용자의 조회나 기사 상세 버전 변경으로는 비우지 않고, 목록 버전이 바뀔 때만 다시 읽는다")
+	void shouldKeyOnListVersionOnly() {
+		ArticleVersionTracker tracker = new ArticleVersionTracker(trendingCounter, Duration.ofMinutes(1), 100);
+		ArticleListCache listCache = new ArticleListCache(tracker, trendingCounter, new SimpleMeterRegistry(), true,
+			100, Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+		tracker.bumpViewed(UUID.randomUUID());
+		tracker.bumpArticle(UUID.randomUUID());
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+		assertThat(loads).hasValue(1);
+
+		tracker.bumpList();
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return page();
+		});
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("get - 카운터 flush 로 목록 버전은 그대로여도, 페이지에 든 기사의 버전이 바뀌면 그 항목만 다시 읽는다")
+	void shouldReloadWhenPageArticleChanged() {
+		ArticleVersionTracker tracker = new ArticleVersionTracker(trendingCounter, Duration.ofMinutes(1), 100);
+		ArticleListCache listCache = new ArticleListCache(tracker, trendingCounter, new SimpleMeterRegistry(), true,
+			100, Duration.ofMinutes(1));
+		UUID articleId = UUID.randomUUID();
+		CursorPageResponseArticleDto withArticle = CursorPageResponseArticleDto.builder()
+			.content(List.of(new ArticleResponse(articleId, "제목", "요약", "url", Instant.now(), 0L, 0L, false)))
+			.size(10)
+			.build();
+		AtomicInteger loads = new AtomicInteger();
+
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return withArticle;
+		});
+		tracker.bumpArticle(UUID.randomUUID());
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return withArticle;
+		});
+		assertThat(loads).hasValue(1);
+
+		tracker.bumpArticles(List.of(articleId));
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return withArticle;
+		});
+		listCache.get(request("ai", null), normalized -> {
+			loads.incrementAndGet();
+			return withArticle;
+		});
+		assertThat(loads).hasValue(2);
+		assertThat(tracker.listVersion()).isZero();
+	}
+
+	@Test
+	@DisplayName("get - 같은 키를 동시에 놓치면 먼저 온 요청만 읽고 나머지는 결과를 기다린다")
+	void shouldCoalesceConcurrentMisses() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		CursorPageResponseArticleDto expected = page();
+
+		CompletableFuture<CursorPageResponseArticleDto> first = CompletableFuture.supplyAsync(
+			() -> cache.get(request("AI", null), normalized -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return expected;
+			}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<CursorPageResponseArticleDto> second = CompletableFuture.supplyAsync(
+			() -> cache.get(request("ai", null), normalized -> {
+				loads.incrementAndGet();
+				return page();
+			}));
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("get - 조회가 실패하면 캐시하지 않는다")
+	void shouldNotCacheFailures() {
+		assertThatThrownBy(() -> cache.get(request("없는 키워드", null), normalized -> {
+			throw new ArticleNotFoundException("검색 결과가 없습니다.");
+		})).isInstanceOf(ArticleNotFoundException.class);
+
+		assertThat(cache.get(request("없는 키워드", null), normalized -> page())).isNotNull();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
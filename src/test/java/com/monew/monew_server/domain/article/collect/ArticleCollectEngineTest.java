@@ -0,0 +1,198 @@
+package com.monew.monew_server.domain.article.collect;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.monew.monew_server.domain.article.collect.CollectRunStats.SourceStats;
+import com.monew.monew_server.domain.article.dedup.ClusterAssignment;
+import com.monew.monew_server.domain.article.dedup.NearDuplicateIndex;
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleBatchRepository;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleCollectEngineTest {
+
+	@Mock
+	private ArticleBatchRepository articleBatchRepository;
+	@Mock
+	private ArticleInterestTagger articleInterestTagger;
+	@Mock
+	private ObjectProvider<ArticleCollector> collectorProvider;
+	@Mock
+	private ArticleVersionTracker articleVersionTracker;
+
+	private ArticleCollectEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		NearDuplicateIndex nearDuplicateIndex = new NearDuplicateIndex(articleBatchRepository, 7, Duration.ofDays(3));
+		engine = new ArticleCollectEngine(collectorProvider, articleBatchRepository, articleInterestTagger,
+			nearDuplicateIndex, articleVersionTracker, Runnable::run, new SimpleMeterRegistry(), 2, 100);
+		// 저장 요청을 모두 새 기사로 처리
+		when(articleBatchRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+			List<CollectedArticle> articles = invocation.getArgument(0);
+			Map<UUID, CollectedArticle> inserted = new LinkedHashMap<>();
+			articles.forEach(article -> inserted.put(UUID.randomUUID(), article));
+			return inserted;
+		});
+	}
+
+	@Test
+	@DisplayName("run - 출처별로 배치 저장하고 같은 실행 안의 중복 URL 은 메모리에서 거른다")
+	void shouldBatchPerSourceAndSkipDuplicates() {
+		givenCollectors(
+			collector(ArticleSource.NAVER, "n1", "n2", "n1", "n3"),
+			collector(ArticleSource.CHOSUN, "n1")
+		);
+
+		CollectRunStats stats = engine.run().orElseThrow();
+
+		assertThat(stats.fetched()).isEqualTo(5);
+		assertThat(stats.inserted()).isEqualTo(4);
+		SourceStats naver = stats.sources().get(0);
+		assertThat(naver.skipped()).isEqualTo(1);
+		assertThat(naver.inserted()).isEqualTo(3);
+		// NAVER: 2건 + 1건, CHOSUN: 1건
+		verify(articleBatchRepository, times(3)).insertIgnoringDuplicates(anyList());
+		assertThat(engine.lastRun()).contains(stats);
+		// 저장된 배치마다 태깅한다
+		verify(articleInterestTagger, times(3)).tag(anyList());
+	}
+
+	@Test
+	@DisplayName("run - 이전 실행에서 저장한 키는 다음 실행에서 DB 까지 가지 않는다")
+	void shouldSkipRecentKeysAcrossRuns() {
+		givenCollectors(collector(ArticleSource.NAVER, "n1", "n2"));
+		engine.run();
+		clearInvocations(articleBatchRepository);
+
+		CollectRunStats stats = engine.run().orElseThrow();
+
+		assertThat(stats.sources().get(0).skipped()).isEqualTo(2);
+		verify(articleBatchRepository, never()).insertIgnoringDuplicates(anyList());
+	}
+
+	@Test
+	@DisplayName("run - 저장에 실패한 기사는 다음 실행에서 다시 시도한다")
+	void shouldRetryFailedBatchOnNextRun() {
+		givenCollectors(collector(ArticleSource.NAVER, "n1"));
+		when(articleBatchRepository.insertIgnoringDuplicates(anyList()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(Map.of(UUID.randomUUID(), article(ArticleSource.NAVER, "n1")));
+
+		CollectRunStats failed = engine.run().orElseThrow();
+		CollectRunStats retried = engine.run().orElseThrow();
+
+		assertThat(failed.sources().get(0).failed()).isEqualTo(1);
+		assertThat(retried.inserted()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("run - 수집기가 중간에 실패해도 이미 읽은 기사는 저장하고 오류를 기록한다")
+	void shouldKeepArticlesReadBeforeFailure() {
+		ArticleCollector failing = new ArticleCollector() {
+			@Override
+			public ArticleSource source() {
+				return ArticleSource.YEONHAP;
+			}
+
+			@Override
+			public void collect(Consumer<CollectedArticle> sink) throws IOException {
+				sink.accept(article(ArticleSource.YEONHAP, "y1"));
+				throw new IOException("connection reset");
+			}
+		};
+		givenCollectors(failing);
+
+		SourceStats stats = engine.run().orElseThrow().sources().get(0);
+
+		assertThat(stats.inserted()).isEqualTo(1);
+		assertThat(stats.error()).isEqualTo("connection reset");
+	}
+
+	@Test
+	@DisplayName("run - 다른 출처의 거의 같은 기사는 먼저 저장된 기사의 묶음에 넣는다")
+	@SuppressWarnings("unchecked")
+	void shouldClusterNearDuplicatesAcrossSources() {
+		String title = "한국은행 기준금리 동결 결정, 물가 상승 압력 여전";
+		String summary = "한국은행 금융통화위원회가 기준금리를 연 3.5%로 동결했다. 물가 상승 압력이 여전하다는 판단이다.";
+		givenCollectors(
+			collector(ArticleSource.NAVER, new CollectedArticle(ArticleSource.NAVER, "https://n.example.com/1", title,
+				summary, Instant.parse("2025-10-14T00:00:00Z"))),
+			collector(ArticleSource.CHOSUN, new CollectedArticle(ArticleSource.CHOSUN, "https://c.example.com/1",
+				"[속보] " + title, summary, Instant.parse("2025-10-14T00:00:00Z")))
+		);
+
+		CollectRunStats stats = engine.run().orElseThrow();
+
+		ArgumentCaptor<List<ClusterAssignment>> captor = ArgumentCaptor.forClass(List.class);
+		verify(articleBatchRepository, times(2)).updateFingerprints(captor.capture());
+		ClusterAssignment first = captor.getAllValues().get(0).get(0);
+		ClusterAssignment second = captor.getAllValues().get(1).get(0);
+		assertThat(first.isRepresentative()).isTrue();
+		assertThat(second.clusterId()).isEqualTo(first.articleId());
+		assertThat(stats.sources().get(1).nearDuplicates()).isEqualTo(1);
+	}
+
+	private void givenCollectors(ArticleCollector... collectors) {
+		when(collectorProvider.orderedStream()).thenAnswer(invocation -> Arrays.stream(collectors));
+	}
+
+	private static ArticleCollector collector(ArticleSource source, String... paths) {
+		return new ArticleCollector() {
+			@Override
+			public ArticleSource source() {
+				return source;
+			}
+
+			@Override
+			public void collect(Consumer<CollectedArticle> sink) {
+				for (String path : paths) {
+					sink.accept(article(source, path));
+				}
+			}
+		};
+	}
+
+	private static ArticleCollector collector(ArticleSource source, CollectedArticle article) {
+		return new ArticleCollector() {
+			@Override
+			public ArticleSource source() {
+				return source;
+			}
+
+			@Override
+			public void collect(Consumer<CollectedArticle> sink) {
+				sink.accept(article);
+			}
+		};
+	}
+
+	private static CollectedArticle article(ArticleSource source, String path) {
+		return new CollectedArticle(source, "https://news.example.com/" + path, "제목 " + path, "요약",
+			Instant.parse("2025-10-14T00:00:00Z"));
+	}
+}
@@ -0,0 +1,78 @@
+package com.monew.monew_server.domain.article.collect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.monew.monew_server.domain.article.entity.ArticleSource;
+
+class RssFeedParserTest {
+
+	@Test
+	@DisplayName("parse - item 을 순서대로 읽고 link/title 이 없는 item 은 건너뛴다")
+	void shouldParseItems() throws Exception {
+		List<CollectedArticle> articles = new ArrayList<>();
+		try (InputStream in = new ClassPathResource("feeds/sample-rss.xml").getInputStream()) {
+			int emitted = RssFeedParser.parse(in, ArticleSource.NAVER, articles::add);
+			assertThat(emitted).isEqualTo(2);
+		}
+
+		assertThat(articles).hasSize(2);
+		CollectedArticle first = articles.get(0);
+		assertThat(first.source()).isEqualTo(ArticleSource.NAVER);
+		assertThat(first.sourceUrl()).isEqualTo("https://news.example.com/articles/1");
+		assertThat(first.title()).isEqualTo("반도체 수출 3개월 연속 증가");
+		assertThat(first.summary()).isEqualTo("반도체 수출이 늘었다.");
+		assertThat(first.publishDate()).isEqualTo(Instant.parse("2025-10-14T00:30:00Z"));
+
+		CollectedArticle second = articles.get(1);
+		assertThat(second.sourceUrl()).isEqualTo("https://news.example.com/articles/2");
+		assertThat(second.summary()).isEqualTo("한국은행 기준금리 & 환율");
+		assertThat(second.publishDate()).isEqualTo(Instant.parse("2025-10-14T01:00:00Z"));
+	}
+
+	@Test
+	@DisplayName("parse - 외부 엔티티는 해석하지 않는다")
+	void shouldNotResolveExternalEntities() {
+		String xml = """
+			<?xml version="1.0"?>
+			<!DOCTYPE rss [<!ENTITY xxe SYSTEM "file:///etc/hostname">]>
+			<rss><channel><item><title>&xxe;</title><link>https://x</link></item></channel></rss>
+			""".strip();
+		List<CollectedArticle> articles = new ArrayList<>();
+
+		try {
+			RssFeedParser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), ArticleSource.NAVER,
+				articles::add);
+		} catch (XMLStreamException e) {
+			// 선언되지 않은 엔티티로 거부되는 것도 허용
+			return;
+		}
+		assertThat(articles).allSatisfy(article -> assertThat(article.title()).isBlank());
+	}
+
+	@Test
+	@DisplayName("RssFeedCollector - classpath 피드 파일을 읽어 수집한다")
+	void shouldCollectFromResource() throws Exception {
+		RssFeedCollector collector = new RssFeedCollector(ArticleSource.CHOSUN,
+			new ClassPathResource("feeds/sample-rss.xml"), Duration.ofSeconds(1));
+		List<CollectedArticle> articles = new ArrayList<>();
+
+		collector.collect(articles::add);
+
+		assertThat(articles).extracting(CollectedArticle::source).containsOnly(ArticleSource.CHOSUN);
+		assertThat(articles).hasSize(2);
+	}
+}
@@ -1,5 +1,6 @@
 package com.monew.monew_server.domain.article.controller;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -17,13 +18,17 @@ import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfigurat
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
 import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
 import com.monew.monew_server.domain.article.service.ArticleService;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
 
 @WebMvcTest(
 	controllers = ArticleController.class,
@@ -34,6 +39,7 @@ import com.monew.monew_server.domain.article.service.ArticleService;
 	}
 )
 @AutoConfigureMockMvc(addFilters = false)
+@Import(ArticleVersionTracker.class)
 class ArticleControllerTest {
 
 	@Autowired
@@ -42,6 +48,12 @@ class ArticleControllerTest {
 	@MockitoBean
 	private ArticleService articleService;
 
+	@MockitoBean
+	private TrendingCounter trendingCounter;
+
+	@Autowired
+	private ArticleVersionTracker articleVersionTracker;
+
 	private final UUID ARTICLE_ID_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
 	private final UUID ARTICLE_ID_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
 
@@ -210,4 +222,109 @@ class ArticleControllerTest {
 			.andExpect(jsonPath("$.content[0].title").value("댓글 많은 기사"))
 			.andExpect(jsonPath("$.content[0].commentCount").value(50));
 	}
+
+	@Test
+	@DisplayName("목록 조회 - If-None-Match 가 현재 ETag 와 같으면 조회 없이 304")
+	void shouldReturnNotModified_whenEtagMatches() throws Exception {
+		CursorPageResponseArticleDto mockResponse = CursorPageResponseArticleDto.builder()
+			.content(List.of())
+			.hasNext(false)
+			.size(10)
+			.totalElements(0)
+			.build();
+		when(articleService.fetchArticles(any(ArticleRequest.class), any(UUID.class))).thenReturn(mockResponse);
+
+		String etag = mockMvc.perform(get("/api/articles?sortBy=DATE")
+				.header("Monew-Request-User-ID", "00000000-0000-0000-0000-000000000001"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/articles?sortBy=DATE")
+				.header("Monew-Request-User-ID", "00000000-0000-0000-0000-000000000001")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag));
+
+		// 다른 사용자는 viewedByMe 가 다르므로 같은 ETag 로 304 를 받지 않는다
+		mockMvc.perform(get("/api/articles?sortBy=DATE")
+				.header("Monew-Request-User-ID", "00000000-0000-0000-0000-000000000002")
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk());
+
+		verify(articleService, times(2)).fetchArticles(any(ArticleRequest.class), any(UUID.class));
+	}
+
+	@Test
+	@DisplayName("목록 조회 - 목록 버전이 바뀌면 이전 ETag 로 요청해도 다시 조회한다")
+	void shouldReturnOk_whenVersionChanged() throws Exception {
+		CursorPageResponseArticleDto mockResponse = CursorPageResponseArticleDto.builder()
+			.content(List.of())
+			.hasNext(false)
+			.size(10)
+			.totalElements(0)
+			.build();
+		when(articleService.fetchArticles(any(ArticleRequest.class), any())).thenReturn(mockResponse);
+
+		String etag = mockMvc.perform(get("/api/articles"))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		articleVersionTracker.bumpList();
+
+		mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+	}
+
+	@Test
+	@DisplayName("목록 조회 - 카운터 반영은 그 기사가 들어 있는 페이지의 ETag 만 바꾼다")
+	void shouldScopeListEtagToPageArticles() throws Exception {
+		ArticleResponse article = new ArticleResponse(
+			ARTICLE_ID_1, "기사 제목 1", "기사 요약 1", "NAVER", Instant.now(), 10L, 2L, false
+		);
+		CursorPageResponseArticleDto mockResponse = CursorPageResponseArticleDto.builder()
+			.content(List.of(article))
+			.hasNext(false)
+			.size(10)
+			.totalElements(1)
+			.build();
+		when(articleService.fetchArticles(any(ArticleRequest.class), any())).thenReturn(mockResponse);
+
+		String etag = mockMvc.perform(get("/api/articles?keyword=반도체"))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// 다른 기사의 조회수/댓글수 반영으로는 304 를 유지한다
+		articleVersionTracker.bumpArticles(List.of(ARTICLE_ID_2));
+		mockMvc.perform(get("/api/articles?keyword=반도체").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified());
+
+		articleVersionTracker.bumpArticles(List.of(ARTICLE_ID_1));
+		mockMvc.perform(get("/api/articles?keyword=반도체").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+		verify(articleService, times(2)).fetchArticles(any(ArticleRequest.class), any());
+	}
+
+	@Test
+	@DisplayName("상세 조회 - 304 로 응답해도 조회 기록은 남긴다")
+	void shouldRecordView_whenDetailNotModified() throws Exception {
+		String etag = articleVersionTracker.detailTag(ARTICLE_ID_1, ARTICLE_ID_2);
+
+		mockMvc.perform(get("/api/articles/{articleId}", ARTICLE_ID_1)
+				.header("Monew-Request-User-ID", ARTICLE_ID_2.toString())
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified());
+
+		verify(articleService).recordView(ARTICLE_ID_1, ARTICLE_ID_2);
+		verify(articleService, never()).getArticleById(any(), any());
+	}
+
+	@Test
+	@DisplayName("출처 목록 - 배포 단위로 고정된 ETag 와 같으면 304")
+	void shouldReturnNotModified_forSources() throws Exception {
+		mockMvc.perform(get("/api/articles/sources")
+				.header(HttpHeaders.IF_NONE_MATCH, articleVersionTracker.sourcesTag()))
+			.andExpect(status().isNotModified());
+
+		verify(articleService, never()).getAllSources();
+	}
 }
@@ -0,0 +1,81 @@
+package com.monew.monew_server.domain.article.count;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.count.ArticleTotalCounter.TotalCount;
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.entity.ArticleCountMode;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.repository.ArticleEstimateRepository;
+import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
+
+class ArticleTotalCounterTest {
+
+	@Mock
+	private ArticleRepositoryCustom articleRepositoryCustom;
+	@Mock
+	private ArticleEstimateRepository articleEstimateRepository;
+
+	private ArticleTotalCounter counter;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		counter = new ArticleTotalCounter(articleRepositoryCustom, articleEstimateRepository, ArticleCountMode.EXACT,
+			Duration.ofMinutes(1), 100);
+		when(articleRepositoryCustom.countArticlesWithFilter(any())).thenReturn(42L);
+	}
+
+	private ArticleRequest request(String keyword, String cursor, ArticleCountMode mode) {
+		return new ArticleRequest(keyword, null, null, null, cursor, ArticleSortType.DATE, 10,
+			cursor == null ? null : "2025-10-25T10:00:00Z", mode, null);
+	}
+
+	@Test
+	@DisplayName("FIRST_PAGE - 첫 페이지만 COUNT 하고 이후 페이지는 -1")
+	void shouldCountOnlyFirstPage() {
+		TotalCount first = counter.count(request("삼성", null, ArticleCountMode.FIRST_PAGE));
+		TotalCount deep = counter.count(request("삼성", UUID.randomUUID().toString(), ArticleCountMode.FIRST_PAGE));
+
+		assertThat(first).isEqualTo(new TotalCount(42L, false));
+		assertThat(deep.value()).isEqualTo(ArticleTotalCounter.UNKNOWN);
+		verify(articleRepositoryCustom, times(1)).countArticlesWithFilter(any());
+	}
+
+	@Test
+	@DisplayName("CACHED - 같은 필터는 커서/대소문자와 무관하게 한 번만 COUNT")
+	void shouldReuseCachedCountForSameFilter() {
+		counter.count(request("Samsung", null, ArticleCountMode.CACHED));
+		TotalCount second = counter.count(request("samsung", UUID.randomUUID().toString(), ArticleCountMode.CACHED));
+		counter.count(request("lg", null, ArticleCountMode.CACHED));
+
+		assertThat(second).isEqualTo(new TotalCount(42L, false));
+		verify(articleRepositoryCustom, times(2)).countArticlesWithFilter(any());
+	}
+
+	@Test
+	@DisplayName("APPROXIMATE - 필터가 없으면 플래너 추정치, 있으면 캐시 COUNT")
+	void shouldUseEstimateOnlyWhenUnfiltered() {
+		when(articleEstimateRepository.estimateArticleCount()).thenReturn(OptionalLong.of(1_000_000L));
+
+		TotalCount unfiltered = counter.count(request(null, null, ArticleCountMode.APPROXIMATE));
+		TotalCount filtered = counter.count(new ArticleRequest(null, List.of(UUID.randomUUID()), null, null, null,
+			ArticleSortType.DATE, 10, null, ArticleCountMode.APPROXIMATE, null));
+
+		assertThat(unfiltered).isEqualTo(new TotalCount(1_000_000L, true));
+		assertThat(filtered).isEqualTo(new TotalCount(42L, true));
+	}
+}
@@ -0,0 +1,139 @@
+package com.monew.monew_server.domain.article.counter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator.CounterDelta;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleCounterRepository;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+
+class ArticleCounterAggregatorTest {
+
+	@Mock
+	private ArticleCounterRepository articleCounterRepository;
+	@Mock
+	private TrendingCounter trendingCounter;
+	@Mock
+	private ArticleVersionTracker articleVersionTracker;
+
+	private ArticleCounterAggregator aggregator;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		aggregator = new ArticleCounterAggregator(articleCounterRepository, trendingCounter, articleVersionTracker, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("flush - 기사별 증분을 합산해 한 번에 반영한다")
+	@SuppressWarnings("unchecked")
+	void shouldMergeDeltasPerArticle() {
+		UUID a1 = UUID.randomUUID();
+		UUID a2 = UUID.randomUUID();
+
+		aggregator.recordView(a1);
+		aggregator.recordView(a1);
+		aggregator.recordComment(a1, 1);
+		aggregator.recordComment(a2, -1);
+
+		aggregator.flush();
+
+		ArgumentCaptor<Map<UUID, CounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(articleCounterRepository).applyDeltas(captor.capture());
+		assertThat(captor.getValue())
+			.containsEntry(a1, new CounterDelta(2, 1))
+			.containsEntry(a2, new CounterDelta(0, -1));
+		assertThat(aggregator.pendingOf(a1)).isEqualTo(CounterDelta.ZERO);
+	}
+
+	@Test
+	@DisplayName("flush - 반영에 실패하면 증분을 되돌려 다음 주기에 재시도한다")
+	void shouldKeepDeltasWhenFlushFails() {
+		UUID articleId = UUID.randomUUID();
+		aggregator.recordView(articleId);
+		doThrow(new IllegalStateException("db down")).when(articleCounterRepository).applyDeltas(anyMap());
+
+		aggregator.flush();
+
+		assertThat(aggregator.pendingOf(articleId)).isEqualTo(new CounterDelta(1, 0));
+	}
+
+	@Test
+	@DisplayName("reconcile - flush 이후 새로 쌓인 증분이 있는 기사는 보정에서 건너뛰어 두 번 세지 않는다")
+	void shouldSkipPendingArticlesWhenReconciling() {
+		UUID flushed = UUID.randomUUID();
+		UUID recordedDuringFlush = UUID.randomUUID();
+		aggregator.recordView(flushed);
+		doAnswer(invocation -> {
+			aggregator.recordView(recordedDuringFlush);
+			return null;
+		}).when(articleCounterRepository).applyDeltas(anyMap());
+		when(articleCounterRepository.findIdsAfter(null, 2)).thenReturn(List.of(flushed, recordedDuringFlush));
+		when(articleCounterRepository.reconcile(anyCollection())).thenReturn(1);
+
+		aggregator.reconcile();
+
+		verify(articleCounterRepository).reconcile(List.of(flushed));
+		verify(articleCounterRepository).findIdsAfter(recordedDuringFlush, 2);
+		verify(articleVersionTracker).bumpAllArticles();
+		assertThat(aggregator.pendingOf(recordedDuringFlush)).isEqualTo(new CounterDelta(1, 0));
+	}
+
+	@Test
+	@DisplayName("reconcile - 커밋 전에 기록된 기사도 증분이 합쳐지기 전이라 보정에서 건너뛰고, 트랜잭션이 끝나면 다시 센다")
+	void shouldSkipInFlightArticlesWhenReconciling() {
+		UUID inFlight = UUID.randomUUID();
+		when(articleCounterRepository.findIdsAfter(null, 2)).thenReturn(List.of(inFlight));
+		TransactionSynchronizationManager.initSynchronization();
+		aggregator.recordView(inFlight);
+
+		// 행은 커밋됐지만 afterCommit 이 아직 돌지 않은 상태
+		aggregator.reconcile();
+		verify(articleCounterRepository).reconcile(List.of());
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		assertThat(aggregator.pendingOf(inFlight)).isEqualTo(new CounterDelta(1, 0));
+
+		aggregator.flush();
+		aggregator.reconcile();
+		verify(articleCounterRepository).reconcile(List.of(inFlight));
+	}
+
+	@Test
+	@DisplayName("record - 조회와 댓글 증가는 트렌딩 카운터에도 전달하고, 댓글 삭제는 전달하지 않는다")
+	void shouldForwardPositiveActivityToTrending() {
+		UUID articleId = UUID.randomUUID();
+
+		aggregator.recordView(articleId);
+		aggregator.recordComment(articleId, 1);
+		aggregator.recordComment(articleId, -1);
+
+		verify(trendingCounter).recordView(articleId);
+		verify(trendingCounter, times(1)).recordComment(articleId);
+	}
+}
@@ -0,0 +1,105 @@
+package com.monew.monew_server.domain.article.dedup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.repository.ArticleBatchRepository;
+
+class NearDuplicateIndexTest {
+
+	private static final String TITLE = "한국은행 기준금리 동결 결정, 물가 상승 압력 여전";
+	private static final String SUMMARY = "한국은행 금융통화위원회가 기준금리를 연 3.5%로 동결했다. 물가 상승 압력이 여전하다는 판단이다.";
+
+	@Mock
+	private ArticleBatchRepository articleBatchRepository;
+
+	private final AtomicLong now = new AtomicLong(1_760_000_000_000L);
+	private NearDuplicateIndex index;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		index = new NearDuplicateIndex(articleBatchRepository, 7, Duration.ofDays(3), now::get);
+	}
+
+	@Test
+	@DisplayName("SimHash - 말머리나 문장부호만 다른 기사는 해밍 거리가 작고, 다른 기사는 크다")
+	void simHashShouldBeCloseOnlyForSimilarText() {
+		long original = SimHash.of(TITLE, SUMMARY);
+
+		assertThat(SimHash.of(TITLE, SUMMARY)).isEqualTo(original);
+		assertThat(SimHash.distance(original, SimHash.of("[속보] " + TITLE, SUMMARY))).isLessThanOrEqualTo(7);
+		assertThat(SimHash.distance(original, SimHash.of("삼성전자 3분기 영업이익 시장 기대 웃돌아",
+			"삼성전자가 3분기 잠정 실적을 발표했다. 반도체 부문 회복이 이끌었다."))).isGreaterThan(15);
+	}
+
+	@Test
+	@DisplayName("assign - 유사 기사는 먼저 들어온 기사의 묶음에 들어가고, 다른 기사는 새 묶음이 된다")
+	void shouldAssignNearDuplicatesToFirstArticle() {
+		UUID first = UUID.randomUUID();
+		UUID copy = UUID.randomUUID();
+		UUID other = UUID.randomUUID();
+
+		ClusterAssignment firstAssignment = index.assign(first, TITLE, SUMMARY);
+		ClusterAssignment copyAssignment = index.assign(copy, "[속보] " + TITLE, SUMMARY);
+		ClusterAssignment otherAssignment = index.assign(other, "삼성전자 3분기 영업이익 시장 기대 웃돌아",
+			"삼성전자가 3분기 잠정 실적을 발표했다. 반도체 부문 회복이 이끌었다.");
+
+		assertThat(firstAssignment.isRepresentative()).isTrue();
+		assertThat(copyAssignment.clusterId()).isEqualTo(first);
+		assertThat(otherAssignment.isRepresentative()).isTrue();
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("assign - 너무 짧은 글은 묶지 않는다")
+	void shouldNotClusterShortText() {
+		index.assign(UUID.randomUUID(), "제목 n1", "요약");
+
+		ClusterAssignment assignment = index.assign(UUID.randomUUID(), "제목 n2", "요약");
+
+		assertThat(assignment.isRepresentative()).isTrue();
+		assertThat(index.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("assign - window 가 지난 기사는 후보에서 빠진다")
+	void shouldEvictArticlesOutsideWindow() {
+		index.assign(UUID.randomUUID(), TITLE, SUMMARY);
+		now.addAndGet(Duration.ofDays(4).toMillis());
+
+		ClusterAssignment assignment = index.assign(UUID.randomUUID(), "[속보] " + TITLE, SUMMARY);
+
+		assertThat(assignment.isRepresentative()).isTrue();
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("load - 저장된 최근 SimHash 로 인덱스를 채워 재시작 후에도 기존 묶음을 잇는다")
+	void shouldContinueClustersAfterLoad() {
+		UUID representative = UUID.randomUUID();
+		UUID member = UUID.randomUUID();
+		long simHash = SimHash.of(TITLE, SUMMARY);
+		when(articleBatchRepository.findFingerprintsSince(any())).thenReturn(List.of(
+			new ClusterAssignment(representative, simHash, representative),
+			new ClusterAssignment(member, simHash, representative)
+		));
+
+		index.load();
+		ClusterAssignment assignment = index.assign(UUID.randomUUID(), "[속보] " + TITLE, SUMMARY);
+
+		assertThat(assignment.clusterId()).isEqualTo(representative);
+	}
+}
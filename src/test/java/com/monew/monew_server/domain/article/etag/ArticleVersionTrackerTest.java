@@ -0,0 +1,188 @@
+package com.monew.monew_server.domain.article.etag;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot.TrendingEntry;
+
+class ArticleVersionTrackerTest {
+
+	@Mock
+	private TrendingCounter trendingCounter;
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final UUID userId = UUID.randomUUID();
+	private ArticleVersionTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		tracker = new ArticleVersionTracker(trendingCounter, Duration.ofSeconds(30), 2, now::get);
+	}
+
+	private static ArticleRequest request(ArticleSortType sortBy, String keyword) {
+		return new ArticleRequest(keyword, null, null, null, null, sortBy, 10, null, null, null);
+	}
+
+	// 빈 페이지를 조회한 직후의 ETag
+	private String listTag(ArticleRequest request, UUID userId) {
+		return tracker.listTag(request, userId, List.of(), tracker.mark());
+	}
+
+	@Test
+	@DisplayName("listTag - 버전, 요청 조건, 사용자가 같으면 같은 ETag")
+	void shouldBeStableForSameKey() {
+		String etag = listTag(request(ArticleSortType.DATE, "반도체"), userId);
+
+		assertThat(listTag(request(ArticleSortType.DATE, "반도체"), userId)).isEqualTo(etag);
+		assertThat(etag).startsWith("\"").endsWith("\"");
+		assertThat(listTag(request(ArticleSortType.DATE, "환율"), userId)).isNotEqualTo(etag);
+		assertThat(listTag(request(ArticleSortType.DATE, "반도체"), null)).isNotEqualTo(etag);
+	}
+
+	@Test
+	@DisplayName("listTag - bump 하거나 max-staleness 가 지나면 ETag 가 바뀐다")
+	void shouldChangeOnBumpAndStaleness() {
+		ArticleRequest request = request(ArticleSortType.DATE, null);
+		String etag = listTag(request, userId);
+
+		tracker.bumpList();
+		String bumped = listTag(request, userId);
+		now.addAndGet(Duration.ofSeconds(30).toMillis());
+
+		assertThat(bumped).isNotEqualTo(etag);
+		assertThat(listTag(request, userId)).isNotEqualTo(bumped);
+	}
+
+	@Test
+	@DisplayName("listTag - 조회 여부 변경은 그 사용자의 목록 ETag 만 바꾸고 비로그인 ETag 는 그대로 둔다")
+	void shouldScopeViewedVersionToUser() {
+		ArticleRequest request = request(ArticleSortType.DATE, null);
+		UUID other = UUID.randomUUID();
+		String mine = listTag(request, userId);
+		String others = listTag(request, other);
+		String anonymous = listTag(request, null);
+
+		tracker.bumpViewed(userId);
+
+		assertThat(listTag(request, userId)).isNotEqualTo(mine);
+		assertThat(listTag(request, other)).isEqualTo(others);
+		assertThat(listTag(request, null)).isEqualTo(anonymous);
+		assertThat(tracker.listVersion()).isZero();
+	}
+
+	@Test
+	@DisplayName("listTag - 카운터 반영은 목록 버전을 올리지 않고, 그 기사가 든 페이지의 ETag 만 바꾼다")
+	void shouldScopeListTagToPageArticles() {
+		ArticleRequest request = request(ArticleSortType.DATE, null);
+		UUID articleId = UUID.randomUUID();
+		String etag = tracker.listTag(request, userId, List.of(articleId), tracker.mark());
+
+		tracker.bumpArticle(UUID.randomUUID());
+		assertThat(tracker.listTag(request, userId)).isEqualTo(etag);
+
+		tracker.bumpArticles(List.of(articleId));
+		assertThat(tracker.listTag(request, userId)).isNotEqualTo(etag);
+		assertThat(tracker.listVersion()).isZero();
+	}
+
+	@Test
+	@DisplayName("listTag - 조회수/댓글수 정렬은 페이지 밖 기사의 카운터 반영으로도 ETag 가 바뀐다")
+	void shouldIncludeCountsVersionForCountSorts() {
+		ArticleRequest request = request(ArticleSortType.VIEW_COUNT, null);
+		String etag = tracker.listTag(request, userId, List.of(UUID.randomUUID()), tracker.mark());
+
+		tracker.bumpArticles(List.of(UUID.randomUUID()));
+
+		assertThat(tracker.listTag(request, userId)).isNotEqualTo(etag);
+	}
+
+	@Test
+	@DisplayName("listTag - 내보낸 페이지가 없거나 목록 버전이 바뀌면 조회 전 ETag 는 null")
+	void shouldRequireRememberedPage() {
+		ArticleRequest request = request(ArticleSortType.DATE, "반도체");
+		assertThat(tracker.listTag(request, userId)).isNull();
+
+		String etag = tracker.listTag(request, userId, List.of(UUID.randomUUID()), tracker.mark());
+		assertThat(tracker.listTag(request, userId)).isEqualTo(etag);
+
+		tracker.bumpList();
+		assertThat(tracker.listTag(request, userId)).isNull();
+	}
+
+	@Test
+	@DisplayName("listTag - 조회하는 동안 페이지 기사나 목록 버전이 바뀌면 ETag 를 만들지 않는다")
+	void shouldSkipTagWhenChangedDuringFetch() {
+		ArticleRequest request = request(ArticleSortType.DATE, null);
+		UUID articleId = UUID.randomUUID();
+
+		long mark = tracker.mark();
+		tracker.bumpArticle(articleId);
+		assertThat(tracker.listTag(request, userId, List.of(articleId), mark)).isNull();
+		assertThat(tracker.listTag(request, userId)).isNull();
+
+		mark = tracker.mark();
+		tracker.bumpAllArticles();
+		assertThat(tracker.changedSince(mark, ArticleSortType.DATE, List.of(), null)).isTrue();
+		assertThat(tracker.changedSince(tracker.mark(), ArticleSortType.DATE, List.of(articleId), null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("detailTag - 그 기사의 버전이 바뀔 때만 바뀌고, 목록 버전이나 다른 기사와는 무관하다")
+	void shouldScopeDetailVersionToArticle() {
+		UUID articleId = UUID.randomUUID();
+		UUID otherArticleId = UUID.randomUUID();
+		String etag = tracker.detailTag(articleId, userId);
+
+		tracker.bumpList();
+		tracker.bumpArticle(otherArticleId);
+		tracker.bumpViewed(userId);
+		assertThat(tracker.detailTag(articleId, userId)).isEqualTo(etag);
+
+		tracker.bumpArticles(List.of(articleId));
+		String bumped = tracker.detailTag(articleId, userId);
+		assertThat(bumped).isNotEqualTo(etag);
+
+		tracker.bumpAllArticles();
+		assertThat(tracker.detailTag(articleId, userId)).isNotEqualTo(bumped);
+	}
+
+	@Test
+	@DisplayName("detailTag - max-tracked 를 넘어 내보낸 기사도 예전 ETag 와 겹치지 않는 버전으로 다시 시작한다")
+	void shouldNotReuseVersionsAfterEviction() {
+		UUID articleId = UUID.randomUUID();
+		String etag = tracker.detailTag(articleId, userId);
+
+		tracker.bumpAllArticles();
+
+		assertThat(tracker.detailTag(articleId, userId)).isNotEqualTo(etag);
+	}
+
+	@Test
+	@DisplayName("listTag - 트렌딩 정렬은 순위 스냅샷이 바뀌면 ETag 가 바뀐다")
+	void shouldIncludeTrendingSnapshot() {
+		ArticleRequest request = request(ArticleSortType.TRENDING, null);
+		when(trendingCounter.snapshot()).thenReturn(TrendingSnapshot.EMPTY);
+		String etag = listTag(request, userId);
+
+		when(trendingCounter.snapshot()).thenReturn(
+			new TrendingSnapshot(List.of(new TrendingEntry(UUID.randomUUID(), 3.0))));
+
+		assertThat(listTag(request, userId)).isNotEqualTo(etag);
+	}
+}
@@ -0,0 +1,94 @@
+package com.monew.monew_server.domain.article.partition;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.monew.monew_server.domain.article.repository.PartitionRepository;
+
+class ArticlePartitionManagerTest {
+
+	@Mock
+	private PartitionRepository partitionRepository;
+
+	private ArticlePartitionManager manager;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		Clock clock = Clock.fixed(Instant.parse("2025-10-18T00:00:00Z"), ZoneOffset.UTC);
+		manager = new ArticlePartitionManager(partitionRepository, true, 2, clock);
+	}
+
+	@Test
+	@DisplayName("ensureFuturePartitions - 파티션된 테이블에 이번 달부터 months-ahead 까지 없는 파티션만 만든다")
+	void shouldCreateMissingFuturePartitions() {
+		when(partitionRepository.isPartitioned(PartitionedTable.ARTICLES)).thenReturn(true);
+		when(partitionRepository.isPartitioned(PartitionedTable.ARTICLE_VIEWS)).thenReturn(false);
+		when(partitionRepository.findPartitions(PartitionedTable.ARTICLES)).thenReturn(List.of(
+			new PartitionInfo("articles_p2025_10", "FOR VALUES FROM ('2025-10-01') TO ('2025-11-01')", 100),
+			new PartitionInfo("articles_default", "DEFAULT", 0)
+		));
+
+		int created = manager.ensureFuturePartitions();
+
+		assertThat(created).isEqualTo(2);
+		verify(partitionRepository).createMonthlyPartition(PartitionedTable.ARTICLES, YearMonth.of(2025, 11));
+		verify(partitionRepository).createMonthlyPartition(PartitionedTable.ARTICLES, YearMonth.of(2025, 12));
+		verify(partitionRepository, never()).createMonthlyPartition(eq(PartitionedTable.ARTICLE_VIEWS), any());
+	}
+
+	@Test
+	@DisplayName("ensureFuturePartitions - 한 달 생성이 실패해도 나머지 달은 만든다")
+	void shouldContinueWhenOneMonthFails() {
+		when(partitionRepository.isPartitioned(any())).thenReturn(true);
+		when(partitionRepository.findPartitions(any())).thenReturn(List.of());
+		doThrow(new DataIntegrityViolationException("default partition has rows"))
+			.when(partitionRepository).createMonthlyPartition(PartitionedTable.ARTICLES, YearMonth.of(2025, 10));
+
+		int created = manager.ensureFuturePartitions();
+
+		// articles 2개 + article_views 3개
+		assertThat(created).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("detach - 지난 달 파티션만 분리할 수 있다")
+	void shouldDetachOnlyPastPartitions() {
+		when(partitionRepository.findPartitions(PartitionedTable.ARTICLE_VIEWS)).thenReturn(List.of(
+			new PartitionInfo("article_views_p2025_01", "FOR VALUES FROM ('2025-01-01') TO ('2025-02-01')", 10),
+			new PartitionInfo("article_views_p2025_10", "FOR VALUES FROM ('2025-10-01') TO ('2025-11-01')", 10)
+		));
+
+		manager.detach(PartitionedTable.ARTICLE_VIEWS, YearMonth.of(2025, 1));
+
+		verify(partitionRepository).detachPartition(PartitionedTable.ARTICLE_VIEWS, YearMonth.of(2025, 1));
+		assertThatThrownBy(() -> manager.detach(PartitionedTable.ARTICLE_VIEWS, YearMonth.of(2025, 10)))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> manager.detach(PartitionedTable.ARTICLE_VIEWS, YearMonth.of(2024, 12)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("ensureFuturePartitions - 비활성화되면 카탈로그도 조회하지 않는다")
+	void shouldDoNothingWhenDisabled() {
+		Clock clock = Clock.fixed(Instant.parse("2025-10-18T00:00:00Z"), ZoneOffset.UTC);
+		ArticlePartitionManager disabled = new ArticlePartitionManager(partitionRepository, false, 2, clock);
+
+		assertThat(disabled.ensureFuturePartitions()).isZero();
+		verifyNoInteractions(partitionRepository);
+	}
+}
@@ -0,0 +1,97 @@
+package com.monew.monew_server.domain.article.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 100만 건 기사에서 키워드 검색이 trigram 인덱스를 타는지 확인하는 벤치마크.
+ * 데이터 적재에 수십 초가 걸리므로 기본 빌드에서는 돌지 않는다.
+ * ./gradlew test --tests '*ArticleKeywordSearchBenchmarkTest' -Dmonew.benchmark=true
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "monew.benchmark", matches = "true")
+class ArticleKeywordSearchBenchmarkTest {
+
+	private static final int ARTICLE_COUNT = 1_000_000;
+
+	// ArticleRepositoryImpl 이 만드는 키워드 검색 쿼리와 같은 형태
+	private static final String SEARCH_SQL = """
+		SELECT id FROM articles
+		WHERE (lower(title) LIKE '%quantumchip%' ESCAPE '!' OR lower(summary) LIKE '%quantumchip%' ESCAPE '!')
+		  AND deleted_at IS NULL
+		ORDER BY publish_date DESC, id DESC
+		LIMIT 11
+		""";
+
+	@Container
+	static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@BeforeAll
+	static void seed() throws SQLException {
+		try (Connection connection = postgreSQLContainer.createConnection("");
+			 Statement statement = connection.createStatement()) {
+			ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+			statement.execute("""
+				INSERT INTO articles (id, source, source_url, title, publish_date, summary)
+				SELECT gen_random_uuid(), 'NAVER', 'http://bench/' || g,
+				       'headline ' || md5(g::text) || CASE WHEN g % 10000 = 0 THEN ' quantumchip' ELSE '' END,
+				       NOW() - (g || ' seconds')::interval,
+				       md5((g * 7)::text) || ' ' || md5((g * 13)::text)
+				FROM generate_series(1, %d) g
+				""".formatted(ARTICLE_COUNT));
+			statement.execute("ANALYZE articles");
+		}
+	}
+
+	@Test
+	@DisplayName("키워드 검색 - 100만 건에서 trigram 인덱스 사용 및 순차 스캔 대비 시간 비교")
+	void keywordSearchUsesTrigramIndex() throws SQLException {
+		try (Connection connection = postgreSQLContainer.createConnection("");
+			 Statement statement = connection.createStatement()) {
+			String indexedPlan = explain(statement);
+
+			statement.execute("SET enable_bitmapscan = off");
+			statement.execute("SET enable_indexscan = off");
+			String seqScanPlan = explain(statement);
+
+			System.out.printf("[benchmark] %d articles%n--- indexed ---%n%s%n--- seq scan ---%n%s%n",
+				ARTICLE_COUNT, indexedPlan, seqScanPlan);
+
+			assertThat(indexedPlan).contains("idx_articles_title_trgm");
+			assertThat(executionMillis(indexedPlan)).isLessThan(executionMillis(seqScanPlan));
+		}
+	}
+
+	private static String explain(Statement statement) throws SQLException {
+		StringBuilder plan = new StringBuilder();
+		try (ResultSet rs = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS) " + SEARCH_SQL)) {
+			while (rs.next()) {
+				plan.append(rs.getString(1)).append('\n');
+			}
+		}
+		return plan.toString();
+	}
+
+	private static double executionMillis(String plan) {
+		return plan.lines()
+			.filter(line -> line.startsWith("Execution Time:"))
+			.map(line -> line.replaceAll("[^0-9.]", ""))
+			.mapToDouble(Double::parseDouble)
+			.findFirst()
+			.orElseThrow();
+	}
+}
@@ -0,0 +1,143 @@
+package com.monew.monew_server.domain.article.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.monew.monew_server.domain.article.dto.ArticleRequest;
+import com.monew.monew_server.domain.article.dto.ArticleResponse;
+import com.monew.monew_server.domain.article.entity.Article;
+import com.monew.monew_server.domain.article.entity.ArticleSortType;
+import com.monew.monew_server.domain.article.mapper.ArticleMapper;
+
+/**
+ * 기사 목록 조회의 엔티티 경로(엔티티 조회 + 매핑 + viewedByMe 별도 조회)와
+ * 프로젝션 경로(한 번의 쿼리로 ArticleResponse 생성)의 지연 시간/할당량 비교.
+ * ./gradlew test --tests '*ArticleListProjectionBenchmarkTest' -Dmonew.benchmark=true
+ */
+@SpringBootTest
+@Testcontainers
+@EnabledIfSystemProperty(named = "monew.benchmark", matches = "true")
+class ArticleListProjectionBenchmarkTest {
+
+	private static final int ARTICLE_COUNT = 200_000;
+	private static final int PAGE_SIZE = 50;
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 1_000;
+
+	@Container
+	static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@DynamicPropertySource
+	static void postgresqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+		registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+		registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+		registry.add("spring.jpa.show-sql", () -> "false");
+	}
+
+	@Qualifier("articleRepositoryImpl")
+	@Autowired
+	private ArticleRepositoryCustom articleRepositoryCustom;
+	@Autowired
+	private ArticleViewRepository articleViewRepository;
+	@Autowired
+	private ArticleMapper articleMapper;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID userId;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.execute("TRUNCATE TABLE article_views, articles, users CASCADE");
+		userId = UUID.randomUUID();
+		jdbcTemplate.update("INSERT INTO users (id, email, nickname, password, created_at) VALUES (?, ?, ?, ?, NOW())",
+			userId, "bench@monew.com", "bench", "password");
+		jdbcTemplate.update("""
+			INSERT INTO articles (id, source, source_url, title, publish_date, summary, view_count, comment_count,
+			                      created_at)
+			SELECT gen_random_uuid(), 'NAVER', 'http://bench/' || g, 'headline ' || g,
+			       NOW() - (g || ' seconds')::interval, md5(g::text), g % 1000, g % 50, NOW()
+			FROM generate_series(1, ?) g
+			""", ARTICLE_COUNT);
+		jdbcTemplate.update("""
+			INSERT INTO article_views (id, article_id, user_id, created_at)
+			SELECT gen_random_uuid(), a.id, ?, NOW() FROM articles a ORDER BY a.publish_date DESC LIMIT 1000
+			""", userId);
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	@DisplayName("목록 조회 - 엔티티 경로 vs 프로젝션 경로 지연 시간/할당량")
+	void compareEntityAndProjectionPaths() {
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.VIEW_COUNT,
+			PAGE_SIZE, null, null, null);
+
+		Supplier<List<ArticleResponse>> entityPath = () -> {
+			List<Article> articles = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, PAGE_SIZE + 1);
+			List<UUID> ids = articles.stream().map(Article::getId).toList();
+			Set<UUID> viewed = articleViewRepository.findArticleIdsViewedByUser(ids, userId);
+			return articleMapper.toResponseList(articles).stream()
+				.map(r -> new ArticleResponse(r.id(), r.title(), r.summary(), r.sourceUrl(), r.publishDate(),
+					r.commentCount(), r.viewCount(), viewed.contains(r.id())))
+				.toList();
+		};
+		Supplier<List<ArticleResponse>> projectionPath =
+			() -> articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, PAGE_SIZE + 1, userId);
+
+		assertThat(projectionPath.get()).isEqualTo(entityPath.get());
+
+		Result entity = measure(entityPath);
+		Result projection = measure(projectionPath);
+
+		System.out.printf("[benchmark] entity     : %.3f ms/op, %,d bytes/op%n", entity.millisPerOp(),
+			entity.bytesPerOp());
+		System.out.printf("[benchmark] projection : %.3f ms/op, %,d bytes/op%n", projection.millisPerOp(),
+			projection.bytesPerOp());
+
+		assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+	}
+
+	private static Result measure(Supplier<List<ArticleResponse>> path) {
+		for (int i = 0; i < WARMUP; i++) {
+			path.get();
+		}
+
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			path.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		return new Result(elapsed / 1_000_000.0 / ITERATIONS, allocated / ITERATIONS);
+	}
+
+	private record Result(double millisPerOp, long bytesPerOp) {
+	}
+}
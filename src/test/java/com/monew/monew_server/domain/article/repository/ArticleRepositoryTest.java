@@ -3,6 +3,7 @@ package com.monew.monew_server.domain.article.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +22,10 @@ import com.monew.monew_server.domain.article.dto.ArticleRequest;
 import com.monew.monew_server.domain.article.entity.Article;
 import com.monew.monew_server.domain.article.entity.ArticleSortType;
 import com.monew.monew_server.domain.article.entity.ArticleSource;
+import com.monew.monew_server.domain.interest.entity.ArticleInterest;
+import com.monew.monew_server.domain.interest.entity.Interest;
+
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @Import(QuerydslConfig.class)
@@ -37,6 +42,9 @@ class ArticleRepositoryTest {
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	@BeforeEach
 	void clearDatabase() {
 		jdbcTemplate.execute("TRUNCATE TABLE articles RESTART IDENTITY CASCADE");
@@ -73,7 +81,9 @@ class ArticleRepositoryTest {
 			null,
 			ArticleSortType.DATE,
 			10,
-			"2025-10-27T10:30:00Z"
+			"2025-10-27T10:30:00Z",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -82,6 +92,35 @@ class ArticleRepositoryTest {
 		assertThat(result.get(0).getTitle()).contains("삼성");
 	}
 
+	@Test
+	@DisplayName("날짜로 기사 검색 - 그날 0시부터 다음 날 0시 전까지만 포함한다")
+	void shouldFilterByDateAsHalfOpenRange() {
+		Instant startOfDay = Instant.parse("2025-10-14T00:00:00Z");
+		articleRepository.saveAll(List.of(
+			dated("http://test.com/start", startOfDay),
+			dated("http://test.com/end", Instant.parse("2025-10-14T23:59:59.999999Z")),
+			dated("http://test.com/next", Instant.parse("2025-10-15T00:00:00Z"))
+		));
+
+		ArticleRequest request = new ArticleRequest(
+			null,
+			null,
+			null,
+			LocalDate.of(2025, 10, 14),
+			null,
+			ArticleSortType.DATE,
+			10,
+			null,
+			null,
+			null
+		);
+
+		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
+
+		assertThat(result).extracting(Article::getSourceUrl)
+			.containsExactlyInAnyOrder("http://test.com/start", "http://test.com/end");
+	}
+
 	@Test
 	@DisplayName("키워드로 기사 검색 - 요약 매칭")
 	void shouldFindArticlesByKeywordInSummary() {
@@ -104,6 +143,8 @@ class ArticleRepositoryTest {
 			null,
 			ArticleSortType.DATE,
 			10,
+			null,
+			null,
 			null
 		);
 
@@ -113,6 +154,111 @@ class ArticleRepositoryTest {
 		assertThat(result.get(0).getSummary()).contains("삼성");
 	}
 
+	@Test
+	@DisplayName("관련도 정렬 - 제목 일치가 요약 일치보다 먼저, 커서로 다음 페이지 조회")
+	void shouldSortByRelevance() {
+		Article summaryOnly = Article.builder()
+			.title("경제 동향")
+			.summary("삼성전자의 실적이 좋습니다")
+			.source(ArticleSource.NAVER)
+			.sourceUrl("http://a.com")
+			.createdAt(Instant.now())
+			.publishDate(Instant.parse("2025-10-27T10:00:00Z"))
+			.build();
+
+		Article titleOnly = Article.builder()
+			.title("삼성전자 실적 발표")
+			.summary("요약")
+			.source(ArticleSource.NAVER)
+			.sourceUrl("http://b.com")
+			.createdAt(Instant.now())
+			.publishDate(Instant.parse("2025-10-25T10:00:00Z"))
+			.build();
+
+		articleRepository.saveAll(List.of(summaryOnly, titleOnly));
+
+		ArticleRequest firstPage = new ArticleRequest(
+			"삼성", null, null, null, null,
+			ArticleSortType.RELEVANCE, 1, null, null, null
+		);
+
+		List<Article> first = articleRepositoryCustom.findArticlesWithFilterAndCursor(firstPage, 1);
+
+		assertThat(first).extracting(Article::getId).containsExactly(titleOnly.getId());
+
+		ArticleRequest secondPage = new ArticleRequest(
+			"삼성", null, null, null, titleOnly.getId().toString(),
+			ArticleSortType.RELEVANCE, 1, "2|2025-10-25T10:00:00Z", null, null
+		);
+
+		List<Article> second = articleRepositoryCustom.findArticlesWithFilterAndCursor(secondPage, 1);
+
+		assertThat(second).extracting(Article::getId).containsExactly(summaryOnly.getId());
+	}
+
+	@Test
+	@DisplayName("관련도 정렬 + 관심사 필터 - 여러 관심사에 걸린 기사도 한 번만 나오고 개수도 같다")
+	void shouldSortByRelevanceWithInterestIds() {
+		Article titleMatch = dated("http://a.com", Instant.parse("2025-10-25T10:00:00Z"));
+		titleMatch.setTitle("삼성전자 실적 발표");
+		Article summaryMatch = dated("http://b.com", Instant.parse("2025-10-27T10:00:00Z"));
+		summaryMatch.setSummary("삼성전자의 실적이 좋습니다");
+		Article untagged = dated("http://c.com", Instant.parse("2025-10-26T10:00:00Z"));
+		untagged.setTitle("삼성 소식");
+		articleRepository.saveAll(List.of(titleMatch, summaryMatch, untagged));
+
+		Interest economy = Interest.builder().name("경제").build();
+		Interest tech = Interest.builder().name("기술").build();
+		entityManager.persist(economy);
+		entityManager.persist(tech);
+		entityManager.persist(ArticleInterest.builder().article(titleMatch).interest(economy).build());
+		entityManager.persist(ArticleInterest.builder().article(titleMatch).interest(tech).build());
+		entityManager.persist(ArticleInterest.builder().article(summaryMatch).interest(economy).build());
+		entityManager.flush();
+
+		ArticleRequest request = new ArticleRequest(
+			"삼성", List.of(economy.getId(), tech.getId()), null, null, null,
+			ArticleSortType.RELEVANCE, 10, null, null, null
+		);
+
+		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
+
+		assertThat(result).extracting(Article::getId).containsExactly(titleMatch.getId(), summaryMatch.getId());
+		assertThat(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 10, null)).hasSize(2);
+		assertThat(articleRepositoryCustom.countArticlesWithFilter(request)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("유사 기사 묶기 - 대표 기사가 삭제되면 남은 기사 중 하나가 대신 나온다")
+	void shouldPromoteLiveMemberWhenRepresentativeDeleted() {
+		Article representative = dated("http://a.com", Instant.parse("2025-10-25T10:00:00Z"));
+		Article first = dated("http://b.com", Instant.parse("2025-10-25T11:00:00Z"));
+		Article second = dated("http://c.com", Instant.parse("2025-10-25T12:00:00Z"));
+		Article single = dated("http://d.com", Instant.parse("2025-10-25T13:00:00Z"));
+		articleRepository.saveAllAndFlush(List.of(representative, first, second, single));
+		for (Article member : List.of(representative, first, second)) {
+			jdbcTemplate.update("UPDATE articles SET duplicate_cluster_id = ? WHERE id = ?",
+				representative.getId(), member.getId());
+		}
+
+		ArticleRequest request = new ArticleRequest(
+			null, null, null, null, null, ArticleSortType.DATE, 10, null, null, true
+		);
+
+		assertThat(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10))
+			.extracting(Article::getId).containsExactly(single.getId(), representative.getId());
+
+		representative.softDelete();
+		articleRepository.saveAndFlush(representative);
+
+		// ID 순서는 DB 의 UUID 비교를 따르므로 둘 중 하나만 나오는지 확인한다
+		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
+		assertThat(result).hasSize(2);
+		assertThat(result.get(0).getId()).isEqualTo(single.getId());
+		assertThat(result.get(1).getId()).isIn(first.getId(), second.getId());
+		assertThat(articleRepositoryCustom.countArticlesWithFilter(request)).isEqualTo(2);
+	}
+
 	@Test
 	@DisplayName("전체 기사 개수 조회 - 조건 없는 경우 전체 반환")
 	void shouldCountAllArticles() {
@@ -144,6 +290,8 @@ class ArticleRepositoryTest {
 			null,
 			ArticleSortType.DATE,
 			10,
+			null,
+			null,
 			null
 		);
 
@@ -183,6 +331,8 @@ class ArticleRepositoryTest {
 			null,
 			ArticleSortType.DATE,
 			10,
+			null,
+			null,
 			null
 		);
 
@@ -214,6 +364,8 @@ class ArticleRepositoryTest {
 			null,
 			ArticleSortType.DATE,
 			10,
+			null,
+			null,
 			null
 		);
 
@@ -257,7 +409,9 @@ class ArticleRepositoryTest {
 			cursorId,
 			ArticleSortType.DATE,
 			10,
-			nextAfter
+			nextAfter,
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -287,7 +441,9 @@ class ArticleRepositoryTest {
 			article.getId().toString(),
 			ArticleSortType.DATE,
 			10,
-			"2025-10-25T10:00:00Z"
+			"2025-10-25T10:00:00Z",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -307,7 +463,9 @@ class ArticleRepositoryTest {
 			"not-a-uuid",
 			ArticleSortType.DATE,
 			10,
-			"2025-10-25T10:00:00Z"
+			"2025-10-25T10:00:00Z",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -327,7 +485,9 @@ class ArticleRepositoryTest {
 			UUID.randomUUID().toString(),
 			ArticleSortType.DATE,
 			10,
-			""
+			"",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -343,7 +503,9 @@ class ArticleRepositoryTest {
 			UUID.randomUUID().toString(),
 			ArticleSortType.COMMENT_COUNT,
 			10,
-			"100"
+			"100",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -359,7 +521,9 @@ class ArticleRepositoryTest {
 			UUID.randomUUID().toString(),
 			ArticleSortType.VIEW_COUNT,
 			10,
-			"100"
+			"100",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -375,7 +539,9 @@ class ArticleRepositoryTest {
 			UUID.randomUUID().toString(),
 			ArticleSortType.DATE,
 			10,
-			"2025-10-25T10:00:00Z"
+			"2025-10-25T10:00:00Z",
+			null,
+			null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -388,7 +554,7 @@ class ArticleRepositoryTest {
 	void shouldSkipCursorConditionWhenCursorNull() {
 		ArticleRequest request = new ArticleRequest(
 			null, null, null, null, null,
-			ArticleSortType.DATE, 10, "2025-10-25T10:00:00Z"
+			ArticleSortType.DATE, 10, "2025-10-25T10:00:00Z", null, null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
@@ -400,12 +566,12 @@ class ArticleRepositoryTest {
 	void shouldHandleInvalidSourceEnum() {
 		ArticleRequest request = new ArticleRequest(
 			null, null, null, null, null,
-			ArticleSortType.DATE, 10, null
+			ArticleSortType.DATE, 10, null, null, null
 		);
 
 		ArticleRequest spyRequest = new ArticleRequest(
 			null, null, ArticleSource.valueOf("NAVER"), null, null,
-			ArticleSortType.DATE, 10, null
+			ArticleSortType.DATE, 10, null, null, null
 		);
 
 		long count = articleRepositoryCustom.countArticlesWithFilter(spyRequest);
@@ -417,7 +583,7 @@ class ArticleRepositoryTest {
 	void shouldHandleNullKeyword() {
 		ArticleRequest request = new ArticleRequest(
 			null, null, null, null, null,
-			ArticleSortType.DATE, 10, null
+			ArticleSortType.DATE, 10, null, null, null
 		);
 
 		long count = articleRepositoryCustom.countArticlesWithFilter(request);
@@ -429,7 +595,7 @@ class ArticleRepositoryTest {
 	void shouldHandleEmptyInterestIds() {
 		ArticleRequest request = new ArticleRequest(
 			null, List.of(), null, null, null,
-			ArticleSortType.DATE, 10, null
+			ArticleSortType.DATE, 10, null, null, null
 		);
 
 		long count = articleRepositoryCustom.countArticlesWithFilter(request);
@@ -441,10 +607,21 @@ class ArticleRepositoryTest {
 	void shouldCoverDefaultGetCountExpression() {
 		ArticleRequest request = new ArticleRequest(
 			null, null, null, null, null,
-			ArticleSortType.DATE, 10, null
+			ArticleSortType.DATE, 10, null, null, null
 		);
 
 		List<Article> result = articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 10);
 		assertThat(result).isNotNull();
 	}
+
+	private static Article dated(String sourceUrl, Instant publishDate) {
+		return Article.builder()
+			.title("기사 제목")
+			.summary("요약")
+			.source(ArticleSource.NAVER)
+			.sourceUrl(sourceUrl)
+			.createdAt(Instant.now())
+			.publishDate(publishDate)
+			.build();
+	}
 }
@@ -3,47 +3,74 @@ package com.monew.monew_server.domain.article.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
 
+import com.monew.monew_server.domain.archive.ArchiveRepository;
+import com.monew.monew_server.domain.article.cache.ArticleDetailCache;
+import com.monew.monew_server.domain.article.cache.ArticleListCache;
+import com.monew.monew_server.domain.article.count.ArticleTotalCounter;
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
 import com.monew.monew_server.domain.article.dto.ArticleRequest;
 import com.monew.monew_server.domain.article.dto.ArticleResponse;
 import com.monew.monew_server.domain.article.dto.CursorPageResponseArticleDto;
 import com.monew.monew_server.domain.article.entity.Article;
+import com.monew.monew_server.domain.article.entity.ArticleCountMode;
 import com.monew.monew_server.domain.article.entity.ArticleSortType;
 import com.monew.monew_server.domain.article.entity.ArticleSource;
-import com.monew.monew_server.domain.article.mapper.ArticleMapper;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleEstimateRepository;
+import com.monew.monew_server.domain.article.repository.ArticleRepository;
 import com.monew.monew_server.domain.article.repository.ArticleRepositoryCustom;
-import com.monew.monew_server.domain.article.repository.ArticleViewRepository;
-import com.monew.monew_server.domain.article.repository.projection.CommentCountProjection;
-import com.monew.monew_server.domain.article.repository.projection.ViewCountProjection;
-import com.monew.monew_server.domain.comment.repository.CommentRepository;
+import com.monew.monew_server.domain.article.trending.TrendingCounter;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot;
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot.TrendingEntry;
+import com.monew.monew_server.domain.article.view.ArticleViewIngestor;
+import com.monew.monew_server.domain.article.view.ViewedArticleIndex;
 import com.monew.monew_server.exception.ArticleNotFoundException;
+import com.monew.monew_server.exception.BusinessException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class ArticleServiceTest {
 
 	@Mock
 	private ArticleRepositoryCustom articleRepositoryCustom;
 	@Mock
-	private ArticleMapper articleMapper;
+	private ArticleRepository articleRepository;
+	@Mock
+	private ArchiveRepository archiveRepository;
+	@Mock
+	private ArticleCounterAggregator articleCounterAggregator;
+	@Mock
+	private ArticleViewIngestor articleViewIngestor;
+	@Mock
+	private ArticleEstimateRepository articleEstimateRepository;
+	@Mock
+	private ArticleDetailCache articleDetailCache;
+	@Mock
+	private ViewedArticleIndex viewedArticleIndex;
 	@Mock
-	private ArticleViewRepository articleViewRepository;
+	private TrendingCounter trendingCounter;
 	@Mock
-	private CommentRepository commentRepository;
+	private ArticleVersionTracker articleVersionTracker;
 
-	@InjectMocks
+	private ArticleTotalCounter articleTotalCounter;
+	private ArticleListCache articleListCache;
 	private ArticleService articleService;
 
 	private final UUID DUMMY_USER_ID = UUID.randomUUID();
@@ -51,16 +78,82 @@ class ArticleServiceTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		when(articleViewRepository.findViewCountsByArticleIds(anyList())).thenReturn(Collections.emptyList());
-		when(articleViewRepository.findArticleIdsViewedByUser(anyList(), any())).thenReturn(Collections.emptySet());
-		when(commentRepository.findCommentCountsByArticleIds(anyList())).thenReturn(Collections.emptyList());
+		articleTotalCounter = new ArticleTotalCounter(articleRepositoryCustom,
+			articleEstimateRepository, ArticleCountMode.EXACT, Duration.ofMinutes(1), 100);
+		articleListCache = new ArticleListCache(articleVersionTracker, trendingCounter, new SimpleMeterRegistry(),
+			true, 100, Duration.ofMinutes(1));
+		articleService = articleServiceWith(Runnable::run);
+	}
+
+	private ArticleService articleServiceWith(Executor executor) {
+		return new ArticleService(articleRepository, articleRepositoryCustom, archiveRepository,
+			articleCounterAggregator, articleViewIngestor, articleTotalCounter, articleDetailCache, articleListCache,
+			viewedArticleIndex, trendingCounter, articleVersionTracker, executor, new SimpleMeterRegistry(), 100L);
+	}
+
+	@Test
+	@DisplayName("Service - 비로그인 목록은 정규화한 요청으로 캐시해 같은 조건이면 다시 조회하지 않는다")
+	void shouldCacheAnonymousList() {
+		UUID interestA = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+		UUID interestB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+		ArticleRequest first = new ArticleRequest("AI", List.of(interestB, interestA), null, null, "", null, null,
+			null, null, null);
+		ArticleRequest second = new ArticleRequest("ai", List.of(interestA, interestB), null, null, null,
+			ArticleSortType.DATE, 10, " ", null, false);
+		ArticleResponse response = new ArticleResponse(UUID.randomUUID(), "AI 뉴스", "S", "url", Instant.now(), 0L,
+			0L, false);
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(any(ArticleRequest.class), eq(11),
+			isNull())).thenReturn(List.of(response));
+
+		CursorPageResponseArticleDto cached = articleService.fetchArticles(first, null);
+
+		assertThat(articleService.fetchArticles(second, null)).isSameAs(cached);
+		assertThat(articleService.fetchArticles(second, DUMMY_USER_ID)).isNotSameAs(cached);
+		verify(articleRepositoryCustom, times(2)).findArticleResponsesWithFilterAndCursor(any(ArticleRequest.class),
+			eq(11), isNull());
+	}
+
+	@Test
+	@DisplayName("Service - COUNT 단계가 제한 시간을 넘기면 목록은 그대로 응답하고 totalElements 는 -1")
+	void shouldFallBackWhenCountStageTimesOut() {
+		// 작업을 실행하지 않는 executor -> COUNT 단계가 끝나지 않는다
+		ArticleService slowService = articleServiceWith(task -> {
+		});
+		Article article = Article.builder().id(UUID.randomUUID()).publishDate(Instant.now()).build();
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.DATE, 10, null, null, null);
+
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 11, null))
+			.thenReturn(List.of(
+			new ArticleResponse(article.getId(), "A", "S", "url", article.getPublishDate(), 0L, 0L, false)
+		));
+
+		CursorPageResponseArticleDto dto = slowService.fetchArticles(request, DUMMY_USER_ID);
+
+		assertThat(dto.getContent()).hasSize(1);
+		assertThat(dto.getContent().get(0).viewedByMe()).isFalse();
+		assertThat(dto.getTotalElements()).isEqualTo(ArticleTotalCounter.UNKNOWN);
+	}
+
+	@Test
+	@DisplayName("Service - COUNT 쿼리가 DB 쿼리 타임아웃으로 끊기면 오류 대신 totalElements 를 -1 로 응답한다")
+	void shouldFallBackWhenCountQueryTimesOut() {
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.DATE, 10, null, null, null);
+
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 11, null)).thenReturn(List.of());
+		when(articleRepositoryCustom.countArticlesWithFilter(request))
+			.thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+		CursorPageResponseArticleDto dto = articleService.fetchArticles(request, DUMMY_USER_ID);
+
+		assertThat(dto.getContent()).isEmpty();
+		assertThat(dto.getTotalElements()).isEqualTo(ArticleTotalCounter.UNKNOWN);
 	}
 
 	@Test
 	@DisplayName("Service - 키워드로 기사 검색 및 hasNext true")
 	void shouldReturnArticlesByKeyword() {
 		ArticleRequest request = new ArticleRequest("삼성", null, ArticleSource.NAVER, null, null, ArticleSortType.DATE,
-			10, null);
+			10, null, null, null);
 		List<Article> mockArticles = IntStream.range(0, 11)
 			.mapToObj((int i) -> Article.builder()
 				.id(UUID.randomUUID())
@@ -73,8 +166,8 @@ class ArticleServiceTest {
 				.build())
 			.collect(Collectors.toList());
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 11)).thenReturn(mockArticles);
-		when(articleMapper.toResponseList(anyList())).thenReturn(mockArticles.stream()
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 11, null))
+			.thenReturn(mockArticles.stream()
 			.map(a -> new ArticleResponse(a.getId(), a.getTitle(), a.getSummary(), a.getSourceUrl(), a.getPublishDate(),
 				0L, 0L, false))
 			.collect(Collectors.toList()));
@@ -87,15 +180,17 @@ class ArticleServiceTest {
 		assertThat(response.getNextCursor()).isEqualTo(mockArticles.get(10).getId().toString());
 		assertThat(response.getNextAfter()).isEqualTo(mockArticles.get(10).getPublishDate().toString());
 
-		verify(articleRepositoryCustom, times(1)).findArticlesWithFilterAndCursor(request, 11);
+		verify(articleRepositoryCustom, times(1)).findArticleResponsesWithFilterAndCursor(request, 11, null);
 	}
 
 	@Test
 	@DisplayName("Service - 키워드 검색 결과가 0개일 때 ArticleNotFoundException 발생")
 	void shouldThrowExceptionWhenKeywordSearchHasNoResults() {
-		ArticleRequest request = new ArticleRequest("없는키워드", null, null, null, null, ArticleSortType.DATE, 10, null);
+		ArticleRequest request = new ArticleRequest("없는키워드", null, null, null, null, ArticleSortType.DATE, 10, null, null,
+			null);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 11)).thenReturn(Collections.emptyList());
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 11, null))
+			.thenReturn(Collections.emptyList());
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(0L);
 
 		assertThatThrownBy(() -> articleService.fetchArticles(request, DUMMY_USER_ID))
@@ -110,12 +205,11 @@ class ArticleServiceTest {
 		Article a1 = Article.builder().id(UUID.randomUUID()).publishDate(publishDate).build();
 		Article a2 = Article.builder().id(UUID.randomUUID()).publishDate(publishDate.minusSeconds(1)).build();
 
-		ArticleRequest request = new ArticleRequest(null, null, null, null, null, null, 1, null); // sortBy=null
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, null, 1, null, null, null); // sortBy=null
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(any(ArticleRequest.class), eq(2)))
-			.thenReturn(List.of(a1, a2));
 		when(articleRepositoryCustom.countArticlesWithFilter(any(ArticleRequest.class))).thenReturn(2L);
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(any(ArticleRequest.class), eq(2), any()))
+			.thenReturn(List.of(
 			new ArticleResponse(a1.getId(), "A1", "S", "url", a1.getPublishDate(), 0L, 0L, false),
 			new ArticleResponse(a2.getId(), "A2", "S", "url", a2.getPublishDate(), 0L, 0L, false)
 		));
@@ -137,39 +231,13 @@ class ArticleServiceTest {
 		Article a2 = Article.builder().id(id2).publishDate(Instant.now().plusSeconds(1)).build();
 
 		ArticleRequest request = new ArticleRequest(
-			null, null, null, null, null, ArticleSortType.VIEW_COUNT, 1, null
+			null, null, null, null, null, ArticleSortType.VIEW_COUNT, 1, null, null, null
 		);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 2))
-			.thenReturn(List.of(a1, a2));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(2L);
 
-		when(articleViewRepository.findViewCountsByArticleIds(anyList())).thenReturn(List.of(
-			new ViewCountProjection() {
-				@Override
-				public UUID getArticleId() {
-					return id1;
-				}
-
-				@Override
-				public long getViewCount() {
-					return 10L;
-				}
-			},
-			new ViewCountProjection() {
-				@Override
-				public UUID getArticleId() {
-					return id2;
-				}
-
-				@Override
-				public long getViewCount() {
-					return 5L;
-				}
-			}
-		));
-
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 2, null))
+			.thenReturn(List.of(
 			new ArticleResponse(id1, "A1", "S1", "url", Instant.now(), 0L, 10L, false),
 			new ArticleResponse(id2, "A2", "S2", "url", Instant.now().plusSeconds(1), 0L, 5L, false)
 		));
@@ -191,39 +259,13 @@ class ArticleServiceTest {
 		Article a2 = Article.builder().id(id2).publishDate(Instant.now().plusSeconds(1)).build(); // 댓글수 3
 
 		ArticleRequest request = new ArticleRequest(
-			null, null, null, null, null, ArticleSortType.COMMENT_COUNT, 2, null
+			null, null, null, null, null, ArticleSortType.COMMENT_COUNT, 2, null, null, null
 		);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 3))
-			.thenReturn(List.of(a1, a2));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(2L);
 
-		when(commentRepository.findCommentCountsByArticleIds(anyList())).thenReturn(List.of(
-			new CommentCountProjection() {
-				@Override
-				public UUID getArticleId() {
-					return id1;
-				}
-
-				@Override
-				public Long getCommentCount() {
-					return 3L;
-				}
-			},
-			new CommentCountProjection() {
-				@Override
-				public UUID getArticleId() {
-					return id2;
-				}
-
-				@Override
-				public Long getCommentCount() {
-					return 3L;
-				}
-			}
-		));
-
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 3, null))
+			.thenReturn(List.of(
 			new ArticleResponse(id1, "A1", "S1", "url", Instant.now(), 3L, 0L, false),
 			new ArticleResponse(id2, "A2", "S2", "url", Instant.now().plusSeconds(1), 3L, 0L, false)
 		));
@@ -243,14 +285,13 @@ class ArticleServiceTest {
 		Article a2 = Article.builder().id(UUID.randomUUID()).title("A2").publishDate(Instant.now()).build();
 
 		ArticleRequest request = new ArticleRequest(
-			null, null, null, null, null, ArticleSortType.VIEW_COUNT, null, null
+			null, null, null, null, null, ArticleSortType.VIEW_COUNT, null, null, null, null
 		);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 11))
-			.thenReturn(List.of(a1, a2));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(2L);
 
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 11, null))
+			.thenReturn(List.of(
 			new ArticleResponse(a1.getId(), "A1", "S", "url", Instant.now(), 0L, 5L, false),
 			new ArticleResponse(a2.getId(), "A2", "S", "url", Instant.now(), 0L, 5L, false)
 		));
@@ -268,14 +309,13 @@ class ArticleServiceTest {
 		Article a1 = Article.builder().id(UUID.randomUUID()).title("A1").publishDate(Instant.now()).build();
 
 		ArticleRequest request = new ArticleRequest(
-			null, null, null, null, null, ArticleSortType.DATE, 1, null
+			null, null, null, null, null, ArticleSortType.DATE, 1, null, null, null
 		);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 2))
-			.thenReturn(List.of(a1));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(1L);
 
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 2, null))
+			.thenReturn(List.of(
 			new ArticleResponse(a1.getId(), "A1", "S", "url", Instant.now(), 0L, 0L, false)
 		));
 
@@ -297,14 +337,13 @@ class ArticleServiceTest {
 		Article a2 = Article.builder().id(id2).title("A2").publishDate(Instant.now()).build();
 
 		ArticleRequest request = new ArticleRequest(
-			null, null, null, null, null, ArticleSortType.COMMENT_COUNT, 1, null
+			null, null, null, null, null, ArticleSortType.COMMENT_COUNT, 1, null, null, null
 		);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 2))
-			.thenReturn(List.of(a1, a2));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(2L);
 
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 2, null))
+			.thenReturn(List.of(
 			new ArticleResponse(id1, "A1", "S1", "url", Instant.now(), 1L, 2L, false),
 			new ArticleResponse(id2, "A2", "S2", "url", Instant.now(), 1L, 2L, false)
 		));
@@ -321,15 +360,13 @@ class ArticleServiceTest {
 	@DisplayName("Service - viewCount/commentCount null 처리 시 기본값 0 적용")
 	void shouldHandleNullViewAndCommentCounts() {
 		Article article = Article.builder().id(UUID.randomUUID()).publishDate(Instant.now()).build();
-		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.VIEW_COUNT, 1, null);
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.VIEW_COUNT, 1, null, null,
+			null);
 
-		when(articleRepositoryCustom.findArticlesWithFilterAndCursor(request, 2))
-			.thenReturn(List.of(article));
 		when(articleRepositoryCustom.countArticlesWithFilter(request)).thenReturn(1L);
 
-		when(articleViewRepository.findViewCountsByArticleIds(anyList())).thenReturn(Collections.emptyList());
-		when(commentRepository.findCommentCountsByArticleIds(anyList())).thenReturn(Collections.emptyList());
-		when(articleMapper.toResponseList(anyList())).thenReturn(List.of(
+		when(articleRepositoryCustom.findArticleResponsesWithFilterAndCursor(request, 2, null))
+			.thenReturn(List.of(
 			new ArticleResponse(article.getId(), "A", "S", "url", Instant.now(), null, null, false)
 		));
 
@@ -338,4 +375,62 @@ class ArticleServiceTest {
 		assertThat(dto.getContent().get(0).viewCount()).isEqualTo(0L);
 		assertThat(dto.getContent().get(0).commentCount()).isEqualTo(0L);
 	}
+
+	@Test
+	@DisplayName("Service - TRENDING 정렬은 트렌딩 순서를 따르고 필터에서 빠진 기사는 건너뛴다")
+	void shouldPageTrendingSnapshotInScoreOrder() {
+		UUID id1 = UUID.randomUUID();
+		UUID id2 = UUID.randomUUID();
+		UUID id3 = UUID.randomUUID();
+		when(trendingCounter.snapshot()).thenReturn(new TrendingSnapshot(List.of(
+			new TrendingEntry(id1, 5.0),
+			new TrendingEntry(id2, 3.0),
+			new TrendingEntry(id3, 1.0)
+		)));
+		ArticleRequest request = new ArticleRequest(null, null, null, null, null, ArticleSortType.TRENDING, 1, null,
+			null, null);
+
+		// id2 는 필터 조건에 맞지 않아 조회되지 않는다
+		when(articleRepositoryCustom.findArticleResponsesByIdsWithFilter(request, List.of(id1, id2, id3)))
+			.thenReturn(List.of(
+				new ArticleResponse(id3, "C", "S", "url", Instant.now(), 0L, 1L, false),
+				new ArticleResponse(id1, "A", "S", "url", Instant.now(), 0L, 5L, false)
+			));
+
+		CursorPageResponseArticleDto dto = articleService.fetchArticles(request, DUMMY_USER_ID);
+
+		assertThat(dto.getContent()).extracting(ArticleResponse::id).containsExactly(id1);
+		assertThat(dto.isHasNext()).isTrue();
+		assertThat(dto.getNextCursor()).isEqualTo(id3.toString());
+		// 점수가 아니라 순위를 커서로 넘긴다
+		assertThat(dto.getNextAfter()).isEqualTo("3");
+		// 전체 기사 COUNT 대신 트렌딩 집합 크기
+		assertThat(dto.getTotalElements()).isEqualTo(3);
+		verify(articleRepositoryCustom, never()).findArticleResponsesWithFilterAndCursor(any(), anyInt(), any());
+		verify(articleRepositoryCustom, never()).countArticlesWithFilter(any());
+	}
+
+	@Test
+	@DisplayName("Service - 기사 물리 삭제는 자식 행까지 함께 지운다")
+	void shouldPurgeChildRowsOnHardDelete() {
+		UUID articleId = UUID.randomUUID();
+		when(articleRepository.existsById(articleId)).thenReturn(true);
+
+		articleService.hardDeleteArticle(articleId);
+
+		verify(archiveRepository).purgeArticles(List.of(articleId));
+		verify(articleRepository, never()).delete(any());
+		verify(articleDetailCache).invalidate(articleId);
+	}
+
+	@Test
+	@DisplayName("Service - 없는 기사를 물리 삭제하면 BusinessException 발생")
+	void shouldThrowWhenHardDeletingMissingArticle() {
+		UUID articleId = UUID.randomUUID();
+		when(articleRepository.existsById(articleId)).thenReturn(false);
+
+		assertThatThrownBy(() -> articleService.hardDeleteArticle(articleId))
+			.isInstanceOf(BusinessException.class);
+		verify(archiveRepository, never()).purgeArticles(any());
+	}
 }
@@ -0,0 +1,139 @@
+package com.monew.monew_server.domain.article.trending;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.monew.monew_server.domain.article.trending.TrendingSnapshot.TrendingEntry;
+
+class TrendingCounterTest {
+
+	private static final long HOUR = 3_600_000L;
+
+	private final AtomicLong now = new AtomicLong(1_000 * HOUR);
+	private TrendingCounter trendingCounter;
+
+	@BeforeEach
+	void setUp() {
+		// 1시간 버킷, 24시간 창, 반감기 6시간, 상위 2개, 댓글 가중치 3
+		trendingCounter = new TrendingCounter(60, 24, 6, 2, 3, now::get);
+	}
+
+	@Test
+	@DisplayName("rebuild - 최근 활동일수록 높은 점수를 받는다")
+	void shouldDecayOlderActivity() {
+		UUID older = UUID.randomUUID();
+		UUID recent = UUID.randomUUID();
+
+		repeat(4, () -> trendingCounter.recordView(older));
+		now.addAndGet(6 * HOUR);
+		repeat(3, () -> trendingCounter.recordView(recent));
+		trendingCounter.rebuild();
+
+		// 반감기 한 번이 지났으므로 older 4건은 recent 2건과 같은 무게
+		assertThat(trendingCounter.snapshot().entries())
+			.extracting(TrendingEntry::articleId)
+			.containsExactly(recent, older);
+	}
+
+	@Test
+	@DisplayName("rebuild - 상위 K개만 유지하고, 새 활동이 생긴 기사만 다시 계산해 순위에 반영한다")
+	void shouldKeepTopKAndMergeDirtyArticles() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		UUID c = UUID.randomUUID();
+
+		repeat(3, () -> trendingCounter.recordView(a));
+		repeat(2, () -> trendingCounter.recordView(b));
+		trendingCounter.recordView(c);
+		trendingCounter.rebuild();
+		assertThat(ids(trendingCounter.snapshot())).containsExactly(a, b);
+
+		trendingCounter.recordComment(c);
+		trendingCounter.rebuild();
+		assertThat(ids(trendingCounter.snapshot())).containsExactly(c, a);
+	}
+
+	@Test
+	@DisplayName("rebuild - 창을 벗어난 활동은 점수에서 빠진다")
+	void shouldDropActivityOutsideWindow() {
+		UUID articleId = UUID.randomUUID();
+		trendingCounter.recordView(articleId);
+		trendingCounter.rebuild();
+		assertThat(trendingCounter.snapshot().entries()).hasSize(1);
+
+		now.addAndGet(25 * HOUR);
+		trendingCounter.rebuild();
+
+		assertThat(trendingCounter.snapshot().entries()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("rebuild - 버킷이 넘어가 상위 기사 점수가 빠지면 상위 K개 밖이던 기사도 다시 계산해 올린다")
+	void shouldRescoreAllTrackedWhenBucketRolls() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		UUID c = UUID.randomUUID();
+
+		repeat(10, () -> trendingCounter.recordView(a));
+		now.addAndGet(HOUR);
+		repeat(3, () -> trendingCounter.recordView(b));
+		repeat(2, () -> trendingCounter.recordView(c));
+		trendingCounter.rebuild();
+		assertThat(ids(trendingCounter.snapshot())).containsExactly(a, b);
+
+		// a 의 활동만 창 밖으로 밀려나고, b/c 에는 새 활동이 없다
+		now.addAndGet(23 * HOUR);
+		trendingCounter.rebuild();
+
+		assertThat(ids(trendingCounter.snapshot())).containsExactly(b, c);
+	}
+
+	@Test
+	@DisplayName("after - 재계산 후에도 같은 커서로 다음 항목을 이어서 읽는다")
+	void shouldContinueFromCursorAcrossRebuilds() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		repeat(2, () -> trendingCounter.recordView(a));
+		trendingCounter.recordView(b);
+		trendingCounter.rebuild();
+		TrendingEntry first = trendingCounter.snapshot().entries().get(0);
+
+		now.addAndGet(HOUR);
+		trendingCounter.rebuild();
+
+		assertThat(trendingCounter.snapshot().after(1, first.articleId()))
+			.extracting(TrendingEntry::articleId)
+			.containsExactly(b);
+	}
+
+	@Test
+	@DisplayName("after - 커서 기사가 상위 K개에서 빠졌으면 커서를 만들 때의 순위 다음부터 읽는다")
+	void shouldContinueFromRankWhenCursorDropped() {
+		UUID a = UUID.randomUUID();
+		UUID b = UUID.randomUUID();
+		UUID c = UUID.randomUUID();
+		TrendingSnapshot snapshot = new TrendingSnapshot(List.of(new TrendingEntry(a, 3.0),
+			new TrendingEntry(c, 1.0)));
+
+		assertThat(snapshot.after(1, b)).extracting(TrendingEntry::articleId).containsExactly(c);
+		assertThat(snapshot.after(5, b)).isEmpty();
+		assertThat(snapshot.rankOf(c)).isEqualTo(2);
+	}
+
+	private static List<UUID> ids(TrendingSnapshot snapshot) {
+		return snapshot.entries().stream().map(TrendingEntry::articleId).toList();
+	}
+
+	private static void repeat(int times, Runnable action) {
+		for (int i = 0; i < times; i++) {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.monew.monew_server.domain.article.view;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.counter.ArticleCounterAggregator;
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.article.repository.ArticleViewBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleViewIngestorTest {
+
+	@Mock
+	private ArticleViewBatchRepository articleViewBatchRepository;
+
+	@Mock
+	private ArticleCounterAggregator articleCounterAggregator;
+
+	@Mock
+	private ViewedArticleIndex viewedArticleIndex;
+	@Mock
+	private ArticleVersionTracker articleVersionTracker;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	private ArticleViewIngestor ingestor(int queueCapacity) {
+		return new ArticleViewIngestor(articleViewBatchRepository, articleCounterAggregator, viewedArticleIndex,
+			articleVersionTracker, meterRegistry, queueCapacity, 500, 100, 1000, 0.001);
+	}
+
+	@Test
+	@DisplayName("record - 같은 사용자의 반복 조회는 한 번만 적재하고, 삽입된 건만 조회수에 반영한다")
+	void shouldDeduplicateAndFlushInBatch() {
+		ArticleViewIngestor ingestor = ingestor(100);
+		UUID articleId = UUID.randomUUID();
+		UUID user1 = UUID.randomUUID();
+		UUID user2 = UUID.randomUUID();
+		when(articleViewBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(List.of(new ViewEvent(articleId, user1)));
+
+		ingestor.record(articleId, user1);
+		ingestor.record(articleId, user1);
+		ingestor.record(articleId, user2);
+		ingestor.flush();
+
+		verify(articleViewBatchRepository, times(1)).insertIgnoringDuplicates(
+			List.of(new ViewEvent(articleId, user1), new ViewEvent(articleId, user2)));
+		verify(articleCounterAggregator, times(1)).recordView(articleId);
+		verify(viewedArticleIndex, times(3)).markViewed(user1, articleId);
+		assertThat(meterRegistry.counter("monew.article.view.events", "result", "deduplicated").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("record - 큐가 가득 차면 호출 스레드에서 바로 반영한다")
+	void shouldWriteInlineWhenQueueIsFull() {
+		ArticleViewIngestor ingestor = ingestor(1);
+		UUID articleId = UUID.randomUUID();
+		UUID user1 = UUID.randomUUID();
+		UUID user2 = UUID.randomUUID();
+		when(articleViewBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(List.of());
+
+		ingestor.record(articleId, user1);
+		ingestor.record(articleId, user2);
+
+		verify(articleViewBatchRepository).insertIgnoringDuplicates(List.of(new ViewEvent(articleId, user2)));
+		assertThat(meterRegistry.counter("monew.article.view.events", "result", "rejected").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("record - 바로 반영도 실패하고 큐도 가득 차 버린 조회는 표시를 되돌려 다음 조회 때 다시 적재한다")
+	void shouldRollBackMarksOfDroppedViews() {
+		ArticleViewIngestor ingestor = ingestor(1);
+		UUID articleId = UUID.randomUUID();
+		UUID user1 = UUID.randomUUID();
+		UUID user2 = UUID.randomUUID();
+		when(articleViewBatchRepository.insertIgnoringDuplicates(anyList()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(List.of())
+			.thenReturn(List.of(new ViewEvent(articleId, user2)));
+
+		ingestor.record(articleId, user1);
+		ingestor.record(articleId, user2);
+
+		assertThat(meterRegistry.counter("monew.article.view.events", "result", "dropped").count())
+			.isEqualTo(1.0);
+		verify(viewedArticleIndex).evict(user2);
+		verify(viewedArticleIndex, never()).evict(user1);
+		verify(articleVersionTracker, times(2)).bumpViewed(user2);
+
+		// 블룸 필터가 비워져 같은 조회가 중복으로 걸러지지 않고 다시 적재된다
+		ingestor.flush();
+		ingestor.record(articleId, user2);
+		ingestor.flush();
+		verify(articleViewBatchRepository).insertIgnoringDuplicates(List.of(new ViewEvent(articleId, user1)));
+		verify(articleCounterAggregator).recordView(articleId);
+		assertThat(meterRegistry.counter("monew.article.view.events", "result", "deduplicated").count())
+			.isZero();
+	}
+}
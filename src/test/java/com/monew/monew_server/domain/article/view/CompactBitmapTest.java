@@ -0,0 +1,52 @@
+package com.monew.monew_server.domain.article.view;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompactBitmapTest {
+
+	@Test
+	@DisplayName("add/contains - 배열 컨테이너에서 비트맵 컨테이너로 바뀌어도 BitSet 과 같은 결과")
+	void shouldMatchBitSet() {
+		CompactBitmap bitmap = new CompactBitmap();
+		BitSet expected = new BitSet();
+		Random random = new Random(42);
+
+		// 첫 컨테이너는 4096개를 넘겨 비트맵으로 바뀌고, 나머지는 배열로 남는다
+		for (int i = 0; i < 10_000; i++) {
+			int value = i < 6_000 ? random.nextInt(1 << 16) : random.nextInt(1 << 22);
+			bitmap.add(value);
+			expected.set(value);
+		}
+
+		int mismatches = 0;
+		for (int value = 0; value < (1 << 22); value++) {
+			if (bitmap.contains(value) != expected.get(value)) {
+				mismatches++;
+			}
+		}
+		assertThat(mismatches).isZero();
+	}
+
+	@Test
+	@DisplayName("sizeInBytes - 원소 수에 비례해 늘고, 밀집 구간은 8KB 로 고정된다")
+	void shouldGrowCompactly() {
+		CompactBitmap sparse = new CompactBitmap();
+		for (int i = 0; i < 100; i++) {
+			sparse.add(i * 70_000);
+		}
+
+		CompactBitmap dense = new CompactBitmap();
+		for (int i = 0; i < 60_000; i++) {
+			dense.add(i);
+		}
+
+		assertThat(sparse.sizeInBytes()).isLessThan(8 * 1024);
+		assertThat(dense.sizeInBytes()).isBetween(8 * 1024, 9 * 1024);
+	}
+}
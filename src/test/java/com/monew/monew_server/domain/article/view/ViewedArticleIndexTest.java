@@ -0,0 +1,99 @@
+package com.monew.monew_server.domain.article.view;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.monew.monew_server.domain.article.repository.ArticleViewRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ViewedArticleIndexTest {
+
+	@Mock
+	private ArticleViewRepository articleViewRepository;
+
+	private ArticleOrdinalRegistry articleOrdinalRegistry;
+	private ViewedArticleIndex index;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		articleOrdinalRegistry = new ArticleOrdinalRegistry(1024 * 1024);
+		index = new ViewedArticleIndex(articleViewRepository, articleOrdinalRegistry, new SimpleMeterRegistry(),
+			1024 * 1024, Duration.ofMinutes(30));
+	}
+
+	@Test
+	@DisplayName("viewedAmong - 사용자별로 한 번만 적재하고 이후 새 조회는 메모리에 반영한다")
+	void shouldLoadOnceAndApplyNewViews() {
+		UUID userId = UUID.randomUUID();
+		UUID viewed = UUID.randomUUID();
+		UUID notViewed = UUID.randomUUID();
+		UUID viewedLater = UUID.randomUUID();
+		when(articleViewRepository.findArticleIdsByUserId(userId)).thenReturn(List.of(viewed));
+
+		assertThat(index.viewedAmong(userId, List.of(viewed, notViewed, viewedLater))).containsExactly(viewed);
+
+		index.markViewed(userId, viewedLater);
+
+		assertThat(index.viewedAmong(userId, List.of(viewed, notViewed, viewedLater)))
+			.containsExactlyInAnyOrder(viewed, viewedLater);
+		verify(articleViewRepository, times(1)).findArticleIdsByUserId(userId);
+	}
+
+	@Test
+	@DisplayName("markViewed - 아직 적재되지 않은 사용자는 건너뛰고 다음 조회 때 DB 에서 읽는다")
+	void shouldSkipUnloadedUser() {
+		UUID userId = UUID.randomUUID();
+		UUID articleId = UUID.randomUUID();
+		when(articleViewRepository.findArticleIdsByUserId(userId)).thenReturn(List.of(articleId));
+
+		index.markViewed(userId, articleId);
+
+		verifyNoInteractions(articleViewRepository);
+		assertThat(index.viewedAmong(userId, List.of(articleId))).containsExactly(articleId);
+	}
+
+	@Test
+	@DisplayName("markViewed - 번호표가 제 몫을 넘으면 새 세대로 바꾸고 비트맵을 다시 읽어도 결과는 같다")
+	void shouldRollOrdinalGenerationWhenFull() {
+		// 번호 2개까지만 담는 번호표
+		articleOrdinalRegistry = new ArticleOrdinalRegistry(4 * ArticleOrdinalRegistry.BYTES_PER_ORDINAL * 2);
+		index = new ViewedArticleIndex(articleViewRepository, articleOrdinalRegistry, new SimpleMeterRegistry(),
+			1024 * 1024, Duration.ofMinutes(30));
+		UUID userId = UUID.randomUUID();
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		UUID third = UUID.randomUUID();
+		when(articleViewRepository.findArticleIdsByUserId(userId)).thenReturn(List.of(first));
+		assertThat(index.viewedAmong(userId, List.of(first, second))).containsExactly(first);
+		ArticleOrdinalRegistry.Generation before = articleOrdinalRegistry.current();
+
+		index.markViewed(userId, second);
+
+		assertThat(articleOrdinalRegistry.current()).isNotSameAs(before);
+		assertThat(articleOrdinalRegistry.size()).isZero();
+
+		when(articleViewRepository.findArticleIdsByUserId(userId)).thenReturn(List.of(first, second));
+		assertThat(index.viewedAmong(userId, List.of(first, second, third))).containsExactlyInAnyOrder(first, second);
+		verify(articleViewRepository, times(2)).findArticleIdsByUserId(userId);
+		assertThat(articleOrdinalRegistry.size()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("viewedAmong - 비로그인 사용자는 DB 를 조회하지 않는다")
+	void shouldReturnEmptyForAnonymous() {
+		assertThat(index.viewedAmong(null, List.of(UUID.randomUUID()))).isEmpty();
+		verifyNoInteractions(articleViewRepository);
+	}
+}
@@ -0,0 +1,238 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.interest.dto.CursorPageResponseInterestDto;
+import com.monew.monew_server.domain.interest.dto.InterestDto;
+import com.monew.monew_server.domain.interest.dto.InterestQuery;
+import com.monew.monew_server.domain.interest.entity.Interest;
+import com.monew.monew_server.domain.interest.entity.InterestKeyword;
+import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import com.monew.monew_server.domain.interest.subscription.SubscriptionSetCache;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InterestCatalogTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private InterestRepository interestRepository;
+
+    @Mock
+    private InterestKeywordRepository interestKeywordRepository;
+
+    @Mock
+    private SubscriptionSetCache subscriptionSetCache;
+
+    private InterestCatalog catalog;
+
+    private Interest docker;
+    private Interest java;
+    private Interest react;
+    private Interest spring;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        catalog = new InterestCatalog(interestRepository, interestKeywordRepository, subscriptionSetCache, true);
+
+        // 구독자 수: Java 2, Spring 1, Docker 0, React 0 / 생성 순서: React, Java, Spring, Docker
+        docker = interest("Docker", 0, NOW.plusSeconds(3));
+        java = interest("Java", 2, NOW.plusSeconds(1));
+        react = interest("React", 0, NOW);
+        spring = interest("Spring", 1, NOW.plusSeconds(2));
+        when(interestRepository.findAllOrderByLowerName()).thenReturn(List.of(docker, java, react, spring));
+        when(interestKeywordRepository.findAll()).thenReturn(List.of(
+            InterestKeyword.builder().name("Boot").interest(spring).build(),
+            InterestKeyword.builder().name("JVM").interest(java).build()
+        ));
+    }
+
+    private static Interest interest(String name, long subscriberCount, Instant createdAt) {
+        Interest interest = Interest.builder().id(UUID.randomUUID()).name(name).build();
+        ReflectionTestUtils.setField(interest, "subscriberCount", subscriberCount);
+        ReflectionTestUtils.setField(interest, "createdAt", createdAt);
+        return interest;
+    }
+
+    private static List<String> names(CursorPageResponseInterestDto response) {
+        return response.content().stream().map(InterestDto::name).toList();
+    }
+
+    @Test
+    @DisplayName("findAll - 읽기 전에는 empty 를 돌려 SQL 로 조회하게 한다")
+    void shouldReturnEmptyBeforeLoad() {
+        InterestQuery query = new InterestQuery(null, null, null, null, null, 2, null, null);
+
+        assertThat(catalog.findAll(query, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAll - 이름 DESC 로 커서를 따라 끝까지 조회한다")
+    void shouldPageByNameWithCursor() {
+        catalog.load();
+
+        CursorPageResponseInterestDto first = catalog.findAll(
+            new InterestQuery(null, "name", "DESC", null, null, 2, null, null), null).orElseThrow();
+        assertThat(names(first)).containsExactly("Spring", "React");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo("React");
+        assertThat(first.nextAfter()).isEqualTo(react.getCreatedAt());
+        assertThat(first.totalElements()).isEqualTo(4);
+
+        CursorPageResponseInterestDto second = catalog.findAll(
+            new InterestQuery(null, "name", "DESC", first.nextCursor(), first.nextAfter(), 2, null, null), null)
+            .orElseThrow();
+        assertThat(names(second)).containsExactly("Java", "Docker");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.nextAfter()).isNull();
+    }
+
+    @Test
+    @DisplayName("findAll - 구독자 수가 같으면 최신순으로 이어서 조회한다")
+    void shouldBreakCountTiesByCreatedAt() {
+        catalog.load();
+
+        CursorPageResponseInterestDto response = catalog.findAll(
+            new InterestQuery(null, "subscriberCount", "DESC", "1", spring.getCreatedAt(), 10, null, null), null)
+            .orElseThrow();
+
+        assertThat(names(response)).containsExactly("Docker", "React");
+    }
+
+    @Test
+    @DisplayName("findAll - 이름과 키워드에서 대소문자 없이 검색하고 전체 개수도 필터 기준으로 센다")
+    void shouldFilterByNameOrKeyword() {
+        catalog.load();
+
+        CursorPageResponseInterestDto response = catalog.findAll(
+            new InterestQuery("boot", null, null, null, null, 10, null, null), null).orElseThrow();
+
+        assertThat(names(response)).containsExactly("Spring");
+        assertThat(response.content().get(0).keywords()).containsExactly("Boot");
+        assertThat(response.totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAll - 스냅샷에 없는 이름 커서는 empty, 숫자가 아닌 구독자 수 커서는 예외")
+    void shouldHandleUnknownCursor() {
+        catalog.load();
+
+        assertThat(catalog.findAll(
+            new InterestQuery(null, "name", "DESC", "Kotlin", NOW, 2, null, null), null)).isEmpty();
+        assertThatThrownBy(() -> catalog.findAll(
+            new InterestQuery(null, "subscriberCount", "DESC", "not-a-number", NOW, 2, null, null), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("invalid cursor: not-a-number");
+    }
+
+    @Test
+    @DisplayName("findAll - subscribedByMe 는 페이지에 담긴 관심사만 구독 집합 캐시에서 확인한다")
+    void shouldResolveSubscribedByMeForPage() {
+        catalog.load();
+        UUID userId = UUID.randomUUID();
+        when(subscriptionSetCache.subscribedAmong(eq(userId), anyCollection())).thenReturn(Set.of(spring.getId()));
+        InterestQuery query = new InterestQuery(null, "name", "DESC", null, null, 2, null, null);
+
+        CursorPageResponseInterestDto response = catalog.findAll(query, userId).orElseThrow();
+
+        assertThat(response.content()).extracting(InterestDto::subscribedByMe).containsExactly(true, false);
+        verify(subscriptionSetCache).subscribedAmong(userId, List.of(spring.getId(), react.getId()));
+
+        CursorPageResponseInterestDto anonymous = catalog.findAll(query, null).orElseThrow();
+        assertThat(anonymous.content()).extracting(InterestDto::subscribedByMe).containsExactly(false, false);
+    }
+
+    @Test
+    @DisplayName("applySubscriberDeltas - 증분을 반영한 새 스냅샷으로 구독자 순서가 바뀐다")
+    void shouldReorderAfterSubscriberDeltas() {
+        catalog.load();
+
+        catalog.applySubscriberDeltas(Map.of(react.getId(), 3L, java.getId(), -2L), () -> { });
+
+        CursorPageResponseInterestDto response = catalog.findAll(
+            new InterestQuery(null, "subscriberCount", "DESC", null, null, 10, null, null), null).orElseThrow();
+        assertThat(names(response)).containsExactly("React", "Spring", "Docker", "Java");
+        assertThat(response.content().get(0).subscriberCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("applySubscriberDeltas - DB 반영이 실패하면 스냅샷을 그대로 두고 예외를 던진다")
+    void shouldKeepSnapshotWhenPersistFails() {
+        catalog.load();
+
+        assertThatThrownBy(() -> catalog.applySubscriberDeltas(Map.of(react.getId(), 3L), () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        CursorPageResponseInterestDto response = catalog.findAll(
+            new InterestQuery(null, "subscriberCount", "DESC", null, null, 10, null, null), null).orElseThrow();
+        assertThat(names(response)).containsExactly("Java", "Spring", "Docker", "React");
+    }
+
+    @Test
+    @DisplayName("load - 진행 중인 구독자 수 반영이 끝난 뒤에 읽어 같은 증분을 두 번 더하지 않는다")
+    void shouldNotApplyDeltaTwiceWhenLoadRacesFlush() throws Exception {
+        catalog.load();
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(() ->
+            catalog.applySubscriberDeltas(Map.of(react.getId(), 3L), () -> {
+                persisting.countDown();
+                await(release);
+                // DB 에는 증분이 반영된 값이 남는다
+                ReflectionTestUtils.setField(react, "subscriberCount", 3L);
+            }));
+        assertThat(persisting.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> load = CompletableFuture.runAsync(catalog::load);
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        load.get(5, TimeUnit.SECONDS);
+
+        CursorPageResponseInterestDto response = catalog.findAll(
+            new InterestQuery(null, "subscriberCount", "DESC", null, null, 1, null, null), null).orElseThrow();
+        assertThat(names(response)).containsExactly("React");
+        assertThat(response.content().get(0).subscriberCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("load - 읽다가 실패하면 이전 스냅샷을 유지한다")
+    void shouldKeepPreviousSnapshotWhenLoadFails() {
+        catalog.load();
+        when(interestRepository.findAllOrderByLowerName()).thenThrow(new IllegalStateException("db down"));
+
+        catalog.load();
+
+        assertThat(catalog.findAll(new InterestQuery(null, null, null, null, null, 10, null, null), null))
+            .hasValueSatisfying(response -> assertThat(response.totalElements()).isEqualTo(4));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
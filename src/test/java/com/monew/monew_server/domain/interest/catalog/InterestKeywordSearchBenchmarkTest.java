@@ -0,0 +1,107 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Row;
+import com.monew.monew_server.domain.interest.dto.InterestQuery;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 관심사 10만 건, 키워드 100만 건에서 trigram 색인 키워드 검색과 전체 순회 검색의 지연 시간을 비교하는 벤치마크.
+ * 스냅샷을 만드는 데 수 초가 걸리므로 기본 빌드에서는 돌지 않는다.
+ * ./gradlew test --tests '*InterestKeywordSearchBenchmarkTest' -Dmonew.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "monew.benchmark", matches = "true")
+class InterestKeywordSearchBenchmarkTest {
+
+    private static final int INTEREST_COUNT = 100_000;
+    private static final int KEYWORDS_PER_INTEREST = 10;
+    private static final int ROUNDS = 50;
+
+    private static List<Row> rows;
+    private static Map<UUID, List<String>> keywords;
+    private static InterestCatalogSnapshot snapshot;
+
+    @BeforeAll
+    static void seed() {
+        Random random = new Random(1);
+        Instant now = Instant.now();
+        rows = new ArrayList<>(INTEREST_COUNT);
+        keywords = new HashMap<>(INTEREST_COUNT * 4 / 3 + 1);
+        for (int i = 0; i < INTEREST_COUNT; i++) {
+            UUID id = UUID.randomUUID();
+            rows.add(new Row(id, "interest " + Integer.toHexString(random.nextInt()), random.nextInt(1_000),
+                now.minusSeconds(i)));
+            List<String> names = new ArrayList<>(KEYWORDS_PER_INTEREST);
+            for (int k = 0; k < KEYWORDS_PER_INTEREST; k++) {
+                names.add("kw" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36).substring(0, 6));
+            }
+            if (i % 10_000 == 0) {
+                names.set(0, "QuantumChip");
+            }
+            keywords.put(id, names);
+        }
+        rows.sort((a, b) -> a.name().toLowerCase(Locale.ROOT).compareTo(b.name().toLowerCase(Locale.ROOT)));
+
+        long start = System.nanoTime();
+        snapshot = InterestCatalogSnapshot.of(rows, keywords);
+        System.out.printf("[benchmark] snapshot build: %dms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 10만 관심사/100만 키워드에서 trigram 색인과 전체 순회 지연 시간 비교")
+    void keywordSearchUsesTrigramIndex() {
+        for (String keyword : List.of("quantumchip", "kwab1", "interest a")) {
+            InterestQuery query = new InterestQuery(keyword, "subscriberCount", "DESC", null, null, 10, null, null);
+            String lower = keyword.toLowerCase(Locale.ROOT);
+
+            long expectedTotal = linearCount(lower);
+            assertThat(snapshot.page(query).orElseThrow().totalElements()).isEqualTo(expectedTotal);
+
+            double indexed = medianMicros(() -> snapshot.page(query));
+            double linear = medianMicros(() -> linearCount(lower));
+            System.out.printf("[benchmark] '%s' (%d건) indexed=%.1fus linear=%.1fus%n",
+                keyword, expectedTotal, indexed, linear);
+
+            if (keyword.equals("quantumchip")) {
+                assertThat(indexed).isLessThan(linear);
+            }
+        }
+    }
+
+    // 색인 없이 모든 관심사의 이름과 키워드를 훑는다 (SQL 의 buildKeywordFilter 와 같은 조건)
+    private static long linearCount(String lowerKeyword) {
+        return rows.stream()
+            .filter(row -> row.name().toLowerCase(Locale.ROOT).contains(lowerKeyword)
+                || keywords.get(row.id()).stream()
+                .anyMatch(keyword -> keyword.toLowerCase(Locale.ROOT).contains(lowerKeyword)))
+            .count();
+    }
+
+    private static double medianMicros(Runnable search) {
+        // JIT 워밍업
+        for (int i = 0; i < 5; i++) {
+            search.run();
+        }
+        double[] samples = new double[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            samples[i] = (System.nanoTime() - start) / 1_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[ROUNDS / 2];
+    }
+}
@@ -0,0 +1,90 @@
+package com.monew.monew_server.domain.interest.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Entry;
+import com.monew.monew_server.domain.interest.catalog.InterestCatalogSnapshot.Row;
+import com.monew.monew_server.domain.interest.dto.InterestQuery;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InterestTrigramIndexTest {
+
+    private static final String ALPHABET = "abcdeAB가나다";
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("candidates - 검색어의 trigram 을 모두 가진 순번만 남기고, 짧은 검색어는 null")
+    void shouldIntersectPostings() {
+        InterestTrigramIndex index = InterestTrigramIndex.build(List.of(
+            List.of("spring", "boot"),
+            List.of("springfield"),
+            List.of("java", "jvm")
+        ));
+
+        BitSet spring = index.candidates("spring");
+        assertThat(spring.stream().toArray()).containsExactly(0, 1);
+        assertThat(index.candidates("oot").stream().toArray()).containsExactly(0);
+        assertThat(index.candidates("kotlin").isEmpty()).isTrue();
+        assertThat(index.candidates("jv")).isNull();
+    }
+
+    @Test
+    @DisplayName("page - 키워드 검색 결과가 전체를 훑어 부분 문자열로 거른 결과와 같다")
+    void shouldMatchLinearScan() {
+        Random random = new Random(7);
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        List<Row> rows = new ArrayList<>();
+        Map<UUID, List<String>> keywords = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            UUID id = UUID.randomUUID();
+            rows.add(new Row(id, randomText(random, 3 + random.nextInt(8)), random.nextInt(5),
+                now.plusSeconds(random.nextInt(1_000))));
+            List<String> names = new ArrayList<>();
+            for (int k = random.nextInt(4); k > 0; k--) {
+                names.add(randomText(random, 2 + random.nextInt(6)));
+            }
+            keywords.put(id, names);
+        }
+        // of 는 lower(name) 순서를 기대한다
+        rows.sort((a, b) -> a.name().toLowerCase(Locale.ROOT).compareTo(b.name().toLowerCase(Locale.ROOT)));
+        InterestCatalogSnapshot snapshot = InterestCatalogSnapshot.of(rows, keywords);
+
+        for (int i = 0; i < 300; i++) {
+            String keyword = randomText(random, 1 + random.nextInt(4));
+            String lower = keyword.toLowerCase(Locale.ROOT);
+            long expectedTotal = rows.stream()
+                .filter(row -> row.name().toLowerCase(Locale.ROOT).contains(lower)
+                    || keywords.get(row.id()).stream().anyMatch(k -> k.toLowerCase(Locale.ROOT).contains(lower)))
+                .count();
+
+            InterestQuery query = new InterestQuery(keyword, "subscriberCount", "DESC", null, null, 1_000, null, null);
+            InterestCatalogSnapshot.Page page = snapshot.page(query).orElseThrow();
+
+            assertThat(page.totalElements()).as(keyword).isEqualTo(expectedTotal);
+            assertThat(page.rows()).as(keyword).allMatch(entry -> entry.matches(lower));
+            assertThat(page.rows()).as(keyword).isSortedAccordingTo(
+                (a, b) -> a.subscriberCount() != b.subscriberCount()
+                    ? Long.compare(b.subscriberCount(), a.subscriberCount())
+                    : b.createdAt().compareTo(a.createdAt()));
+            assertThat(page.rows().stream().map(Entry::id).distinct().count())
+                .isEqualTo(Math.min(expectedTotal, 1_000));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.monew.monew_server.domain.interest.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.interest.catalog.InterestCatalog;
+import com.monew.monew_server.domain.interest.repository.InterestCounterRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InterestSubscriberCounterTest {
+
+    @Mock
+    private InterestCounterRepository interestCounterRepository;
+
+    @Mock
+    private InterestCatalog interestCatalog;
+
+    private InterestSubscriberCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        counter = new InterestSubscriberCounter(interestCounterRepository, interestCatalog);
+        // 카탈로그는 DB 반영 작업을 잠금 안에서 실행한다
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(interestCatalog).applySubscriberDeltas(anyMap(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("flush - 관심사별 증분을 합산해 한 번에 반영하고, 0 이 된 관심사는 빼고 보낸다")
+    @SuppressWarnings("unchecked")
+    void shouldMergeDeltasPerInterest() {
+        UUID i1 = UUID.randomUUID();
+        UUID i2 = UUID.randomUUID();
+        UUID i3 = UUID.randomUUID();
+
+        counter.record(i1, 1);
+        counter.record(i1, 1);
+        counter.record(i2, -1);
+        counter.record(i3, 1);
+        counter.record(i3, -1);
+
+        counter.flush();
+
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(interestCounterRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue()).containsOnly(Map.entry(i1, 2L), Map.entry(i2, -1L));
+        assertThat(counter.pendingOf(i1)).isZero();
+        verify(interestCatalog).applySubscriberDeltas(eq(captor.getValue()), any());
+    }
+
+    @Test
+    @DisplayName("flush - 여러 스레드에서 동시에 더한 증분을 잃지 않는다")
+    @SuppressWarnings("unchecked")
+    void shouldNotLoseConcurrentDeltas() throws InterruptedException {
+        UUID interestId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 10_000).forEach(i -> executor.execute(() -> counter.record(interestId, 1)));
+        // 더하는 도중에도 flush 해 본다
+        counter.flush();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        counter.flush();
+
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(interestCounterRepository, atLeastOnce()).applyDeltas(captor.capture());
+        long applied = captor.getAllValues().stream()
+            .mapToLong(deltas -> deltas.getOrDefault(interestId, 0L))
+            .sum();
+        assertThat(applied).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("flush - 반영에 실패하면 증분을 되돌려 다음 주기에 재시도한다")
+    void shouldKeepDeltasWhenFlushFails() {
+        UUID interestId = UUID.randomUUID();
+        counter.record(interestId, 1);
+        doThrow(new IllegalStateException("db down")).when(interestCounterRepository).applyDeltas(anyMap());
+
+        counter.flush();
+
+        assertThat(counter.pendingOf(interestId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reconcile - flush 이후 새로 쌓인 증분이 있는 관심사는 보정에서 건너뛰어 두 번 세지 않는다")
+    void shouldSkipPendingInterestsWhenReconciling() {
+        UUID flushed = UUID.randomUUID();
+        UUID recordedDuringFlush = UUID.randomUUID();
+        counter.record(flushed, 1);
+        doAnswer(invocation -> {
+            counter.record(recordedDuringFlush, 1);
+            return null;
+        }).when(interestCounterRepository).applyDeltas(anyMap());
+
+        counter.reconcile();
+
+        verify(interestCounterRepository).reconcile(Set.of(recordedDuringFlush));
+        assertThat(counter.pendingOf(recordedDuringFlush)).isEqualTo(1);
+        verify(interestCatalog).load();
+    }
+
+    @Test
+    @DisplayName("reconcile - 커밋 전에 기록된 관심사는 트랜잭션이 끝날 때까지 보정에서 건너뛴다")
+    void shouldSkipInFlightInterestsWhenReconciling() {
+        UUID interestId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        counter.record(interestId, 1);
+
+        counter.reconcile();
+        verify(interestCounterRepository).reconcile(Set.of(interestId));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(counter.pendingOf(interestId)).isEqualTo(1);
+
+        counter.flush();
+        counter.reconcile();
+        verify(interestCounterRepository).reconcile(Set.of());
+    }
+
+    @Test
+    @DisplayName("record - 롤백된 구독은 증분 없이 진행 중 등록만 푼다")
+    void shouldReleaseInFlightOnRollback() {
+        UUID interestId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        counter.record(interestId, 1);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        counter.reconcile();
+
+        assertThat(counter.pendingOf(interestId)).isZero();
+        verify(interestCounterRepository).reconcile(Set.of());
+    }
+
+    @Test
+    @DisplayName("flush - 쌓인 증분이 없으면 반영하지 않는다")
+    void shouldSkipWhenNothingPending() {
+        counter.flush();
+
+        verify(interestCounterRepository, never()).applyDeltas(anyMap());
+    }
+
+    @Test
+    @DisplayName("currentCount - 반영된 값에 아직 반영되지 않은 증분을 더한다")
+    void shouldAddPendingToPersistedCount() {
+        UUID interestId = UUID.randomUUID();
+        when(interestCounterRepository.findCount(interestId)).thenReturn(Optional.of(5L));
+        counter.record(interestId, -1);
+
+        assertThat(counter.currentCount(interestId)).contains(4L);
+        assertThat(counter.currentCount(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -3,6 +3,8 @@ package com.monew.monew_server.domain.interest.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.monew.monew_server.domain.interest.catalog.InterestCatalog;
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
 import com.monew.monew_server.domain.interest.dto.CursorPageResponseInterestDto;
 import com.monew.monew_server.domain.interest.dto.InterestQuery;
 import com.monew.monew_server.domain.interest.entity.Interest;
@@ -12,6 +14,8 @@ import com.monew.monew_server.domain.user.entity.User;
 import com.monew.monew_server.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +51,8 @@ class InterestQueryRepositoryImplTest {
     @Autowired private InterestKeywordRepository interestKeywordRepository;
     @Autowired private SubscriptionRepository subscriptionRepository;
     @Autowired private UserRepository userRepository;
+    @Autowired private InterestSubscriberCounter interestSubscriberCounter;
+    @Autowired private InterestCatalog interestCatalog;
     @Autowired private EntityManager entityManager;
 
     private User user1, user2;
@@ -103,6 +109,9 @@ class InterestQueryRepositoryImplTest {
         // 5. 영속성 컨텍스트 초기화 (N+1 및 서브쿼리 정확도)
         entityManager.flush();
         entityManager.clear();
+
+        // 6. 직접 넣은 구독은 subscriber_count 에 반영되지 않으므로 정합성 보정으로 맞춘다
+        interestSubscriberCounter.reconcile();
     }
 
     // --- 1. 기본 조회 및 페이징 테스트 ---
@@ -293,4 +302,35 @@ class InterestQueryRepositoryImplTest {
             .hasMessageContaining("invalid cursor: not-a-number")
             .hasRootCauseInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("InterestCatalog.findAll: 정렬/방향/키워드/커서 조합마다 SQL 조회 결과와 같다")
+    void findAll_shouldMatchInterestCatalog() {
+        // setUp 의 reconcile 이 카탈로그도 다시 읽는다
+        for (String orderBy : List.of("name", "subscriberCount")) {
+            for (String direction : List.of("ASC", "DESC")) {
+                for (String keyword : Arrays.asList(null, "a", "boot", "NonExistent")) {
+                    for (int limit = 1; limit <= 3; limit++) {
+                        String cursor = null;
+                        Instant after = null;
+                        boolean hasNext = true;
+                        while (hasNext) {
+                            InterestQuery query = new InterestQuery(
+                                keyword, orderBy, direction, cursor, after, limit, null, null
+                            );
+
+                            CursorPageResponseInterestDto expected = interestQueryRepository.findAll(query, user1.getId());
+                            CursorPageResponseInterestDto actual = interestCatalog.findAll(query, user1.getId())
+                                .orElseThrow();
+
+                            assertThat(actual).as(query.toString()).isEqualTo(expected);
+                            cursor = expected.nextCursor();
+                            after = expected.nextAfter();
+                            hasNext = expected.hasNext();
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
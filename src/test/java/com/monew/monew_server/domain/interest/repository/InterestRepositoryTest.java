@@ -4,10 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.monew.monew_server.domain.interest.entity.Interest;
+import com.monew.monew_server.domain.interest.similarity.InterestNameIndex;
 import com.monew.monew_server.exception.ErrorCode;
 import com.monew.monew_server.exception.NotFoundException;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +49,9 @@ class InterestRepositoryTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private InterestNameIndex interestNameIndex;
+
     @Test
     @DisplayName("findSimilarInterests: 'Authentication' (길이 14) 기준으로 0.8 초과 항목만 필터링")
     void findSimilarInterests() {
@@ -67,6 +75,43 @@ class InterestRepositoryTest {
             .map(Interest::getName)
             .containsExactlyInAnyOrder("Authentication", "Authenticatian", "Authencicazion");
     }
+
+    @Test
+    @DisplayName("findSimilarInterests: 생성한 이름 집합에서 InterestNameIndex 와 같은 관심사를 찾는다")
+    void findSimilarInterests_shouldMatchNameIndex() {
+        // given: 무작위 이름과 그 변형을 함께 저장
+        Random random = new Random(7);
+        String alphabet = "abcdefgh가나다 ";
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 4 + random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            names.add(name.toString());
+            name.setCharAt(random.nextInt(length), alphabet.charAt(random.nextInt(alphabet.length())));
+            names.add(name.toString());
+        }
+        names.forEach(name -> interestRepository.save(Interest.builder().name(name).build()));
+        interestRepository.flush();
+        interestNameIndex.load();
+
+        // when & then: 저장한 이름을 한 글자 바꾼 질의마다 SQL 결과와 인덱스 결과가 같아야 한다
+        for (int i = 0; i < 100; i++) {
+            StringBuilder query = new StringBuilder(names.get(random.nextInt(names.size())));
+            query.setCharAt(random.nextInt(query.length()), alphabet.charAt(random.nextInt(alphabet.length())));
+
+            List<UUID> expected = interestRepository.findSimilarInterests(query.toString()).stream()
+                .map(Interest::getId)
+                .toList();
+            assertThat(new HashSet<>(interestNameIndex.findSimilar(query.toString())))
+                .as(query.toString())
+                .isEqualTo(new HashSet<>(expected));
+        }
+        assertThat(interestRepository.findSimilarInterestsCreatedAfter(names.get(0), Instant.now().plusSeconds(60)))
+            .isEmpty();
+    }
     @Test
     @DisplayName("getOrThrow: ID가 존재할 때 Interest 객체를 반환한다 (Happy Path)")
     void getOrThrow_shouldReturnInterest_whenIdExists() {
@@ -3,6 +3,7 @@ package com.monew.monew_server.domain.interest.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
 
+import com.monew.monew_server.domain.interest.counter.InterestSubscriberCounter;
 import com.monew.monew_server.domain.interest.dto.CursorPageResponseInterestDto;
 import com.monew.monew_server.domain.interest.dto.InterestDto;
 import com.monew.monew_server.domain.interest.dto.InterestQuery;
@@ -59,6 +60,7 @@ class InterestServiceTest {
     @Autowired private InterestKeywordRepository interestKeywordRepository;
     @Autowired private SubscriptionRepository subscriptionRepository;
     @Autowired private UserRepository userRepository;
+    @Autowired private InterestSubscriberCounter interestSubscriberCounter;
     @Autowired private EntityManager entityManager;
 
     private User user1;
@@ -176,6 +178,7 @@ class InterestServiceTest {
             .interest(interest1)
             .build());
         entityManager.flush();
+        interestSubscriberCounter.reconcile(); // 직접 넣은 구독을 subscriber_count 에 반영
         long initialCount = subscriptionRepository.count();
 
         // when: 동일한 사용자가 2차 구독 요청
@@ -227,6 +230,7 @@ class InterestServiceTest {
             )
         );
         entityManager.flush(); // Java(2), Spring Boot(0), Python(0)
+        interestSubscriberCounter.reconcile(); // 직접 넣은 구독을 subscriber_count 에 반영
 
         // 2. 쿼리: 구독자순(DESC) 1개 조회
         InterestQuery query = new InterestQuery(
@@ -0,0 +1,171 @@
+package com.monew.monew_server.domain.interest.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.interest.entity.Interest;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class InterestNameIndexTest {
+
+    private static final String ALPHABET = "abcdefghij가나다라 ";
+
+    @Mock
+    private InterestRepository interestRepository;
+
+    private InterestNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new InterestNameIndex(interestRepository, Duration.ofMinutes(5));
+    }
+
+    private static Interest interest(UUID id, String name) {
+        return Interest.builder().id(id).name(name).build();
+    }
+
+    // findSimilarInterests 의 SQL 조건을 문자열 그대로 옮긴 기준 구현
+    private static boolean sqlSimilar(String a, String b) {
+        int[] x = a.codePoints().toArray();
+        int[] y = b.codePoints().toArray();
+        int[][] dp = new int[x.length + 1][y.length + 1];
+        for (int i = 0; i <= x.length; i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= y.length; j++) {
+            dp[0][j] = j;
+        }
+        for (int i = 1; i <= x.length; i++) {
+            for (int j = 1; j <= y.length; j++) {
+                dp[i][j] = Math.min(dp[i - 1][j - 1] + (x[i - 1] == y[j - 1] ? 0 : 1),
+                    Math.min(dp[i - 1][j], dp[i][j - 1]) + 1);
+            }
+        }
+        return 1.0 - ((double)dp[x.length][y.length] / Math.max(x.length, y.length)) > 0.8;
+    }
+
+    private static String mutate(String name, Random random) {
+        StringBuilder builder = new StringBuilder(name);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && builder.length() > 1; i++) {
+            int position = random.nextInt(builder.length());
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.setCharAt(position, c);
+                case 1 -> builder.insert(position, c);
+                default -> builder.deleteCharAt(position);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("findSimilar - 생성한 이름 집합에서 SQL 조건을 전수 비교한 결과와 같다")
+    void shouldMatchBruteForce() {
+        Random random = new Random(42);
+        List<Interest> interests = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(15);
+            for (int j = 0; j < length; j++) {
+                name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            interests.add(interest(UUID.randomUUID(), name.toString()));
+            // 비슷한 이름이 충분히 있도록 변형도 함께 넣는다
+            interests.add(interest(UUID.randomUUID(), mutate(name.toString(), random)));
+        }
+        when(interestRepository.findAll()).thenReturn(interests);
+        index.load();
+
+        for (int i = 0; i < 200; i++) {
+            String query = mutate(interests.get(random.nextInt(interests.size())).getName(), random);
+            Set<UUID> expected = new HashSet<>();
+            for (Interest interest : interests) {
+                if (sqlSimilar(query, interest.getName())) {
+                    expected.add(interest.getId());
+                }
+            }
+
+            assertThat(new HashSet<>(index.findSimilar(query))).as(query).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("add/remove - 커밋 후 인덱스에 반영된다")
+    void shouldReflectAddAndRemove() {
+        UUID id = UUID.randomUUID();
+        index.load();
+
+        index.add(id, "Spring Boot");
+        assertThat(index.findSimilar("SpringBoot")).containsExactly(id);
+
+        index.remove(id);
+        assertThat(index.findSimilar("SpringBoot")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("load - 읽는 동안 검사는 막히지 않고, 그 사이 커밋된 생성/삭제는 새 인덱스에도 남는다")
+    void shouldKeepChangesCommittedDuringLoad() {
+        UUID existing = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        index.add(existing, "Kubernetes");
+        when(interestRepository.findAll()).thenAnswer(invocation -> {
+            // 스냅샷을 읽는 중: 이전 인덱스로 검사할 수 있다
+            assertThat(index.findSimilar("Kubernetis")).containsExactly(existing);
+            index.add(added, "Spring Boot");
+            index.remove(existing);
+            return List.of(interest(existing, "Kubernetes"));
+        });
+
+        index.load();
+
+        assertThat(index.findSimilar("SpringBoot")).containsExactly(added);
+        assertThat(index.findSimilar("Kubernetis")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hasSimilar - 인덱스 후보는 PK 로 확인하고, 없으면 스냅샷 이후 행만 SQL 로 확인한다")
+    void shouldVerifyCandidatesAndCheckRecentRows() {
+        UUID id = UUID.randomUUID();
+        when(interestRepository.findAll()).thenReturn(List.of(interest(id, "Authentication")));
+        index.load();
+
+        when(interestRepository.findAllById(List.of(id))).thenReturn(List.of(interest(id, "Authentication")));
+        assertThat(index.hasSimilar("Authenticatian")).isTrue();
+        verify(interestRepository, never()).findSimilarInterestsCreatedAfter(any(), any());
+
+        // 다른 인스턴스에서 지워진 후보는 무시하고 최근 행만 확인한다
+        when(interestRepository.findAllById(anyList())).thenReturn(List.of());
+        when(interestRepository.findSimilarInterestsCreatedAfter(eq("Authenticatian"), any(Instant.class)))
+            .thenReturn(List.of());
+        assertThat(index.hasSimilar("Authenticatian")).isFalse();
+    }
+
+    @Test
+    @DisplayName("hasSimilar - 아직 읽지 않았으면 모든 행을 SQL 로 확인한다")
+    void shouldFallBackToSqlBeforeLoad() {
+        when(interestRepository.findSimilarInterestsCreatedAfter("Java", Instant.EPOCH))
+            .thenReturn(List.of(interest(UUID.randomUUID(), "Java")));
+
+        assertThat(index.hasSimilar("Java")).isTrue();
+    }
+}
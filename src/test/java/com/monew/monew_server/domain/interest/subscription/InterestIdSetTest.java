@@ -0,0 +1,58 @@
+package com.monew.monew_server.domain.interest.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InterestIdSetTest {
+
+    @Test
+    @DisplayName("with/without - 무작위 추가/삭제 후에도 HashSet 과 같은 내용을 가진다")
+    void shouldBehaveLikeHashSet() {
+        Random random = new Random(3);
+        List<UUID> pool = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            // 상위 비트가 음수인 UUID 도 섞이도록 직접 만든다
+            pool.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        Set<UUID> expected = new HashSet<>(pool.subList(0, 10));
+        InterestIdSet set = InterestIdSet.of(pool.subList(0, 10));
+        for (int i = 0; i < 1_000; i++) {
+            UUID interestId = pool.get(random.nextInt(pool.size()));
+            if (random.nextBoolean()) {
+                expected.add(interestId);
+                set = set.with(interestId);
+            } else {
+                expected.remove(interestId);
+                set = set.without(interestId);
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+
+        assertThat(set.toSet()).isEqualTo(expected);
+        for (UUID interestId : pool) {
+            assertThat(set.contains(interestId)).isEqualTo(expected.contains(interestId));
+        }
+    }
+
+    @Test
+    @DisplayName("of/with - 중복은 한 번만 담고, 이미 있는 값을 더하면 같은 집합을 돌려준다")
+    void shouldIgnoreDuplicates() {
+        UUID interestId = UUID.randomUUID();
+
+        InterestIdSet set = InterestIdSet.of(List.of(interestId, interestId));
+
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.with(interestId)).isSameAs(set);
+        assertThat(set.without(UUID.randomUUID())).isSameAs(set);
+        assertThat(set.sizeInBytes()).isLessThan(InterestIdSet.of(List.of(interestId, UUID.randomUUID())).sizeInBytes());
+    }
+}
@@ -0,0 +1,131 @@
+package com.monew.monew_server.domain.interest.subscription;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.interest.repository.SubscriptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class SubscriptionSetCacheTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    private SubscriptionSetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cache = new SubscriptionSetCache(subscriptionRepository, new SimpleMeterRegistry(), 1024 * 1024,
+            Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("subscribedAmong - 사용자별로 한 번만 적재하고 이후 구독/구독 취소는 메모리에 반영한다")
+    void shouldLoadOnceAndApplyWrites() {
+        UUID userId = UUID.randomUUID();
+        UUID java = UUID.randomUUID();
+        UUID spring = UUID.randomUUID();
+        UUID docker = UUID.randomUUID();
+        when(subscriptionRepository.findInterestIdsByUserId(userId)).thenReturn(List.of(java, spring));
+
+        assertThat(cache.subscribedAmong(userId, List.of(java, spring, docker))).containsExactlyInAnyOrder(java, spring);
+
+        cache.subscribed(userId, docker);
+        cache.unsubscribed(userId, java);
+
+        assertThat(cache.subscribedAmong(userId, List.of(java, spring, docker)))
+            .containsExactlyInAnyOrder(spring, docker);
+        assertThat(cache.interestIdsOf(userId)).containsExactlyInAnyOrder(spring, docker);
+        verify(subscriptionRepository, times(1)).findInterestIdsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("subscribed - 아직 적재되지 않은 사용자는 건너뛰고 다음 조회 때 DB 에서 읽는다")
+    void shouldSkipUnloadedUser() {
+        UUID userId = UUID.randomUUID();
+        UUID interestId = UUID.randomUUID();
+        when(subscriptionRepository.findInterestIdsByUserId(userId)).thenReturn(List.of(interestId));
+
+        cache.subscribed(userId, interestId);
+
+        verify(subscriptionRepository, never()).findInterestIdsByUserId(userId);
+        assertThat(cache.interestIdsOf(userId)).containsExactly(interestId);
+    }
+
+    @Test
+    @DisplayName("subscribed - 적재하는 동안 커밋된 구독이 있으면 읽은 값을 버리고 다시 읽는다")
+    void shouldReloadWhenWriteCommittedDuringLoad() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        UUID java = UUID.randomUUID();
+        UUID docker = UUID.randomUUID();
+        AtomicReference<Thread> writer = new AtomicReference<>();
+        when(subscriptionRepository.findInterestIdsByUserId(userId))
+            .thenAnswer(invocation -> {
+                // 커밋 전에 읽은 값을 돌려주기 전에 다른 스레드에서 구독이 커밋된다
+                Thread thread = new Thread(() -> cache.subscribed(userId, docker));
+                writer.set(thread);
+                thread.start();
+                awaitBlockedOrDone(thread);
+                return List.of(java);
+            })
+            .thenReturn(List.of(java, docker));
+
+        assertThat(cache.interestIdsOf(userId)).containsExactlyInAnyOrder(java, docker);
+        writer.get().join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(cache.interestIdsOf(userId)).containsExactlyInAnyOrder(java, docker);
+        verify(subscriptionRepository, times(2)).findInterestIdsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("interestDeleted - 삭제된 관심사를 가진 사용자 집합만 내보내 다시 읽게 한다")
+    void shouldEvictUsersOfDeletedInterest() {
+        UUID subscriber = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        UUID interestId = UUID.randomUUID();
+        when(subscriptionRepository.findInterestIdsByUserId(subscriber)).thenReturn(List.of(interestId));
+        when(subscriptionRepository.findInterestIdsByUserId(other)).thenReturn(List.of());
+        cache.interestIdsOf(subscriber);
+        cache.interestIdsOf(other);
+
+        when(subscriptionRepository.findInterestIdsByUserId(subscriber)).thenReturn(List.of());
+        cache.interestDeleted(interestId);
+
+        assertThat(cache.interestIdsOf(subscriber)).isEmpty();
+        assertThat(cache.interestIdsOf(other)).isEmpty();
+        verify(subscriptionRepository, times(2)).findInterestIdsByUserId(subscriber);
+        verify(subscriptionRepository, times(1)).findInterestIdsByUserId(other);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 조회하지 않는다")
+    void shouldSkipAnonymous() {
+        assertThat(cache.subscribedAmong(null, List.of(UUID.randomUUID()))).isEmpty();
+        assertThat(cache.interestIdsOf(null)).isEmpty();
+    }
+
+    // 쓰기 번호를 남긴 뒤 적재 중인 항목을 기다리거나 끝날 때까지
+    private static void awaitBlockedOrDone(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread.State state = thread.getState();
+            if (state == Thread.State.BLOCKED || state == Thread.State.WAITING || state == Thread.State.TERMINATED) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+}
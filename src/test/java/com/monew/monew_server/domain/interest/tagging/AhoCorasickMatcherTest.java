@@ -0,0 +1,64 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    private final UUID economy = UUID.randomUUID();
+    private final UUID semiconductor = UUID.randomUUID();
+    private final UUID ai = UUID.randomUUID();
+
+    @Test
+    @DisplayName("match - 한 번의 스캔으로 겹치거나 포함된 키워드를 모두 찾는다")
+    void shouldFindOverlappingKeywords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(Map.of(
+            economy, List.of("수출", "금리"),
+            semiconductor, List.of("반도체", "반도체 수출"),
+            ai, List.of("AI", "인공지능")
+        ));
+
+        assertThat(matcher.match("반도체 수출이 3개월 연속 증가했다"))
+            .containsExactlyInAnyOrder(semiconductor, economy);
+        assertThat(matcher.match("생성형 ai 경쟁")).containsExactly(ai);
+        assertThat(matcher.match("날씨 맑음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("match - 실패 링크를 따라 접미사 키워드도 찾는다")
+    void shouldFollowFailureLinks() {
+        UUID he = UUID.randomUUID();
+        UUID she = UUID.randomUUID();
+        UUID hers = UUID.randomUUID();
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(Map.of(
+            he, List.of("he"),
+            she, List.of("she"),
+            hers, List.of("hers")
+        ));
+
+        assertThat(matcher.match("ushers")).containsExactlyInAnyOrder(he, she, hers);
+    }
+
+    @Test
+    @DisplayName("match - 여러 텍스트는 각각 처음부터 훑어 경계를 넘는 매칭이 없다")
+    void shouldNotMatchAcrossTexts() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(Map.of(economy, List.of("금리")));
+
+        assertThat(matcher.match("기준금", "리 인상")).isEmpty();
+        assertThat(matcher.match(null, "금리 인상")).containsExactly(economy);
+    }
+
+    @Test
+    @DisplayName("compile - 빈 키워드는 무시한다")
+    void shouldIgnoreBlankKeywords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(Map.of(economy, List.of(" ", "")));
+
+        assertThat(matcher.match("아무 텍스트")).isEmpty();
+        assertThat(matcher.nodeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.interest.repository.ArticleInterestBatchRepository;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger.TaggableArticle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArticleInterestTaggerTest {
+
+    @Mock
+    private InterestKeywordIndex interestKeywordIndex;
+    @Mock
+    private ArticleInterestBatchRepository articleInterestBatchRepository;
+
+    private final UUID economy = UUID.randomUUID();
+    private final UUID semiconductor = UUID.randomUUID();
+    private final List<List<ArticleInterestLink>> batches = new ArrayList<>();
+
+    private ArticleInterestTagger tagger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(interestKeywordIndex.matcher()).thenReturn(AhoCorasickMatcher.compile(Map.of(
+            economy, List.of("수출"),
+            semiconductor, List.of("반도체")
+        )));
+        when(articleInterestBatchRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+            List<ArticleInterestLink> links = List.copyOf(invocation.getArgument(0));
+            batches.add(links);
+            return links.size();
+        });
+        tagger = new ArticleInterestTagger(interestKeywordIndex, articleInterestBatchRepository, 2);
+    }
+
+    @Test
+    @DisplayName("tag - 제목과 요약에서 찾은 관심사를 batch-size 단위로 저장한다")
+    void shouldTagInBatches() {
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        UUID a3 = UUID.randomUUID();
+
+        int inserted = tagger.tag(List.of(
+            new TaggableArticle(a1, "반도체 수출 증가", "요약"),
+            new TaggableArticle(a2, "날씨", "반도체 업황"),
+            new TaggableArticle(a3, "날씨", "맑음")
+        ));
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.stream().flatMap(List::stream))
+            .containsExactlyInAnyOrder(
+                new ArticleInterestLink(a1, semiconductor),
+                new ArticleInterestLink(a1, economy),
+                new ArticleInterestLink(a2, semiconductor)
+            );
+        verify(articleInterestBatchRepository, times(2)).insertIgnoringDuplicates(anyList());
+    }
+}
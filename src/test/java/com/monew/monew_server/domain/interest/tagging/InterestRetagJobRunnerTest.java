@@ -0,0 +1,172 @@
+package com.monew.monew_server.domain.interest.tagging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.monew.monew_server.domain.article.etag.ArticleVersionTracker;
+import com.monew.monew_server.domain.interest.entity.InterestRetagJob;
+import com.monew.monew_server.domain.interest.enums.RetagStatus;
+import com.monew.monew_server.domain.interest.repository.ArticleInterestBatchRepository;
+import com.monew.monew_server.domain.interest.repository.InterestKeywordRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRepository;
+import com.monew.monew_server.domain.interest.repository.InterestRetagJobRepository;
+import com.monew.monew_server.domain.interest.tagging.ArticleInterestTagger.TaggableArticle;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class InterestRetagJobRunnerTest {
+
+    @Mock
+    private InterestRetagJobRepository interestRetagJobRepository;
+    @Mock
+    private InterestRepository interestRepository;
+    @Mock
+    private InterestKeywordRepository interestKeywordRepository;
+    @Mock
+    private ArticleInterestBatchRepository articleInterestBatchRepository;
+    @Mock
+    private ArticleVersionTracker articleVersionTracker;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID interestId = UUID.randomUUID();
+    private final UUID a1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID a2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID a3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private InterestRetagJob job;
+    private InterestRetagJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        job = InterestRetagJob.builder().id(jobId).interestId(interestId).build();
+        when(interestRetagJobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(interestRepository.existsById(interestId)).thenReturn(true);
+        when(interestKeywordRepository.findKeywordsByInterestId(interestId)).thenReturn(List.of("반도체"));
+        when(articleInterestBatchRepository.countArticles()).thenReturn(3L);
+        runner = new InterestRetagJobRunner(interestRetagJobRepository, interestRepository, interestKeywordRepository,
+            articleInterestBatchRepository, articleVersionTracker, transactionManager, 500, 0, 10_000);
+    }
+
+    @Test
+    @DisplayName("run - 바뀐 관심사만 다시 매칭해 빠진 연결은 추가하고 더는 맞지 않는 연결은 삭제한다")
+    @SuppressWarnings("unchecked")
+    void shouldDiffApplyChunk() {
+        when(articleInterestBatchRepository.findArticleChunk(null, 500)).thenReturn(List.of(
+            new TaggableArticle(a1, "반도체 수출", ""),
+            new TaggableArticle(a2, "날씨", "맑음"),
+            new TaggableArticle(a3, "날씨", "반도체 업황")
+        ));
+        when(articleInterestBatchRepository.findArticleChunk(a3, 500)).thenReturn(List.of());
+        when(articleInterestBatchRepository.findTaggedArticleIds(interestId, null, a3)).thenReturn(
+            new HashSet<>(Set.of(a2, a3)));
+        when(articleInterestBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(1);
+        when(articleInterestBatchRepository.deleteLinks(eq(interestId), anyList())).thenReturn(1);
+
+        boolean finished = runner.run(jobId, System.currentTimeMillis() + 10_000);
+
+        assertThat(finished).isTrue();
+        ArgumentCaptor<List<ArticleInterestLink>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(articleInterestBatchRepository).insertIgnoringDuplicates(inserted.capture());
+        assertThat(inserted.getValue()).containsExactly(new ArticleInterestLink(a1, interestId));
+        verify(articleInterestBatchRepository).deleteLinks(interestId, List.of(a2));
+
+        assertThat(job.getStatus()).isEqualTo(RetagStatus.COMPLETED);
+        assertThat(job.getCursorArticleId()).isEqualTo(a3);
+        assertThat(job.getProcessedCount()).isEqualTo(3);
+        assertThat(job.getInsertedCount()).isEqualTo(1);
+        assertThat(job.getDeletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("run - 진행 중에 키워드가 다시 바뀌면 반영하지 않고 새 세대로 넘긴다")
+    void shouldStopWhenRestartedConcurrently() {
+        when(articleInterestBatchRepository.findArticleChunk(null, 500)).thenAnswer(invocation -> {
+            job.restart();
+            return List.of(new TaggableArticle(a1, "반도체", ""));
+        });
+
+        runner.run(jobId, System.currentTimeMillis() + 10_000);
+
+        verify(articleInterestBatchRepository, never()).insertIgnoringDuplicates(anyList());
+        assertThat(job.getStatus()).isEqualTo(RetagStatus.PENDING);
+        assertThat(job.getProcessedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("run - 중단된 작업은 저장된 커서 다음 기사부터 이어서 진행한다")
+    void shouldResumeFromCursor() {
+        job.start(3, Instant.now());
+        job.advance(a2, 2, 0, 0);
+        when(articleInterestBatchRepository.findArticleChunk(a2, 500)).thenReturn(List.of());
+
+        runner.run(jobId, System.currentTimeMillis() + 10_000);
+
+        verify(articleInterestBatchRepository, never()).findArticleChunk(null, 500);
+        verify(articleInterestBatchRepository, never()).countArticles();
+        assertThat(job.getStatus()).isEqualTo(RetagStatus.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(2);
+        assertThat(job.getTotalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("enqueue - 기존 작업은 커서와 진행률을 초기화하고 세대를 올린다")
+    void shouldRestartExistingJob() {
+        job.start(3, Instant.now());
+        job.advance(a2, 2, 1, 0);
+        when(interestRetagJobRepository.findByInterestId(interestId)).thenReturn(Optional.of(job));
+
+        runner.enqueue(interestId);
+
+        verify(interestRetagJobRepository).insertIfAbsent(any(UUID.class), eq(interestId));
+        verify(interestRetagJobRepository).save(job);
+        assertThat(job.getStatus()).isEqualTo(RetagStatus.PENDING);
+        assertThat(job.getGeneration()).isEqualTo(1);
+        assertThat(job.getCursorArticleId()).isNull();
+        assertThat(job.getProcessedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("RetagProgress - 처리 속도로 남은 시간을 추정한다")
+    void shouldEstimateRemainingTime() {
+        Instant startedAt = Instant.parse("2025-10-14T00:00:00Z");
+        job.start(400, startedAt);
+        job.advance(a1, 100, 0, 0);
+
+        RetagProgress progress = RetagProgress.of(job, startedAt.plusSeconds(10));
+
+        assertThat(progress.percent()).isEqualTo(25.0);
+        assertThat(progress.eta()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("run - 삭제된 관심사의 작업은 취소한다")
+    void shouldCancelJobOfDeletedInterest() {
+        when(interestRepository.existsById(interestId)).thenReturn(false);
+
+        runner.run(jobId, System.currentTimeMillis() + 10_000);
+
+        assertThat(job.getStatus()).isEqualTo(RetagStatus.CANCELLED);
+        verify(articleInterestBatchRepository, never()).findArticleChunk(any(), anyInt());
+    }
+}